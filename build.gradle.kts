@@ -16,7 +16,9 @@ group = "back.ecommerce"
 version = "0.0.1-SNAPSHOT"
 
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
 }
 
 configurations {
@@ -49,6 +51,32 @@ configurations.create(asciidoctorExt) {
     extendsFrom(configurations.testImplementation.get())
 }
 
+sourceSets {
+    create("loadtest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadtestImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+val loadtestRuntimeOnly: Configuration by configurations.getting {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+
+val jmhImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+val jmhRuntimeOnly: Configuration by configurations.getting {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+
+val jmhVersion = "1.37"
 val kotestVersion = "5.7.2"
 val kotestExtensionSpringVersion = "1.1.3"
 val snippets = file("build/generated-snippets")
@@ -119,6 +147,14 @@ dependencies {
 
     //ULID
     implementation("com.github.f4b6a3:ulid-creator:5.2.3")
+
+    //loadtest (H2 파일 DB 또는 MySQL 호환 DB)
+    loadtestRuntimeOnly("com.h2database:h2")
+
+    //JMH
+    jmhImplementation("org.openjdk.jmh:jmh-core:$jmhVersion")
+    jmhImplementation("org.springframework:spring-test")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 //java annotationProcessor 사용
@@ -157,6 +193,66 @@ tasks.bootJar {
     dependsOn(register)
 }
 
+//성능 테스트: -Pkey=value 를 --key=value 로 넘긴다
+fun loadtestArgs(vararg names: String) = names.mapNotNull { name -> findProperty(name)?.let { "--$name=$it" } }
+
+tasks.register<JavaExec>("generateCatalog") {
+    group = "loadtest"
+    description = "PRODUCT 테이블에 성능 테스트용 상품을 채운다."
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("back.ecommerce.loadtest.CatalogGenerator")
+    args(loadtestArgs("jdbcUrl", "jdbcUser", "jdbcPassword", "products", "batchSize", "seed", "days",
+        "categorySkew", "brandSkew", "createSchema"))
+}
+
+tasks.register<org.springframework.boot.gradle.tasks.run.BootRun>("loadtestServer") {
+    group = "loadtest"
+    description = "loadtest 프로필로 애플리케이션을 실행한다."
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("back.ecommerce.Application")
+    args(listOf("--spring.profiles.active=loadtest") + listOfNotNull(
+        findProperty("jdbcUrl")?.let { "--spring.datasource.url=$it" },
+        findProperty("jdbcUser")?.let { "--spring.datasource.username=$it" },
+        findProperty("jdbcPassword")?.let { "--spring.datasource.password=$it" },
+        findProperty("virtualThreads")?.let { "--spring.threads.virtual.enabled=$it" }))
+    //가상 쓰레드가 carrier 를 붙잡는(pinning) 위치를 출력한다
+    if (findProperty("tracePinned") != null) {
+        jvmArgs("-Djdk.tracePinnedThreads=short")
+    }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "loadtest"
+    description = "문서의 검색 시나리오로 부하를 주고 p50/p90/p99, 처리량 리포트를 남긴다."
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("back.ecommerce.loadtest.SearchLoadDriver")
+    args(loadtestArgs("baseUrl", "scenario", "threads", "loops", "rampUp", "seed", "categorySkew", "brandSkew",
+        "kakaoPort", "kakaoDelayMillis", "productId", "email", "jwtSecret", "reportDir"))
+}
+
+tasks.register<JavaExec>("threadModeBenchmark") {
+    group = "loadtest"
+    description = "loadtestServer 에 부하를 주고 서버의 쓰레드 모드별 처리량, 쓰레드 수, 메모리를 남긴다."
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("back.ecommerce.loadtest.ThreadModeBenchmark")
+    args(loadtestArgs("baseUrl", "scenario", "threads", "loops", "rampUp", "seed", "categorySkew", "brandSkew",
+        "kakaoPort", "kakaoDelayMillis", "productId", "email", "jwtSecret", "reportDir"))
+}
+
+//JMH: ./gradlew jmh -PjmhInclude=SearchCondition
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "요청 경로 마이크로벤치마크를 실행하고 gc.alloc.rate 를 포함한 결과를 남긴다."
+    val resultFile = layout.buildDirectory.file("reports/jmh/result.json")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args(listOfNotNull(findProperty("jmhInclude")?.toString()) +
+        listOf("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.path))
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+}
+
 allOpen {
     annotation("jakarta.persistence.Entity")
     annotation("jakarta.persistence.Embeddable")
@@ -0,0 +1,64 @@
+package back.ecommerce.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.ecommerce.api.dto.Response;
+import back.ecommerce.api.dto.SuccessResponse;
+import back.ecommerce.product.dto.response.ProductDto;
+import back.ecommerce.product.dto.response.ProductListResponse;
+import back.ecommerce.product.entity.Category;
+
+/**
+ * 목록 한 페이지(20개)를 Response 로 감싼 응답 직렬화. 스프링과 같은 설정의 ObjectMapper 를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+	private ObjectMapper objectMapper;
+	private Response listResponse;
+	private Response messageResponse;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		List<ProductDto> products = LongStream.rangeClosed(1, 20)
+			.mapToObj(id -> new ProductDto(id, "오버핏 반팔 티셔츠 " + id, "Nike", 39_000L + id * 100, Category.TOP))
+			.collect(Collectors.toList());
+		listResponse = new SuccessResponse<>("카테고리 상품 조회가 성공적으로 조회 되었습니다.",
+			ProductListResponse.of(products, 222_483L));
+		messageResponse = new Response("로그인이 성공적으로 되었습니다.");
+	}
+
+	@Benchmark
+	public byte[] serializeList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(listResponse);
+	}
+
+	@Benchmark
+	public byte[] serializeMessage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(messageResponse);
+	}
+}
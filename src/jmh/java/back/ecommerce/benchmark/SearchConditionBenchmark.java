@@ -0,0 +1,92 @@
+package back.ecommerce.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import back.ecommerce.api.resolver.SearchConditionRequestResolver;
+import back.ecommerce.exception.CustomException;
+import back.ecommerce.product.dto.condition.ProductSearchCondition;
+import back.ecommerce.product.dto.condition.ProductSortCondition;
+import back.ecommerce.product.dto.request.ProductSearchConditionRequest;
+import back.ecommerce.product.entity.Category;
+
+/**
+ * 상세검색 요청마다 실행되는 조건 파싱 경로. 잘못된 값은 예외로 처리되므로 정상 값과 나눠서 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchConditionBenchmark {
+
+	private static final Map<String, String> ATTRIBUTES = Map.of(
+		"page", "10", "name", "티셔츠", "brandName", "Nike", "minPrice", "10000", "maxPrice", "50000",
+		"sort", "price_low");
+	private static final Map<String, String> INVALID_ATTRIBUTES = Map.of(
+		"page", "1", "minPrice", "만원", "maxPrice", "-1", "sort", "popular");
+
+	private SearchConditionRequestResolver resolver;
+	private ServletWebRequest webRequest;
+
+	@Setup
+	public void setUp() {
+		resolver = new SearchConditionRequestResolver();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v2/categories/top/detail");
+		ATTRIBUTES.forEach(request::addParameter);
+		webRequest = new ServletWebRequest(request);
+	}
+
+	@Benchmark
+	public ProductSearchConditionRequest resolveArgument() {
+		return resolver.resolveArgument(null, null, webRequest, null);
+	}
+
+	@Benchmark
+	public ProductSearchCondition createCondition() {
+		return ProductSearchCondition.createWithCategoryAndAttributes(Category.TOP, ATTRIBUTES);
+	}
+
+	@Benchmark
+	public ProductSearchCondition createCondition_invalidAttributes() {
+		return ProductSearchCondition.createWithCategoryAndAttributes(Category.TOP, INVALID_ATTRIBUTES);
+	}
+
+	@Benchmark
+	public Category categoryFrom() {
+		return Category.from("head_wear");
+	}
+
+	@Benchmark
+	public Object categoryFrom_invalid() {
+		try {
+			return Category.from("hat");
+		} catch (CustomException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public ProductSortCondition sortCondition() {
+		return ProductSortCondition.createWithSortQuery("price_high");
+	}
+
+	@Benchmark
+	public ProductSortCondition sortCondition_fallback() {
+		return ProductSortCondition.createWithSortQuery(null);
+	}
+}
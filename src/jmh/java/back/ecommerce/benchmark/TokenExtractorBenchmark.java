@@ -0,0 +1,66 @@
+package back.ecommerce.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import back.ecommerce.auth.service.TokenExtractor;
+import back.ecommerce.auth.service.TokenProvider;
+import back.ecommerce.auth.service.VerifiedTokenCache;
+import back.ecommerce.exception.AuthenticationException;
+
+/**
+ * 인증이 필요한 요청마다 실행되는 JWT 검증. 캐시 적중과 서명 검증 경로를 나눠서 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenExtractorBenchmark {
+
+	private static final String SECRET_KEY = "benchmark-secret-key";
+
+	private TokenExtractor tokenExtractor;
+	private TokenExtractor uncachedTokenExtractor;
+	private String token;
+	private String invalidToken;
+
+	@Setup
+	public void setUp() {
+		tokenExtractor = new TokenExtractor(SECRET_KEY, new VerifiedTokenCache(10_000, 300L));
+		uncachedTokenExtractor = new TokenExtractor(SECRET_KEY, new VerifiedTokenCache(0, 300L));
+		token = new TokenProvider(SECRET_KEY).provide("user@email.com", 3_600_000).getValue();
+		invalidToken = new TokenProvider("other-secret-key").provide("user@email.com", 3_600_000).getValue();
+	}
+
+	@Benchmark
+	public Map<String, Object> validateAndGetPayload() {
+		return tokenExtractor.validateAndGetPayload(token);
+	}
+
+	@Benchmark
+	public Map<String, Object> validateAndGetPayload_uncached() {
+		return uncachedTokenExtractor.validateAndGetPayload(token);
+	}
+
+	@Benchmark
+	public Object validateAndGetPayload_invalidSignature() {
+		try {
+			return tokenExtractor.validateAndGetPayload(invalidToken);
+		} catch (AuthenticationException e) {
+			return e;
+		}
+	}
+}
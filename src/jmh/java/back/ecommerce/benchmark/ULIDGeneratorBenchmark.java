@@ -0,0 +1,42 @@
+package back.ecommerce.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import back.ecommerce.common.generator.ULIDGenerator;
+
+/**
+ * 주문, 결제 식별자 생성. 여러 요청이 동시에 생성하는 상황도 같이 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ULIDGeneratorBenchmark {
+
+	private final ULIDGenerator ulidGenerator = new ULIDGenerator();
+
+	@Benchmark
+	public UUID generate() {
+		return ulidGenerator.generateULIDToUUID();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public UUID generate_concurrent() {
+		return ulidGenerator.generateULIDToUUID();
+	}
+}
@@ -0,0 +1,54 @@
+package back.ecommerce.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import back.ecommerce.product.entity.Category;
+
+/**
+ * 카테고리, 브랜드 분포. docs/images/categories.png, brands.png 의 운영 데이터는 거의 균등 분포라 skew 0 이 기본값이고,
+ * skew 를 주면 앞쪽 값일수록 많이 뽑히는 zipf 분포가 된다.
+ */
+public class CatalogDistribution {
+
+	public static final List<String> BRANDS = List.of(
+		"H&M", "Levi's", "Nike", "Zara", "Dolce & Gabbana", "Under Armour", "Adidas", "Puma", "Burberry",
+		"Calvin Klein", "Tommy Hilfiger", "ASOS", "Reebok", "Vans", "Versace", "Gucci", "Prada", "Balenciaga",
+		"Fendi", "Ralph Lauren");
+
+	private final double[] categoryCumulative;
+	private final double[] brandCumulative;
+
+	public CatalogDistribution(double categorySkew, double brandSkew) {
+		this.categoryCumulative = zipfCumulative(Category.values().length, categorySkew);
+		this.brandCumulative = zipfCumulative(BRANDS.size(), brandSkew);
+	}
+
+	public Category nextCategory(Random random) {
+		return Category.values()[pick(categoryCumulative, random)];
+	}
+
+	public String nextBrand(Random random) {
+		return BRANDS.get(pick(brandCumulative, random));
+	}
+
+	private static int pick(double[] cumulative, Random random) {
+		int index = Arrays.binarySearch(cumulative, random.nextDouble());
+		int position = index >= 0 ? index + 1 : -index - 1;
+		return Math.min(position, cumulative.length - 1);
+	}
+
+	private static double[] zipfCumulative(int size, double skew) {
+		double[] cumulative = new double[size];
+		double sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += 1.0 / Math.pow(i + 1, skew);
+			cumulative[i] = sum;
+		}
+		for (int i = 0; i < size; i++) {
+			cumulative[i] /= sum;
+		}
+		return cumulative;
+	}
+}
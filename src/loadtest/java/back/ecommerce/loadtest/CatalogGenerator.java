@@ -0,0 +1,129 @@
+package back.ecommerce.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import back.ecommerce.product.entity.Category;
+
+/**
+ * PRODUCT 테이블에 성능 테스트용 상품을 채운다. seed 가 같으면 항상 같은 데이터가 만들어진다.
+ * <pre>
+ * ./gradlew generateCatalog -Pproducts=2000000 -PbrandSkew=0
+ * ./gradlew generateCatalog -PjdbcUrl="jdbc:mysql://localhost:3306/ecommerce?rewriteBatchedStatements=true"
+ * </pre>
+ */
+public class CatalogGenerator {
+
+	public static final String DEFAULT_JDBC_URL = "jdbc:h2:file:./build/loadtest/catalog;MODE=MySQL;AUTO_SERVER=TRUE";
+
+	private static final String CREATE_TABLE_SQL = "create table if not exists PRODUCT ("
+		+ "ID bigint not null auto_increment, NAME varchar(255), BRAND_NAME varchar(255), PRICE bigint, "
+		+ "CATEGORY varchar(255), CREATED_DATE timestamp(6) null, MODIFIED_DATE timestamp(6) null, primary key (ID))";
+	private static final String CREATE_INDEX_SQL = "create index IDX_CATEGORY_BRAND_NAME_CREATED_DATE "
+		+ "on PRODUCT (CATEGORY, BRAND_NAME, CREATED_DATE desc)";
+	private static final String INSERT_SQL = "insert into PRODUCT "
+		+ "(NAME, BRAND_NAME, PRICE, CATEGORY, CREATED_DATE, MODIFIED_DATE) values (?, ?, ?, ?, ?, ?)";
+
+	private static final Map<Category, List<String>> ITEMS = Map.of(
+		Category.TOP, List.of("반팔 티셔츠", "맨투맨", "후드티", "셔츠", "니트"),
+		Category.OUTER, List.of("패딩", "코트", "자켓", "가디건", "바람막이"),
+		Category.PANTS, List.of("청바지", "슬랙스", "조거팬츠", "반바지", "카고팬츠"),
+		Category.ONEPIECE, List.of("원피스", "셔츠 원피스", "니트 원피스", "점프수트"),
+		Category.SKIRT, List.of("미니 스커트", "롱 스커트", "플리츠 스커트", "데님 스커트"),
+		Category.SNEAKERS, List.of("러닝화", "캔버스화", "하이탑", "슬립온"),
+		Category.SHOES, List.of("로퍼", "더비슈즈", "부츠", "샌들"),
+		Category.HEAD_WEAR, List.of("볼캡", "비니", "버킷햇", "베레모"),
+		Category.ACCESSORY, List.of("반지", "목걸이", "팔찌", "벨트", "선글라스"));
+	private static final List<String> MODIFIERS = List.of(
+		"오버핏", "슬림핏", "베이직", "빈티지", "스트라이프", "로고", "워싱", "울", "코튼", "린넨");
+
+	private final LoadTestArguments arguments;
+	private final CatalogDistribution distribution;
+	private final Random random;
+
+	public CatalogGenerator(LoadTestArguments arguments) {
+		this.arguments = arguments;
+		this.distribution = new CatalogDistribution(arguments.getDouble("categorySkew", 0),
+			arguments.getDouble("brandSkew", 0));
+		this.random = new Random(arguments.getLong("seed", 42L));
+	}
+
+	public static void main(String[] args) throws SQLException {
+		new CatalogGenerator(new LoadTestArguments(args)).generate();
+	}
+
+	public void generate() throws SQLException {
+		long products = arguments.getLong("products", 100_000L);
+		int batchSize = arguments.getInt("batchSize", 5_000);
+		int days = arguments.getInt("days", 730);
+		LocalDateTime now = LocalDateTime.now();
+		long startTime = System.currentTimeMillis();
+
+		try (Connection connection = DriverManager.getConnection(
+			arguments.get("jdbcUrl", DEFAULT_JDBC_URL),
+			arguments.get("jdbcUser", "sa"),
+			arguments.get("jdbcPassword", ""))) {
+			createSchema(connection);
+			connection.setAutoCommit(false);
+			try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+				for (long i = 1; i <= products; i++) {
+					addRow(statement, now.minusSeconds(random.nextInt(days * 24 * 60 * 60)));
+					if (i % batchSize == 0 || i == products) {
+						statement.executeBatch();
+						connection.commit();
+						System.out.printf("%d / %d 상품 저장 (%dms)%n", i, products,
+							System.currentTimeMillis() - startTime);
+					}
+				}
+			}
+		}
+	}
+
+	private void createSchema(Connection connection) throws SQLException {
+		if (!Boolean.parseBoolean(arguments.get("createSchema", "true"))) {
+			return;
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(CREATE_TABLE_SQL);
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(CREATE_INDEX_SQL);
+		} catch (SQLException e) {
+			System.out.println("인덱스가 이미 존재합니다. " + e.getMessage());
+		}
+	}
+
+	private void addRow(PreparedStatement statement, LocalDateTime createdDate) throws SQLException {
+		Category category = distribution.nextCategory(random);
+		String brand = distribution.nextBrand(random);
+		List<String> items = ITEMS.get(category);
+		String name = MODIFIERS.get(random.nextInt(MODIFIERS.size())) + " "
+			+ items.get(random.nextInt(items.size())) + " " + (random.nextInt(9000) + 1000);
+		Timestamp timestamp = Timestamp.valueOf(createdDate);
+
+		statement.setString(1, name);
+		statement.setString(2, brand);
+		statement.setLong(3, nextPrice());
+		statement.setString(4, category.name());
+		statement.setTimestamp(5, timestamp);
+		statement.setTimestamp(6, timestamp);
+		statement.addBatch();
+	}
+
+	/**
+	 * 5천원 ~ 50만원 사이 로그 정규 분포, 100원 단위.
+	 */
+	private long nextPrice() {
+		double price = Math.exp(Math.log(40_000) + random.nextGaussian() * 0.8);
+		long bounded = Math.max(5_000L, Math.min(500_000L, (long)price));
+		return bounded / 100 * 100;
+	}
+}
@@ -0,0 +1,61 @@
+package back.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 카카오페이 준비 API 를 흉내내는 로컬 서버. 부하 드라이버 프로세스에서 띄워서 애플리케이션은
+ * 실제와 같이 KakaoPaymentClient 의 block() 으로 delayMillis 만큼 외부 응답을 기다린다.
+ * 요청마다 가상 쓰레드로 응답해서 스텁 자체가 병목이 되지 않게 한다.
+ */
+public class KakaoPaymentStub implements AutoCloseable {
+
+	private static final String READY_PATH = "/v1/payment/ready";
+	private static final String READY_RESPONSE = "{\"tid\":\"%s\",\"tms_result\":false,"
+		+ "\"next_redirect_app_url\":\"http://localhost/app\",\"next_redirect_mobile_url\":\"http://localhost/mobile\","
+		+ "\"next_redirect_pc_url\":\"http://localhost/pc\",\"android_app_scheme\":\"\",\"ios_app_scheme\":\"\","
+		+ "\"created_at\":\"%s\"}";
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final long delayMillis;
+
+	public KakaoPaymentStub(int port, long delayMillis) throws IOException {
+		this.delayMillis = delayMillis;
+		this.server = HttpServer.create(new InetSocketAddress(port), 0);
+		server.createContext(READY_PATH, this::ready);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	private void ready(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.getRequestBody().readAllBytes();
+			Thread.sleep(delayMillis);
+			byte[] body = String.format(READY_RESPONSE, "T" + UUID.randomUUID(), LocalDateTime.now())
+				.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream responseBody = exchange.getResponseBody()) {
+				responseBody.write(body);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.close();
+	}
+}
@@ -0,0 +1,69 @@
+package back.ecommerce.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청별 응답시간(ns)으로 백분위수와 처리량을 계산한다. JMeter 처럼 실패한 요청도 응답시간에 포함한다.
+ */
+public class LatencyReport {
+
+	private final String name;
+	private final long[] latencies;
+	private final long errors;
+	private final long elapsedNanos;
+
+	public LatencyReport(String name, long[] latencies, long errors, long elapsedNanos) {
+		this.name = name;
+		this.latencies = Arrays.copyOf(latencies, latencies.length);
+		Arrays.sort(this.latencies);
+		this.errors = errors;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public double percentileMillis(double percentile) {
+		if (latencies.length == 0) {
+			return 0;
+		}
+		int rank = (int)Math.ceil(percentile / 100.0 * latencies.length);
+		return latencies[Math.max(rank - 1, 0)] / 1_000_000.0;
+	}
+
+	public double throughput() {
+		return latencies.length / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	public double errorRate() {
+		return latencies.length == 0 ? 0 : (double)errors / latencies.length * 100;
+	}
+
+	public Map<String, Object> toMap() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("scenario", name);
+		map.put("requests", latencies.length);
+		map.put("errors", errors);
+		map.put("errorRate", round(errorRate()));
+		map.put("p50", round(percentileMillis(50)));
+		map.put("p90", round(percentileMillis(90)));
+		map.put("p99", round(percentileMillis(99)));
+		map.put("max", round(percentileMillis(100)));
+		map.put("throughput", round(throughput()));
+		map.put("elapsedMillis", elapsedNanos / 1_000_000);
+		return map;
+	}
+
+	public String toMarkdown() {
+		return "### " + name + System.lineSeparator()
+			+ System.lineSeparator()
+			+ "| requests | errors | p50(ms) | p90(ms) | p99(ms) | Throughput(/sec) |" + System.lineSeparator()
+			+ "|---|---|---|---|---|---|" + System.lineSeparator()
+			+ String.format("| %d | %d (%.2f%%) | %.1f | %.1f | %.1f | %.1f |", latencies.length, errors, errorRate(),
+			percentileMillis(50), percentileMillis(90), percentileMillis(99), throughput())
+			+ System.lineSeparator();
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 10) / 10.0;
+	}
+}
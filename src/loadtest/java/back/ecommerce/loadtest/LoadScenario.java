@@ -0,0 +1,86 @@
+package back.ecommerce.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import back.ecommerce.product.entity.Category;
+
+/**
+ * docs/성능개선.md 에 기록된 시나리오. 쓰레드 수, 반복 횟수, ramp-up 은 문서의 JMeter 설정을 기본값으로 한다.
+ */
+public enum LoadScenario {
+	CATEGORY(100, 2, 50) {
+		@Override
+		public String path(CatalogDistribution distribution, Random random) {
+			return "/api/categories/" + category(distribution, random);
+		}
+	},
+	DETAIL_PAGE(1000, 2, 50) {
+		@Override
+		public String path(CatalogDistribution distribution, Random random) {
+			return "/api/v2/categories/" + category(distribution, random) + "/detail?page=10";
+		}
+	},
+	DETAIL_BRAND(1000, 2, 50) {
+		@Override
+		public String path(CatalogDistribution distribution, Random random) {
+			return "/api/v2/categories/" + category(distribution, random) + "/detail?page=" + (random.nextInt(10) + 1)
+				+ "&brandName=" + URLEncoder.encode(distribution.nextBrand(random), StandardCharsets.UTF_8)
+				+ "&sort=price_low";
+		}
+	},
+	/**
+	 * 결제 준비. 주문 저장 → 카카오페이 준비(KakaoPaymentStub) → 결제 저장을 실행해서 외부 API 를 기다리는 요청을 재현한다.
+	 */
+	PAYMENT_READY(300, 5, 10) {
+		@Override
+		public String path(CatalogDistribution distribution, Random random) {
+			return "/api/v2/payment/ready";
+		}
+
+		@Override
+		public boolean isPayment() {
+			return true;
+		}
+	};
+
+	private final int threads;
+	private final int loops;
+	private final int rampUpSeconds;
+
+	LoadScenario(int threads, int loops, int rampUpSeconds) {
+		this.threads = threads;
+		this.loops = loops;
+		this.rampUpSeconds = rampUpSeconds;
+	}
+
+	public abstract String path(CatalogDistribution distribution, Random random);
+
+	/**
+	 * true 면 PaymentFixture 의 토큰과 본문으로 POST 요청을 보내고, 카카오페이 대신 KakaoPaymentStub 이 응답한다.
+	 */
+	public boolean isPayment() {
+		return false;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getLoops() {
+		return loops;
+	}
+
+	public int getRampUpSeconds() {
+		return rampUpSeconds;
+	}
+
+	private static String category(CatalogDistribution distribution, Random random) {
+		return distribution.nextCategory(random).name().toLowerCase();
+	}
+
+	public static LoadScenario from(String value) {
+		return LoadScenario.valueOf(value.toUpperCase());
+	}
+}
@@ -0,0 +1,41 @@
+package back.ecommerce.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형태의 인자. gradle 의 -Pkey=value 가 그대로 넘어온다.
+ */
+public class LoadTestArguments {
+
+	private final Map<String, String> values = new HashMap<>();
+
+	public LoadTestArguments(String[] args) {
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다. " + arg);
+			}
+			int index = arg.indexOf('=');
+			values.put(arg.substring(2, index), arg.substring(index + 1));
+		}
+	}
+
+	public String get(String key, String defaultValue) {
+		return values.getOrDefault(key, defaultValue);
+	}
+
+	public int getInt(String key, int defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : Integer.parseInt(value);
+	}
+
+	public long getLong(String key, long defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : Long.parseLong(value);
+	}
+
+	public double getDouble(String key, double defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : Double.parseDouble(value);
+	}
+}
@@ -0,0 +1,35 @@
+package back.ecommerce.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import back.ecommerce.user.entity.User;
+import back.ecommerce.user.repository.UserRepository;
+
+/**
+ * payment_ready 시나리오가 주문할 수 있도록 부하 테스트용 회원을 만든다.
+ * 부하 드라이버는 같은 jwt.secretKey 로 토큰을 직접 발급하기 때문에 비밀번호는 사용하지 않는다.
+ */
+@Profile("loadtest")
+@Component
+public class LoadTestUserInitializer implements ApplicationRunner {
+
+	private final UserRepository userRepository;
+	private final String email;
+
+	public LoadTestUserInitializer(UserRepository userRepository,
+		@Value("${loadtest.user-email:" + PaymentFixture.DEFAULT_EMAIL + "}") String email) {
+		this.userRepository = userRepository;
+		this.email = email;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!userRepository.existsByEmail(email)) {
+			userRepository.save(User.create(email, "loadtest"));
+		}
+	}
+}
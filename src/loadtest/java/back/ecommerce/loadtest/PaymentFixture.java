@@ -0,0 +1,77 @@
+package back.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.ecommerce.auth.service.TokenProvider;
+
+/**
+ * payment_ready 시나리오가 보내는 결제 준비 요청. LoadTestUserInitializer 가 만든 회원의 토큰을
+ * 서버와 같은 jwt.secretKey 로 발급하고, 주문할 상품은 서버에서 한 번 조회해 이름과 가격을 맞춘다.
+ */
+public class PaymentFixture {
+
+	public static final String DEFAULT_EMAIL = "loadtest@loadtest.com";
+	private static final int TOKEN_EXPIRED_MILLIS = 24 * 60 * 60 * 1000;
+
+	private final String authorization;
+	private final String body;
+
+	private PaymentFixture(String authorization, String body) {
+		this.authorization = authorization;
+		this.body = body;
+	}
+
+	public static PaymentFixture create(HttpClient httpClient, String baseUrl, LoadTestArguments arguments)
+		throws IOException, InterruptedException {
+		String email = arguments.get("email", DEFAULT_EMAIL);
+		long productId = arguments.getLong("productId", 1L);
+		String token = new TokenProvider(arguments.get("jwtSecret", "loadtest"))
+			.provide(email, TOKEN_EXPIRED_MILLIS)
+			.getValue();
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		JsonNode product = findProduct(httpClient, objectMapper, baseUrl, productId);
+		long price = product.get("price").asLong();
+		Map<String, Object> request = Map.of(
+			"email", email,
+			"totalCount", 1,
+			"totalPrice", price,
+			"orderProducts", List.of(Map.of(
+				"productId", productId,
+				"name", product.get("name").asText(),
+				"quantity", 1,
+				"price", price)));
+		return new PaymentFixture("Bearer " + token, objectMapper.writeValueAsString(request));
+	}
+
+	private static JsonNode findProduct(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl,
+		long productId) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v2/products?ids=" + productId))
+			.GET()
+			.build();
+		HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		JsonNode products = objectMapper.readTree(response.body()).path("entity").path("products");
+		if (response.statusCode() / 100 != 2 || products.isEmpty()) {
+			throw new IllegalStateException("주문할 상품을 찾을 수 없습니다. generateCatalog 를 먼저 실행하세요. productId: "
+				+ productId);
+		}
+		return products.get(0);
+	}
+
+	public String getAuthorization() {
+		return authorization;
+	}
+
+	public String getBody() {
+		return body;
+	}
+}
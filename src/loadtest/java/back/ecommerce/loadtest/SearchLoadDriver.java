@@ -0,0 +1,161 @@
+package back.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 문서의 JMeter 시나리오를 재현하는 부하 드라이버. 가상 유저마다 쓰레드 하나를 ramp-up 동안 나눠 띄우고,
+ * 각 유저는 loops 번 요청을 보낸다. 결과는 build/reports/loadtest 에 json, md 로 남는다.
+ * payment_ready 시나리오가 있으면 kakaoPort 에 KakaoPaymentStub 을 띄운다.
+ * <pre>
+ * ./gradlew loadTest -Pscenario=detail_page -Pthreads=200 -Ploops=5 -PrampUp=10
+ * ./gradlew loadTest -Pscenario=payment_ready -PkakaoDelayMillis=100
+ * </pre>
+ */
+public class SearchLoadDriver {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final DateTimeFormatter REPORT_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+	private final LoadTestArguments arguments;
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.connectTimeout(REQUEST_TIMEOUT)
+		.build();
+
+	public SearchLoadDriver(LoadTestArguments arguments) {
+		this.arguments = arguments;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new SearchLoadDriver(new LoadTestArguments(args)).run();
+	}
+
+	public void run() throws InterruptedException, IOException {
+		List<LatencyReport> reports = runScenarios(arguments.get("scenario", "detail_page"));
+		write(reports, Path.of(arguments.get("reportDir", "build/reports/loadtest")));
+	}
+
+	public List<LatencyReport> runScenarios(String scenarioNames) throws InterruptedException, IOException {
+		String baseUrl = arguments.get("baseUrl", "http://localhost:8080");
+		CatalogDistribution distribution = new CatalogDistribution(arguments.getDouble("categorySkew", 0),
+			arguments.getDouble("brandSkew", 0));
+		long seed = arguments.getLong("seed", 42L);
+		List<LoadScenario> scenarios = Arrays.stream(scenarioNames.split(","))
+			.map(name -> LoadScenario.from(name.strip()))
+			.toList();
+		if (scenarios.stream().noneMatch(LoadScenario::isPayment)) {
+			return run(scenarios, baseUrl, distribution, seed, null);
+		}
+		try (KakaoPaymentStub ignored = new KakaoPaymentStub(arguments.getInt("kakaoPort", 18081),
+			arguments.getLong("kakaoDelayMillis", 100))) {
+			return run(scenarios, baseUrl, distribution, seed, PaymentFixture.create(httpClient, baseUrl, arguments));
+		}
+	}
+
+	private List<LatencyReport> run(List<LoadScenario> scenarios, String baseUrl, CatalogDistribution distribution,
+		long seed, PaymentFixture paymentFixture) throws InterruptedException {
+		List<LatencyReport> reports = new ArrayList<>();
+		for (LoadScenario scenario : scenarios) {
+			LatencyReport report = run(scenario, baseUrl, distribution, seed, paymentFixture);
+			System.out.print(report.toMarkdown());
+			reports.add(report);
+		}
+		return reports;
+	}
+
+	private LatencyReport run(LoadScenario scenario, String baseUrl, CatalogDistribution distribution, long seed,
+		PaymentFixture paymentFixture) throws InterruptedException {
+		int threads = arguments.getInt("threads", scenario.getThreads());
+		int loops = arguments.getInt("loops", scenario.getLoops());
+		long rampUpMillis = arguments.getLong("rampUp", scenario.getRampUpSeconds()) * 1000;
+
+		long[] latencies = new long[threads * loops];
+		AtomicInteger index = new AtomicInteger();
+		AtomicLong errors = new AtomicLong();
+		CountDownLatch done = new CountDownLatch(threads);
+
+		long startTime = System.nanoTime();
+		for (int user = 0; user < threads; user++) {
+			long delayMillis = rampUpMillis * user / threads;
+			Random random = new Random(seed + user);
+			Thread thread = new Thread(() -> {
+				try {
+					Thread.sleep(delayMillis);
+					for (int loop = 0; loop < loops; loop++) {
+						HttpRequest request = request(scenario, baseUrl + scenario.path(distribution, random),
+							paymentFixture);
+						long requestStart = System.nanoTime();
+						boolean success = send(request);
+						latencies[index.getAndIncrement()] = System.nanoTime() - requestStart;
+						if (!success) {
+							errors.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			}, "load-user-" + user);
+			thread.setDaemon(true);
+			thread.start();
+		}
+		done.await();
+		long elapsedNanos = System.nanoTime() - startTime;
+
+		long[] recorded = new long[index.get()];
+		System.arraycopy(latencies, 0, recorded, 0, recorded.length);
+		return new LatencyReport(scenario.name(), recorded, errors.get(), elapsedNanos);
+	}
+
+	private HttpRequest request(LoadScenario scenario, String uri, PaymentFixture paymentFixture) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri)).timeout(REQUEST_TIMEOUT);
+		if (!scenario.isPayment()) {
+			return builder.GET().build();
+		}
+		return builder.header("Authorization", paymentFixture.getAuthorization())
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(paymentFixture.getBody()))
+			.build();
+	}
+
+	private boolean send(HttpRequest request) throws InterruptedException {
+		try {
+			HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+			return response.statusCode() / 100 == 2;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private void write(List<LatencyReport> reports, Path reportDir) throws IOException {
+		Files.createDirectories(reportDir);
+		String fileName = "search-" + LocalDateTime.now().format(REPORT_TIME_FORMAT);
+		ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+		objectMapper.writeValue(reportDir.resolve(fileName + ".json").toFile(),
+			reports.stream().map(LatencyReport::toMap).toList());
+
+		StringBuilder markdown = new StringBuilder("# 검색 부하 테스트 " + LocalDateTime.now() + System.lineSeparator());
+		reports.forEach(report -> markdown.append(System.lineSeparator()).append(report.toMarkdown()));
+		Files.writeString(reportDir.resolve(fileName + ".md"), markdown.toString());
+		System.out.println("리포트: " + reportDir.resolve(fileName + ".md").toAbsolutePath());
+	}
+}
@@ -0,0 +1,70 @@
+package back.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하를 받는 애플리케이션 프로세스의 쓰레드 수, 힙, RSS 를 읽는다.
+ * 가상 쓰레드 스택은 힙에, 플랫폼 쓰레드 스택은 네이티브 메모리에 잡히기 때문에 힙과 RSS 를 함께 남긴다.
+ */
+public class ServerMetrics {
+
+	private static final Path PROC_STATUS = Path.of("/proc/self/status");
+	private static final Path PROC_CLEAR_REFS = Path.of("/proc/self/clear_refs");
+	private static final String RSS_FIELD = "VmRSS:";
+	private static final String RSS_PEAK_FIELD = "VmHWM:";
+	private static final String RESET_RSS_PEAK = "5";
+	private static final long MB = 1024 * 1024;
+
+	public Map<String, Object> read() throws IOException {
+		List<MemoryPoolMXBean> heapPools = heapPools();
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("liveThreads", ManagementFactory.getThreadMXBean().getThreadCount());
+		metrics.put("peakPlatformThreads", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+		metrics.put("heapUsedMb", heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum() / MB);
+		metrics.put("heapPeakMb", heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() / MB);
+		List<String> status = Files.exists(PROC_STATUS) ? Files.readAllLines(PROC_STATUS) : List.of();
+		metrics.put("rssMb", kiloBytesToMb(status, RSS_FIELD));
+		metrics.put("rssPeakMb", kiloBytesToMb(status, RSS_PEAK_FIELD));
+		return metrics;
+	}
+
+	/**
+	 * 최고치를 현재 값으로 되돌려서 이후 부하 구간의 최고치만 남게 한다.
+	 * RSS 최고치는 리눅스 4.0 이상에서만 되돌릴 수 있고, 그 외에는 프로세스 시작 이후의 최고치가 남는다.
+	 */
+	public void resetPeaks() {
+		ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+		heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+		try {
+			Files.writeString(PROC_CLEAR_REFS, RESET_RSS_PEAK);
+		} catch (IOException | UnsupportedOperationException e) {
+			//RSS 최고치를 되돌릴 수 없는 환경
+		}
+	}
+
+	private List<MemoryPoolMXBean> heapPools() {
+		return ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+			.toList();
+	}
+
+	/**
+	 * 리눅스가 아니면 -1 을 반환한다.
+	 */
+	private long kiloBytesToMb(List<String> status, String field) {
+		return status.stream()
+			.filter(line -> line.startsWith(field))
+			.map(line -> line.substring(field.length()).replace("kB", "").strip())
+			.mapToLong(kiloBytes -> Long.parseLong(kiloBytes) / 1024)
+			.findFirst()
+			.orElse(-1);
+	}
+}
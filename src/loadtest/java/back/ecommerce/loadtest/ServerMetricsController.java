@@ -0,0 +1,41 @@
+package back.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * loadtestServer 로 실행했을 때만 등록되어 threadModeBenchmark 가 서버의 쓰레드 모드와 쓰레드 수, 메모리를 읽는다.
+ */
+@Profile("loadtest")
+@RestController
+@RequestMapping("/api/loadtest/metrics")
+public class ServerMetricsController {
+
+	private final ServerMetrics serverMetrics = new ServerMetrics();
+	private final boolean virtualThreads;
+
+	public ServerMetricsController(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	@GetMapping
+	public Map<String, Object> read() throws IOException {
+		Map<String, Object> metrics = new LinkedHashMap<>();
+		metrics.put("mode", virtualThreads ? "virtual" : "platform");
+		metrics.putAll(serverMetrics.read());
+		return metrics;
+	}
+
+	@PostMapping("/reset")
+	public void resetPeaks() {
+		serverMetrics.resetPeaks();
+	}
+}
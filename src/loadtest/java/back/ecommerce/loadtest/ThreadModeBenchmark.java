@@ -0,0 +1,103 @@
+package back.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * loadtestServer 로 띄운 애플리케이션에 SearchLoadDriver 시나리오로 부하를 주고, 그 동안의 서버 쓰레드 수와
+ * 힙, RSS 최고치를 함께 남긴다. 쓰레드 모드는 서버의 spring.threads.virtual.enabled 로 정해지므로
+ * 모드마다 서버를 다시 띄워서 실행한다. 기본 시나리오는 JDBC 위주의 detail_page 와
+ * 카카오페이(KakaoPaymentStub) 응답을 기다리는 payment_ready 이다.
+ * <pre>
+ * ./gradlew loadtestServer -PvirtualThreads=false
+ * ./gradlew threadModeBenchmark
+ *
+ * ./gradlew loadtestServer -PvirtualThreads=true
+ * ./gradlew threadModeBenchmark
+ * </pre>
+ */
+public class ThreadModeBenchmark {
+
+	private static final DateTimeFormatter REPORT_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+	private static final String METRICS_PATH = "/api/loadtest/metrics";
+
+	private final LoadTestArguments arguments;
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	public ThreadModeBenchmark(LoadTestArguments arguments) {
+		this.arguments = arguments;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new ThreadModeBenchmark(new LoadTestArguments(args)).run();
+	}
+
+	public void run() throws InterruptedException, IOException {
+		String baseUrl = arguments.get("baseUrl", "http://localhost:8080");
+
+		send(HttpRequest.newBuilder(URI.create(baseUrl + METRICS_PATH + "/reset"))
+			.POST(HttpRequest.BodyPublishers.noBody())
+			.build());
+		List<LatencyReport> reports = new SearchLoadDriver(arguments)
+			.runScenarios(arguments.get("scenario", "detail_page,payment_ready"));
+		Map<String, Object> server = objectMapper.readValue(
+			send(HttpRequest.newBuilder(URI.create(baseUrl + METRICS_PATH)).GET().build()),
+			new TypeReference<LinkedHashMap<String, Object>>() {
+			});
+
+		String mode = String.valueOf(server.get("mode"));
+		StringBuilder markdown = new StringBuilder("# 쓰레드 모드 비교 (" + mode + ") " + LocalDateTime.now())
+			.append(System.lineSeparator());
+		reports.forEach(report -> markdown.append(System.lineSeparator()).append(report.toMarkdown()));
+		markdown.append(toMarkdown(server));
+		System.out.print(markdown);
+		write(mode, reports, server, markdown.toString(), Path.of(arguments.get("reportDir", "build/reports/loadtest")));
+	}
+
+	private String send(HttpRequest request) throws IOException, InterruptedException {
+		HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() / 100 != 2) {
+			throw new IllegalStateException("loadtestServer 의 서버 지표를 읽을 수 없습니다. status: "
+				+ response.statusCode());
+		}
+		return response.body();
+	}
+
+	private String toMarkdown(Map<String, Object> server) {
+		return System.lineSeparator()
+			+ "| server mode | live threads | peak platform threads | heap peak(MB) | RSS peak(MB) |"
+			+ System.lineSeparator()
+			+ "|---|---|---|---|---|" + System.lineSeparator()
+			+ String.format("| %s | %s | %s | %s | %s |", server.get("mode"), server.get("liveThreads"),
+			server.get("peakPlatformThreads"), server.get("heapPeakMb"), server.get("rssPeakMb"))
+			+ System.lineSeparator();
+	}
+
+	private void write(String mode, List<LatencyReport> reports, Map<String, Object> server, String markdown,
+		Path reportDir) throws IOException {
+		Files.createDirectories(reportDir);
+		String fileName = "thread-mode-" + mode + "-" + LocalDateTime.now().format(REPORT_TIME_FORMAT);
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("scenarios", reports.stream().map(LatencyReport::toMap).toList());
+		result.put("server", server);
+		objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT)
+			.writeValue(reportDir.resolve(fileName + ".json").toFile(), result);
+		Files.writeString(reportDir.resolve(fileName + ".md"), markdown);
+		System.out.println("리포트: " + reportDir.resolve(fileName + ".md").toAbsolutePath());
+	}
+}
@@ -0,0 +1,14 @@
+package back.ecommerce.admin.dto.request
+
+import back.ecommerce.product.entity.ApprovalStatus
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.NotNull
+import jakarta.validation.constraints.Size
+
+data class BulkUpdateApprovalRequest(
+    @field:NotEmpty(message = "등록요청 상품 아이디 목록은 필수적으로 필요합니다.")
+    @field:Size(max = 10000, message = "한 번에 처리할 수 있는 등록요청 상품은 10000개 입니다.")
+    val requestIds: List<Long>,
+    @field:NotNull(message = "승인상태는 필수적로 필요합니다.")
+    val approvalStatus: ApprovalStatus
+)
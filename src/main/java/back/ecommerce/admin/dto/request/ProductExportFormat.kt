@@ -0,0 +1,19 @@
+package back.ecommerce.admin.dto.request
+
+import back.ecommerce.exception.CustomException
+import back.ecommerce.exception.ErrorCode
+
+enum class ProductExportFormat(
+    val contentType: String,
+    val extension: String
+) {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    companion object {
+        fun from(value: String?): ProductExportFormat {
+            return values().firstOrNull { it.name.equals(value, ignoreCase = true) }
+                ?: throw CustomException(ErrorCode.INVALID_EXPORT_FORMAT)
+        }
+    }
+}
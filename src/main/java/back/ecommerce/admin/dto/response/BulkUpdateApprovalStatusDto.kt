@@ -0,0 +1,18 @@
+package back.ecommerce.admin.dto.response
+
+import back.ecommerce.product.entity.ApprovalStatus
+import com.fasterxml.jackson.annotation.JsonIgnore
+
+data class BulkUpdateApprovalStatusDto(
+    val approvalStatus: ApprovalStatus,
+    @get:JsonIgnore
+    val updated: List<UpdateApprovalStatusDto>,
+    val skippedRequestIds: List<Long>
+) {
+    val updatedCount: Int
+        get() = updated.size
+
+    fun toMaps(): List<Map<String, String>> {
+        return updated.map { it.toMap() }
+    }
+}
@@ -1,8 +1,10 @@
 package back.ecommerce.admin.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import back.ecommerce.admin.entity.Admin;
 
@@ -10,4 +12,9 @@ public interface AdminRepository extends JpaRepository<Admin,Long> {
 
 	Optional<Admin> findByEmail(String email);
 
+	boolean existsByEmail(String email);
+
+	@Query("select a.email from Admin a")
+	List<String> findAllEmails();
+
 }
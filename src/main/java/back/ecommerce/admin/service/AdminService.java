@@ -1,21 +1,29 @@
 package back.ecommerce.admin.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import back.ecommerce.product.entity.ApprovalStatus;
 import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.entity.Product;
 import back.ecommerce.product.entity.RequestProduct;
 import back.ecommerce.admin.dto.request.AddRequestProductRequest;
+import back.ecommerce.admin.dto.response.BulkUpdateApprovalStatusDto;
 import back.ecommerce.admin.dto.response.UpdateApprovalStatusDto;
 import back.ecommerce.admin.dto.response.AddRequestProductResponse;
 import back.ecommerce.admin.dto.response.RequestProductDto;
 import back.ecommerce.exception.CustomException;
 import back.ecommerce.exception.ErrorCode;
+import back.ecommerce.product.event.ProductApprovedEvent;
 import back.ecommerce.product.repository.RequestProductRepository;
 import back.ecommerce.product.repository.ProductRepository;
 import back.ecommerce.user.repository.UserRepository;
@@ -25,10 +33,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminService {
 
+	private static final int BULK_CHUNK_SIZE = 1000;
+
 	private final RequestProductRepository requestProductRepository;
 	private final UserRepository userRepository;
 
 	private final ProductRepository productRepository;
+	private final RequestProductChunkUpdater requestProductChunkUpdater;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public AddRequestProductResponse addRequestProduct(AddRequestProductRequest request) {
@@ -66,9 +78,37 @@ public class AdminService {
 
 		requestProduct.updateApproval(approvalStatus);
 		if (approvalStatus.equals(ApprovalStatus.SUCCESS)) {
-			productRepository.save(requestProduct.toProduct());
+			Product product = productRepository.save(requestProduct.toProduct());
+			eventPublisher.publishEvent(ProductApprovedEvent.Companion.from(product));
 		}
 
 		return new UpdateApprovalStatusDto(email, requestId, approvalStatus);
 	}
+
+	/**
+	 * 대기 상태인 등록요청 상품들을 BULK_CHUNK_SIZE 단위로 나눠서 청크마다 별도 트랜잭션으로 상태를 바꾼다.
+	 * 앞선 청크는 이미 커밋되므로 중간에 실패하면 그 전 청크까지만 반영된다. 대기 상태가 아닌 요청은 건너뛴다.
+	 */
+	public BulkUpdateApprovalStatusDto updateApprovalStatuses(List<Long> requestIds, ApprovalStatus approvalStatus) {
+		if (approvalStatus.equals(ApprovalStatus.WAIT)) {
+			throw new CustomException(ErrorCode.INVALID_BULK_APPROVAL_STATUS);
+		}
+		List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(requestIds));
+		List<UpdateApprovalStatusDto> updated = new ArrayList<>(distinctIds.size());
+		Set<Long> updatedIds = new HashSet<>();
+		LocalDateTime now = LocalDateTime.now();
+
+		for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+			List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+			requestProductChunkUpdater.update(chunk, approvalStatus, now).forEach(request -> {
+				updated.add(new UpdateApprovalStatusDto(request.getEmail(), request.getId(), approvalStatus));
+				updatedIds.add(request.getId());
+			});
+		}
+
+		List<Long> skippedIds = distinctIds.stream()
+			.filter(id -> !updatedIds.contains(id))
+			.collect(Collectors.toList());
+		return new BulkUpdateApprovalStatusDto(approvalStatus, updated, skippedIds);
+	}
 }
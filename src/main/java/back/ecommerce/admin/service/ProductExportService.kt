@@ -0,0 +1,120 @@
+package back.ecommerce.admin.service
+
+import back.ecommerce.admin.dto.request.ProductExportFormat
+import back.ecommerce.common.logging.GlobalLogger
+import com.fasterxml.jackson.databind.ObjectMapper
+import jakarta.persistence.EntityManagerFactory
+import org.hibernate.ScrollMode
+import org.hibernate.SessionFactory
+import org.slf4j.event.Level
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Service
+import java.io.BufferedWriter
+import java.io.OutputStream
+import java.io.OutputStreamWriter
+import java.io.Writer
+import java.nio.charset.StandardCharsets
+import java.time.LocalDateTime
+
+/**
+ * PRODUCT 테이블 전체를 NDJSON 또는 CSV 로 내보낸다.
+ * 영속성 컨텍스트가 없는 StatelessSession 의 forward-only 스크롤로 fetchSize 만큼씩 읽어 바로 출력하기 때문에
+ * 테이블 크기와 관계없이 메모리 사용량이 일정하다. 클라이언트 연결이 끊기면 쓰기 예외로 스크롤과 세션이 닫히면서 조회도 중단된다.
+ * MySQL 에서 양수 fetchSize 로 나눠 읽으려면 datasource URL 에 useCursorFetch=true 가 필요하고, 없으면 시작 시 경고를 남긴다.
+ */
+@Service
+class ProductExportService(
+    private val entityManagerFactory: EntityManagerFactory,
+    private val objectMapper: ObjectMapper,
+    @Value("\${admin.export.fetch-size:1000}") private val fetchSize: Int,
+    @Value("\${spring.datasource.url:}") private val datasourceUrl: String
+) {
+    private val globalLogger = GlobalLogger()
+
+    /**
+     * useCursorFetch 없이는 MySQL 드라이버가 fetchSize 를 무시하고 결과 전체를 메모리에 올린다.
+     */
+    @EventListener(ApplicationReadyEvent::class)
+    fun checkCursorFetch() {
+        if (!supportsCursorFetch(datasourceUrl)) {
+            globalLogger.log(
+                Level.WARN, "datasource URL 에 useCursorFetch=true 가 없어서 상품 내보내기가 전체 결과를 메모리에 올립니다."
+            )
+        }
+    }
+
+    fun export(format: ProductExportFormat, outputStream: OutputStream): Long {
+        val writer = BufferedWriter(OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE)
+        var count = 0L
+        entityManagerFactory.unwrap(SessionFactory::class.java).openStatelessSession().use { session ->
+            session.createQuery(EXPORT_QUERY, Array<Any?>::class.java)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)
+                .use { rows ->
+                    if (format == ProductExportFormat.CSV) {
+                        writer.write(CSV_HEADER)
+                    }
+                    while (rows.next()) {
+                        val row = rows.get()
+                        when (format) {
+                            ProductExportFormat.NDJSON -> writeJson(writer, row)
+                            ProductExportFormat.CSV -> writeCsv(writer, row)
+                        }
+                        count++
+                    }
+                }
+        }
+        writer.flush()
+        return count
+    }
+
+    private fun writeJson(writer: Writer, row: Array<Any?>) {
+        val values = LinkedHashMap<String, Any?>()
+        COLUMNS.forEachIndexed { index, column -> values[column] = row[index] }
+        writer.write(objectMapper.writeValueAsString(values))
+        writer.write(LINE_SEPARATOR)
+    }
+
+    private fun writeCsv(writer: Writer, row: Array<Any?>) {
+        writer.write(row.joinToString(CSV_DELIMITER) { escapeCsv(it) })
+        writer.write(LINE_SEPARATOR)
+    }
+
+    /**
+     * 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 스프레드시트 수식으로 해석될 수 있는 값은 ' 를 붙인다.
+     */
+    private fun escapeCsv(value: Any?): String {
+        val text = when (value) {
+            null -> return ""
+            is LocalDateTime -> return value.toString()
+            is Number -> return value.toString()
+            else -> value.toString()
+        }
+        val safe = if (text.isNotEmpty() && text[0] in FORMULA_PREFIXES) "'$text" else text
+        if (safe.any { it == ',' || it == '"' || it == '\n' || it == '\r' }) {
+            return "\"" + safe.replace("\"", "\"\"") + "\""
+        }
+        return safe
+    }
+
+    companion object {
+        private const val MYSQL_URL_PREFIX = "jdbc:mysql:"
+        private const val CURSOR_FETCH_OPTION = "usecursorfetch=true"
+        private const val EXPORT_QUERY =
+            "select p.id, p.name, p.brandName, p.price, p.category, p.createdDate from Product p order by p.id"
+        private val COLUMNS = listOf("id", "name", "brandName", "price", "category", "createdDate")
+        private const val CSV_DELIMITER = ","
+        private const val LINE_SEPARATOR = "\n"
+        private val CSV_HEADER = COLUMNS.joinToString(CSV_DELIMITER) + LINE_SEPARATOR
+        private val FORMULA_PREFIXES = setOf('=', '+', '-', '@')
+        private const val BUFFER_SIZE = 64 * 1024
+
+        fun supportsCursorFetch(datasourceUrl: String): Boolean {
+            val url = datasourceUrl.lowercase()
+            return !url.startsWith(MYSQL_URL_PREFIX) || url.contains(CURSOR_FETCH_OPTION)
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package back.ecommerce.admin.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import back.ecommerce.product.entity.ApprovalStatus;
+import back.ecommerce.product.entity.RequestProduct;
+import back.ecommerce.product.event.ProductApprovedEvent;
+import back.ecommerce.product.event.ProductsApprovedEvent;
+import back.ecommerce.product.repository.ProductJdbcRepository;
+import back.ecommerce.product.repository.RequestProductRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 승인/거절의 한 청크를 별도 트랜잭션으로 처리한다.
+ * 청크마다 커밋해서 select ... for update 로 잡은 행 잠금이 전체 요청이 끝날 때까지 유지되지 않게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestProductChunkUpdater {
+
+	private final RequestProductRepository requestProductRepository;
+	private final ProductJdbcRepository productJdbcRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 대기 상태인 요청만 잠그고 한 번의 update 로 상태를 바꾼 뒤, 바뀐 요청을 반환한다.
+	 * 승인이면 상품을 JDBC 배치로 저장하고 커밋 후 처리되도록 이벤트를 한 번 발행한다.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<RequestProduct> update(List<Long> requestIds, ApprovalStatus approvalStatus, LocalDateTime now) {
+		List<RequestProduct> waits = requestProductRepository.findForUpdateByIdInAndApprovalStatus(requestIds,
+			ApprovalStatus.WAIT);
+		if (waits.isEmpty()) {
+			return waits;
+		}
+		List<Long> waitIds = waits.stream().map(RequestProduct::getId).collect(Collectors.toList());
+		requestProductRepository.updateApprovalStatus(waitIds, ApprovalStatus.WAIT, approvalStatus, now);
+		if (approvalStatus.equals(ApprovalStatus.SUCCESS)) {
+			List<ProductApprovedEvent> events = productJdbcRepository.insertAll(waits, now).stream()
+				.map(ProductApprovedEvent.Companion::from)
+				.collect(Collectors.toList());
+			eventPublisher.publishEvent(new ProductsApprovedEvent(events));
+		}
+		return waits;
+	}
+}
@@ -2,22 +2,35 @@ package back.ecommerce.api.admin;
 
 import static back.ecommerce.publisher.aws.MessageType.*;
 
+import java.io.IOException;
+
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import back.ecommerce.product.entity.ApprovalStatus;
 import back.ecommerce.admin.dto.request.AddRequestProductRequest;
+import back.ecommerce.admin.dto.request.BulkUpdateApprovalRequest;
+import back.ecommerce.admin.dto.request.ProductExportFormat;
 import back.ecommerce.admin.dto.request.UpdateApprovalRequest;
+import back.ecommerce.admin.dto.response.BulkUpdateApprovalStatusDto;
 import back.ecommerce.admin.dto.response.UpdateApprovalStatusDto;
 import back.ecommerce.api.dto.Response;
+import back.ecommerce.auth.service.PasswordHashExecutor;
+import back.ecommerce.cart.application.CartCompactionService;
+import back.ecommerce.common.cache.CacheStatsService;
+import back.ecommerce.common.jdbc.ConnectionHoldRecorder;
 import back.ecommerce.publisher.aws.EmailSQSEventPublisher;
 import back.ecommerce.admin.service.AdminService;
+import back.ecommerce.admin.service.ProductExportService;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -27,6 +40,11 @@ public class AdminController {
 
 	private final AdminService adminService;
 	private final EmailSQSEventPublisher emailSQSEventPublisher;
+	private final CacheStatsService cacheStatsService;
+	private final ProductExportService productExportService;
+	private final PasswordHashExecutor passwordHashExecutor;
+	private final CartCompactionService cartCompactionService;
+	private final ConnectionHoldRecorder connectionHoldRecorder;
 
 	@PostMapping("/add-request-product")
 	public ResponseEntity<Response> addRequestProduct(@RequestBody @Valid AddRequestProductRequest request) {
@@ -47,4 +65,44 @@ public class AdminController {
 		emailSQSEventPublisher.pub(REQUEST_PRODUCT_APPROVAL_STATUS, updateApprovalStatusDto.toMap());
 		return Response.createSuccessResponse("등록요청 상품이 성공적으로 업데이트 되었습니다.", updateApprovalStatusDto);
 	}
+
+	@PostMapping("/admin/bulk-update-approval")
+	public ResponseEntity<Response> bulkUpdateRequestProduct(@RequestBody @Valid BulkUpdateApprovalRequest request) {
+		BulkUpdateApprovalStatusDto bulkUpdateApprovalStatusDto = adminService.updateApprovalStatuses(
+			request.getRequestIds(), request.getApprovalStatus());
+		emailSQSEventPublisher.pubAll(REQUEST_PRODUCT_APPROVAL_STATUS, bulkUpdateApprovalStatusDto.toMaps());
+		return Response.createSuccessResponse("등록요청 상품들이 성공적으로 업데이트 되었습니다.", bulkUpdateApprovalStatusDto);
+	}
+
+	@GetMapping("/admin/caches")
+	public ResponseEntity<Response> findCacheStats() {
+		return Response.createSuccessResponse("캐시 통계가 성공적으로 조회 되었습니다.", cacheStatsService.findAll());
+	}
+
+	@GetMapping("/admin/password-hash")
+	public ResponseEntity<Response> findPasswordHashStats() {
+		return Response.createSuccessResponse("비밀번호 해싱 통계가 성공적으로 조회 되었습니다.", passwordHashExecutor.stats());
+	}
+
+	@GetMapping("/admin/connection-hold")
+	public ResponseEntity<Response> findConnectionHoldStats() {
+		return Response.createSuccessResponse("커넥션 점유 시간 통계가 성공적으로 조회 되었습니다.",
+			connectionHoldRecorder.stats());
+	}
+
+	@PostMapping("/admin/carts/compact")
+	public ResponseEntity<Response> compactCarts() {
+		return Response.createSuccessResponse("중복된 장바구니가 성공적으로 정리 되었습니다.", cartCompactionService.compact());
+	}
+
+	@GetMapping("/admin/products/export")
+	public void exportProducts(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+		throws IOException {
+		ProductExportFormat exportFormat = ProductExportFormat.Companion.from(format);
+		response.setContentType(exportFormat.getContentType());
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+			"attachment; filename=products." + exportFormat.getExtension());
+		productExportService.export(exportFormat, response.getOutputStream());
+	}
 }
@@ -4,6 +4,7 @@ import static back.ecommerce.publisher.aws.MessageType.*;
 
 import java.time.LocalDateTime;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.http.ResponseEntity;
@@ -35,9 +36,9 @@ public class AuthController {
 	}
 
 	@PostMapping("/token")
-	public ResponseEntity<Response> login(@RequestBody @Valid LoginRequest loginRequest) {
+	public ResponseEntity<Response> login(@RequestBody @Valid LoginRequest loginRequest, HttpServletRequest request) {
 		return Response.createSuccessResponse("인증이 성공적으로 완료되었습니다.",
-			authService.createToken(loginRequest.getEmail(), loginRequest.getPassword()));
+			authService.createToken(loginRequest.getEmail(), loginRequest.getPassword(), request.getRemoteAddr()));
 	}
 
 	@PostMapping("/sign-up")
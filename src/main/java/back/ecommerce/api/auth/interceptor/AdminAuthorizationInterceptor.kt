@@ -1,6 +1,9 @@
 package back.ecommerce.api.auth.interceptor
 
-import back.ecommerce.admin.repository.AdminRepository
+import back.ecommerce.auth.domain.Role
+import back.ecommerce.auth.service.AdminRoleRegistry
+import back.ecommerce.auth.service.TokenExtractor
+import back.ecommerce.auth.service.TokenProvider
 import back.ecommerce.exception.AuthenticationException
 import back.ecommerce.exception.ErrorCode
 import jakarta.servlet.http.HttpServletRequest
@@ -8,19 +11,24 @@ import jakarta.servlet.http.HttpServletResponse
 import org.springframework.stereotype.Component
 import org.springframework.web.servlet.HandlerInterceptor
 
+/**
+ * JwtAuthenticationFilter 가 검증한 claims 의 role 로 어드민을 확인한다.
+ * 권한 회수는 AdminRoleRegistry 의 주기적인 갱신으로 반영되므로 요청마다 DB 를 조회하지 않는다.
+ */
 @Component
 class AdminAuthorizationInterceptor(
-    private val adminRepository: AdminRepository
+    private val adminRoleRegistry: AdminRoleRegistry
 ) : HandlerInterceptor {
 
     @Throws(Exception::class)
     override fun preHandle(request: HttpServletRequest, response: HttpServletResponse, handler: Any): Boolean {
-
-        val email = request.getAttribute(EMAIL_ATTRIBUTE) as String
-
-        adminRepository.findByEmail(email)
-            .orElseThrow { AuthenticationException(ErrorCode.ADMIN_NOT_FOUND) }
-
+        val claims = request.getAttribute(TokenExtractor.CLAIMS_ATTRIBUTE) as? Map<*, *>
+            ?: throw AuthenticationException(ErrorCode.ADMIN_NOT_FOUND)
+        val email = claims[EMAIL_ATTRIBUTE] as? String
+        if (email == null || claims[TokenProvider.ROLE_CLAIM] != Role.ADMIN.name || !adminRoleRegistry.isAdmin(email)) {
+            throw AuthenticationException(ErrorCode.ADMIN_NOT_FOUND)
+        }
+        request.setAttribute(EMAIL_ATTRIBUTE, email)
         return super.preHandle(request, response, handler)
     }
 
@@ -23,9 +23,10 @@ class JwtAuthenticationInterceptor(
         if (!header.startsWith(AUTHORIZATION_TYPE)) {
             throw AuthenticationException(ErrorCode.AUTH_HEADER_INVALID)
         }
-        tokenExtractor.extractClaim(header.removePrefix(AUTHORIZATION_TYPE), EMAIL_ATTRIBUTE).also {
-            request.setAttribute(EMAIL_ATTRIBUTE, it)
-        }
+        val claims = request.getAttribute(TokenExtractor.CLAIMS_ATTRIBUTE) as? Map<*, *>
+        val email = claims?.get(EMAIL_ATTRIBUTE) as? String
+            ?: tokenExtractor.extractClaim(header.removePrefix(AUTHORIZATION_TYPE), EMAIL_ATTRIBUTE)
+        request.setAttribute(EMAIL_ATTRIBUTE, email)
         return true
     }
 
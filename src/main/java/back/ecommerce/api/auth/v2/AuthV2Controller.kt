@@ -8,6 +8,7 @@ import back.ecommerce.auth.dto.response.SignUpResponse
 import back.ecommerce.auth.service.AuthService
 import back.ecommerce.publisher.aws.EmailPublisher
 import back.ecommerce.publisher.aws.MessageType
+import jakarta.servlet.http.HttpServletRequest
 import jakarta.validation.Valid
 import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.*
@@ -21,10 +22,10 @@ class AuthV2Controller(
 ) {
 
     @PostMapping("/token")
-    fun login(@RequestBody @Valid request: LoginRequest): ResponseEntity<Response> {
+    fun login(@RequestBody @Valid request: LoginRequest, servletRequest: HttpServletRequest): ResponseEntity<Response> {
         return Response.createSuccessResponse(
             "인증이 성공적으로 완료되었습니다",
-            authService.createToken(request.email, request.password)
+            authService.createToken(request.email, request.password, servletRequest.remoteAddr)
         )
     }
 
@@ -4,6 +4,7 @@ import back.ecommerce.api.dto.Response
 import back.ecommerce.auth.domain.AuthUser
 import back.ecommerce.cart.application.CartService
 import back.ecommerce.cart.dto.request.AddCartRequest
+import back.ecommerce.cart.dto.request.CartBatchRequest
 import back.ecommerce.cart.dto.request.DeleteCartRequest
 import jakarta.validation.Valid
 import org.springframework.http.ResponseEntity
@@ -24,6 +25,17 @@ class CartV2Controller(
         )
     }
 
+    @PostMapping("/batch")
+    fun applyOperations(
+        @AuthenticationPrincipal authUser: AuthUser,
+        @RequestBody @Valid request: CartBatchRequest
+    ): ResponseEntity<Response> {
+        return Response.createSuccessResponse(
+            "장바구니가 일괄 변경 되었습니다.",
+            cartService.applyOperations(authUser.username, request.operations)
+        )
+    }
+
     @GetMapping
     fun findByEmail(@AuthenticationPrincipal authUser: AuthUser): ResponseEntity<Response> {
         return Response.createSuccessResponse(
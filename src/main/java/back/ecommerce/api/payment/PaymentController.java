@@ -13,12 +13,11 @@ import org.springframework.web.bind.annotation.RestController;
 import back.ecommerce.api.auth.resolver.annotation.UserEmail;
 import back.ecommerce.api.dto.Response;
 import back.ecommerce.client.KakaoPaymentClient;
-import back.ecommerce.order.application.OrderService;
-import back.ecommerce.order.service.OrderGroupDto;
 import back.ecommerce.payment.dto.request.PaymentCancelRequest;
 import back.ecommerce.payment.dto.request.PaymentReadyRequest;
 import back.ecommerce.payment.service.CancelPaymentDto;
 import back.ecommerce.payment.service.PaymentDto;
+import back.ecommerce.payment.service.PaymentReadyService;
 import back.ecommerce.payment.service.PaymentService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -32,18 +31,12 @@ public class PaymentController {
 
 	private final KakaoPaymentClient kakaoPaymentClient;
 	private final PaymentService paymentService;
-	private final OrderService orderService;
+	private final PaymentReadyService paymentReadyService;
 
 	@PostMapping("/api/payment/ready")
 	public ResponseEntity<?> paymentReady(@UserEmail String email, @Valid @RequestBody PaymentReadyRequest request) {
-		OrderGroupDto orderGroupDto = orderService.createOrder(email, request.getTotalPrice(),
-			request.getOrderProducts());
-		KakaoReadyPaymentResult result = kakaoPaymentClient.ready(email, orderGroupDto.getOrderCode(),
-			orderGroupDto.getTotalPrice(), orderGroupDto.getName(), orderGroupDto.getQuantity());
-		paymentService.createReadyPayment(result.getTransactionId(), result.getCid(), result.getOrderCode(), email,
-			request.getTotalPrice());
 		return Response.createSuccessResponse("결제준비가 완료 되었습니다.",
-			new PaymentReadyResponse(result.getPcUrl(), result.getOrderCode(), result.getCreatedAt()));
+			paymentReadyService.ready(email, request.getTotalPrice(), request.getOrderProducts()));
 	}
 
 	@GetMapping("/api/payment/callback-approval/{orderCode}")
@@ -1,12 +1,11 @@
 package back.ecommerce.api.payment.v2
 
 import back.ecommerce.api.dto.Response
-import back.ecommerce.api.payment.PaymentReadyResponse
 import back.ecommerce.auth.domain.AuthUser
 import back.ecommerce.client.KakaoPaymentClient
-import back.ecommerce.order.application.OrderService
 import back.ecommerce.payment.dto.request.PaymentCancelRequest
 import back.ecommerce.payment.dto.request.PaymentReadyRequest
+import back.ecommerce.payment.service.PaymentReadyService
 import back.ecommerce.payment.service.PaymentService
 import jakarta.validation.Valid
 import org.springframework.http.HttpHeaders
@@ -20,7 +19,7 @@ import org.springframework.web.bind.annotation.*
 class PaymentV2Controller(
     private val kakaoPaymentClient: KakaoPaymentClient,
     private val paymentService: PaymentService,
-    private val orderService: OrderService,
+    private val paymentReadyService: PaymentReadyService,
 ) {
 
     @PostMapping("/ready")
@@ -28,25 +27,9 @@ class PaymentV2Controller(
         @AuthenticationPrincipal authUser: AuthUser,
         @Valid @RequestBody request: PaymentReadyRequest
     ): ResponseEntity<Response> {
-        val createOrder = orderService.createOrder(authUser.username, request.totalPrice, request.orderProducts)
-        val result = kakaoPaymentClient.ready(
-            authUser.username,
-            createOrder.orderCode,
-            createOrder.totalPrice,
-            createOrder.name,
-            createOrder.quantity
-        )
-
-        paymentService.createReadyPayment(
-            result.transactionId,
-            result.cid,
-            result.orderCode,
-            authUser.username,
-            request.totalPrice
-        )
         return Response.createSuccessResponse(
             "결제준비가 완료 되었습니다.",
-            PaymentReadyResponse(result.pcUrl, result.orderCode, result.createdAt)
+            paymentReadyService.ready(authUser.username, request.totalPrice, request.orderProducts)
         )
     }
 
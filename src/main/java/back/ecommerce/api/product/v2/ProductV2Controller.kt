@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity
 import org.springframework.web.bind.annotation.GetMapping
 import org.springframework.web.bind.annotation.PathVariable
 import org.springframework.web.bind.annotation.RequestMapping
+import org.springframework.web.bind.annotation.RequestParam
 import org.springframework.web.bind.annotation.RestController
 
 @RestController
@@ -34,8 +35,22 @@ class ProductV2Controller(
         )
     }
 
+    @GetMapping("/categories/{category}/detail", params = ["cursor"])
+    fun findProductWithCursor(@ProductSearchRequestMapping request: ProductSearchConditionRequest)
+            : ResponseEntity<Response> {
+        return Response.createSuccessResponse(
+            "상품이 성공적으로 조회 되었습니다.",
+            productV2Service.findWithSearchConditionAndCursor(request.category, request.parameters)
+        )
+    }
+
     @GetMapping("/product/{id}")
     fun findOne(@PathVariable("id") id: Long): ResponseEntity<Response> {
         return Response.createSuccessResponse("상품이 성공적으로 조회 되었습니다.", productV2Service.findOne(id))
     }
-}
\ No newline at end of file
+
+    @GetMapping("/products")
+    fun findByIds(@RequestParam("ids") ids: String): ResponseEntity<Response> {
+        return Response.createSuccessResponse("상품이 성공적으로 조회 되었습니다.", productV2Service.findByIds(ids))
+    }
+}
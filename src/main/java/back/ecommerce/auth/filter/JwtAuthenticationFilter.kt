@@ -27,6 +27,7 @@ class JwtAuthenticationFilter(
         }
 
         val payload = tokenExtractor.validateAndGetPayload(header.removePrefix(AUTHORIZATION_TYPE))
+        request.setAttribute(TokenExtractor.CLAIMS_ATTRIBUTE, payload)
         val authentication = authenticationProvider.provide(payload)
 
         SecurityContextHolder.getContext()?.run {
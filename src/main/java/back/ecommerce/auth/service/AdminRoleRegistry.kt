@@ -0,0 +1,75 @@
+package back.ecommerce.auth.service
+
+import back.ecommerce.admin.repository.AdminRepository
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.locks.ReentrantLock
+
+/**
+ * 어드민 이메일 목록. 요청마다 조회하지 않고 refresh-seconds 가 지나면 한 번 다시 읽는다.
+ * 어드민에서 제외된 계정은 role claim 이 남아있는 토큰이라도 다음 갱신부터 거부된다.
+ */
+@Component
+class AdminRoleRegistry(
+    private val adminRepository: AdminRepository,
+    @Value("\${auth.admin-role.refresh-seconds:30}")
+    refreshSeconds: Long
+) {
+    private val refreshNanos = Duration.ofSeconds(refreshSeconds).toNanos()
+    private val lock = ReentrantLock()
+
+    @Volatile
+    private var emails: Set<String> = emptySet()
+
+    @Volatile
+    private var loadedAt: Long? = null
+
+    fun isAdmin(email: String): Boolean {
+        refreshIfStale()
+        return emails.contains(email)
+    }
+
+    /**
+     * 갱신 주기를 기다리지 않고 바로 다시 읽는다.
+     */
+    fun refresh() {
+        lock.lock()
+        try {
+            load()
+        } finally {
+            lock.unlock()
+        }
+    }
+
+    private fun refreshIfStale() {
+        if (!isStale()) {
+            return
+        }
+        // 이미 한 번 읽었다면 다른 요청이 갱신하는 동안 기다리지 않고 이전 목록을 사용한다.
+        if (loadedAt != null) {
+            if (!lock.tryLock()) {
+                return
+            }
+        } else {
+            lock.lock()
+        }
+        try {
+            if (isStale()) {
+                load()
+            }
+        } finally {
+            lock.unlock()
+        }
+    }
+
+    private fun load() {
+        emails = adminRepository.findAllEmails().toHashSet()
+        loadedAt = System.nanoTime()
+    }
+
+    private fun isStale(): Boolean {
+        val loadedAt = loadedAt ?: return true
+        return System.nanoTime() - loadedAt >= refreshNanos
+    }
+}
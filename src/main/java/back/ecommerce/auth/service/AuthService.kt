@@ -1,5 +1,7 @@
 package back.ecommerce.auth.service
 
+import back.ecommerce.admin.repository.AdminRepository
+import back.ecommerce.auth.domain.Role
 import back.ecommerce.auth.dto.response.SignUpDto
 import back.ecommerce.auth.dto.response.SignUpResponse
 import back.ecommerce.auth.dto.response.TokenResponse
@@ -9,7 +11,6 @@ import back.ecommerce.exception.CustomException
 import back.ecommerce.exception.ErrorCode
 import back.ecommerce.user.repository.UserRepository
 import org.springframework.beans.factory.annotation.Value
-import org.springframework.security.crypto.password.PasswordEncoder
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.time.LocalDateTime
@@ -17,7 +18,9 @@ import java.time.LocalDateTime
 @Service
 class AuthService(
     private val userRepository: UserRepository,
-    private val passwordEncoder: PasswordEncoder,
+    private val adminRepository: AdminRepository,
+    private val passwordHashExecutor: PasswordHashExecutor,
+    private val loginThrottle: LoginThrottle,
     private val tokenProvider: TokenProvider,
     private val randomUUIDGenerator: RandomUUIDGenerator,
     private val signUpService: SignUpService,
@@ -25,24 +28,28 @@ class AuthService(
     private val tokenExtractor: TokenExtractor,
     @Value("\${jwt.expiredTime}") private val expiredTime: Int
 ) {
-    @Transactional(readOnly = true)
-    fun createToken(email: String, password: String): TokenResponse {
-        val user = userRepository.findByEmail(email)
-            .orElseThrow { CustomException(ErrorCode.USER_NOT_FOUND) }
-        validatePassword(password, user.password)
-        val token = tokenProvider.provide(email, expiredTime)
+    /**
+     * 비밀번호 해싱 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다. 조회는 리포지토리 호출마다 짧게 끝난다.
+     */
+    fun createToken(email: String, password: String, clientIp: String): TokenResponse {
+        loginThrottle.check(email, clientIp)
+        val user = userRepository.findByEmail(email).orElse(null) ?: run {
+            loginThrottle.recordFailure(email, clientIp)
+            throw CustomException(ErrorCode.USER_NOT_FOUND)
+        }
+        if (!passwordHashExecutor.matches(password, user.password)) {
+            loginThrottle.recordFailure(email, clientIp)
+            throw AuthenticationException(ErrorCode.PASSWORD_NOT_MATCHED)
+        }
+        loginThrottle.reset(email)
+        val role = if (adminRepository.existsByEmail(email)) Role.ADMIN else Role.MEMBER
+        val token = tokenProvider.provide(email, expiredTime, role)
         return TokenResponse(token.value, token.expireTime.toLong(), token.type)
     }
 
-    private fun validatePassword(rawPassword: String, encodePassword: String) {
-        passwordEncoder.matches(
-            rawPassword, encodePassword
-        ) || throw AuthenticationException(ErrorCode.PASSWORD_NOT_MATCHED)
-    }
-
     fun signUp(email: String, password: String): SignUpDto {
         val code = randomUUIDGenerator.create()
-        signUpService.saveUserSignUpInfo(code, email, passwordEncoder.encode(password))
+        signUpService.saveUserSignUpInfo(code, email, passwordHashExecutor.encode(password))
         return SignUpDto(email, verificationURLGenerator.generateVerificationURL(code))
     }
 
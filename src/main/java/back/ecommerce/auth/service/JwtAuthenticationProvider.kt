@@ -9,7 +9,8 @@ import org.springframework.stereotype.Service
 class JwtAuthenticationProvider {
     fun provide(payload: Map<String, Any>): JwtAuthentication {
         val email = payload[EMAIL_PAYLOAD_KEY] as String
-        val authUser = AuthUser(email, Role.MEMBER)
+        val role = Role.values().find { it.name == payload[TokenProvider.ROLE_CLAIM] } ?: Role.MEMBER
+        val authUser = AuthUser(email, role)
         return JwtAuthentication(authUser, true)
     }
 
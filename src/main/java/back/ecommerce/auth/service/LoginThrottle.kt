@@ -0,0 +1,87 @@
+package back.ecommerce.auth.service
+
+import back.ecommerce.exception.CustomException
+import back.ecommerce.exception.ErrorCode
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 계정, IP 별 로그인 실패 횟수를 고정 윈도우로 세고 한도를 넘으면 비밀번호 해싱 전에 거절한다.
+ * 엔트리가 maximumSize 에 닿으면 만료된 엔트리와 윈도우가 가장 먼저 끝나는 엔트리를 함께 지워 크기를 제한한다.
+ * IP 는 request.remoteAddr 이므로 로드밸런서 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 를 반영해야 한다.
+ */
+@Component
+class LoginThrottle(
+    @Value("\${auth.login-throttle.max-failures-per-email:5}") private val maxFailuresPerEmail: Int,
+    @Value("\${auth.login-throttle.max-failures-per-ip:50}") private val maxFailuresPerIp: Int,
+    @Value("\${auth.login-throttle.window-seconds:300}") windowSeconds: Long,
+    @Value("\${auth.login-throttle.maximum-size:100000}") private val maximumSize: Int
+) {
+    private val windowNanos = Duration.ofSeconds(windowSeconds).toNanos()
+    private val failures = ConcurrentHashMap<String, Failures>()
+    private val evictionLock = ReentrantLock()
+
+    fun check(email: String, clientIp: String) {
+        if (count(EMAIL_PREFIX + email) >= maxFailuresPerEmail || count(IP_PREFIX + clientIp) >= maxFailuresPerIp) {
+            throw CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS)
+        }
+    }
+
+    fun recordFailure(email: String, clientIp: String) {
+        if (failures.size >= maximumSize) {
+            evict()
+        }
+        increase(EMAIL_PREFIX + email)
+        increase(IP_PREFIX + clientIp)
+    }
+
+    fun reset(email: String) {
+        failures.remove(EMAIL_PREFIX + email)
+    }
+
+    fun size() = failures.size
+
+    private fun count(key: String): Int {
+        val current = failures[key] ?: return 0
+        return if (current.isExpired(System.nanoTime())) 0 else current.count
+    }
+
+    private fun increase(key: String) {
+        val now = System.nanoTime()
+        failures.compute(key) { _, current ->
+            if (current == null || current.isExpired(now)) Failures(now + windowNanos, 1) else current.increase()
+        }
+    }
+
+    /**
+     * 한 번에 여유분까지 비워서 한도에 닿을 때마다 전체를 훑지 않도록 한다.
+     */
+    private fun evict() = evictionLock.withLock {
+        if (failures.size < maximumSize) {
+            return@withLock
+        }
+        val now = System.nanoTime()
+        failures.values.removeIf { it.isExpired(now) }
+        val overflow = failures.size - (maximumSize - maxOf(MIN_EVICTION, maximumSize / 10))
+        if (overflow > 0) {
+            failures.entries.sortedBy { it.value.expiredAt }
+                .take(overflow)
+                .forEach { failures.remove(it.key, it.value) }
+        }
+    }
+
+    private data class Failures(val expiredAt: Long, val count: Int) {
+        fun isExpired(now: Long) = now - expiredAt >= 0
+        fun increase() = copy(count = count + 1)
+    }
+
+    companion object {
+        private const val EMAIL_PREFIX = "email:"
+        private const val IP_PREFIX = "ip:"
+        private const val MIN_EVICTION = 2
+    }
+}
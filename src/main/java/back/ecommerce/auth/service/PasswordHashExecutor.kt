@@ -0,0 +1,145 @@
+package back.ecommerce.auth.service
+
+import back.ecommerce.exception.CustomException
+import back.ecommerce.exception.ErrorCode
+import jakarta.annotation.PreDestroy
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.stereotype.Component
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Future
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAccumulator
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * bcrypt 해싱은 의도적으로 CPU 를 오래 사용하기 때문에 요청 스레드가 아닌 전용 풀에서 실행한다.
+ * 풀과 대기열이 모두 차면 기다리지 않고 LOGIN_BUSY 로 바로 거절해서 로그인 폭주가 상품 조회 스레드를 잠식하지 않도록 한다.
+ * 요청 스레드가 가상 스레드여도(spring.threads.virtual.enabled) 동시 해싱 수를 CPU 에 맞춰 제한해야 하므로 플랫폼 스레드 풀을 유지한다.
+ */
+@Component
+class PasswordHashExecutor(
+    private val passwordEncoder: PasswordEncoder,
+    @Value("\${auth.password-hash.pool-size:1}") private val poolSize: Int,
+    @Value("\${auth.password-hash.queue-capacity:16}") private val queueCapacity: Int,
+    @Value("\${auth.password-hash.timeout-millis:3000}") private val timeoutMillis: Long
+) {
+    private val executor = ThreadPoolExecutor(
+        poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        ArrayBlockingQueue(queueCapacity),
+        HashThreadFactory(),
+        ThreadPoolExecutor.AbortPolicy()
+    )
+    private val rejected = LongAdder()
+    private val timedOut = LongAdder()
+    private val costFactors = ConcurrentHashMap<String, CostFactorRecorder>()
+
+    fun matches(rawPassword: String, encodedPassword: String): Boolean {
+        val costFactor = costFactorOf(encodedPassword)
+        return execute({ passwordEncoder.matches(rawPassword, encodedPassword) }, { costFactor })
+    }
+
+    fun encode(rawPassword: String): String {
+        return execute({ passwordEncoder.encode(rawPassword) }, ::costFactorOf)
+    }
+
+    fun stats(): PasswordHashStats {
+        return PasswordHashStats(
+            poolSize,
+            queueCapacity,
+            executor.queue.size,
+            executor.activeCount,
+            rejected.sum(),
+            timedOut.sum(),
+            costFactors.map { (costFactor, recorder) -> recorder.toStats(costFactor) }
+                .sortedBy { it.costFactor }
+        )
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdown()
+    }
+
+    private fun <T> execute(task: () -> T, costFactor: (T) -> String): T {
+        val future: Future<T> = try {
+            executor.submit<T> {
+                val start = System.nanoTime()
+                task().also { record(costFactor(it), System.nanoTime() - start) }
+            }
+        } catch (e: RejectedExecutionException) {
+            rejected.increment()
+            throw CustomException(ErrorCode.LOGIN_BUSY)
+        }
+        return try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS)
+        } catch (e: TimeoutException) {
+            future.cancel(true)
+            timedOut.increment()
+            throw CustomException(ErrorCode.LOGIN_BUSY)
+        } catch (e: InterruptedException) {
+            future.cancel(true)
+            Thread.currentThread().interrupt()
+            throw CustomException(ErrorCode.LOGIN_BUSY)
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    private fun record(costFactor: String, elapsedNanos: Long) {
+        costFactors.computeIfAbsent(costFactor) { CostFactorRecorder() }.record(elapsedNanos)
+    }
+
+    private class CostFactorRecorder {
+        private val count = LongAdder()
+        private val totalNanos = LongAdder()
+        private val maxNanos = LongAccumulator({ left, right -> maxOf(left, right) }, 0L)
+
+        fun record(elapsedNanos: Long) {
+            count.increment()
+            totalNanos.add(elapsedNanos)
+            maxNanos.accumulate(elapsedNanos)
+        }
+
+        fun toStats(costFactor: String): CostFactorStats {
+            val count = count.sum()
+            val average = if (count == 0L) 0.0 else totalNanos.sum().toDouble() / count / NANOS_PER_MILLI
+            return CostFactorStats(costFactor, count, average, maxNanos.get() / NANOS_PER_MILLI)
+        }
+    }
+
+    private class HashThreadFactory : ThreadFactory {
+        private val sequence = AtomicInteger()
+
+        override fun newThread(runnable: Runnable): Thread {
+            return Thread(runnable, "password-hash-${sequence.incrementAndGet()}").apply { isDaemon = true }
+        }
+    }
+
+    companion object {
+        private const val UNKNOWN_COST_FACTOR = "unknown"
+        private const val NANOS_PER_MILLI = 1_000_000.0
+        private val BCRYPT_COST = Regex("^\\$2[abxy]?\\$(\\d{2})\\$")
+
+        /**
+         * {bcrypt}$2a$10$... 형태의 해시에서 인코딩 방식과 cost 를 꺼낸다.
+         */
+        fun costFactorOf(encodedPassword: String): String {
+            val id = encodedPassword.substringAfter('{', "").substringBefore('}', "")
+            val hash = encodedPassword.substringAfter('}')
+            val cost = BCRYPT_COST.find(hash)?.groupValues?.get(1)
+            return when {
+                cost != null -> "${id.ifEmpty { "bcrypt" }}-$cost"
+                id.isNotEmpty() -> id
+                else -> UNKNOWN_COST_FACTOR
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package back.ecommerce.auth.service
+
+data class PasswordHashStats(
+    val poolSize: Int,
+    val queueCapacity: Int,
+    val queued: Int,
+    val active: Int,
+    val rejected: Long,
+    val timedOut: Long,
+    val costFactors: List<CostFactorStats>
+)
+
+/**
+ * 인코딩 방식과 cost 별 해싱 횟수와 소요시간. ex) bcrypt-10
+ */
+data class CostFactorStats(
+    val costFactor: String,
+    val count: Long,
+    val averageMillis: Double,
+    val maxMillis: Double
+)
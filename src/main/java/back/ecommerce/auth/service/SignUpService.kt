@@ -4,28 +4,31 @@ import back.ecommerce.exception.CustomException
 import back.ecommerce.exception.ErrorCode
 import back.ecommerce.user.entity.SignUpInfo
 import back.ecommerce.user.entity.User
-import back.ecommerce.user.repository.SignUpRepository
+import back.ecommerce.user.event.UserRegisteredEvent
+import back.ecommerce.user.repository.SignUpStore
 import back.ecommerce.user.repository.UserRepository
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 
 @Service
 class SignUpService(
     private val userRepository: UserRepository,
-    private val signUpRepository: SignUpRepository
+    private val signUpStore: SignUpStore,
+    private val eventPublisher: ApplicationEventPublisher
 ) {
 
     @Transactional
     fun saveUserSignUpInfo(code: String, email: String, password: String) {
         validateDuplicateEmail(email)
         validateAlreadySignUpRequest(email).also {
-            signUpRepository.save(SignUpInfo.create(code, email, password, EMAIL_TOKEN_EXPIRED_SECONDS))
+            signUpStore.save(SignUpInfo.create(code, email, password, EMAIL_TOKEN_EXPIRED_SECONDS))
         }
     }
 
     @Transactional
     fun verifyCodeAndSaveUser(code: String): String {
-        val signUpInfo = signUpRepository.findByVerifiedCode(code)
+        val signUpInfo = signUpStore.findByVerifiedCode(code)
             .orElseThrow { CustomException(ErrorCode.EMAIL_CODE_NOT_FOUND) }.also {
                 if (it.isExpired) {
                     throw CustomException(ErrorCode.TOKEN_HAS_EXPIRED)
@@ -33,12 +36,13 @@ class SignUpService(
             }
         validateDuplicateEmail(signUpInfo.email)
         userRepository.save(User.create(signUpInfo.email, signUpInfo.password))
-        signUpRepository.deleteById(signUpInfo.id)
+        signUpStore.delete(signUpInfo)
+        eventPublisher.publishEvent(UserRegisteredEvent(signUpInfo.email))
         return signUpInfo.email
     }
 
     private fun validateAlreadySignUpRequest(email: String) {
-        if (signUpRepository.existsByEmail(email)) {
+        if (signUpStore.existsByEmail(email)) {
             throw CustomException(ErrorCode.ALREADY_SIGN_UP_EMAIL)
         }
     }
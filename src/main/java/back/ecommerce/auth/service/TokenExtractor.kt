@@ -5,49 +5,46 @@ import back.ecommerce.exception.ErrorCode
 import io.jsonwebtoken.*
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Component
+import java.util.Collections
 
+/**
+ * 토큰 서명을 검증하고 claims 를 꺼낸다. 한 번 검증된 토큰은 만료 전까지 VerifiedTokenCache 에서 바로 반환한다.
+ */
 @Component
 class TokenExtractor(
     @Value("\${jwt.secretKey}")
-    private val secretKey: String,
+    secretKey: String,
+    private val verifiedTokenCache: VerifiedTokenCache
 ) {
-    private val parser: JwtParser = Jwts.parser()
+    private val parser: JwtParser = Jwts.parser().setSigningKey(secretKey)
 
     fun extractClaim(token: String, claimName: String): String {
-        return kotlin.runCatching {
-            parser.setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .body
-                .get(claimName, String::class.java)
-        }.getAndNullDefaultOrElse("") {
-            when (it) {
-                is SignatureException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
-                is UnsupportedJwtException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
-                is MalformedJwtException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
-                is ExpiredJwtException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_EXPIRED)
-                else -> throw AuthenticationException(ErrorCode.TOKEN_IS_EMPTY)
-            }
-        }
+        return validateAndGetPayload(token)[claimName] as? String ?: ""
     }
 
     fun validateAndGetPayload(token: String): Map<String, Any> {
-        return kotlin.runCatching {
-            parser.setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .body
-                .toMap()
-        }.getAndNullDefaultOrElse(emptyMap()) {
-            when (it) {
-                is SignatureException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
-                is UnsupportedJwtException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
-                is MalformedJwtException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
-                is ExpiredJwtException -> throw AuthenticationException(ErrorCode.TOKEN_HAS_EXPIRED)
-                else -> throw AuthenticationException(ErrorCode.TOKEN_IS_EMPTY)
+        verifiedTokenCache.get(token)?.let { return it }
+
+        val claims = kotlin.runCatching {
+            parser.parseClaimsJws(token).body
+        }.getOrElse {
+            throw when (it) {
+                is SignatureException -> AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
+                is UnsupportedJwtException -> AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
+                is MalformedJwtException -> AuthenticationException(ErrorCode.TOKEN_HAS_INVALID)
+                is ExpiredJwtException -> AuthenticationException(ErrorCode.TOKEN_HAS_EXPIRED)
+                else -> AuthenticationException(ErrorCode.TOKEN_IS_EMPTY)
             }
         }
+        val payload: Map<String, Any> = Collections.unmodifiableMap(HashMap(claims))
+        verifiedTokenCache.put(token, payload, claims.expiration)
+        return payload
     }
-}
 
-private inline fun <R, T : R> Result<T>.getAndNullDefaultOrElse(default: T, onFailure: (exception: Throwable) -> R): R {
-    return this.getOrElse { throwable -> onFailure(throwable) } ?: default
-}
\ No newline at end of file
+    companion object {
+        /**
+         * 필터에서 검증한 claims 를 인터셉터까지 전달하는 요청 속성
+         */
+        const val CLAIMS_ATTRIBUTE = "jwt.claims"
+    }
+}
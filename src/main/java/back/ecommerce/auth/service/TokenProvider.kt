@@ -1,5 +1,6 @@
 package back.ecommerce.auth.service
 
+import back.ecommerce.auth.domain.Role
 import back.ecommerce.auth.dto.response.Token
 import io.jsonwebtoken.Jwts
 import io.jsonwebtoken.SignatureAlgorithm
@@ -12,9 +13,11 @@ class TokenProvider(
     @Value("\${jwt.secretKey}")
     private val securityKey: String
 ) {
-    fun provide(email: String, expiredTime: Int): Token {
+    @JvmOverloads
+    fun provide(email: String, expiredTime: Int, role: Role = Role.MEMBER): Token {
         val payload = HashMap<String, Any>()
         payload["email"] = email
+        payload[ROLE_CLAIM] = role.name
 
         val token = Jwts.builder()
             .setHeaderParam("typ", "JWT")
@@ -34,6 +37,7 @@ class TokenProvider(
     }
 
     companion object {
+        const val ROLE_CLAIM = "role"
         private const val TYPE = "Bearer"
         private val SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256
     }
@@ -0,0 +1,42 @@
+package back.ecommerce.auth.service
+
+import back.ecommerce.common.cache.LocalCache
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.Base64
+import java.util.Date
+
+/**
+ * 서명 검증이 끝난 토큰의 claims. 토큰 원문 대신 SHA-256 digest 를 키로 쓰고, 토큰의 exp 를 넘겨서 보관하지 않는다.
+ */
+@Component
+class VerifiedTokenCache(
+    @Value("\${jwt.cache.maximum-size:10000}")
+    maximumSize: Int,
+    @Value("\${jwt.cache.max-ttl-seconds:300}")
+    maxTtlSeconds: Long
+) {
+    private val maxTtl = Duration.ofSeconds(maxTtlSeconds)
+    private val cache = LocalCache<Map<String, Any>>(maxTtl, maximumSize)
+
+    fun get(token: String): Map<String, Any>? = cache.get(digest(token))
+
+    fun put(token: String, claims: Map<String, Any>, expiration: Date?) {
+        val ttl = expiration?.let { Duration.ofMillis(it.time - System.currentTimeMillis()) } ?: maxTtl
+        if (ttl.isNegative || ttl.isZero) {
+            return
+        }
+        cache.put(digest(token), claims, minOf(ttl, maxTtl))
+    }
+
+    private fun digest(token: String): String {
+        val digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.toByteArray(Charsets.UTF_8))
+        return Base64.getEncoder().encodeToString(digest)
+    }
+
+    companion object {
+        private const val DIGEST_ALGORITHM = "SHA-256"
+    }
+}
@@ -0,0 +1,30 @@
+package back.ecommerce.cart.application
+
+import back.ecommerce.cart.dto.response.CartCompactionResponse
+import back.ecommerce.cart.repository.CartJdbcRepository
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Service
+
+/**
+ * 같은 상품이 여러 줄로 저장된 기존 장바구니를 한 줄로 합치는 일회성 작업.
+ * 유니크 인덱스를 만들기 전에 한 번 실행한다.
+ * alter table CART add constraint UK_CART_USER_EMAIL_PRODUCT_ID unique (USER_EMAIL, PRODUCT_ID)
+ */
+@Service
+class CartCompactionService(
+    private val cartJdbcRepository: CartJdbcRepository,
+    @Value("\${cart.compaction.chunk-size:1000}") private val chunkSize: Int
+) {
+
+    fun compact(): CartCompactionResponse {
+        var compacted = 0
+        while (true) {
+            val duplicates = cartJdbcRepository.findDuplicates(chunkSize)
+            if (duplicates.isEmpty()) {
+                return CartCompactionResponse(compacted)
+            }
+            cartJdbcRepository.compact(duplicates)
+            compacted += duplicates.size
+        }
+    }
+}
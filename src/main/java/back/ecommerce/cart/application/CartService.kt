@@ -1,51 +1,102 @@
 package back.ecommerce.cart.application
 
+import back.ecommerce.cart.dto.request.CartOperationRequest
+import back.ecommerce.cart.dto.request.CartOperationType
 import back.ecommerce.cart.dto.response.*
-import back.ecommerce.cart.entity.Cart
-import back.ecommerce.cart.repository.CartRepository
+import back.ecommerce.cart.repository.CartChange
+import back.ecommerce.cart.repository.CartStore
 import back.ecommerce.exception.CustomException
 import back.ecommerce.exception.ErrorCode
+import back.ecommerce.product.entity.Product
 import back.ecommerce.product.repository.ProductRepository
-import back.ecommerce.user.repository.UserRepository
+import back.ecommerce.user.cache.UserIdentityCache
 import org.springframework.stereotype.Service
-import org.springframework.transaction.annotation.Transactional
 
 @Service
 class CartService(
-    private val cartRepository: CartRepository,
-    private val userRepository: UserRepository,
+    private val cartStore: CartStore,
+    private val userIdentityCache: UserIdentityCache,
     private val productRepository: ProductRepository
 ) {
 
-    @Transactional
     fun addProduct(email: String, productId: Long, quantity: Int): AddCartResponse {
         validateUserEmail(email)
         val product = productRepository.findById(productId)
             .orElseThrow { CustomException(ErrorCode.PRODUCT_NOT_FOUND) }
-        val cart = cartRepository.save(Cart.create(email, product, quantity))
-        return AddCartResponse(cart.id, cart.quantity, cart.price)
+        val cartLine = cartStore.add(email, product, quantity)
+        return AddCartResponse(cartLine.id, cartLine.quantity, cartLine.price)
     }
 
-    @Transactional(readOnly = true)
     fun findCartByUserEmail(email: String): CartListResponse {
         validateUserEmail(email)
-        val cartProducts = cartRepository.findByUserEmail(email)
+        val cartProducts = cartStore.findByUserEmail(email)
             .map { CartProductDto.create(it) }
             .toList()
 
         return CartListResponse(email, CartProducts.create(cartProducts))
     }
 
+    /**
+     * 여러 건의 추가, 수량 변경, 삭제를 한 번에 반영하고 반영 후의 장바구니를 반환한다.
+     * 유저 확인과 상품 조회는 요청당 한 번만 한다.
+     */
+    fun applyOperations(email: String, operations: List<CartOperationRequest>): CartListResponse {
+        validateUserEmail(email)
+        val changes = fold(operations)
+        val cartProducts = cartStore.apply(email, changes, findProducts(changes))
+            .map { CartProductDto.create(it) }
+
+        return CartListResponse(email, CartProducts.create(cartProducts))
+    }
+
+    /**
+     * 같은 상품의 연산을 요청 순서대로 하나의 변경으로 접는다. UPDATE 수량이 0 이면 삭제로 본다.
+     */
+    private fun fold(operations: List<CartOperationRequest>): List<CartChange> {
+        val changes = LinkedHashMap<Long, CartChange>()
+        operations.forEach { operation ->
+            val productId = operation.productId
+            changes[productId] = when (operation.type) {
+                CartOperationType.ADD -> {
+                    if (operation.quantity < 1) {
+                        throw CustomException(ErrorCode.INVALID_CART_OPERATION)
+                    }
+                    changes[productId]?.add(operation.quantity) ?: CartChange.merge(productId, operation.quantity)
+                }
+
+                CartOperationType.UPDATE -> {
+                    if (operation.quantity == 0) CartChange.remove(productId)
+                    else CartChange.replace(productId, operation.quantity)
+                }
+
+                CartOperationType.REMOVE -> CartChange.remove(productId)
+            }
+        }
+        return changes.values.toList()
+    }
+
+    private fun findProducts(changes: List<CartChange>): Map<Long, Product> {
+        val productIds = changes.filter { it.type != CartChange.Type.REMOVE }
+            .map { it.productId }
+        if (productIds.isEmpty()) {
+            return emptyMap()
+        }
+        val products = productRepository.findAllById(productIds).associateBy { it.id }
+        if (products.size != productIds.size) {
+            throw CustomException(ErrorCode.PRODUCT_NOT_FOUND)
+        }
+        return products
+    }
+
     private fun validateUserEmail(email: String) {
-        if (!userRepository.existsByEmail(email)) {
+        if (!userIdentityCache.exists(email)) {
             throw CustomException(ErrorCode.USER_NOT_FOUND)
         }
     }
 
-    @Transactional
     fun deleteById(cartId: Long, email: String): CartDeleteResponse {
         validateUserEmail(email)
-        cartRepository.deleteById(cartId)
+        cartStore.delete(email, cartId)
         return CartDeleteResponse(email, cartId)
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package back.ecommerce.cart.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.ecommerce.cart.repository.CartJdbcRepository;
+import back.ecommerce.cart.repository.CartRepository;
+import back.ecommerce.cart.repository.CartStore;
+import back.ecommerce.cart.repository.InMemoryCartStore;
+import back.ecommerce.cart.repository.JpaCartStore;
+import back.ecommerce.cart.repository.RedisCartStore;
+import back.ecommerce.common.logging.GlobalLogger;
+
+@Configuration
+public class CartStoreConfig {
+
+	/**
+	 * redis, memory 저장소는 close 시 남은 write-behind 변경을 반영한다.
+	 */
+	@Bean
+	public CartStore cartStore(@Value("${cart.store:jpa}") String store,
+		@Value("${cart.redis.ttl-days:30}") long redisTtlDays,
+		@Value("${cart.write-behind.batch-size:500}") int batchSize,
+		@Value("${cart.write-behind.flush-millis:1000}") long flushMillis,
+		CartRepository cartRepository, CartJdbcRepository cartJdbcRepository, GlobalLogger globalLogger,
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider, ObjectMapper objectMapper) {
+		return switch (store) {
+			case "redis" -> new RedisCartStore(redisTemplateProvider.getObject(), objectMapper,
+				Duration.ofDays(redisTtlDays), cartRepository, cartJdbcRepository, globalLogger, batchSize, flushMillis);
+			case "memory" -> new InMemoryCartStore(cartRepository, cartJdbcRepository, globalLogger, batchSize,
+				flushMillis);
+			case "jpa" -> new JpaCartStore(cartRepository, cartJdbcRepository);
+			default -> throw new IllegalStateException("지원하지 않는 cart.store 설정입니다. : " + store);
+		};
+	}
+}
@@ -0,0 +1,12 @@
+package back.ecommerce.cart.dto.request
+
+import jakarta.validation.Valid
+import jakarta.validation.constraints.NotEmpty
+import jakarta.validation.constraints.Size
+
+data class CartBatchRequest(
+    @field:NotEmpty(message = "장바구니 변경 목록은 비어있을 수 없습니다.")
+    @field:Size(max = 100, message = "한 번에 변경할 수 있는 장바구니는 100개 까지 입니다.")
+    @field:Valid
+    val operations: List<CartOperationRequest>
+)
@@ -0,0 +1,13 @@
+package back.ecommerce.cart.dto.request
+
+import jakarta.validation.constraints.Min
+import jakarta.validation.constraints.NotNull
+
+data class CartOperationRequest(
+    @field:NotNull(message = "장바구니 변경 타입은 필수적으로 필요합니다.")
+    val type: CartOperationType,
+    @field:NotNull(message = "상품의 아이디는 필수적으로 필요합니다.")
+    val productId: Long,
+    @field:Min(value = 0, message = "상품의 갯수는 0개 이상이여야 합니다.")
+    val quantity: Int = 0
+)
@@ -0,0 +1,5 @@
+package back.ecommerce.cart.dto.request
+
+enum class CartOperationType {
+    ADD, UPDATE, REMOVE
+}
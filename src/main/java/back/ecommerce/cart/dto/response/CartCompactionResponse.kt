@@ -0,0 +1,3 @@
+package back.ecommerce.cart.dto.response
+
+data class CartCompactionResponse(val compactedCount: Int)
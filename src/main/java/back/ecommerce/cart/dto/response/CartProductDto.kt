@@ -1,6 +1,6 @@
 package back.ecommerce.cart.dto.response
 
-import back.ecommerce.cart.entity.Cart
+import back.ecommerce.cart.repository.CartLine
 import back.ecommerce.product.entity.Category
 
 data class CartProductDto(
@@ -12,11 +12,10 @@ data class CartProductDto(
     val quantity: Int
 ) {
     companion object {
-        fun create(cart: Cart): CartProductDto {
-            val product = cart.product
+        fun create(cartLine: CartLine): CartProductDto {
             return CartProductDto(
-                cart.id, product.name, product.brandName, cart.price, product.category,
-                cart.quantity
+                cartLine.id, cartLine.name, cartLine.brandName, cartLine.price, cartLine.category,
+                cartLine.quantity
             )
         }
     }
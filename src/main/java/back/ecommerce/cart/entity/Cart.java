@@ -8,6 +8,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import back.ecommerce.common.entity.BaseTimeEntity;
 import back.ecommerce.product.entity.Product;
@@ -17,7 +18,8 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "CART")
+@Table(name = "CART", uniqueConstraints = @UniqueConstraint(name = "UK_CART_USER_EMAIL_PRODUCT_ID",
+	columnNames = {"userEmail", "product_id"}))
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -49,6 +51,10 @@ public class Cart extends BaseTimeEntity {
 		return product;
 	}
 
+	public String getUserEmail() {
+		return userEmail;
+	}
+
 	public static Cart create(String userEmail, Product product, int quantity) {
 		return Cart.builder()
 			.userEmail(userEmail)
@@ -0,0 +1,28 @@
+package back.ecommerce.cart.repository
+
+/**
+ * 일괄 변경 요청을 상품별로 접은 결과. 같은 상품에 대한 연산은 순서대로 하나의 변경으로 합쳐진다.
+ * MERGE 는 기존 수량에 더하고, REPLACE 는 수량을 덮어쓰고, REMOVE 는 줄을 지운다.
+ */
+data class CartChange(
+    val productId: Long,
+    val type: Type,
+    val quantity: Int
+) {
+    enum class Type { MERGE, REPLACE, REMOVE }
+
+    fun add(quantity: Int): CartChange {
+        return when (type) {
+            Type.REMOVE -> replace(productId, quantity)
+            else -> copy(quantity = this.quantity + quantity)
+        }
+    }
+
+    companion object {
+        fun merge(productId: Long, quantity: Int) = CartChange(productId, Type.MERGE, quantity)
+
+        fun replace(productId: Long, quantity: Int) = CartChange(productId, Type.REPLACE, quantity)
+
+        fun remove(productId: Long) = CartChange(productId, Type.REMOVE, 0)
+    }
+}
@@ -0,0 +1,12 @@
+package back.ecommerce.cart.repository
+
+/**
+ * 같은 (userEmail, productId) 로 여러 줄이 저장된 장바구니. 가장 작은 id 의 줄로 수량과 가격을 합친다.
+ */
+data class CartDuplicate(
+    val userEmail: String,
+    val productId: Long,
+    val keepId: Long,
+    val quantity: Int,
+    val price: Long
+)
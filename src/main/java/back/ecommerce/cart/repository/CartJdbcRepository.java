@@ -0,0 +1,157 @@
+package back.ecommerce.cart.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import back.ecommerce.product.entity.Product;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CART 는 (USER_EMAIL, PRODUCT_ID) 유니크 인덱스를 가지고, 같은 상품을 다시 담으면 한 줄의 수량을 늘린다.
+ * 조회 후 수정하지 않고 insert ... on duplicate key update 한 문장으로 합친다(MySQL).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartJdbcRepository {
+
+	private static final String MERGE_SQL = "insert into CART "
+		+ "(PRODUCT_ID, USER_EMAIL, QUANTITY, PRICE, CREATED_DATE, MODIFIED_DATE) values (?, ?, ?, ?, ?, ?) "
+		+ "on duplicate key update QUANTITY = QUANTITY + values(QUANTITY), PRICE = PRICE + values(PRICE), "
+		+ "MODIFIED_DATE = values(MODIFIED_DATE)";
+	private static final String REPLACE_SQL = "insert into CART "
+		+ "(PRODUCT_ID, USER_EMAIL, QUANTITY, PRICE, CREATED_DATE, MODIFIED_DATE) values (?, ?, ?, ?, ?, ?) "
+		+ "on duplicate key update QUANTITY = values(QUANTITY), PRICE = values(PRICE), "
+		+ "MODIFIED_DATE = values(MODIFIED_DATE)";
+	private static final String DELETE_SQL = "delete from CART where USER_EMAIL = ? and PRODUCT_ID = ?";
+	private static final String FIND_DUPLICATES_SQL = "select USER_EMAIL, PRODUCT_ID, min(ID), sum(QUANTITY), sum(PRICE) "
+		+ "from CART group by USER_EMAIL, PRODUCT_ID having count(*) > 1 limit ?";
+	private static final String UPDATE_KEEP_SQL = "update CART set QUANTITY = ?, PRICE = ?, MODIFIED_DATE = ? where ID = ?";
+	private static final String DELETE_DUPLICATES_SQL = "delete from CART "
+		+ "where USER_EMAIL = ? and PRODUCT_ID = ? and ID <> ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 담은 수량과 가격을 기존 줄에 더한다. 줄이 없으면 새로 만든다.
+	 */
+	public void merge(String userEmail, Long productId, int quantity, long price, LocalDateTime now) {
+		Timestamp timestamp = Timestamp.valueOf(now);
+		jdbcTemplate.update(MERGE_SQL, productId, userEmail, quantity, price, timestamp, timestamp);
+	}
+
+	/**
+	 * 장바구니 일괄 변경. 변경 타입별로 한 번씩 batch 로 실행하고 하나의 트랜잭션으로 묶는다.
+	 * 상품별로 접힌 변경이라 실행 순서와 관계없이 같은 결과가 된다.
+	 */
+	@Transactional
+	public void applyAll(String userEmail, List<CartChange> changes, Map<Long, Product> products, LocalDateTime now) {
+		Timestamp timestamp = Timestamp.valueOf(now);
+		batchWrite(MERGE_SQL, userEmail, filter(changes, CartChange.Type.MERGE), products, timestamp);
+		batchWrite(REPLACE_SQL, userEmail, filter(changes, CartChange.Type.REPLACE), products, timestamp);
+		deleteAll(filter(changes, CartChange.Type.REMOVE).stream()
+			.map(change -> new CartKey(userEmail, change.getProductId()))
+			.toList());
+	}
+
+	/**
+	 * write-behind 반영용. 저장소의 현재 수량과 가격으로 덮어쓴다.
+	 * 저장소의 id 는 CART.ID 와 별개로 발급되므로 쓰지 않고 (USER_EMAIL, PRODUCT_ID) 로만 줄을 찾는다.
+	 */
+	public void upsertAll(List<CartLine> lines) {
+		if (lines.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(REPLACE_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				CartLine line = lines.get(i);
+				ps.setLong(1, line.getProductId());
+				ps.setString(2, line.getUserEmail());
+				ps.setInt(3, line.getQuantity());
+				ps.setLong(4, line.getPrice());
+				ps.setTimestamp(5, line.getCreatedDate() == null ? now : Timestamp.valueOf(line.getCreatedDate()));
+				ps.setTimestamp(6, now);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return lines.size();
+			}
+		});
+	}
+
+	public void deleteAll(List<CartKey> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(DELETE_SQL, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				CartKey key = keys.get(i);
+				ps.setString(1, key.getUserEmail());
+				ps.setLong(2, key.getProductId());
+			}
+
+			@Override
+			public int getBatchSize() {
+				return keys.size();
+			}
+		});
+	}
+
+	private void batchWrite(String sql, String userEmail, List<CartChange> changes, Map<Long, Product> products,
+		Timestamp now) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(sql, changes, changes.size(), (ps, change) -> {
+			ps.setLong(1, change.getProductId());
+			ps.setString(2, userEmail);
+			ps.setInt(3, change.getQuantity());
+			ps.setLong(4, change.getQuantity() * products.get(change.getProductId()).getPrice());
+			ps.setTimestamp(5, now);
+			ps.setTimestamp(6, now);
+		});
+	}
+
+	private List<CartChange> filter(List<CartChange> changes, CartChange.Type type) {
+		return changes.stream()
+			.filter(change -> change.getType() == type)
+			.toList();
+	}
+
+	public List<CartDuplicate> findDuplicates(int limit) {
+		return jdbcTemplate.query(FIND_DUPLICATES_SQL,
+			(rs, rowNum) -> new CartDuplicate(rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getInt(4),
+				rs.getLong(5)), limit);
+	}
+
+	/**
+	 * 중복된 줄을 가장 작은 id 의 줄로 합치고 나머지는 지운다.
+	 */
+	@Transactional
+	public void compact(List<CartDuplicate> duplicates) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(UPDATE_KEEP_SQL, duplicates, duplicates.size(), (ps, duplicate) -> {
+			ps.setInt(1, duplicate.getQuantity());
+			ps.setLong(2, duplicate.getPrice());
+			ps.setTimestamp(3, now);
+			ps.setLong(4, duplicate.getKeepId());
+		});
+		jdbcTemplate.batchUpdate(DELETE_DUPLICATES_SQL, duplicates, duplicates.size(), (ps, duplicate) -> {
+			ps.setString(1, duplicate.getUserEmail());
+			ps.setLong(2, duplicate.getProductId());
+			ps.setLong(3, duplicate.getKeepId());
+		});
+	}
+}
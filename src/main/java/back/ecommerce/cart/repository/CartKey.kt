@@ -0,0 +1,9 @@
+package back.ecommerce.cart.repository
+
+/**
+ * 장바구니 한 줄의 식별자. 유저별로 상품당 한 줄만 가진다.
+ */
+data class CartKey(
+    val userEmail: String,
+    val productId: Long
+)
@@ -0,0 +1,46 @@
+package back.ecommerce.cart.repository
+
+import back.ecommerce.cart.entity.Cart
+import back.ecommerce.product.entity.Category
+import back.ecommerce.product.entity.Product
+import com.fasterxml.jackson.annotation.JsonIgnore
+import java.time.LocalDateTime
+
+/**
+ * 장바구니 한 줄. 조회 시 PRODUCT 를 join 하지 않도록 담을 당시의 상품 정보를 함께 가지고 있다.
+ */
+data class CartLine(
+    val id: Long,
+    val userEmail: String,
+    val productId: Long,
+    val name: String,
+    val brandName: String,
+    val category: Category,
+    val quantity: Int,
+    val price: Long,
+    val createdDate: LocalDateTime?
+) {
+    val key: CartKey
+        @JsonIgnore get() = CartKey(userEmail, productId)
+
+    fun merge(other: CartLine): CartLine {
+        return copy(quantity = quantity + other.quantity, price = price + other.price)
+    }
+
+    companion object {
+        fun create(id: Long, userEmail: String, product: Product, quantity: Int, createdDate: LocalDateTime): CartLine {
+            return CartLine(
+                id, userEmail, product.id, product.name, product.brandName, product.category,
+                quantity, quantity * product.price, createdDate
+            )
+        }
+
+        fun from(cart: Cart): CartLine {
+            val product = cart.product
+            return CartLine(
+                cart.id, cart.userEmail, product.id, product.name, product.brandName, product.category,
+                cart.quantity, cart.price, cart.createdDate
+            )
+        }
+    }
+}
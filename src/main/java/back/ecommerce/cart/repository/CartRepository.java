@@ -1,6 +1,7 @@
 package back.ecommerce.cart.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,4 +13,11 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
 
 	@Query("select c from Cart c join fetch c.product where c.userEmail =:userEmail")
 	List<Cart> findByUserEmail(@Param("userEmail") String userEmail);
+
+	@Query("select c from Cart c join fetch c.product where c.userEmail =:userEmail and c.product.id =:productId")
+	Optional<Cart> findByUserEmailAndProductId(@Param("userEmail") String userEmail,
+		@Param("productId") Long productId);
+
+	@Query("select coalesce(max(c.id), 0) from Cart c")
+	long findMaxId();
 }
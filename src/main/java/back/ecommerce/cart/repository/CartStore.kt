@@ -0,0 +1,20 @@
+package back.ecommerce.cart.repository
+
+import back.ecommerce.product.entity.Product
+
+/**
+ * 장바구니 저장소. cart.store 설정으로 jpa, redis, memory 중 하나를 사용한다.
+ */
+interface CartStore {
+    fun add(email: String, product: Product, quantity: Int): CartLine
+
+    fun findByUserEmail(email: String): List<CartLine>
+
+    fun delete(email: String, cartId: Long)
+
+    /**
+     * 상품별로 접힌 변경을 한 번에 반영하고 반영 후의 장바구니를 반환한다.
+     * products 는 REMOVE 가 아닌 변경의 상품을 모두 가지고 있어야 한다.
+     */
+    fun apply(email: String, changes: List<CartChange>, products: Map<Long, Product>): List<CartLine>
+}
@@ -0,0 +1,127 @@
+package back.ecommerce.cart.repository
+
+import back.ecommerce.common.logging.GlobalLogger
+import org.slf4j.event.Level
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 변경된 장바구니 줄의 키만 모았다가 주기적으로 저장소의 현재 상태를 읽어 CART 테이블에 배치로 반영한다.
+ * 반영 시점의 값을 쓰기 때문에 변경 순서가 뒤바뀌어도 마지막 상태가 남고, 여러 번 바뀐 줄도 한 번만 쓴다.
+ * 배치가 실패하면 한 건씩 다시 시도하고, 그래도 실패한 줄은 다시 표시해서 다음 flush 에 반영한다.
+ * 키는 프로세스 메모리에 있으므로 비정상 종료 시 마지막 flush 이후의 변경은 CART 테이블에 남지 않는다.
+ */
+class CartWriteBehind(
+    private val reader: (List<CartKey>) -> Map<CartKey, CartLine>,
+    private val cartJdbcRepository: CartJdbcRepository,
+    private val globalLogger: GlobalLogger,
+    private val batchSize: Int,
+    private val flushMillis: Long
+) {
+    private val dirtyKeys = ConcurrentHashMap.newKeySet<CartKey>()
+    private val queue = ConcurrentLinkedQueue<CartKey>()
+    private val schedulerLock = ReentrantLock()
+
+    @Volatile
+    private var scheduler: ScheduledExecutorService? = null
+
+    fun mark(key: CartKey) {
+        if (dirtyKeys.add(key)) {
+            queue.add(key)
+        }
+        startScheduler()
+    }
+
+    fun pendingCount(): Int = dirtyKeys.size
+
+    /**
+     * 큐가 빌 때까지 batchSize 단위로 반영한다. 저장소 조회나 반영에 실패하면 남은 변경은 다음 flush 로 미룬다.
+     */
+    fun flush() {
+        while (true) {
+            val keys = drain()
+            if (keys.isEmpty() || !write(keys)) {
+                return
+            }
+        }
+    }
+
+    fun shutdown() {
+        scheduler?.shutdown()
+        flushSafely()
+    }
+
+    private fun drain(): List<CartKey> {
+        val keys = ArrayList<CartKey>(batchSize)
+        while (keys.size < batchSize) {
+            val key = queue.poll() ?: break
+            dirtyKeys.remove(key)
+            keys.add(key)
+        }
+        return keys
+    }
+
+    private fun write(keys: List<CartKey>): Boolean {
+        val lines = try {
+            reader(keys)
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "장바구니 저장소 조회에 실패해서 다음 flush 에 다시 반영 합니다. size: {}", keys.size, e)
+            keys.forEach { mark(it) }
+            return false
+        }
+        val upserts = keys.mapNotNull { lines[it] }
+        val deletes = keys.filter { it !in lines }
+        try {
+            cartJdbcRepository.upsertAll(upserts)
+            cartJdbcRepository.deleteAll(deletes)
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "장바구니 배치 반영에 실패해서 한 건씩 다시 시도 합니다. size: {}", keys.size, e)
+            val failed = upserts.filterNot { writeOne { cartJdbcRepository.upsertAll(listOf(it)) } }.map { it.key } +
+                deletes.filterNot { writeOne { cartJdbcRepository.deleteAll(listOf(it)) } }
+            if (failed.isNotEmpty()) {
+                failed.forEach { mark(it) }
+                return false
+            }
+        }
+        return true
+    }
+
+    private fun writeOne(write: () -> Unit): Boolean {
+        return try {
+            write()
+            true
+        } catch (e: Exception) {
+            globalLogger.log(Level.ERROR, "장바구니 변경 반영에 실패해서 다음 flush 에 다시 반영 합니다.", e)
+            false
+        }
+    }
+
+    /**
+     * 변경이 없는 동안에는 스레드를 만들지 않도록 첫 변경이 들어올 때 시작한다.
+     */
+    private fun startScheduler() {
+        if (scheduler != null) {
+            return
+        }
+        schedulerLock.withLock {
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor {
+                    Thread(it, "cart-write-behind").apply { isDaemon = true }
+                }.also { it.scheduleWithFixedDelay(::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS) }
+            }
+        }
+    }
+
+    private fun flushSafely() {
+        try {
+            flush()
+        } catch (e: Exception) {
+            globalLogger.log(Level.ERROR, "장바구니 write-behind 반영에 실패 했습니다.", e)
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package back.ecommerce.cart.repository
+
+import back.ecommerce.common.logging.GlobalLogger
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Redis 없이 테스트, 로컬 실행에서 사용하는 장바구니 저장소.
+ * 유저별 장바구니는 변경할 때마다 새 맵으로 교체해서 조회하는 쪽은 항상 변경 전이나 후의 전체 상태만 본다.
+ */
+class InMemoryCartStore(
+    cartRepository: CartRepository,
+    cartJdbcRepository: CartJdbcRepository,
+    globalLogger: GlobalLogger,
+    batchSize: Int,
+    flushMillis: Long
+) : WriteBehindCartStore(cartRepository, cartJdbcRepository, globalLogger, batchSize, flushMillis) {
+    private val carts = ConcurrentHashMap<String, Map<Long, CartLine>>()
+    private val sequence = AtomicLong(UNSEEDED)
+
+    override fun readCart(email: String): List<CartLine>? = carts[email]?.values?.toList()
+
+    override fun readLines(keys: List<CartKey>): Map<CartKey, CartLine> {
+        return keys.mapNotNull { carts[it.userEmail]?.get(it.productId) }.associateBy { it.key }
+    }
+
+    override fun writeLines(email: String, lines: List<CartLine>) {
+        carts.merge(email, lines.associateBy { it.productId }) { cart, loaded -> cart + loaded }
+    }
+
+    override fun isLoaded(email: String): Boolean = carts.containsKey(email)
+
+    override fun mergeLine(line: CartLine): CartLine {
+        var merged: CartLine? = null
+        carts.compute(line.userEmail) { _, cart ->
+            val current = cart.orEmpty()
+            val next = current[line.productId]?.merge(line) ?: line.copy(id = nextId())
+            merged = next
+            current + (line.productId to next)
+        }
+        return merged!!
+    }
+
+    override fun removeLine(email: String, cartId: Long): CartLine? {
+        var removed: CartLine? = null
+        carts.computeIfPresent(email) { _, cart ->
+            val line = cart.values.firstOrNull { it.id == cartId } ?: return@computeIfPresent cart
+            removed = line
+            cart - line.productId
+        }
+        return removed
+    }
+
+    override fun applyChanges(email: String, changes: List<CartChange>, lines: Map<Long, CartLine>) {
+        carts.compute(email) { _, cart ->
+            val next = HashMap(cart.orEmpty())
+            changes.forEach { change ->
+                if (change.type == CartChange.Type.REMOVE) {
+                    next.remove(change.productId)
+                    return@forEach
+                }
+                val line = lines.getValue(change.productId)
+                val current = next[change.productId]
+                next[change.productId] = when {
+                    current == null -> line.copy(id = nextId())
+                    change.type == CartChange.Type.MERGE -> current.merge(line)
+                    else -> current.copy(quantity = line.quantity, price = line.price)
+                }
+            }
+            next
+        }
+    }
+
+    private fun nextId(): Long {
+        if (sequence.get() == UNSEEDED) {
+            sequence.compareAndSet(UNSEEDED, maxPersistedId())
+        }
+        return sequence.incrementAndGet()
+    }
+
+    companion object {
+        private const val UNSEEDED = -1L
+    }
+}
@@ -0,0 +1,32 @@
+package back.ecommerce.cart.repository
+
+import back.ecommerce.exception.CustomException
+import back.ecommerce.exception.ErrorCode
+import back.ecommerce.product.entity.Product
+import java.time.LocalDateTime
+
+class JpaCartStore(
+    private val cartRepository: CartRepository,
+    private val cartJdbcRepository: CartJdbcRepository
+) : CartStore {
+
+    override fun add(email: String, product: Product, quantity: Int): CartLine {
+        cartJdbcRepository.merge(email, product.id, quantity, quantity * product.price, LocalDateTime.now())
+        return cartRepository.findByUserEmailAndProductId(email, product.id)
+            .map { CartLine.from(it) }
+            .orElseThrow { CustomException(ErrorCode.PRODUCT_NOT_FOUND) }
+    }
+
+    override fun findByUserEmail(email: String): List<CartLine> {
+        return cartRepository.findByUserEmail(email).map { CartLine.from(it) }
+    }
+
+    override fun delete(email: String, cartId: Long) {
+        cartRepository.deleteById(cartId)
+    }
+
+    override fun apply(email: String, changes: List<CartChange>, products: Map<Long, Product>): List<CartLine> {
+        cartJdbcRepository.applyAll(email, changes, products, LocalDateTime.now())
+        return findByUserEmail(email)
+    }
+}
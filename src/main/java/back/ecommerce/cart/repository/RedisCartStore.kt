@@ -0,0 +1,165 @@
+package back.ecommerce.cart.repository
+
+import back.ecommerce.common.logging.GlobalLogger
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import java.time.Duration
+
+/**
+ * 유저별 장바구니를 cart:{email} 해시에 상품 id 필드로 저장한다.
+ * 같은 상품을 다시 담으면 Lua 스크립트 안에서 수량과 가격을 더하고, 새 줄이면 cart:id 를 INCR 해서 id 를 발급한다.
+ * 일괄 변경은 변경 전체를 스크립트 하나로 반영해서 다른 요청이 중간 상태를 보지 않는다.
+ * 발급한 id 는 Redis 안에서만 쓰이고, CART 테이블에는 (USER_EMAIL, PRODUCT_ID) 로 반영되어 CART.ID 는 테이블이 발급한다.
+ */
+class RedisCartStore(
+    private val redisTemplate: StringRedisTemplate,
+    private val objectMapper: ObjectMapper,
+    private val ttl: Duration,
+    cartRepository: CartRepository,
+    cartJdbcRepository: CartJdbcRepository,
+    globalLogger: GlobalLogger,
+    batchSize: Int,
+    flushMillis: Long
+) : WriteBehindCartStore(cartRepository, cartJdbcRepository, globalLogger, batchSize, flushMillis) {
+
+    @Volatile
+    private var idSeeded = false
+
+    /**
+     * 반영 전에 해시가 만료되면 write-behind 가 남은 줄을 삭제로 반영하므로 읽을 때도 만료 시간을 늘린다.
+     */
+    override fun readCart(email: String): List<CartLine>? {
+        val entries = redisTemplate.opsForHash<String, String>().entries(key(email))
+        if (entries.isEmpty()) {
+            return null
+        }
+        redisTemplate.expire(key(email), ttl)
+        return entries.filterKeys { it != LOADED_FIELD }
+            .values
+            .map { objectMapper.readValue(it, CartLine::class.java) }
+    }
+
+    override fun readLines(keys: List<CartKey>): Map<CartKey, CartLine> {
+        return keys.groupBy { it.userEmail }
+            .flatMap { (email, cartKeys) ->
+                redisTemplate.opsForHash<String, String>()
+                    .multiGet(key(email), cartKeys.map { it.productId.toString() })
+                    .filterNotNull()
+                    .map { objectMapper.readValue(it, CartLine::class.java) }
+            }
+            .associateBy { it.key }
+    }
+
+    override fun writeLines(email: String, lines: List<CartLine>) {
+        val entries = lines.associate { it.productId.toString() to objectMapper.writeValueAsString(it) } +
+            (LOADED_FIELD to LOADED_VALUE)
+        redisTemplate.opsForHash<String, String>().putAll(key(email), entries)
+        redisTemplate.expire(key(email), ttl)
+    }
+
+    override fun isLoaded(email: String): Boolean {
+        return redisTemplate.opsForHash<String, String>().hasKey(key(email), LOADED_FIELD)
+    }
+
+    override fun mergeLine(line: CartLine): CartLine {
+        seedId()
+        val merged = redisTemplate.execute(
+            MERGE_SCRIPT,
+            listOf(key(line.userEmail), ID_KEY),
+            line.productId.toString(),
+            objectMapper.writeValueAsString(line),
+            line.quantity.toString(),
+            line.price.toString(),
+            ttl.toMillis().toString()
+        )
+        return objectMapper.readValue(merged, CartLine::class.java)
+    }
+
+    override fun removeLine(email: String, cartId: Long): CartLine? {
+        val line = readCart(email)?.firstOrNull { it.id == cartId } ?: return null
+        val removed = redisTemplate.opsForHash<String, String>().delete(key(email), line.productId.toString())
+        return if (removed > 0) line else null
+    }
+
+    /**
+     * ARGV 는 ttl 뒤에 (상품 id, 변경 종류, 새 줄) 을 변경 순서대로 이어 붙인다. REMOVE 의 새 줄은 빈 문자열이다.
+     */
+    override fun applyChanges(email: String, changes: List<CartChange>, lines: Map<Long, CartLine>) {
+        seedId()
+        val args = listOf(ttl.toMillis().toString()) + changes.flatMap { change ->
+            listOf(
+                change.productId.toString(),
+                change.type.name,
+                lines[change.productId]?.let { objectMapper.writeValueAsString(it) } ?: ""
+            )
+        }
+        redisTemplate.execute(APPLY_SCRIPT, listOf(key(email), ID_KEY), *args.toTypedArray())
+    }
+
+    private fun seedId() {
+        if (!idSeeded) {
+            redisTemplate.opsForValue().setIfAbsent(ID_KEY, maxPersistedId().toString())
+            idSeeded = true
+        }
+    }
+
+    private fun key(email: String) = "$KEY_PREFIX$email"
+
+    companion object {
+        private const val KEY_PREFIX = "cart:"
+        private const val ID_KEY = "cart:id"
+        private const val LOADED_FIELD = "loaded"
+        private const val LOADED_VALUE = "1"
+        private val MERGE_SCRIPT = DefaultRedisScript(
+            """
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            local line
+            if current then
+                line = cjson.decode(current)
+                line['quantity'] = line['quantity'] + tonumber(ARGV[3])
+                line['price'] = line['price'] + tonumber(ARGV[4])
+            else
+                line = cjson.decode(ARGV[2])
+                line['id'] = redis.call('INCR', KEYS[2])
+            end
+            local encoded = cjson.encode(line)
+            redis.call('HSET', KEYS[1], ARGV[1], encoded)
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return encoded
+            """.trimIndent(),
+            String::class.java
+        )
+        private val APPLY_SCRIPT = DefaultRedisScript(
+            """
+            for i = 2, #ARGV, 3 do
+                local field = ARGV[i]
+                local mode = ARGV[i + 1]
+                if mode == 'REMOVE' then
+                    redis.call('HDEL', KEYS[1], field)
+                else
+                    local incoming = cjson.decode(ARGV[i + 2])
+                    local current = redis.call('HGET', KEYS[1], field)
+                    local line
+                    if not current then
+                        line = incoming
+                        line['id'] = redis.call('INCR', KEYS[2])
+                    elseif mode == 'REPLACE' then
+                        line = cjson.decode(current)
+                        line['quantity'] = incoming['quantity']
+                        line['price'] = incoming['price']
+                    else
+                        line = cjson.decode(current)
+                        line['quantity'] = line['quantity'] + incoming['quantity']
+                        line['price'] = line['price'] + incoming['price']
+                    end
+                    redis.call('HSET', KEYS[1], field, cjson.encode(line))
+                end
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return (#ARGV - 1) / 3
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+}
@@ -0,0 +1,108 @@
+package back.ecommerce.cart.repository
+
+import back.ecommerce.common.logging.GlobalLogger
+import back.ecommerce.product.entity.Product
+import java.time.LocalDateTime
+
+/**
+ * 유저별 장바구니를 상품 id 로 구분된 해시에 두고 CART 테이블에는 CartWriteBehind 로 모아서 비동기 반영한다.
+ * 같은 상품을 다시 담으면 한 줄의 수량과 가격을 원자적으로 더한다.
+ * 해시가 아직 없는 유저는 처음 접근할 때 CART 테이블에서 한 번 적재한다.
+ */
+abstract class WriteBehindCartStore(
+    private val cartRepository: CartRepository,
+    cartJdbcRepository: CartJdbcRepository,
+    globalLogger: GlobalLogger,
+    batchSize: Int,
+    flushMillis: Long
+) : CartStore {
+    private val cartWriteBehind = CartWriteBehind(::readLines, cartJdbcRepository, globalLogger, batchSize, flushMillis)
+
+    override fun add(email: String, product: Product, quantity: Int): CartLine {
+        ensureLoaded(email)
+        val line = mergeLine(CartLine.create(NEW_ID, email, product, quantity, LocalDateTime.now()))
+        cartWriteBehind.mark(line.key)
+        return line
+    }
+
+    override fun findByUserEmail(email: String): List<CartLine> {
+        val lines = readCart(email) ?: load(email)
+        return lines.sortedBy { it.id }
+    }
+
+    override fun delete(email: String, cartId: Long) {
+        ensureLoaded(email)
+        removeLine(email, cartId)?.let { cartWriteBehind.mark(it.key) }
+    }
+
+    /**
+     * 저장소에는 모든 변경을 한 번에 원자적으로 반영하고, CART 테이블에는 write-behind 가 변경된 줄을 모아서 batch 로 반영한다.
+     */
+    override fun apply(email: String, changes: List<CartChange>, products: Map<Long, Product>): List<CartLine> {
+        ensureLoaded(email)
+        val now = LocalDateTime.now()
+        val lines = changes.filter { it.type != CartChange.Type.REMOVE }
+            .associate { change ->
+                change.productId to CartLine.create(
+                    NEW_ID, email, products.getValue(change.productId), change.quantity, now
+                )
+            }
+        applyChanges(email, changes, lines)
+        changes.forEach { cartWriteBehind.mark(CartKey(email, it.productId)) }
+        return findByUserEmail(email)
+    }
+
+    fun flush() = cartWriteBehind.flush()
+
+    fun close() = cartWriteBehind.shutdown()
+
+    /**
+     * 적재되지 않은 유저면 null 을 반환한다.
+     */
+    protected abstract fun readCart(email: String): List<CartLine>?
+
+    protected abstract fun readLines(keys: List<CartKey>): Map<CartKey, CartLine>
+
+    protected abstract fun writeLines(email: String, lines: List<CartLine>)
+
+    protected abstract fun isLoaded(email: String): Boolean
+
+    /**
+     * 같은 상품의 줄이 있으면 수량과 가격을 더하고, 없으면 새 id 를 발급해서 저장한다.
+     */
+    protected abstract fun mergeLine(line: CartLine): CartLine
+
+    protected abstract fun removeLine(email: String, cartId: Long): CartLine?
+
+    /**
+     * 변경 전체를 다른 요청과 섞이지 않게 한 번에 반영한다. lines 는 REMOVE 가 아닌 변경의 상품별 새 줄이다.
+     * MERGE 는 기존 줄에 수량과 가격을 더하고, REPLACE 는 id 를 유지한 채 덮어쓰고, 줄이 없으면 새 id 를 발급한다.
+     */
+    protected abstract fun applyChanges(email: String, changes: List<CartChange>, lines: Map<Long, CartLine>)
+
+    protected fun maxPersistedId(): Long = cartRepository.findMaxId()
+
+    private fun ensureLoaded(email: String) {
+        if (!isLoaded(email)) {
+            load(email)
+        }
+    }
+
+    /**
+     * 유니크 인덱스 적용 전에 쌓인 중복 줄은 CartCompactionService 와 같은 기준(가장 작은 id)으로 합쳐서 적재한다.
+     */
+    private fun load(email: String): List<CartLine> {
+        val lines = cartRepository.findByUserEmail(email)
+            .map { CartLine.from(it) }
+            .sortedBy { it.id }
+            .groupBy { it.productId }
+            .values
+            .map { it.reduce(CartLine::merge) }
+        writeLines(email, lines)
+        return lines
+    }
+
+    companion object {
+        private const val NEW_ID = 0L
+    }
+}
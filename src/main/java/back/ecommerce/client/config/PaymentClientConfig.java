@@ -23,6 +23,8 @@ public class PaymentClientConfig {
 	private String cancelUrl;
 	@Value("${kakao.payment.fail_url}")
 	private String failUrl;
+	@Value("${kakao.payment.base_url:https://kapi.kakao.com/v1/payment}")
+	private String baseUrl;
 
 	@Bean
 	public KakaoPaymentClient kakaoPaymentClient() {
@@ -32,7 +34,7 @@ public class PaymentClientConfig {
 	@Bean
 	public WebClient webClient() {
 		return WebClient.builder()
-			.baseUrl("https://kapi.kakao.com/v1/payment")
+			.baseUrl(baseUrl)
 			.defaultHeader(CONTENT_TYPE, APPLICATION_FORM_URLENCODED_VALUE)
 			.defaultHeader(HttpHeaders.AUTHORIZATION, "KakaoAK " + adminKey)
 			.build();
@@ -0,0 +1,10 @@
+package back.ecommerce.common.cache
+
+data class CacheStats(
+    val name: String,
+    val localHits: Long,
+    val redisHits: Long,
+    val misses: Long,
+    val evictions: Long,
+    val coalescedLoads: Long
+)
@@ -0,0 +1,10 @@
+package back.ecommerce.common.cache
+
+import org.springframework.stereotype.Service
+
+@Service
+class CacheStatsService(
+    private val twoTierCacheManager: TwoTierCacheManager
+) {
+    fun findAll(): List<CacheStats> = twoTierCacheManager.stats()
+}
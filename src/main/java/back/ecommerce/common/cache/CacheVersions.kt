@@ -0,0 +1,68 @@
+package back.ecommerce.common.cache
+
+import back.ecommerce.common.logging.GlobalLogger
+import org.slf4j.event.Level
+import org.springframework.data.redis.core.StringRedisTemplate
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 캐시 키에 포함시키는 버전 카운터. 버전이 올라가면 이전 버전으로 저장된 엔트리는 더 이상 조회되지 않는다.
+ * Redis 가 활성화되어 있으면 인스턴스 간에 버전을 공유하고, Redis 장애 시에는 로컬 카운터를 사용한다.
+ * 조회마다 Redis 를 읽지 않도록 Redis 에서 읽은 버전을 localTtl 동안 재사용한다.
+ * 그래서 다른 인스턴스가 올린 버전은 최대 localTtl 만큼 늦게 반영되고, 자기 인스턴스가 올린 버전은 바로 반영된다.
+ */
+class CacheVersions(
+    private val keyPrefix: String,
+    private val redisTemplate: StringRedisTemplate?,
+    private val globalLogger: GlobalLogger,
+    private val localTtl: Duration
+) {
+    private val localVersions = ConcurrentHashMap<String, Version>()
+
+    fun current(namespace: String): Long {
+        val local = localVersion(namespace)
+        val redis = redisTemplate ?: return local.value.get()
+        if (!local.claimRefresh(localTtl.toNanos())) {
+            return local.value.get()
+        }
+        return try {
+            val version = redis.opsForValue().get(keyPrefix + namespace)?.toLong() ?: 0L
+            local.value.accumulateAndGet(version) { a, b -> maxOf(a, b) }
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "redis 캐시 버전 조회에 실패 했습니다. key: {}", keyPrefix + namespace, e)
+            local.value.get()
+        }
+    }
+
+    fun increment(namespace: String): Long {
+        val local = localVersion(namespace)
+        val redis = redisTemplate ?: return local.value.incrementAndGet()
+        return try {
+            val version = redis.opsForValue().increment(keyPrefix + namespace) ?: local.value.get() + 1
+            local.value.accumulateAndGet(version) { a, b -> maxOf(a, b) }
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "redis 캐시 버전 갱신에 실패 했습니다. key: {}", keyPrefix + namespace, e)
+            local.value.incrementAndGet()
+        }
+    }
+
+    private fun localVersion(namespace: String) = localVersions.computeIfAbsent(namespace) { Version() }
+
+    private class Version {
+        val value = AtomicLong()
+        private val refreshedAt = AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2)
+
+        /**
+         * 마지막으로 Redis 를 읽은 뒤 ttl 이 지났으면 true 를 반환한다.
+         * 여러 스레드가 동시에 만료를 봐도 시각을 먼저 바꾼 한 스레드만 Redis 를 읽고 나머지는 로컬 버전을 사용한다.
+         * 조회에 실패해도 시각은 바뀌어 있어서 ttl 동안은 다시 시도하지 않는다.
+         */
+        fun claimRefresh(ttlNanos: Long): Boolean {
+            val last = refreshedAt.get()
+            val now = System.nanoTime()
+            return now - last >= ttlNanos && refreshedAt.compareAndSet(last, now)
+        }
+    }
+}
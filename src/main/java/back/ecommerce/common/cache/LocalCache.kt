@@ -0,0 +1,98 @@
+package back.ecommerce.common.cache
+
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.locks.ReentrantLock
+
+/**
+ * 프로세스 내부 캐시. 조회는 락 없이 ConcurrentHashMap 에서 읽고 마지막 사용 시각만 갱신한다.
+ * 엔트리 수가 maximumSize 를 넘으면 몇 개의 엔트리를 표본으로 뽑아 만료됐거나 가장 오래 사용되지 않은 엔트리를 제거한다(근사 LRU).
+ */
+class LocalCache<V : Any>(
+    private val ttl: Duration,
+    private val maximumSize: Int
+) {
+    private val entries = ConcurrentHashMap<String, Entry<V>>()
+    private val evictionLock = ReentrantLock()
+
+    /**
+     * 표본은 이전 제거가 멈춘 위치부터 이어서 뽑아서 매번 같은 버킷만 보지 않게 한다. evictionLock 안에서만 사용한다.
+     */
+    private var sampler: Iterator<Map.Entry<String, Entry<V>>> = entries.entries.iterator()
+
+    fun get(key: String): V? {
+        val entry = entries[key] ?: return null
+        if (entry.isExpired()) {
+            entries.remove(key, entry)
+            return null
+        }
+        entry.accessedAt = System.nanoTime()
+        return entry.value
+    }
+
+    fun put(key: String, value: V) = put(key, value, ttl)
+
+    /**
+     * 엔트리마다 만료 시간이 다를 때 사용한다.
+     */
+    fun put(key: String, value: V, ttl: Duration) {
+        val now = System.nanoTime()
+        entries[key] = Entry(value, now + ttl.toNanos(), now)
+        if (entries.size > maximumSize) {
+            evictOverflow()
+        }
+    }
+
+    fun evict(key: String) {
+        entries.remove(key)
+    }
+
+    fun clear() = entries.clear()
+
+    fun size() = entries.size
+
+    /**
+     * 이미 다른 스레드가 제거 중이면 그 스레드에 맡긴다. 그 사이 잠깐 maximumSize 를 넘을 수 있다.
+     */
+    private fun evictOverflow() {
+        if (!evictionLock.tryLock()) {
+            return
+        }
+        try {
+            while (entries.size > maximumSize) {
+                val victim = sample() ?: return
+                entries.remove(victim.key, victim.value)
+            }
+        } finally {
+            evictionLock.unlock()
+        }
+    }
+
+    private fun sample(): Map.Entry<String, Entry<V>>? {
+        var oldest: Map.Entry<String, Entry<V>>? = null
+        repeat(minOf(SAMPLE_SIZE, entries.size)) {
+            if (!sampler.hasNext()) {
+                sampler = entries.entries.iterator()
+                if (!sampler.hasNext()) {
+                    return oldest
+                }
+            }
+            val candidate = sampler.next()
+            if (candidate.value.isExpired()) {
+                return candidate
+            }
+            if (oldest == null || candidate.value.accessedAt - oldest!!.value.accessedAt < 0) {
+                oldest = candidate
+            }
+        }
+        return oldest
+    }
+
+    private class Entry<V>(val value: V, private val expiredAt: Long, @Volatile var accessedAt: Long) {
+        fun isExpired() = System.nanoTime() - expiredAt >= 0
+    }
+
+    companion object {
+        private const val SAMPLE_SIZE = 8
+    }
+}
@@ -0,0 +1,85 @@
+package back.ecommerce.common.cache
+
+import back.ecommerce.common.logging.GlobalLogger
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.slf4j.event.Level
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption
+import org.springframework.data.redis.core.RedisCallback
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.types.Expiration
+import java.time.Duration
+
+/**
+ * Redis 캐시 계층. Redis 장애가 조회 실패로 이어지지 않도록 예외는 로그만 남기고 캐시 미스로 처리한다.
+ */
+class RedisCache<V : Any>(
+    private val redisTemplate: StringRedisTemplate,
+    private val objectMapper: ObjectMapper,
+    private val keyPrefix: String,
+    private val type: Class<V>,
+    private val ttl: Duration,
+    private val globalLogger: GlobalLogger
+) {
+
+    fun get(key: String): V? {
+        return try {
+            redisTemplate.opsForValue().get(keyPrefix + key)?.let { objectMapper.readValue(it, type) }
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "redis 캐시 조회에 실패 했습니다. key: {}", keyPrefix + key, e)
+            null
+        }
+    }
+
+    fun put(key: String, value: V) {
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key, objectMapper.writeValueAsString(value), ttl)
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "redis 캐시 저장에 실패 했습니다. key: {}", keyPrefix + key, e)
+        }
+    }
+
+    fun getAll(keys: List<String>): Map<String, V> {
+        if (keys.isEmpty()) {
+            return emptyMap()
+        }
+        return try {
+            val values = redisTemplate.opsForValue().multiGet(keys.map { keyPrefix + it }) ?: return emptyMap()
+            keys.zip(values)
+                .filter { it.second != null }
+                .associate { it.first to objectMapper.readValue(it.second, type) }
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "redis 캐시 일괄 조회에 실패 했습니다. size: {}", keys.size, e)
+            emptyMap()
+        }
+    }
+
+    /**
+     * 키마다 TTL 을 지정해야 하기 때문에 MSET 대신 SET 을 파이프라인으로 한 번에 보낸다.
+     */
+    fun putAll(values: Map<String, V>) {
+        if (values.isEmpty()) {
+            return
+        }
+        try {
+            val serialized = values.map { (key, value) ->
+                (keyPrefix + key).toByteArray() to objectMapper.writeValueAsBytes(value)
+            }
+            redisTemplate.executePipelined(RedisCallback<Any?> { connection ->
+                serialized.forEach { (key, value) ->
+                    connection.stringCommands().set(key, value, Expiration.from(ttl), SetOption.upsert())
+                }
+                null
+            })
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "redis 캐시 일괄 저장에 실패 했습니다. size: {}", values.size, e)
+        }
+    }
+
+    fun evict(key: String) {
+        try {
+            redisTemplate.delete(keyPrefix + key)
+        } catch (e: Exception) {
+            globalLogger.log(Level.WARN, "redis 캐시 삭제에 실패 했습니다. key: {}", keyPrefix + key, e)
+        }
+    }
+}
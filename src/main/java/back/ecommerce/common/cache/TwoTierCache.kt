@@ -0,0 +1,140 @@
+package back.ecommerce.common.cache
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import java.util.function.Function
+import java.util.function.Supplier
+
+/**
+ * 로컬 캐시 -> Redis -> loader 순서로 조회하는 2단계 캐시.
+ * 같은 키의 동시 미스는 하나의 loader 호출로 합쳐지고 나머지 요청은 그 결과를 기다린다.
+ * 다른 인스턴스의 로컬 캐시는 evict 로 지워지지 않기 때문에 로컬 TTL 은 짧게 유지한다.
+ */
+class TwoTierCache<V : Any>(
+    val name: String,
+    private val localCache: LocalCache<V>,
+    private val redisCache: RedisCache<V>?
+) {
+    private val inFlightLoads = ConcurrentHashMap<String, CompletableFuture<V?>>()
+    private val localHits = AtomicLong()
+    private val redisHits = AtomicLong()
+    private val misses = AtomicLong()
+    private val evictions = AtomicLong()
+    private val coalescedLoads = AtomicLong()
+
+    fun get(key: String, loader: Supplier<V>): V {
+        return load(key) { loader.get() }!!
+    }
+
+    /**
+     * loader 가 null 을 반환하면 캐시하지 않고 null 을 반환한다. 값이 없는 것이 정상인 조회(존재 여부 확인 등)에 사용한다.
+     */
+    fun getIfPresent(key: String, loader: Supplier<V?>): V? {
+        return load(key) { loader.get() }
+    }
+
+    private fun load(key: String, loader: () -> V?): V? {
+        localCache.get(key)?.let {
+            localHits.incrementAndGet()
+            return it
+        }
+        val load = CompletableFuture<V?>()
+        val inFlight = inFlightLoads.putIfAbsent(key, load)
+        if (inFlight != null) {
+            coalescedLoads.incrementAndGet()
+            return await(inFlight)
+        }
+        try {
+            load.complete(loadThrough(key, loader))
+        } catch (e: Throwable) {
+            load.completeExceptionally(e)
+        } finally {
+            inFlightLoads.remove(key, load)
+        }
+        return await(load)
+    }
+
+    /**
+     * 여러 키를 한 번에 조회한다. 로컬, Redis 에서 찾지 못한 키들만 모아 loader 를 한 번 호출한다.
+     * loader 결과에 없는 키는 응답에서 제외되고 캐시되지 않는다.
+     */
+    fun getAll(keys: Collection<String>, loader: Function<List<String>, Map<String, V>>): Map<String, V> {
+        val values = HashMap<String, V>()
+        val localMisses = ArrayList<String>()
+        keys.distinct().forEach { key ->
+            val value = localCache.get(key)
+            if (value == null) {
+                localMisses.add(key)
+            } else {
+                values[key] = value
+            }
+        }
+        localHits.addAndGet(values.size.toLong())
+
+        val redisValues = redisCache?.getAll(localMisses) ?: emptyMap()
+        redisHits.addAndGet(redisValues.size.toLong())
+        redisValues.forEach { (key, value) -> localCache.put(key, value) }
+        values.putAll(redisValues)
+
+        val loadKeys = localMisses.filterNot { redisValues.containsKey(it) }
+        if (loadKeys.isEmpty()) {
+            return values
+        }
+        misses.addAndGet(loadKeys.size.toLong())
+        val loaded = loader.apply(loadKeys).filterKeys { it in loadKeys }
+        redisCache?.putAll(loaded)
+        loaded.forEach { (key, value) -> localCache.put(key, value) }
+        values.putAll(loaded)
+        return values
+    }
+
+    /**
+     * 조회 없이 값을 알고 있을 때(가입 완료 등) 미리 채운다.
+     */
+    fun put(key: String, value: V) {
+        redisCache?.put(key, value)
+        localCache.put(key, value)
+    }
+
+    fun evict(key: String) {
+        evictions.incrementAndGet()
+        localCache.evict(key)
+        redisCache?.evict(key)
+    }
+
+    fun stats() = CacheStats(
+        name,
+        localHits.get(),
+        redisHits.get(),
+        misses.get(),
+        evictions.get(),
+        coalescedLoads.get()
+    )
+
+    private fun loadThrough(key: String, loader: () -> V?): V? {
+        localCache.get(key)?.let {
+            localHits.incrementAndGet()
+            return it
+        }
+        redisCache?.get(key)?.let {
+            redisHits.incrementAndGet()
+            localCache.put(key, it)
+            return it
+        }
+        misses.incrementAndGet()
+        return loader()?.also {
+            redisCache?.put(key, it)
+            localCache.put(key, it)
+        }
+    }
+
+    private fun await(load: CompletableFuture<V?>): V? {
+        try {
+            return load.join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+    }
+}
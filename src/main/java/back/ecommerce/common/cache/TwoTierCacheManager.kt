@@ -0,0 +1,44 @@
+package back.ecommerce.common.cache
+
+import back.ecommerce.common.logging.GlobalLogger
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+@Component
+class TwoTierCacheManager(
+    private val redisTemplateProvider: ObjectProvider<StringRedisTemplate>,
+    private val objectMapper: ObjectMapper,
+    @Value("\${cache.redis.enabled:false}") private val redisEnabled: Boolean
+) {
+    private val caches = CopyOnWriteArrayList<TwoTierCache<*>>()
+    private val globalLogger = GlobalLogger()
+
+    fun <V : Any> create(
+        name: String,
+        type: Class<V>,
+        localTtl: Duration,
+        localMaximumSize: Int,
+        redisTtl: Duration
+    ): TwoTierCache<V> {
+        val redisCache = redisTemplateProvider.ifAvailable
+            ?.takeIf { redisEnabled }
+            ?.let { RedisCache(it, objectMapper, "$KEY_PREFIX$name:", type, redisTtl, globalLogger) }
+        return TwoTierCache(name, LocalCache(localTtl, localMaximumSize), redisCache).also { caches.add(it) }
+    }
+
+    fun createVersions(name: String, localTtl: Duration): CacheVersions {
+        val redisTemplate = redisTemplateProvider.ifAvailable?.takeIf { redisEnabled }
+        return CacheVersions("$KEY_PREFIX$name:version:", redisTemplate, globalLogger, localTtl)
+    }
+
+    fun stats(): List<CacheStats> = caches.map { it.stats() }
+
+    companion object {
+        private const val KEY_PREFIX = "cache:"
+    }
+}
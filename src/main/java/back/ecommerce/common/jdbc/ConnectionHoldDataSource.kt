@@ -0,0 +1,44 @@
+package back.ecommerce.common.jdbc
+
+import org.springframework.jdbc.datasource.DelegatingDataSource
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.util.concurrent.atomic.AtomicBoolean
+import javax.sql.DataSource
+
+/**
+ * 빌려준 커넥션이 close 될 때 점유 시간을 ConnectionHoldRecorder 에 남긴다.
+ * 엔드포인트는 커넥션을 빌린 쓰레드 기준으로 정한다.
+ */
+class ConnectionHoldDataSource(
+    target: DataSource,
+    private val connectionHoldRecorder: ConnectionHoldRecorder
+) : DelegatingDataSource(target) {
+
+    override fun getConnection(): Connection = track(super.getConnection())
+
+    override fun getConnection(username: String, password: String): Connection {
+        return track(super.getConnection(username, password))
+    }
+
+    private fun track(connection: Connection): Connection {
+        val endpoint = connectionHoldRecorder.currentEndpoint()
+        val start = System.nanoTime()
+        val closed = AtomicBoolean()
+        return Proxy.newProxyInstance(javaClass.classLoader, arrayOf(Connection::class.java)) { _, method, args ->
+            if (method.name == CLOSE && closed.compareAndSet(false, true)) {
+                connectionHoldRecorder.record(endpoint, System.nanoTime() - start)
+            }
+            try {
+                method.invoke(connection, *(args ?: emptyArray()))
+            } catch (e: InvocationTargetException) {
+                throw e.targetException
+            }
+        } as Connection
+    }
+
+    companion object {
+        private const val CLOSE = "close"
+    }
+}
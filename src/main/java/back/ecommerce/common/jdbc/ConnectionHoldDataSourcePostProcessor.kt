@@ -0,0 +1,24 @@
+package back.ecommerce.common.jdbc
+
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.beans.factory.config.BeanPostProcessor
+import org.springframework.stereotype.Component
+import javax.sql.DataSource
+
+/**
+ * jdbc.connection-hold.enabled 가 true 면 DataSource 빈을 ConnectionHoldDataSource 로 감싼다.
+ */
+@Component
+class ConnectionHoldDataSourcePostProcessor(
+    @Value("\${jdbc.connection-hold.enabled:true}") private val enabled: Boolean,
+    private val connectionHoldRecorder: ObjectProvider<ConnectionHoldRecorder>
+) : BeanPostProcessor {
+
+    override fun postProcessAfterInitialization(bean: Any, beanName: String): Any {
+        if (!enabled || bean !is DataSource || bean is ConnectionHoldDataSource) {
+            return bean
+        }
+        return ConnectionHoldDataSource(bean, connectionHoldRecorder.getObject())
+    }
+}
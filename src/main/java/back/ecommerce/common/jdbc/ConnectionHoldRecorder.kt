@@ -0,0 +1,75 @@
+package back.ecommerce.common.jdbc
+
+import org.springframework.stereotype.Component
+import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.ServletRequestAttributes
+import org.springframework.web.servlet.HandlerMapping
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.LongAccumulator
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 커넥션을 빌린 시점부터 반납(close)까지 걸린 시간을 엔드포인트별 히스토그램으로 모은다.
+ * 외부 API 를 기다리는 동안 커넥션을 잡고 있는 엔드포인트는 외부 API 응답시간 이상의 구간에 쌓인다.
+ */
+@Component
+class ConnectionHoldRecorder {
+    private val histograms = ConcurrentHashMap<String, Histogram>()
+
+    /**
+     * 요청 쓰레드면 "메서드 URL 패턴", 아니면 background 를 반환한다.
+     */
+    fun currentEndpoint(): String {
+        val attributes = RequestContextHolder.getRequestAttributes() as? ServletRequestAttributes
+            ?: return BACKGROUND
+        val request = attributes.request
+        val pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) as? String ?: UNMATCHED
+        return "${request.method} $pattern"
+    }
+
+    fun record(endpoint: String, elapsedNanos: Long) {
+        histograms.computeIfAbsent(endpoint) { Histogram() }.record(elapsedNanos)
+    }
+
+    fun stats(): List<ConnectionHoldStats> {
+        return histograms.map { (endpoint, histogram) -> histogram.toStats(endpoint) }
+            .sortedBy { it.endpoint }
+    }
+
+    private class Histogram {
+        private val buckets = Array(BUCKET_BOUNDS_MILLIS.size + 1) { LongAdder() }
+        private val count = LongAdder()
+        private val totalNanos = LongAdder()
+        private val maxNanos = LongAccumulator({ left, right -> maxOf(left, right) }, 0L)
+
+        fun record(elapsedNanos: Long) {
+            val index = BUCKET_BOUNDS_MILLIS.indexOfFirst { elapsedNanos <= it * NANOS_PER_MILLI }
+            buckets[if (index < 0) BUCKET_BOUNDS_MILLIS.size else index].increment()
+            count.increment()
+            totalNanos.add(elapsedNanos)
+            maxNanos.accumulate(elapsedNanos)
+        }
+
+        fun toStats(endpoint: String): ConnectionHoldStats {
+            val count = count.sum()
+            val average = if (count == 0L) 0.0 else totalNanos.sum().toDouble() / count / NANOS_PER_MILLI
+            var cumulative = 0L
+            val cumulativeBuckets = buckets.mapIndexed { index, bucket ->
+                cumulative += bucket.sum()
+                val le = if (index < BUCKET_BOUNDS_MILLIS.size) "${BUCKET_BOUNDS_MILLIS[index]}ms" else INFINITY
+                ConnectionHoldBucket(le, cumulative)
+            }
+            return ConnectionHoldStats(
+                endpoint, count, average, maxNanos.get() / NANOS_PER_MILLI.toDouble(), cumulativeBuckets
+            )
+        }
+    }
+
+    companion object {
+        const val BACKGROUND = "background"
+        private const val UNMATCHED = "unmatched"
+        private const val INFINITY = "+Inf"
+        private const val NANOS_PER_MILLI = 1_000_000L
+        private val BUCKET_BOUNDS_MILLIS = longArrayOf(1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000)
+    }
+}
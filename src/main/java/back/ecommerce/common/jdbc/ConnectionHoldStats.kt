@@ -0,0 +1,20 @@
+package back.ecommerce.common.jdbc
+
+/**
+ * 엔드포인트("POST /api/payment/ready")별 커넥션 점유 시간. 요청 밖(스케줄러, 적재 쓰레드)은 background 로 모인다.
+ */
+data class ConnectionHoldStats(
+    val endpoint: String,
+    val count: Long,
+    val averageMillis: Double,
+    val maxMillis: Double,
+    val buckets: List<ConnectionHoldBucket>
+)
+
+/**
+ * le 이하로 반납된 누적 횟수. 마지막 구간은 +Inf 이다.
+ */
+data class ConnectionHoldBucket(
+    val le: String,
+    val count: Long
+)
@@ -13,6 +13,8 @@ public enum ErrorCode {
 	TOKEN_HAS_EXPIRED(400, "token", "토큰이 만료 되었습니다."),
 
 	PASSWORD_NOT_MATCHED(400, "password", "비밀번호가 일치하지 않습니다."),
+	TOO_MANY_LOGIN_ATTEMPTS(429, "login", "로그인 시도 횟수를 초과 했습니다. 잠시 후 다시 시도해주세요."),
+	LOGIN_BUSY(503, "login", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	PRODUCT_NOT_FOUND(400, "product", "해당하는 상품이 존재하지 않습니다."),
 	USER_NOT_FOUND(400, "user", "해당하는 유저가 존재하지 않습니다."),
@@ -20,12 +22,18 @@ public enum ErrorCode {
 	DUPLICATE_USER_EMAIL(400, "email", "이미 가입된 이메일이 존재합니다."),
 	INVALID_CATEGORY(400, "category", "유효하지 않은 카테고리명 입니다."),
 	INVALID_PAGE_NUMBER(400, "page", "유효하지 않는 페이지 번호입니다."),
+	INVALID_CURSOR(400, "cursor", "유효하지 않는 커서입니다."),
+	INVALID_PRODUCT_IDS(400, "ids", "유효하지 않는 상품 id 목록입니다."),
+	TOO_MANY_PRODUCT_IDS(400, "ids", "한 번에 조회할 수 있는 상품 갯수를 초과 했습니다."),
+	INVALID_CART_OPERATION(400, "operations", "유효하지 않는 장바구니 변경 요청입니다."),
 
 	INTERNAL_SERVER_ERROR(500, "server", "서버에 에러가 발생 했습니다."),
 
 	REQUEST_PRODUCT_NOT_FOUND(400, "requestProduct", "등록요청 상품이 존재하지 않습니다."),
 	ALREADY_UPDATE_APPROVAL_STATUS(400, "approvalStatus", "이미 번경된 등록승인 상태 입니다."),
+	INVALID_BULK_APPROVAL_STATUS(400, "approvalStatus", "일괄 처리는 승인 또는 거절 상태로만 가능합니다."),
 	ADMIN_NOT_FOUND(404, "admin", "권한이 없습니다."),
+	INVALID_EXPORT_FORMAT(400, "format", "지원하지 않는 내보내기 형식입니다."),
 	INVALID_ORDER_ARGUMENT(400, "order", "주문정보가 옳바르지 않습니다."),
 	INVALID_TOTAL_PRICE(400, "order", "요청 주문상품가격과 실제 가격정보가 일치하지 않습니다."),
 	PAYMENT_NOT_FOUND(400, "payment", "일치하는 결제정보가 없습니다."),
@@ -10,7 +10,7 @@ import back.ecommerce.order.service.OrderGroupDto
 import back.ecommerce.order.service.OrderGroupDto.Companion.create
 import back.ecommerce.product.entity.Product
 import back.ecommerce.product.repository.ProductRepository
-import back.ecommerce.user.repository.UserRepository
+import back.ecommerce.user.cache.UserIdentityCache
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 
@@ -18,7 +18,7 @@ import org.springframework.transaction.annotation.Transactional
 class OrderService(
     private val orderGroupRepository: OrderGroupRepository,
     private val productRepository: ProductRepository,
-    private val userRepository: UserRepository,
+    private val userIdentityCache: UserIdentityCache,
     private val ulidGenerator: ULIDGenerator
 ) {
 
@@ -38,7 +38,7 @@ class OrderService(
     }
 
     private fun validateUserEmail(userEmail: String) {
-        if (!userRepository.existsByEmail(userEmail)) {
+        if (!userIdentityCache.exists(userEmail)) {
             throw CustomException(ErrorCode.USER_NOT_FOUND)
         }
     }
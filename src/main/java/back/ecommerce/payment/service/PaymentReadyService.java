@@ -0,0 +1,40 @@
+package back.ecommerce.payment.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import back.ecommerce.api.payment.KakaoReadyPaymentResult;
+import back.ecommerce.api.payment.OrderProductDto;
+import back.ecommerce.api.payment.PaymentReadyResponse;
+import back.ecommerce.client.KakaoPaymentClient;
+import back.ecommerce.order.application.OrderService;
+import back.ecommerce.order.service.OrderGroupDto;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 준비. 주문 저장과 결제 저장은 각자의 트랜잭션에서 끝내고 DTO 만 넘겨받기 때문에
+ * 카카오페이 준비 요청을 기다리는 동안에는 DB 커넥션을 잡고 있지 않는다.
+ * 바깥 트랜잭션 안에서 호출되면 커넥션을 잡은 채로 외부 호출을 하게 되므로 허용하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentReadyService {
+
+	private final OrderService orderService;
+	private final KakaoPaymentClient kakaoPaymentClient;
+	private final PaymentService paymentService;
+
+	public PaymentReadyResponse ready(String email, Long totalPrice, List<OrderProductDto> orderProducts) {
+		Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(),
+			"결제 준비는 트랜잭션 밖에서 호출해야 합니다.");
+		OrderGroupDto orderGroup = orderService.createOrder(email, totalPrice, orderProducts);
+		KakaoReadyPaymentResult result = kakaoPaymentClient.ready(email, orderGroup.getOrderCode(),
+			orderGroup.getTotalPrice(), orderGroup.getName(), orderGroup.getQuantity());
+		paymentService.createReadyPayment(result.getTransactionId(), result.getCid(), result.getOrderCode(), email,
+			totalPrice);
+		return new PaymentReadyResponse(result.getPcUrl(), result.getOrderCode(), result.getCreatedAt());
+	}
+}
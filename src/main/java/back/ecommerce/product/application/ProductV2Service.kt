@@ -2,37 +2,110 @@ package back.ecommerce.product.application
 
 import back.ecommerce.common.constant.PageConstant
 import back.ecommerce.exception.CustomException
+import back.ecommerce.exception.ErrorCode.INVALID_PRODUCT_IDS
 import back.ecommerce.exception.ErrorCode.PRODUCT_NOT_FOUND
+import back.ecommerce.exception.ErrorCode.TOO_MANY_PRODUCT_IDS
+import back.ecommerce.product.cache.CategoryFirstPageCache
+import back.ecommerce.product.cache.ProductDetailCache
+import back.ecommerce.product.cache.ProductThumbnailCache
+import back.ecommerce.product.cache.SearchResultCache
+import back.ecommerce.product.dto.condition.ProductCursorCondition
 import back.ecommerce.product.dto.condition.ProductSearchCondition
+import back.ecommerce.product.dto.response.v2.ProductCursorListV2Response
 import back.ecommerce.product.dto.response.v2.ProductDetailDto
 import back.ecommerce.product.dto.response.v2.ProductListV2Response
+import back.ecommerce.product.dto.response.v2.ProductV2Dto
 import back.ecommerce.product.entity.Category
 import back.ecommerce.product.repository.ProductQueryDslRepository
+import back.ecommerce.product.repository.ProductRepository
+import back.ecommerce.product.search.ProductCountIndex
+import back.ecommerce.product.search.ProductFacetIndex
 import org.springframework.data.domain.PageRequest
 import org.springframework.stereotype.Service
 
 @Service
 class ProductV2Service(
     private val productQueryDslRepository: ProductQueryDslRepository,
+    private val categoryFirstPageCache: CategoryFirstPageCache,
+    private val productFacetIndex: ProductFacetIndex,
+    private val productDetailCache: ProductDetailCache,
+    private val productRepository: ProductRepository,
+    private val searchResultCache: SearchResultCache,
+    private val productThumbnailCache: ProductThumbnailCache,
+    private val productCountIndex: ProductCountIndex,
 ) {
 
     fun findWithCategoryAndPagination(category: Category): ProductListV2Response {
-        val products = productQueryDslRepository.findByCategoryWithPaginationOrderByBrandNewV2(
-            category,
-            PageRequest.of(PageConstant.DEFAULT__PAGE, PageConstant.DEFAULT_PAGE_SIZE)
-        )
-        return ProductListV2Response(products.size, products)
+        return categoryFirstPageCache.getV2(category) {
+            val products = productQueryDslRepository.findByCategoryWithPaginationOrderByBrandNewV2(
+                category,
+                PageRequest.of(PageConstant.DEFAULT__PAGE, PageConstant.DEFAULT_PAGE_SIZE)
+            )
+            ProductListV2Response.of(productThumbnailCache.fill(products), productCountIndex.count(category))
+        }
     }
 
     fun findWithSearchCondition(category: Category, parameters: Map<String, String?>): ProductListV2Response {
         val searchCondition = ProductSearchCondition.createWithCategoryAndAttributes(
             category, parameters
         )
-        val products = productQueryDslRepository.findBySearchConditionV2(searchCondition)
-        return ProductListV2Response(products.size, products)
+        val withFacets = parameters[FACETS_PARAMETER].toBoolean()
+        return searchResultCache.getV2(searchCondition, withFacets) {
+            val products = productQueryDslRepository.findBySearchConditionV2(searchCondition)
+            val facets = if (withFacets) productFacetIndex.facets(searchCondition) else null
+            ProductListV2Response.of(
+                productThumbnailCache.fill(products),
+                productCountIndex.count(searchCondition),
+                facets
+            )
+        }
+    }
+
+    fun findWithSearchConditionAndCursor(
+        category: Category,
+        parameters: Map<String, String?>
+    ): ProductCursorListV2Response {
+        val cursorCondition = ProductCursorCondition.createWithCategoryAndAttributes(category, parameters)
+        val response = productQueryDslRepository.findBySearchConditionWithCursorV2(cursorCondition)
+        return response.copy(products = productThumbnailCache.fill(response.products))
     }
 
     fun findOne(id: Long): ProductDetailDto {
-        return productQueryDslRepository.findByIdJoinImages(id) ?: throw CustomException(PRODUCT_NOT_FOUND)
+        return productDetailCache.getV2(id) {
+            productQueryDslRepository.findByIdJoinImages(id) ?: throw CustomException(PRODUCT_NOT_FOUND)
+        }
+    }
+
+    /**
+     * 장바구니, 주문서 등 여러 상품을 보여주는 화면용 일괄 조회. 요청한 id 순서를 유지하고 없는 상품은 제외한다.
+     */
+    fun findByIds(ids: String): ProductListV2Response {
+        val productIds = parseIds(ids)
+        if (productIds.isEmpty()) {
+            return ProductListV2Response(0, emptyList())
+        }
+        val productById = productRepository.findByIds(productIds).associateBy { it.id }
+        val products = productIds.mapNotNull { id ->
+            productById[id]?.let { ProductV2Dto(it.id, it.name, it.brandName, it.price, it.category, "") }
+        }
+        return ProductListV2Response(products.size, productThumbnailCache.fill(products))
+    }
+
+    private fun parseIds(ids: String): List<Long> {
+        val productIds = ids.split(ID_DELIMITER)
+            .map { it.trim() }
+            .filter { it.isNotEmpty() }
+            .map { it.toLongOrNull()?.takeIf { id -> id > 0 } ?: throw CustomException(INVALID_PRODUCT_IDS) }
+            .distinct()
+        if (productIds.size > MAX_PRODUCT_IDS) {
+            throw CustomException(TOO_MANY_PRODUCT_IDS)
+        }
+        return productIds
+    }
+
+    companion object {
+        private const val FACETS_PARAMETER = "facets"
+        private const val ID_DELIMITER = ","
+        private const val MAX_PRODUCT_IDS = 50
     }
 }
@@ -0,0 +1,46 @@
+package back.ecommerce.product.cache
+
+import back.ecommerce.common.cache.TwoTierCacheManager
+import back.ecommerce.product.dto.response.ProductListResponse
+import back.ecommerce.product.dto.response.v2.ProductListV2Response
+import back.ecommerce.product.entity.Category
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.function.Supplier
+
+@Component
+class CategoryFirstPageCache(
+    twoTierCacheManager: TwoTierCacheManager,
+    @Value("\${cache.category-first-page.local-ttl-seconds:10}") localTtlSeconds: Long,
+    @Value("\${cache.category-first-page.redis-ttl-seconds:300}") redisTtlSeconds: Long
+) {
+    private val cache = twoTierCacheManager.create(
+        "category-first-page",
+        ProductListResponse::class.java,
+        Duration.ofSeconds(localTtlSeconds),
+        Category.values().size,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+
+    private val v2Cache = twoTierCacheManager.create(
+        "category-first-page-v2",
+        ProductListV2Response::class.java,
+        Duration.ofSeconds(localTtlSeconds),
+        Category.values().size,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+
+    fun get(category: Category, loader: Supplier<ProductListResponse>): ProductListResponse {
+        return cache.get(category.name, loader)
+    }
+
+    fun getV2(category: Category, loader: Supplier<ProductListV2Response>): ProductListV2Response {
+        return v2Cache.get(category.name, loader)
+    }
+
+    fun evict(category: Category) {
+        cache.evict(category.name)
+        v2Cache.evict(category.name)
+    }
+}
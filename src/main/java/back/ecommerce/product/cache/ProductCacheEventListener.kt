@@ -0,0 +1,39 @@
+package back.ecommerce.product.cache
+
+import back.ecommerce.product.event.ProductApprovedEvent
+import back.ecommerce.product.event.ProductChangedEvent
+import back.ecommerce.product.event.ProductsApprovedEvent
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
+
+@Component
+class ProductCacheEventListener(
+    private val categoryFirstPageCache: CategoryFirstPageCache,
+    private val productDetailCache: ProductDetailCache,
+    private val searchResultCache: SearchResultCache,
+    private val productThumbnailCache: ProductThumbnailCache
+) {
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun evictCategoryCaches(event: ProductApprovedEvent) {
+        categoryFirstPageCache.evict(event.category)
+        searchResultCache.evict(event.category)
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun evictCategoryCaches(event: ProductsApprovedEvent) {
+        event.products.map { it.category }.distinct().forEach {
+            categoryFirstPageCache.evict(it)
+            searchResultCache.evict(it)
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    fun evictChangedProduct(event: ProductChangedEvent) {
+        productDetailCache.evict(event.productId)
+        productThumbnailCache.evict(event.productId)
+        categoryFirstPageCache.evict(event.category)
+        searchResultCache.evict(event.category)
+    }
+}
@@ -0,0 +1,50 @@
+package back.ecommerce.product.cache
+
+import back.ecommerce.common.cache.TwoTierCacheManager
+import back.ecommerce.product.dto.response.ProductDto
+import back.ecommerce.product.dto.response.v2.ProductDetailDto
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.function.Supplier
+
+/**
+ * 상품 단건 조회 캐시. 인기 상품에 대한 동시 미스는 TwoTierCache 에서 하나의 DB 조회로 합쳐진다.
+ * 상품 정보가 변경되면 ProductChangedEvent 를 통해 evict 된다.
+ */
+@Component
+class ProductDetailCache(
+    twoTierCacheManager: TwoTierCacheManager,
+    @Value("\${cache.product-detail.local-ttl-seconds:30}") localTtlSeconds: Long,
+    @Value("\${cache.product-detail.local-maximum-size:10000}") localMaximumSize: Int,
+    @Value("\${cache.product-detail.redis-ttl-seconds:600}") redisTtlSeconds: Long
+) {
+    private val cache = twoTierCacheManager.create(
+        "product-detail",
+        ProductDto::class.java,
+        Duration.ofSeconds(localTtlSeconds),
+        localMaximumSize,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+
+    private val v2Cache = twoTierCacheManager.create(
+        "product-detail-v2",
+        ProductDetailDto::class.java,
+        Duration.ofSeconds(localTtlSeconds),
+        localMaximumSize,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+
+    fun get(id: Long, loader: Supplier<ProductDto>): ProductDto {
+        return cache.get(id.toString(), loader)
+    }
+
+    fun getV2(id: Long, loader: Supplier<ProductDetailDto>): ProductDetailDto {
+        return v2Cache.get(id.toString(), loader)
+    }
+
+    fun evict(id: Long) {
+        cache.evict(id.toString())
+        v2Cache.evict(id.toString())
+    }
+}
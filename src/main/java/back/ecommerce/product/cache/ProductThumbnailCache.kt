@@ -0,0 +1,48 @@
+package back.ecommerce.product.cache
+
+import back.ecommerce.common.cache.TwoTierCacheManager
+import back.ecommerce.product.dto.response.v2.ProductV2Dto
+import back.ecommerce.product.repository.ProductQueryDslRepository
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 목록 응답의 썸네일 URL 을 상품 id 별로 캐시한다.
+ * 캐시에 없는 id 들은 한 번의 IN 조회로 가져오고, 이미지가 없는 상품도 빈 문자열로 캐시해 다시 조회하지 않는다.
+ */
+@Component
+class ProductThumbnailCache(
+    twoTierCacheManager: TwoTierCacheManager,
+    private val productQueryDslRepository: ProductQueryDslRepository,
+    @Value("\${cache.product-thumbnail.local-ttl-seconds:300}") localTtlSeconds: Long,
+    @Value("\${cache.product-thumbnail.local-maximum-size:50000}") localMaximumSize: Int,
+    @Value("\${cache.product-thumbnail.redis-ttl-seconds:3600}") redisTtlSeconds: Long
+) {
+    private val cache = twoTierCacheManager.create(
+        "product-thumbnail",
+        String::class.java,
+        Duration.ofSeconds(localTtlSeconds),
+        localMaximumSize,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+
+    fun fill(products: List<ProductV2Dto>): List<ProductV2Dto> {
+        if (products.isEmpty()) {
+            return products
+        }
+        val thumbnails = cache.getAll(products.map { it.id.toString() }) { keys ->
+            val loaded = productQueryDslRepository.findThumbnailUrls(keys.map { it.toLong() })
+            keys.associateWith { loaded[it.toLong()] ?: NO_THUMBNAIL }
+        }
+        return products.map { it.copy(thumbnailUrl = thumbnails[it.id.toString()] ?: NO_THUMBNAIL) }
+    }
+
+    fun evict(productId: Long) {
+        cache.evict(productId.toString())
+    }
+
+    companion object {
+        private const val NO_THUMBNAIL = ""
+    }
+}
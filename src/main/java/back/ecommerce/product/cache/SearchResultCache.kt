@@ -0,0 +1,73 @@
+package back.ecommerce.product.cache
+
+import back.ecommerce.common.cache.TwoTierCacheManager
+import back.ecommerce.product.dto.condition.ProductSearchCondition
+import back.ecommerce.product.dto.response.ProductListResponse
+import back.ecommerce.product.dto.response.v2.ProductListV2Response
+import back.ecommerce.product.entity.Category
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.function.Supplier
+
+/**
+ * 상세검색 결과 캐시. 키는 정규화된 검색 조건과 카테고리 버전으로 구성되며,
+ * 카테고리의 상품이 변경되면 버전을 올려 이전 결과가 조회되지 않게 한다.
+ */
+@Component
+class SearchResultCache(
+    twoTierCacheManager: TwoTierCacheManager,
+    @Value("\${cache.search-result.enabled:true}") private val enabled: Boolean,
+    @Value("\${cache.search-result.local-ttl-seconds:30}") localTtlSeconds: Long,
+    @Value("\${cache.search-result.local-maximum-size:5000}") localMaximumSize: Int,
+    @Value("\${cache.search-result.redis-ttl-seconds:300}") redisTtlSeconds: Long,
+    @Value("\${cache.search-result.version-ttl-millis:1000}") versionTtlMillis: Long
+) {
+    private val versions = twoTierCacheManager.createVersions("search-result", Duration.ofMillis(versionTtlMillis))
+
+    private val cache = twoTierCacheManager.create(
+        "search-result",
+        ProductListResponse::class.java,
+        Duration.ofSeconds(localTtlSeconds),
+        localMaximumSize,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+
+    private val v2Cache = twoTierCacheManager.create(
+        "search-result-v2",
+        ProductListV2Response::class.java,
+        Duration.ofSeconds(localTtlSeconds),
+        localMaximumSize,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+
+    fun get(condition: ProductSearchCondition, loader: Supplier<ProductListResponse>): ProductListResponse {
+        if (!enabled) {
+            return loader.get()
+        }
+        return cache.get(key(condition), loader)
+    }
+
+    fun getV2(
+        condition: ProductSearchCondition,
+        withFacets: Boolean,
+        loader: Supplier<ProductListV2Response>
+    ): ProductListV2Response {
+        if (!enabled) {
+            return loader.get()
+        }
+        return v2Cache.get(key(condition) + FACETS_KEY_SUFFIX + withFacets, loader)
+    }
+
+    fun evict(category: Category) {
+        versions.increment(category.name)
+    }
+
+    private fun key(condition: ProductSearchCondition): String {
+        return "v" + versions.current(condition.category.name) + ":" + condition.toCacheKey()
+    }
+
+    companion object {
+        private const val FACETS_KEY_SUFFIX = "|facets="
+    }
+}
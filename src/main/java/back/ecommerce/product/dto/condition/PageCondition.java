@@ -31,6 +31,14 @@ public class PageCondition {
 			PageConstant.DEFAULT_PAGE_SIZE));
 	}
 
+	public static PageCondition first() {
+		return new PageCondition(PageRequest.of(PageConstant.DEFAULT__PAGE, PageConstant.DEFAULT_PAGE_SIZE));
+	}
+
+	public static int totalPages(long totalCount) {
+		return Math.toIntExact((totalCount + PageConstant.DEFAULT_PAGE_SIZE - 1) / PageConstant.DEFAULT_PAGE_SIZE);
+	}
+
 	private static void validatePageNumber(String pageNumber) {
 		if (!StringUtils.hasText(pageNumber) || !pageNumber.matches(NUMBER_REGEX)
 			|| Integer.parseInt(pageNumber) <= INVALID_PAGE_NUMBER) {
@@ -0,0 +1,65 @@
+package back.ecommerce.product.dto.condition;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.util.StringUtils;
+
+import back.ecommerce.exception.CustomException;
+import back.ecommerce.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상세검색 keyset 페이징 위치.
+ * 정렬 조건에 따라 (created_date, id) 또는 (price, id) 를 마지막으로 조회된 상품 기준으로 가지고 있다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+	private static final String DELIMITER = "|";
+	private static final String DELIMITER_REGEX = "\\|";
+	private static final int TOKEN_COUNT = 3;
+
+	private final ProductSortCondition sortCondition;
+	private final Long price;
+	private final LocalDateTime createdDate;
+	private final Long id;
+
+	public static ProductCursor of(ProductSortCondition sortCondition, Long id, Long price,
+		LocalDateTime createdDate) {
+		if (ProductSortCondition.NEW.equals(sortCondition)) {
+			return new ProductCursor(sortCondition, null, createdDate, id);
+		}
+		return new ProductCursor(sortCondition, price, null, id);
+	}
+
+	public static ProductCursor decode(String value, ProductSortCondition sortCondition) {
+		if (!StringUtils.hasText(value)) {
+			return null;
+		}
+		try {
+			String[] tokens = new String(Base64.getUrlDecoder().decode(value), UTF_8).split(DELIMITER_REGEX);
+			if (tokens.length != TOKEN_COUNT || !sortCondition.name().equals(tokens[0])) {
+				throw new CustomException(ErrorCode.INVALID_CURSOR);
+			}
+			Long id = Long.parseLong(tokens[2]);
+			if (ProductSortCondition.NEW.equals(sortCondition)) {
+				return new ProductCursor(sortCondition, null, LocalDateTime.parse(tokens[1]), id);
+			}
+			return new ProductCursor(sortCondition, Long.parseLong(tokens[1]), null, id);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String sortValue = ProductSortCondition.NEW.equals(sortCondition) ? createdDate.toString() : price.toString();
+		String raw = sortCondition.name() + DELIMITER + sortValue + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,39 @@
+package back.ecommerce.product.dto.condition;
+
+import java.util.Map;
+
+import back.ecommerce.product.entity.Category;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class ProductCursorCondition {
+
+	private final ProductSearchCondition searchCondition;
+	private final ProductCursor cursor;
+
+	public boolean isFirstPage() {
+		return cursor == null;
+	}
+
+	public Category getCategory() {
+		return searchCondition.getCategory();
+	}
+
+	public ProductSortCondition getSortCondition() {
+		return searchCondition.getSortCondition();
+	}
+
+	public long getPageSize() {
+		return searchCondition.getPageSize();
+	}
+
+	public static ProductCursorCondition createWithCategoryAndAttributes(Category category,
+		Map<String, String> attributes) {
+		ProductSearchCondition searchCondition = ProductSearchCondition.createWithCategoryAndAttributes(category,
+			attributes, PageCondition.first());
+		return new ProductCursorCondition(searchCondition,
+			ProductCursor.decode(attributes.get("cursor"), searchCondition.getSortCondition()));
+	}
+}
@@ -3,14 +3,13 @@ package back.ecommerce.product.dto.condition;
 import java.util.Map;
 
 import back.ecommerce.product.entity.Category;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
-@Getter
 public class ProductSearchCondition {
 
 	private static final String NUMBER_REGEX = "\\d+";
+	private static final String CACHE_KEY_DELIMITER = "|";
 
 	private final Category category;
 	private final String name;
@@ -20,6 +19,34 @@ public class ProductSearchCondition {
 	private final ProductSortCondition sortCondition;
 	private final PageCondition pageCondition;
 
+	public Category getCategory() {
+		return category;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getBranName() {
+		return branName;
+	}
+
+	public Long getMinPrice() {
+		return minPrice;
+	}
+
+	public Long getMaxPrice() {
+		return MaxPrice;
+	}
+
+	public ProductSortCondition getSortCondition() {
+		return sortCondition;
+	}
+
+	public PageCondition getPageCondition() {
+		return pageCondition;
+	}
+
 	public long getOffset() {
 		return pageCondition.getOffset();
 	}
@@ -28,18 +55,57 @@ public class ProductSearchCondition {
 		return pageCondition.getPageSize();
 	}
 
+	/**
+	 * 같은 검색 결과를 가지는 조건이 같은 문자열이 되도록 정규화한 캐시 키.
+	 * 문자열 조건은 생성 시 앞뒤 공백을 제거해서 조회와 같은 값을 쓰고, 구분자를 포함할 수 있기 때문에 길이를 앞에 붙인다.
+	 */
+	public String toCacheKey() {
+		return String.join(CACHE_KEY_DELIMITER,
+			category.name(),
+			normalize(name),
+			normalize(branName),
+			minPrice == null ? "" : minPrice.toString(),
+			MaxPrice == null ? "" : MaxPrice.toString(),
+			sortCondition.name(),
+			String.valueOf(getOffset()),
+			String.valueOf(getPageSize())
+		);
+	}
+
+	private static String normalize(String value) {
+		String text = value == null ? "" : value;
+		return text.length() + ":" + text;
+	}
+
 	public static ProductSearchCondition createWithCategoryAndAttributes(Category category,
 		Map<String, String> attributes) {
+		return createWithCategoryAndAttributes(category, attributes,
+			PageCondition.create(attributes.getOrDefault("page", "")));
+	}
+
+	public static ProductSearchCondition createWithCategoryAndAttributes(Category category,
+		Map<String, String> attributes, PageCondition pageCondition) {
 		return new ProductSearchCondition(category,
-			attributes.getOrDefault("name", null),
-			attributes.getOrDefault("brandName", null),
+			getText(attributes, "name"),
+			getText(attributes, "brandName"),
 			getMinPrice(attributes),
 			getMaxPrice(attributes),
 			getSortCondition(attributes),
-			PageCondition.create(attributes.getOrDefault("page", ""))
+			pageCondition
 		);
 	}
 
+	/**
+	 * 앞뒤 공백을 제거하고, 빈 문자열은 조건 없음(null)으로 본다.
+	 */
+	private static String getText(Map<String, String> attributes, String key) {
+		String value = attributes.get(key);
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		return value.strip();
+	}
+
 	private static Long getMaxPrice(final Map<String, String> attributes) {
 		String maxPrice = attributes.get("maxPrice");
 		if (maxPrice == null || maxPrice.isEmpty() || !maxPrice.matches(NUMBER_REGEX)) {
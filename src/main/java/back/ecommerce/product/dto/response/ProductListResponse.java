@@ -2,12 +2,36 @@ package back.ecommerce.product.dto.response;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import back.ecommerce.product.dto.condition.PageCondition;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @AllArgsConstructor
+@NoArgsConstructor
 @Getter
 public class ProductListResponse {
 	private int totalCount;
 	private List<ProductDto> products;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long totalElements;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Integer totalPages;
+
+	public ProductListResponse(int totalCount, List<ProductDto> products) {
+		this(totalCount, products, null, null);
+	}
+
+	/**
+	 * totalCount 는 기존대로 현재 페이지의 상품 수이고, 전체 상품 수를 알 수 있으면 totalElements 와 totalPages 를 함께 담는다.
+	 */
+	public static ProductListResponse of(List<ProductDto> products, Long totalElements) {
+		if (totalElements == null) {
+			return new ProductListResponse(products.size(), products);
+		}
+		return new ProductListResponse(products.size(), products, totalElements,
+			PageCondition.totalPages(totalElements));
+	}
 }
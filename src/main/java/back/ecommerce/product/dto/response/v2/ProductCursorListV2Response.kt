@@ -0,0 +1,8 @@
+package back.ecommerce.product.dto.response.v2
+
+data class ProductCursorListV2Response(
+    val totalCount: Int,
+    val products: List<ProductV2Dto>,
+    val nextCursor: String?,
+    val hasNext: Boolean
+)
@@ -0,0 +1,17 @@
+package back.ecommerce.product.dto.response.v2
+
+data class ProductFacets(
+    val brands: List<BrandFacet>,
+    val prices: List<PriceFacet>
+)
+
+data class BrandFacet(
+    val brandName: String,
+    val count: Int
+)
+
+data class PriceFacet(
+    val minPrice: Long,
+    val maxPrice: Long?,
+    val count: Int
+)
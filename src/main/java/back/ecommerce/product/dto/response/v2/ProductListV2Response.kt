@@ -1,8 +1,31 @@
 package back.ecommerce.product.dto.response.v2
 
+import back.ecommerce.product.dto.condition.PageCondition
+import com.fasterxml.jackson.annotation.JsonInclude
+
 
 //thumbnail url 응답추가
 data class ProductListV2Response(
     val totalCount: Int,
-    val products: List<ProductV2Dto>
-)
+    val products: List<ProductV2Dto>,
+    @field:JsonInclude(JsonInclude.Include.NON_NULL)
+    val facets: ProductFacets? = null,
+    @field:JsonInclude(JsonInclude.Include.NON_NULL)
+    val totalElements: Long? = null,
+    @field:JsonInclude(JsonInclude.Include.NON_NULL)
+    val totalPages: Int? = null
+) {
+    companion object {
+        /**
+         * totalCount 는 기존대로 현재 페이지의 상품 수이고, 전체 상품 수를 알 수 있으면 totalElements 와 totalPages 를 함께 담는다.
+         */
+        fun of(products: List<ProductV2Dto>, totalElements: Long?, facets: ProductFacets? = null): ProductListV2Response {
+            if (totalElements == null) {
+                return ProductListV2Response(products.size, products, facets)
+            }
+            return ProductListV2Response(
+                products.size, products, facets, totalElements, PageCondition.totalPages(totalElements)
+            )
+        }
+    }
+}
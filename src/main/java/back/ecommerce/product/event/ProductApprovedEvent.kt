@@ -0,0 +1,25 @@
+package back.ecommerce.product.event
+
+import back.ecommerce.product.entity.Category
+import back.ecommerce.product.entity.Product
+import java.time.LocalDateTime
+
+data class ProductApprovedEvent(
+    val productId: Long,
+    val name: String,
+    val brandName: String,
+    val price: Long,
+    val category: Category,
+    val createdDate: LocalDateTime?
+) {
+    companion object {
+        fun from(product: Product) = ProductApprovedEvent(
+            product.id,
+            product.name,
+            product.brandName,
+            product.price,
+            product.category,
+            product.createdDate
+        )
+    }
+}
@@ -0,0 +1,11 @@
+package back.ecommerce.product.event
+
+import back.ecommerce.product.entity.Category
+
+/**
+ * 이미 등록된 상품의 정보(가격, 이미지 등)가 변경되거나 삭제될 때 발행한다.
+ */
+data class ProductChangedEvent(
+    val productId: Long,
+    val category: Category
+)
@@ -0,0 +1,8 @@
+package back.ecommerce.product.event
+
+/**
+ * 대량 승인으로 한 번에 등록된 상품들. 캐시 무효화는 카테고리별로 한 번만 일어난다.
+ */
+data class ProductsApprovedEvent(
+    val products: List<ProductApprovedEvent>
+)
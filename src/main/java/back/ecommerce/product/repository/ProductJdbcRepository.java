@@ -0,0 +1,73 @@
+package back.ecommerce.product.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import back.ecommerce.product.entity.Product;
+import back.ecommerce.product.entity.RequestProduct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PRODUCT 의 id 가 IDENTITY 라 Hibernate 는 insert 를 배치로 묶지 못한다.
+ * 대량 승인 시에는 JDBC 배치로 한 번에 넣고 생성된 키를 순서대로 돌려받는다.
+ * MySQL 은 rewriteBatchedStatements=true 일 때 멀티로우 insert 로 재작성된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+	private static final String INSERT_SQL = "insert into PRODUCT "
+		+ "(NAME, BRAND_NAME, PRICE, CATEGORY, CREATED_DATE, MODIFIED_DATE) values (?, ?, ?, ?, ?, ?)";
+	private static final String[] KEY_COLUMNS = {"ID"};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<Product> insertAll(List<RequestProduct> requestProducts, LocalDateTime createdDate) {
+		if (requestProducts.isEmpty()) {
+			return List.of();
+		}
+		Timestamp timestamp = Timestamp.valueOf(createdDate);
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, KEY_COLUMNS),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					RequestProduct requestProduct = requestProducts.get(i);
+					ps.setString(1, requestProduct.getName());
+					ps.setString(2, requestProduct.getBrandName());
+					ps.setLong(3, requestProduct.getPrice());
+					ps.setString(4, requestProduct.getCategory().name());
+					ps.setTimestamp(5, timestamp);
+					ps.setTimestamp(6, timestamp);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return requestProducts.size();
+				}
+			}, keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		List<Product> products = new ArrayList<>(requestProducts.size());
+		for (int i = 0; i < requestProducts.size(); i++) {
+			RequestProduct requestProduct = requestProducts.get(i);
+			Number id = (Number)keys.get(i).values().iterator().next();
+			Product product = new Product(id.longValue(), requestProduct.getName(), requestProduct.getBrandName(),
+				requestProduct.getPrice(), requestProduct.getCategory());
+			product.setCreatedDate(createdDate);
+			products.add(product);
+		}
+		return products;
+	}
+}
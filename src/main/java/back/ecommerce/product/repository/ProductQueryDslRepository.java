@@ -5,31 +5,58 @@ import static back.ecommerce.product.entity.QProduct.*;
 import static back.ecommerce.product.entity.QProductImages.*;
 import static com.querydsl.core.types.dsl.Expressions.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import back.ecommerce.product.dto.condition.ProductCursor;
+import back.ecommerce.product.dto.condition.ProductCursorCondition;
 import back.ecommerce.product.dto.condition.ProductSearchCondition;
 import back.ecommerce.product.dto.condition.ProductSortCondition;
 import back.ecommerce.product.dto.response.ProductDto;
+import back.ecommerce.product.dto.response.v2.ProductCursorListV2Response;
 import back.ecommerce.product.dto.response.v2.ProductDetailDto;
 import back.ecommerce.product.dto.response.v2.ProductV2Dto;
 import back.ecommerce.product.dto.response.v2.QProductV2Dto;
 import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.search.ColumnarProductCatalog;
+import back.ecommerce.product.search.NgramSearchResult;
+import back.ecommerce.product.search.ProductBrandCount;
+import back.ecommerce.product.search.ProductCountSnapshot;
+import back.ecommerce.product.search.ProductNgramIndex;
+import back.ecommerce.product.search.ProductPriceIndex;
+import back.ecommerce.product.search.ProductSearchDocument;
+import back.ecommerce.product.search.QProductBrandCount;
+import back.ecommerce.product.search.QProductSearchDocument;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Repository
 public class ProductQueryDslRepository {
 	private final JPAQueryFactory jpaQueryFactory;
+	private final ProductNgramIndex productNgramIndex;
+	private final ColumnarProductCatalog columnarProductCatalog;
+	private final ProductPriceIndex productPriceIndex;
 
 	public List<ProductDto> findByCategoryWithPaginationOrderByBrandNew(Category category, Pageable pageable) {
 		List<Long> ids = findIdsByCategoryOrderByBrandNew(category, pageable);
@@ -62,8 +89,8 @@ public class ProductQueryDslRepository {
 		if (ids.isEmpty()) {
 			return new ArrayList<>();
 		}
-		return findProductWithIdsAndOrderSpec(ids, productSearchCondition.getCategory(),
-			defineOrderBy(productSearchCondition.getSortCondition()));
+		return sortByIds(ids, findProductWithIdsAndOrderSpec(ids, productSearchCondition.getCategory(),
+			defineOrderBy(productSearchCondition.getSortCondition())), ProductDto::getId);
 	}
 
 	public List<ProductV2Dto> findBySearchConditionV2(ProductSearchCondition productSearchCondition) {
@@ -71,17 +98,36 @@ public class ProductQueryDslRepository {
 		if (ids.isEmpty()) {
 			return new ArrayList<>();
 		}
-		return findProductWithIdsAndOrderSpecV2(ids, productSearchCondition.getCategory(),
-			defineOrderBy(productSearchCondition.getSortCondition()));
+		return sortByIds(ids, findProductWithIdsAndOrderSpecV2(ids, productSearchCondition.getCategory(),
+			defineOrderBy(productSearchCondition.getSortCondition())), ProductV2Dto::getId);
 	}
 
 	private List<Long> findIdsBySearchCondition(ProductSearchCondition productSearchCondition) {
+		long[] priceOrderedIds = productPriceIndex.search(productSearchCondition);
+		if (priceOrderedIds != null) {
+			return toList(priceOrderedIds);
+		}
+		long[] catalogIds = columnarProductCatalog.search(productSearchCondition);
+		if (catalogIds != null) {
+			return toList(catalogIds);
+		}
+		NgramSearchResult textSearchResult = searchText(productSearchCondition);
+		if (textSearchResult.isEmptyMatch()) {
+			return new ArrayList<>();
+		}
+		if (textSearchResult.isOverflow()) {
+			return findKeysByCandidateChunks(productSearchCondition, textSearchResult,
+				productSearchCondition.getSortCondition(), null,
+				productSearchCondition.getOffset() + productSearchCondition.getPageSize()).stream()
+				.skip(productSearchCondition.getOffset())
+				.map(tuple -> tuple.get(product.id))
+				.collect(Collectors.toList());
+		}
 		OrderSpecifier<?> orderSpecifier = defineOrderBy(productSearchCondition.getSortCondition());
 		return jpaQueryFactory.select(product.id)
 			.from(product)
 			.where(
-				likeName(productSearchCondition.getName()),
-				likeBrandName(productSearchCondition.getBranName()),
+				matchText(productSearchCondition, textSearchResult),
 				eqCategory(productSearchCondition.getCategory()),
 				minPrice(productSearchCondition.getMinPrice()),
 				maxPrice(productSearchCondition.getMaxPrice())
@@ -92,6 +138,106 @@ public class ProductQueryDslRepository {
 			.fetch();
 	}
 
+	public ProductCursorListV2Response findBySearchConditionWithCursorV2(ProductCursorCondition cursorCondition) {
+		ProductSearchCondition searchCondition = cursorCondition.getSearchCondition();
+		NgramSearchResult textSearchResult = searchText(searchCondition);
+		if (textSearchResult.isEmptyMatch()) {
+			return new ProductCursorListV2Response(0, new ArrayList<>(), null, false);
+		}
+		OrderSpecifier<?>[] orderSpecifiers = defineSeekOrderBy(cursorCondition.getSortCondition());
+		List<Tuple> keys = textSearchResult.isOverflow()
+			? findKeysByCandidateChunks(searchCondition, textSearchResult, cursorCondition.getSortCondition(),
+			cursorCondition.getCursor(), cursorCondition.getPageSize() + 1)
+			: jpaQueryFactory.select(product.id, product.price, product.createdDate)
+			.from(product)
+			.where(
+				matchText(searchCondition, textSearchResult),
+				eqCategory(searchCondition.getCategory()),
+				minPrice(searchCondition.getMinPrice()),
+				maxPrice(searchCondition.getMaxPrice()),
+				afterCursor(cursorCondition.getCursor())
+			)
+			.orderBy(orderSpecifiers)
+			.limit(cursorCondition.getPageSize() + 1)
+			.fetch();
+
+		boolean hasNext = keys.size() > cursorCondition.getPageSize();
+		List<Tuple> page = hasNext ? keys.subList(0, (int)cursorCondition.getPageSize()) : keys;
+		if (page.isEmpty()) {
+			return new ProductCursorListV2Response(0, new ArrayList<>(), null, false);
+		}
+
+		List<Long> ids = page.stream()
+			.map(tuple -> tuple.get(product.id))
+			.collect(Collectors.toList());
+		List<ProductV2Dto> products = findProductWithIdsAndOrderSpecV2(ids, searchCondition.getCategory(),
+			orderSpecifiers);
+		return new ProductCursorListV2Response(products.size(), products,
+			hasNext ? nextCursor(cursorCondition.getSortCondition(), page.get(page.size() - 1)) : null, hasNext);
+	}
+
+	public List<ProductSearchDocument> findSearchDocumentsAfter(Long lastId, long size) {
+		return jpaQueryFactory.select(
+				new QProductSearchDocument(product.id, product.name, product.brandName, product.price,
+					product.category, product.createdDate))
+			.from(product)
+			.where(product.id.gt(lastId))
+			.orderBy(product.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	public long findMaxId() {
+		Long maxId = jpaQueryFactory.select(product.id.max())
+			.from(product)
+			.fetchOne();
+		return maxId == null ? 0L : maxId;
+	}
+
+	public List<ProductBrandCount> findBrandCountsUntil(long maxId) {
+		return jpaQueryFactory.select(new QProductBrandCount(product.category, product.brandName, product.count()))
+			.from(product)
+			.where(product.id.loe(maxId))
+			.groupBy(product.category, product.brandName)
+			.fetch();
+	}
+
+	/**
+	 * maxId, 브랜드별 수, 집계된 id 목록을 한 REPEATABLE READ 트랜잭션에서 읽어서 모두 같은 스냅샷을 보게 한다.
+	 * 집계 이후 커밋된 상품은 id 가 maxId 이하여도 countedIds 에 없으므로 승인 이벤트로 더할 수 있다.
+	 */
+	@Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+	public ProductCountSnapshot findCountSnapshot(long batchSize) {
+		long maxId = findMaxId();
+		List<ProductBrandCount> brandCounts = findBrandCountsUntil(maxId);
+		BitSet countedIds = new BitSet();
+		List<Long> ids = findIdsBetween(0L, maxId, batchSize);
+		while (!ids.isEmpty()) {
+			ids.forEach(id -> countedIds.set(Math.toIntExact(id)));
+			ids = findIdsBetween(ids.get(ids.size() - 1), maxId, batchSize);
+		}
+		return new ProductCountSnapshot(maxId, brandCounts, countedIds);
+	}
+
+	private List<Long> findIdsBetween(long lastId, long maxId, long size) {
+		return jpaQueryFactory.select(product.id)
+			.from(product)
+			.where(product.id.gt(lastId), product.id.loe(maxId))
+			.orderBy(product.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	public Map<Long, String> findThumbnailUrls(Collection<Long> productIds) {
+		return jpaQueryFactory.select(productImages.productId, productImages.thumbnailUrl)
+			.from(productImages)
+			.where(productImages.productId.in(productIds))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(tuple -> tuple.get(productImages.productId),
+				tuple -> tuple.get(productImages.thumbnailUrl), (first, second) -> first));
+	}
+
 	public ProductDetailDto findByIdJoinImages(Long id) {
 		return jpaQueryFactory.select(
 				Projections.fields(ProductDetailDto.class,
@@ -123,6 +269,70 @@ public class ProductQueryDslRepository {
 		return product.price.loe(price);
 	}
 
+	private NgramSearchResult searchText(ProductSearchCondition condition) {
+		if (!StringUtils.hasText(condition.getName()) && !StringUtils.hasText(condition.getBranName())) {
+			return NgramSearchResult.Companion.disabled();
+		}
+		return productNgramIndex.search(condition.getCategory(), condition.getName(), condition.getBranName());
+	}
+
+	/**
+	 * 색인을 쓸 수 없으면 기존 전방일치로 검색하고, 색인 후보가 있으면 id IN 과 함께 실제 포함 여부를 다시 확인한다.
+	 */
+	private BooleanExpression matchText(ProductSearchCondition condition, NgramSearchResult textSearchResult) {
+		if (textSearchResult.isDisabled()) {
+			return allOf(likeName(condition.getName()), likeBrandName(condition.getBranName()));
+		}
+		return matchCandidates(condition, textSearchResult.getProductIds());
+	}
+
+	private BooleanExpression matchCandidates(ProductSearchCondition condition, Collection<Long> candidateIds) {
+		return product.id.in(candidateIds)
+			.and(allOf(containsName(condition.getName()), containsBrandName(condition.getBranName())));
+	}
+
+	/**
+	 * 후보가 maxCandidates 를 넘으면 후보를 나눠서 청크마다 정렬 순서대로 limit 개를 조회하고 합친 뒤 다시 limit 개를 고른다.
+	 * 전체 상위 limit 개는 반드시 어느 청크의 상위 limit 개 안에 있으므로 전체 스캔 없이 같은 결과가 나온다.
+	 */
+	private List<Tuple> findKeysByCandidateChunks(ProductSearchCondition condition,
+		NgramSearchResult textSearchResult, ProductSortCondition sortCondition, ProductCursor cursor, long limit) {
+		OrderSpecifier<?>[] orderSpecifiers = defineSeekOrderBy(sortCondition);
+		List<Tuple> keys = new ArrayList<>();
+		for (List<Long> chunk : textSearchResult.chunked(productNgramIndex.getMaxCandidates())) {
+			keys.addAll(jpaQueryFactory.select(product.id, product.price, product.createdDate)
+				.from(product)
+				.where(
+					matchCandidates(condition, chunk),
+					eqCategory(condition.getCategory()),
+					minPrice(condition.getMinPrice()),
+					maxPrice(condition.getMaxPrice()),
+					afterCursor(cursor)
+				)
+				.orderBy(orderSpecifiers)
+				.limit(limit)
+				.fetch());
+		}
+		return keys.stream()
+			.sorted(defineSeekComparator(sortCondition))
+			.limit(limit)
+			.collect(Collectors.toList());
+	}
+
+	private BooleanExpression containsName(String name) {
+		if (!StringUtils.hasText(name)) {
+			return null;
+		}
+		return product.name.contains(name);
+	}
+
+	private BooleanExpression containsBrandName(String brandName) {
+		if (!StringUtils.hasText(brandName)) {
+			return null;
+		}
+		return product.brandName.contains(brandName);
+	}
+
 	private BooleanExpression likeName(String name) {
 		if (!StringUtils.hasText(name)) {
 			return null;
@@ -147,6 +357,66 @@ public class ProductQueryDslRepository {
 		return product.createdDate.desc();
 	}
 
+	private BooleanExpression afterCursor(ProductCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		if (PRICE_HIGH.equals(cursor.getSortCondition())) {
+			return product.price.lt(cursor.getPrice())
+				.or(product.price.eq(cursor.getPrice()).and(product.id.lt(cursor.getId())));
+		}
+		if (PRICE_LOW.equals(cursor.getSortCondition())) {
+			return product.price.gt(cursor.getPrice())
+				.or(product.price.eq(cursor.getPrice()).and(product.id.gt(cursor.getId())));
+		}
+		return product.createdDate.lt(cursor.getCreatedDate())
+			.or(product.createdDate.eq(cursor.getCreatedDate()).and(product.id.lt(cursor.getId())));
+	}
+
+	private OrderSpecifier<?>[] defineSeekOrderBy(ProductSortCondition sortCondition) {
+		if (PRICE_HIGH.equals(sortCondition)) {
+			return new OrderSpecifier<?>[] {product.price.desc(), product.id.desc()};
+		}
+		if (PRICE_LOW.equals(sortCondition)) {
+			return new OrderSpecifier<?>[] {product.price.asc(), product.id.asc()};
+		}
+		return new OrderSpecifier<?>[] {product.createdDate.desc(), product.id.desc()};
+	}
+
+	private Comparator<Tuple> defineSeekComparator(ProductSortCondition sortCondition) {
+		Comparator<Tuple> byId = Comparator.comparing(tuple -> tuple.get(product.id));
+		if (PRICE_HIGH.equals(sortCondition)) {
+			return Comparator.<Tuple, Long>comparing(tuple -> tuple.get(product.price)).thenComparing(byId).reversed();
+		}
+		if (PRICE_LOW.equals(sortCondition)) {
+			return Comparator.<Tuple, Long>comparing(tuple -> tuple.get(product.price)).thenComparing(byId);
+		}
+		return Comparator.<Tuple, LocalDateTime>comparing(tuple -> tuple.get(product.createdDate))
+			.thenComparing(byId)
+			.reversed();
+	}
+
+	private String nextCursor(ProductSortCondition sortCondition, Tuple last) {
+		return ProductCursor.of(sortCondition, last.get(product.id), last.get(product.price),
+			last.get(product.createdDate)).encode();
+	}
+
+	private List<Long> toList(long[] ids) {
+		return Arrays.stream(ids).boxed().collect(Collectors.toList());
+	}
+
+	/**
+	 * 조인 결과로 같은 상품이 여러 줄 올 수 있어서 첫 줄만 사용한다.
+	 */
+	private <T> List<T> sortByIds(List<Long> ids, List<T> rows, Function<T, Long> idMapper) {
+		Map<Long, T> rowById = rows.stream()
+			.collect(Collectors.toMap(idMapper, Function.identity(), (first, duplicate) -> first));
+		return ids.stream()
+			.map(rowById::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
 	private List<ProductDto> findProductWithIdsAndOrderSpec(List<Long> ids, Category category,
 		OrderSpecifier<?> orderSpecifier) {
 		return jpaQueryFactory.select(
@@ -161,15 +431,14 @@ public class ProductQueryDslRepository {
 	}
 
 	private List<ProductV2Dto> findProductWithIdsAndOrderSpecV2(List<Long> ids, Category category,
-		OrderSpecifier<?> orderSpecifier) {
+		OrderSpecifier<?>... orderSpecifiers) {
 		return jpaQueryFactory.select(
 				new QProductV2Dto(product.id,
 					product.name, product.brandName, product.price, asEnum(category).as(product.category),
 					asString("").as("thumbnailUrl")))
 			.from(product)
-			.leftJoin(productImages).on(product.id.eq(productImages.productId))
 			.where(product.id.in(ids))
-			.orderBy(orderSpecifier)
+			.orderBy(orderSpecifiers)
 			.fetch();
 	}
 }
@@ -1,13 +1,31 @@
 package back.ecommerce.product.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import back.ecommerce.product.entity.ApprovalStatus;
 import back.ecommerce.product.entity.RequestProduct;
+import jakarta.persistence.LockModeType;
 
 public interface RequestProductRepository extends JpaRepository<RequestProduct, Long> {
 
 	List<RequestProduct> findByApprovalStatus(ApprovalStatus status);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from RequestProduct r where r.id in :ids and r.approvalStatus = :status order by r.id")
+	List<RequestProduct> findForUpdateByIdInAndApprovalStatus(@Param("ids") Collection<Long> ids,
+		@Param("status") ApprovalStatus status);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update RequestProduct r set r.approvalStatus = :target, r.modifiedDate = :modifiedDate "
+		+ "where r.id in :ids and r.approvalStatus = :current")
+	int updateApprovalStatus(@Param("ids") Collection<Long> ids, @Param("current") ApprovalStatus current,
+		@Param("target") ApprovalStatus target, @Param("modifiedDate") LocalDateTime modifiedDate);
 }
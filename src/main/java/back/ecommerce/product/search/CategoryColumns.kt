@@ -0,0 +1,109 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.dto.condition.ProductSortCondition
+import java.time.LocalDateTime
+import java.time.ZoneOffset
+import java.util.concurrent.locks.ReentrantReadWriteLock
+import kotlin.concurrent.read
+import kotlin.concurrent.write
+
+/**
+ * 카테고리 하나의 상품을 컬럼 단위 배열로 보관한다.
+ * 필터 컬럼(가격, 등록일, 브랜드 번호)은 primitive 배열이고 브랜드는 사전 인코딩되어 브랜드 조건은 사전에서 한 번만 평가된다.
+ * 정렬은 offset + limit 크기의 힙으로 상위 행만 유지한다.
+ */
+class CategoryColumns {
+    private val lock = ReentrantReadWriteLock()
+
+    private var ids = LongArray(INITIAL_CAPACITY)
+    private var prices = LongArray(INITIAL_CAPACITY)
+    private var createdAts = LongArray(INITIAL_CAPACITY)
+    private var brandIds = IntArray(INITIAL_CAPACITY)
+    private var names = arrayOfNulls<String>(INITIAL_CAPACITY)
+    private var size = 0
+
+    private val brandDictionary = HashMap<String, Int>()
+    private val brandNames = ArrayList<String>()
+
+    fun add(document: ProductSearchDocument) = lock.write {
+        if (size == ids.size) {
+            grow()
+        }
+        ids[size] = document.id
+        prices[size] = document.price
+        createdAts[size] = toEpochNanos(document.createdDate)
+        brandIds[size] = brandDictionary.getOrPut(document.brandName) {
+            brandNames.add(document.brandName)
+            brandNames.size - 1
+        }
+        names[size] = document.name
+        size++
+    }
+
+    /**
+     * @return 조건을 만족하는 상품 중 정렬 순서로 [offset, offset + limit) 구간의 id
+     */
+    fun search(query: ColumnarQuery): LongArray = lock.read {
+        val brandMask = brandMask(query)
+        val top = TopRows(query.offset + query.limit) { a, b -> compare(a, b, query.sortCondition) }
+        for (row in 0 until size) {
+            if (matches(row, query, brandMask)) {
+                top.offer(row)
+            }
+        }
+        val rows = top.sortedRows()
+        if (rows.size <= query.offset) {
+            return LongArray(0)
+        }
+        LongArray(rows.size - query.offset) { ids[rows[query.offset + it]] }
+    }
+
+    fun size() = lock.read { size }
+
+    private fun matches(row: Int, query: ColumnarQuery, brandMask: BooleanArray?): Boolean {
+        if (query.minPrice != null && prices[row] < query.minPrice) {
+            return false
+        }
+        if (query.maxPrice != null && prices[row] > query.maxPrice) {
+            return false
+        }
+        if (brandMask != null && !brandMask[brandIds[row]]) {
+            return false
+        }
+        return query.name.isNullOrBlank() || query.matchText(names[row]!!, query.name)
+    }
+
+    private fun brandMask(query: ColumnarQuery): BooleanArray? {
+        if (query.brandName.isNullOrBlank()) {
+            return null
+        }
+        return BooleanArray(brandNames.size) { query.matchText(brandNames[it], query.brandName) }
+    }
+
+    private fun compare(a: Int, b: Int, sortCondition: ProductSortCondition): Int {
+        return when (sortCondition) {
+            ProductSortCondition.PRICE_LOW -> prices[a].compareTo(prices[b]).ifZero { ids[a].compareTo(ids[b]) }
+            ProductSortCondition.PRICE_HIGH -> prices[b].compareTo(prices[a]).ifZero { ids[b].compareTo(ids[a]) }
+            ProductSortCondition.NEW -> createdAts[b].compareTo(createdAts[a]).ifZero { ids[b].compareTo(ids[a]) }
+        }
+    }
+
+    private fun grow() {
+        val capacity = ids.size * 2
+        ids = ids.copyOf(capacity)
+        prices = prices.copyOf(capacity)
+        createdAts = createdAts.copyOf(capacity)
+        brandIds = brandIds.copyOf(capacity)
+        names = names.copyOf(capacity)
+    }
+
+    private inline fun Int.ifZero(next: () -> Int) = if (this == 0) next() else this
+
+    private fun toEpochNanos(dateTime: LocalDateTime) =
+        dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.nano
+
+    companion object {
+        private const val INITIAL_CAPACITY = 64
+        private const val NANOS_PER_SECOND = 1_000_000_000L
+    }
+}
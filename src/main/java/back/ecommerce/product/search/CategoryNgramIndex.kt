@@ -0,0 +1,122 @@
+package back.ecommerce.product.search
+
+import java.util.Locale
+import java.util.concurrent.locks.ReentrantReadWriteLock
+import kotlin.concurrent.read
+import kotlin.concurrent.write
+
+/**
+ * 카테고리 하나에 대한 bigram 역색인.
+ * 상품명은 bigram -> 문서 번호, 브랜드는 중복이 많기 때문에 bigram -> 브랜드 번호 -> 문서 번호 로 색인한다.
+ * 한 글자 검색어는 bigram 을 만들 수 없으므로 글자 -> 번호 unigram 색인을 따로 둔다.
+ * bigram 교집합은 후보일 뿐이므로 실제 포함 여부는 DB 에서 id IN 조건과 함께 다시 확인한다.
+ */
+class CategoryNgramIndex {
+    private val lock = ReentrantReadWriteLock()
+
+    private var productIds = LongArray(INITIAL_CAPACITY)
+    private var size = 0
+    private val nameGrams = HashMap<Int, IntPostingList>()
+    private val nameChars = HashMap<Int, IntPostingList>()
+
+    private val brandIds = HashMap<String, Int>()
+    private val brandNames = ArrayList<String>()
+    private val brandGrams = HashMap<Int, IntPostingList>()
+    private val brandChars = HashMap<Int, IntPostingList>()
+    private val brandDocuments = ArrayList<IntPostingList>()
+
+    fun add(productId: Long, name: String, brandName: String) = lock.write {
+        val ordinal = size++
+        if (ordinal == productIds.size) {
+            productIds = productIds.copyOf(ordinal * 2)
+        }
+        productIds[ordinal] = productId
+
+        val normalizedName = normalize(name)
+        bigrams(normalizedName).forEach { nameGrams.getOrPut(it) { IntPostingList() }.add(ordinal) }
+        unigrams(normalizedName).forEach { nameChars.getOrPut(it) { IntPostingList() }.add(ordinal) }
+        val brand = normalize(brandName)
+        val brandId = brandIds.getOrPut(brand) { registerBrand(brand) }
+        brandDocuments[brandId].add(ordinal)
+    }
+
+    /**
+     * @return 후보 상품 id 목록, 상품명과 브랜드명이 모두 비어 있으면 null
+     */
+    fun search(name: String?, brandName: String?): LongArray? = lock.read {
+        var candidates: IntArray? = null
+        if (!name.isNullOrBlank()) {
+            candidates = intersectGrams(nameGrams, nameChars, normalize(name))
+        }
+        if (!brandName.isNullOrBlank()) {
+            val brandCandidates = findBrandDocuments(normalize(brandName))
+            candidates = candidates?.let { IntPostingList.intersect(it, brandCandidates) } ?: brandCandidates
+        }
+        val ordinals = candidates ?: return null
+        LongArray(ordinals.size) { productIds[ordinals[it]] }
+    }
+
+    fun size() = lock.read { size }
+
+    private fun registerBrand(brand: String): Int {
+        val brandId = brandNames.size
+        brandNames.add(brand)
+        brandDocuments.add(IntPostingList())
+        bigrams(brand).forEach { brandGrams.getOrPut(it) { IntPostingList() }.add(brandId) }
+        unigrams(brand).forEach { brandChars.getOrPut(it) { IntPostingList() }.add(brandId) }
+        return brandId
+    }
+
+    private fun findBrandDocuments(brand: String): IntArray {
+        val brandCandidates = intersectGrams(brandGrams, brandChars, brand)
+        val documents = brandCandidates.filter { brandNames[it].contains(brand) }
+            .map { brandDocuments[it] }
+        val merged = IntArray(documents.sumOf { it.size })
+        var offset = 0
+        documents.forEach {
+            System.arraycopy(it.toArray(), 0, merged, offset, it.size)
+            offset += it.size
+        }
+        merged.sort()
+        return merged
+    }
+
+    private fun intersectGrams(
+        postings: Map<Int, IntPostingList>,
+        charPostings: Map<Int, IntPostingList>,
+        query: String
+    ): IntArray {
+        if (query.length < 2) {
+            return charPostings[query[0].code]?.toArray() ?: IntArray(0)
+        }
+        val lists = bigrams(query).map { postings[it] ?: return IntArray(0) }
+            .sortedBy { it.size }
+        var result = lists[0].toArray()
+        for (i in 1 until lists.size) {
+            if (result.isEmpty()) {
+                break
+            }
+            result = IntPostingList.intersect(result, lists[i])
+        }
+        return result
+    }
+
+    companion object {
+        private const val INITIAL_CAPACITY = 1024
+
+        fun normalize(value: String) = value.trim().lowercase(Locale.ROOT)
+
+        fun bigrams(value: String): Set<Int> {
+            if (value.length < 2) {
+                return emptySet()
+            }
+            val grams = LinkedHashSet<Int>(value.length)
+            for (i in 0 until value.length - 1) {
+                grams.add((value[i].code shl 16) or value[i + 1].code)
+            }
+            return grams
+        }
+
+        fun unigrams(value: String): Set<Int> = value.mapTo(LinkedHashSet(value.length)) { it.code }
+    }
+}
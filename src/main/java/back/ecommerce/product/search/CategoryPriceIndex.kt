@@ -0,0 +1,162 @@
+package back.ecommerce.product.search
+
+import java.util.concurrent.locks.ReentrantReadWriteLock
+import kotlin.concurrent.read
+import kotlin.concurrent.write
+
+/**
+ * 카테고리 하나의 (price, id) 쌍을 오름차순으로 유지하는 배열.
+ * 가격 범위의 양 끝을 이진탐색으로 찾은 뒤 offset 위치로 바로 이동하기 때문에 페이지 조회는 O(log n + pageSize) 이다.
+ * 가격 내림차순은 같은 배열을 뒤에서부터 읽어 (price desc, id desc) 순서가 된다.
+ * 시작 시 적재 중에는 뒤에 붙이기만 하고 sort() 에서 한 번 정렬한다. 이후 승인되는 상품은 정렬 위치에 끼워 넣는다.
+ */
+class CategoryPriceIndex {
+    private val lock = ReentrantReadWriteLock()
+
+    private var prices = LongArray(INITIAL_CAPACITY)
+    private var ids = LongArray(INITIAL_CAPACITY)
+    private var size = 0
+    private var sorted = false
+
+    fun add(price: Long, id: Long) = lock.write {
+        if (size == prices.size) {
+            prices = prices.copyOf(size * 2)
+            ids = ids.copyOf(size * 2)
+        }
+        val index = if (sorted) insertionPoint(price, id) else size
+        System.arraycopy(prices, index, prices, index + 1, size - index)
+        System.arraycopy(ids, index, ids, index + 1, size - index)
+        prices[index] = price
+        ids[index] = id
+        size++
+    }
+
+    /**
+     * @return [minPrice, maxPrice] 범위 상품을 가격순으로 정렬했을 때 [offset, offset + limit) 구간의 id
+     */
+    fun search(minPrice: Long?, maxPrice: Long?, descending: Boolean, offset: Long, limit: Long): LongArray =
+        lock.read {
+            val from = if (minPrice == null) 0 else lowerBound(minPrice)
+            val to = if (maxPrice == null) size else upperBound(maxPrice)
+            val count = (to - from - offset).coerceIn(0, limit).toInt()
+            if (descending) {
+                LongArray(count) { ids[(to - 1 - offset - it).toInt()] }
+            } else {
+                LongArray(count) { ids[(from + offset + it).toInt()] }
+            }
+        }
+
+    fun size() = lock.read { size }
+
+    /**
+     * 적재한 (price, id) 를 한 번에 정렬한다. 이후의 add 는 정렬 위치에 삽입한다.
+     * 두 배열을 함께 제자리에서 퀵정렬해서 박싱이나 순서 배열 할당이 없다.
+     */
+    fun sort() = lock.write {
+        if (sorted) {
+            return@write
+        }
+        quickSort(0, size - 1)
+        sorted = true
+    }
+
+    /**
+     * 작은 쪽 구간만 재귀하고 큰 쪽은 반복해서 스택 깊이를 O(log n) 으로 유지한다.
+     * id 가 유일해서 (price, id) 가 같은 원소는 없다.
+     */
+    private fun quickSort(from: Int, to: Int) {
+        var low = from
+        var high = to
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            val pivot = partition(low, high)
+            if (pivot - low < high - pivot) {
+                quickSort(low, pivot - 1)
+                low = pivot + 1
+            } else {
+                quickSort(pivot + 1, high)
+                high = pivot - 1
+            }
+        }
+        insertionSort(low, high)
+    }
+
+    /**
+     * 중앙값을 피벗으로 써서 이미 정렬된 채로 적재된 경우에도 O(n log n) 을 유지한다.
+     */
+    private fun partition(low: Int, high: Int): Int {
+        val mid = (low + high) ushr 1
+        if (less(mid, low)) swap(mid, low)
+        if (less(high, low)) swap(high, low)
+        if (less(high, mid)) swap(high, mid)
+        swap(mid, high)
+        var store = low
+        for (i in low until high) {
+            if (less(i, high)) {
+                swap(i, store++)
+            }
+        }
+        swap(store, high)
+        return store
+    }
+
+    private fun insertionSort(low: Int, high: Int) {
+        for (i in low + 1..high) {
+            val price = prices[i]
+            val id = ids[i]
+            var j = i - 1
+            while (j >= low && (prices[j] > price || (prices[j] == price && ids[j] > id))) {
+                prices[j + 1] = prices[j]
+                ids[j + 1] = ids[j]
+                j--
+            }
+            prices[j + 1] = price
+            ids[j + 1] = id
+        }
+    }
+
+    private fun less(i: Int, j: Int) = prices[i] < prices[j] || (prices[i] == prices[j] && ids[i] < ids[j])
+
+    private fun swap(i: Int, j: Int) {
+        val price = prices[i]
+        prices[i] = prices[j]
+        prices[j] = price
+        val id = ids[i]
+        ids[i] = ids[j]
+        ids[j] = id
+    }
+
+    private fun insertionPoint(price: Long, id: Long): Int {
+        var low = 0
+        var high = size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (prices[mid] < price || (prices[mid] == price && ids[mid] < id)) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    private fun lowerBound(price: Long): Int {
+        var low = 0
+        var high = size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (prices[mid] < price) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    private fun upperBound(price: Long): Int {
+        var low = 0
+        var high = size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (prices[mid] <= price) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    companion object {
+        private const val INITIAL_CAPACITY = 64
+        private const val INSERTION_SORT_THRESHOLD = 16
+    }
+}
@@ -0,0 +1,63 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.dto.condition.ProductSearchCondition
+import back.ecommerce.product.entity.Category
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.util.EnumMap
+
+/**
+ * 상세검색 조건 평가와 정렬을 메모리에서 처리하는 컬럼 색인.
+ * search.engine 이 columnar 이고 적재가 끝난 경우에만 사용되며, 그 외에는 null 을 반환해 QueryDSL 조회를 사용하게 한다.
+ * offset + pageSize 가 max-window 를 넘는 깊은 페이지도 힙이 커지기 때문에 QueryDSL 조회를 사용한다.
+ */
+@Component
+class ColumnarProductCatalog(
+    @Value("\${search.engine:querydsl}") engine: String,
+    @Value("\${search.columnar.max-window:10000}") private val maxWindow: Long,
+    @Value("\${search.ngram.enabled:false}") private val infixMatch: Boolean
+) : ProductDocumentIndex {
+    override val enabled = COLUMNAR_ENGINE.equals(engine, ignoreCase = true)
+
+    private val columns = EnumMap<Category, CategoryColumns>(Category::class.java).apply {
+        Category.values().forEach { put(it, CategoryColumns()) }
+    }
+
+    @Volatile
+    var ready = false
+        private set
+
+    /**
+     * @return 정렬된 현재 페이지의 상품 id, 사용할 수 없으면 null
+     */
+    fun search(condition: ProductSearchCondition): LongArray? {
+        if (!enabled || !ready || condition.offset + condition.pageSize > maxWindow) {
+            return null
+        }
+        val query = ColumnarQuery(
+            condition.name,
+            condition.branName,
+            condition.minPrice,
+            condition.maxPrice,
+            condition.sortCondition,
+            condition.offset.toInt(),
+            condition.pageSize.toInt(),
+            infixMatch
+        )
+        return columns.getValue(condition.category).search(query)
+    }
+
+    override fun add(document: ProductSearchDocument) {
+        columns.getValue(document.category).add(document)
+    }
+
+    override fun markReady() {
+        ready = true
+    }
+
+    fun size(category: Category) = columns.getValue(category).size()
+
+    companion object {
+        private const val COLUMNAR_ENGINE = "columnar"
+    }
+}
@@ -0,0 +1,24 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.dto.condition.ProductSortCondition
+
+/**
+ * 컬럼 색인 조회 조건. 문자열 조건은 DB 경로와 같이 대소문자를 구분하지 않고 전방일치, infix 가 true 면 중간일치로 비교한다.
+ */
+data class ColumnarQuery(
+    val name: String?,
+    val brandName: String?,
+    val minPrice: Long?,
+    val maxPrice: Long?,
+    val sortCondition: ProductSortCondition,
+    val offset: Int,
+    val limit: Int,
+    val infix: Boolean
+) {
+    fun matchText(value: String, condition: String): Boolean {
+        if (infix) {
+            return value.contains(condition, ignoreCase = true)
+        }
+        return value.startsWith(condition, ignoreCase = true)
+    }
+}
@@ -0,0 +1,68 @@
+package back.ecommerce.product.search
+
+/**
+ * 오름차순으로만 추가되는 int 포스팅 리스트. 박싱 없이 IntArray 로 저장한다.
+ */
+class IntPostingList {
+    private var values = IntArray(INITIAL_CAPACITY)
+    var size = 0
+        private set
+
+    fun add(value: Int) {
+        if (size > 0 && values[size - 1] == value) {
+            return
+        }
+        if (size == values.size) {
+            values = values.copyOf(size * 2)
+        }
+        values[size++] = value
+    }
+
+    operator fun get(index: Int) = values[index]
+
+    fun toArray(): IntArray = values.copyOf(size)
+
+    companion object {
+        private const val INITIAL_CAPACITY = 4
+
+        fun intersect(sorted: IntArray, postings: IntPostingList): IntArray {
+            val result = IntArray(minOf(sorted.size, postings.size))
+            var i = 0
+            var j = 0
+            var count = 0
+            while (i < sorted.size && j < postings.size) {
+                val left = sorted[i]
+                val right = postings[j]
+                when {
+                    left == right -> {
+                        result[count++] = left
+                        i++
+                        j++
+                    }
+                    left < right -> i++
+                    else -> j++
+                }
+            }
+            return result.copyOf(count)
+        }
+
+        fun intersect(left: IntArray, right: IntArray): IntArray {
+            val result = IntArray(minOf(left.size, right.size))
+            var i = 0
+            var j = 0
+            var count = 0
+            while (i < left.size && j < right.size) {
+                when {
+                    left[i] == right[j] -> {
+                        result[count++] = left[i]
+                        i++
+                        j++
+                    }
+                    left[i] < right[j] -> i++
+                    else -> j++
+                }
+            }
+            return result.copyOf(count)
+        }
+    }
+}
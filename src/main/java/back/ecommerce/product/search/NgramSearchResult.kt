@@ -0,0 +1,31 @@
+package back.ecommerce.product.search
+
+class NgramSearchResult private constructor(
+    val status: Status,
+    val productIds: List<Long>
+) {
+    fun isDisabled() = status == Status.DISABLED
+
+    fun isOverflow() = status == Status.OVERFLOW
+
+    /**
+     * 후보를 id IN 조건 하나에 넣을 수 있는 크기로 나눈다.
+     */
+    fun chunked(size: Int): List<List<Long>> = productIds.chunked(size)
+
+    fun isEmptyMatch() = status == Status.MATCHED && productIds.isEmpty()
+
+    enum class Status {
+        DISABLED, OVERFLOW, MATCHED
+    }
+
+    companion object {
+        private val DISABLED = NgramSearchResult(Status.DISABLED, emptyList())
+
+        fun disabled() = DISABLED
+
+        fun overflow(productIds: LongArray) = NgramSearchResult(Status.OVERFLOW, productIds.toList())
+
+        fun matched(productIds: LongArray) = NgramSearchResult(Status.MATCHED, productIds.toList())
+    }
+}
@@ -0,0 +1,10 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.entity.Category
+import com.querydsl.core.annotations.QueryProjection
+
+data class ProductBrandCount @QueryProjection constructor(
+    val category: Category,
+    val brandName: String,
+    val count: Long
+)
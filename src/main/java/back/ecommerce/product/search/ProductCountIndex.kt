@@ -0,0 +1,167 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.common.logging.GlobalLogger
+import back.ecommerce.product.dto.condition.ProductSearchCondition
+import back.ecommerce.product.entity.Category
+import back.ecommerce.product.event.ProductApprovedEvent
+import back.ecommerce.product.event.ProductsApprovedEvent
+import back.ecommerce.product.repository.ProductQueryDslRepository
+import org.slf4j.event.Level
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
+import java.util.BitSet
+import java.util.EnumMap
+import java.util.Locale
+import java.util.concurrent.ConcurrentSkipListMap
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 카테고리별, 카테고리 + 브랜드별 상품 수. 시작 시 GROUP BY 한 번으로 채우고 이후에는 상품 승인 이벤트로 증가시킨다.
+ * 브랜드별 수는 소문자 브랜드명으로 정렬된 맵에 두고, 브랜드 조건(전방일치)은 해당 범위의 브랜드만 더한다.
+ * 상품명, 가격 조건이나 브랜드 중간일치(search.ngram.enabled)는 미리 셀 수 없기 때문에 null 을 반환한다.
+ * 집계 스냅샷에 포함된 id 와 이미 더한 이벤트의 id 는 BitSet 에 두고, 같은 상품은 한 번만 센다.
+ */
+@Component
+class ProductCountIndex(
+    @Value("\${search.count.enabled:true}") val enabled: Boolean,
+    @Value("\${search.ngram.enabled:false}") private val infixBrandMatch: Boolean,
+    private val productQueryDslRepository: ProductQueryDslRepository,
+    @Value("\${search.count.retry-millis:1000}") private val retryMillis: Long
+) {
+    private val globalLogger = GlobalLogger()
+    private val categoryCounts = EnumMap<Category, AtomicLong>(Category::class.java).apply {
+        Category.values().forEach { put(it, AtomicLong()) }
+    }
+    private val brandCounts = EnumMap<Category, ConcurrentSkipListMap<String, AtomicLong>>(Category::class.java).apply {
+        Category.values().forEach { put(it, ConcurrentSkipListMap()) }
+    }
+    private val pendingEvents = ArrayList<ProductApprovedEvent>()
+    private val seedLock = ReentrantLock()
+    private var countedIds = BitSet()
+    private var gaveUp = false
+
+    @Volatile
+    var ready = false
+        private set
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun load() {
+        if (!enabled) {
+            return
+        }
+        Thread(::seed, "product-count-loader").apply { isDaemon = true }.start()
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun increase(event: ProductApprovedEvent) {
+        if (!enabled) {
+            return
+        }
+        seedLock.withLock {
+            when {
+                gaveUp -> return
+                !ready -> pendingEvents.add(event)
+                else -> increaseOnce(event)
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun increase(event: ProductsApprovedEvent) {
+        event.products.forEach { increase(it) }
+    }
+
+    fun count(category: Category): Long? {
+        if (!ready) {
+            return null
+        }
+        return categoryCounts.getValue(category).get()
+    }
+
+    fun count(condition: ProductSearchCondition): Long? {
+        if (!ready || !condition.name.isNullOrBlank() || condition.minPrice != null || condition.maxPrice != null) {
+            return null
+        }
+        val brandName = condition.branName
+        if (brandName.isNullOrBlank()) {
+            return count(condition.category)
+        }
+        if (infixBrandMatch) {
+            return null
+        }
+        val prefix = normalize(brandName)
+        return brandCounts.getValue(condition.category)
+            .subMap(prefix, true, prefix + Character.MAX_VALUE, true)
+            .values
+            .sumOf { it.get() }
+    }
+
+    /**
+     * 실패하면 retryMillis 부터 두 배씩 늘려가며 다시 집계하고, MAX_ATTEMPTS 번 실패하면 포기하고 이벤트도 더 쌓지 않는다.
+     */
+    private fun seed() {
+        var delay = retryMillis
+        for (attempt in 1..MAX_ATTEMPTS) {
+            try {
+                seedOnce()
+                return
+            } catch (e: Exception) {
+                globalLogger.log(Level.WARN, "상품 수 집계에 실패 했습니다. attempt: {}/{}", attempt, MAX_ATTEMPTS, e)
+            }
+            if (attempt < MAX_ATTEMPTS) {
+                Thread.sleep(delay)
+                delay *= 2
+            }
+        }
+        seedLock.withLock {
+            gaveUp = true
+            pendingEvents.clear()
+        }
+        globalLogger.log(Level.ERROR, "상품 수 집계를 포기 했습니다. 목록 응답에 전체 갯수가 제공되지 않습니다.")
+    }
+
+    /**
+     * 스냅샷 이후 커밋된 상품은 id 가 maxId 이하여도 스냅샷에 없으므로, 적재 중 받은 이벤트는 id 와 관계없이 모두 반영한다.
+     */
+    private fun seedOnce() {
+        val snapshot = productQueryDslRepository.findCountSnapshot(BATCH_SIZE)
+        seedLock.withLock {
+            snapshot.brandCounts.forEach { increase(it.category, it.brandName, it.count) }
+            countedIds = snapshot.countedIds
+            pendingEvents.forEach { increaseOnce(it) }
+            pendingEvents.clear()
+            ready = true
+        }
+        globalLogger.log(Level.INFO, "상품 수 집계가 완료 되었습니다. maxId: {}", snapshot.maxId)
+    }
+
+    /**
+     * seedLock 안에서만 호출한다.
+     */
+    private fun increaseOnce(event: ProductApprovedEvent) {
+        val bit = Math.toIntExact(event.productId)
+        if (countedIds.get(bit)) {
+            return
+        }
+        countedIds.set(bit)
+        increase(event.category, event.brandName, 1)
+    }
+
+    private fun increase(category: Category, brandName: String, delta: Long) {
+        categoryCounts.getValue(category).addAndGet(delta)
+        brandCounts.getValue(category).computeIfAbsent(normalize(brandName)) { AtomicLong() }.addAndGet(delta)
+    }
+
+    private fun normalize(brandName: String) = brandName.lowercase(Locale.ROOT)
+
+    companion object {
+        private const val BATCH_SIZE = 10_000L
+        private const val MAX_ATTEMPTS = 5
+    }
+}
@@ -0,0 +1,12 @@
+package back.ecommerce.product.search
+
+import java.util.BitSet
+
+/**
+ * 같은 트랜잭션(스냅샷)에서 읽은 브랜드별 상품 수와 그 수에 포함된 상품 id 목록.
+ */
+class ProductCountSnapshot(
+    val maxId: Long,
+    val brandCounts: List<ProductBrandCount>,
+    val countedIds: BitSet
+)
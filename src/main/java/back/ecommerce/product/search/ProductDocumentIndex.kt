@@ -0,0 +1,12 @@
+package back.ecommerce.product.search
+
+/**
+ * PRODUCT 테이블로부터 적재되고 상품 승인 시 갱신되는 메모리 색인.
+ */
+interface ProductDocumentIndex {
+    val enabled: Boolean
+
+    fun add(document: ProductSearchDocument)
+
+    fun markReady()
+}
@@ -0,0 +1,84 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.dto.condition.ProductSearchCondition
+import back.ecommerce.product.dto.response.v2.BrandFacet
+import back.ecommerce.product.dto.response.v2.PriceFacet
+import back.ecommerce.product.dto.response.v2.ProductFacets
+import back.ecommerce.product.entity.Category
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.util.EnumMap
+import java.util.concurrent.locks.ReentrantReadWriteLock
+import kotlin.concurrent.read
+import kotlin.concurrent.write
+
+/**
+ * 상세검색 facet 집계용 색인. 카테고리, 브랜드별 정렬된 가격 배열을 유지하고 이진탐색으로 범위 갯수를 센다.
+ * 브랜드 facet 은 가격 조건만, 가격 facet 은 브랜드 조건만 적용한다.
+ * 상품명 조건은 미리 집계할 수 없기 때문에 상품명 검색 시에는 facet 을 제공하지 않는다.
+ */
+@Component
+class ProductFacetIndex(
+    @Value("\${search.facet.enabled:false}") override val enabled: Boolean,
+    @Value("\${search.facet.price-buckets:10000,30000,50000,100000,200000,500000}") priceBuckets: List<Long>,
+    @Value("\${search.facet.brand-limit:20}") private val brandLimit: Int,
+    @Value("\${search.ngram.enabled:false}") private val infixBrandMatch: Boolean
+) : ProductDocumentIndex {
+    private val priceBoundaries = (listOf(0L) + priceBuckets.sorted()).distinct()
+    private val lock = ReentrantReadWriteLock()
+    private val brandPrices = EnumMap<Category, HashMap<String, SortedLongArray>>(Category::class.java).apply {
+        Category.values().forEach { put(it, HashMap()) }
+    }
+
+    @Volatile
+    var ready = false
+        private set
+
+    override fun add(document: ProductSearchDocument) = lock.write {
+        brandPrices.getValue(document.category)
+            .getOrPut(document.brandName) { SortedLongArray(ready) }
+            .add(document.price)
+    }
+
+    override fun markReady() = lock.write {
+        brandPrices.values.forEach { prices -> prices.values.forEach { it.sort() } }
+        ready = true
+    }
+
+    fun facets(condition: ProductSearchCondition): ProductFacets? {
+        if (!enabled || !ready || !condition.name.isNullOrBlank()) {
+            return null
+        }
+        return lock.read {
+            val prices = brandPrices.getValue(condition.category)
+            ProductFacets(brandFacets(prices, condition), priceFacets(prices, condition))
+        }
+    }
+
+    private fun brandFacets(prices: Map<String, SortedLongArray>, condition: ProductSearchCondition): List<BrandFacet> {
+        return prices.map { (brandName, brandPrices) ->
+            BrandFacet(brandName, brandPrices.countBetween(condition.minPrice, condition.maxPrice))
+        }
+            .filter { it.count > 0 }
+            .sortedWith(compareByDescending<BrandFacet> { it.count }.thenBy { it.brandName })
+            .take(brandLimit)
+    }
+
+    private fun priceFacets(prices: Map<String, SortedLongArray>, condition: ProductSearchCondition): List<PriceFacet> {
+        val matchedBrands = prices.filterKeys { matchBrand(it, condition.branName) }.values
+        return priceBoundaries.mapIndexed { index, minPrice ->
+            val maxPrice = priceBoundaries.getOrNull(index + 1)?.minus(1)
+            PriceFacet(minPrice, maxPrice, matchedBrands.sumOf { it.countBetween(minPrice, maxPrice) })
+        }
+    }
+
+    private fun matchBrand(brandName: String, condition: String?): Boolean {
+        if (condition.isNullOrBlank()) {
+            return true
+        }
+        if (infixBrandMatch) {
+            return brandName.contains(condition, ignoreCase = true)
+        }
+        return brandName.startsWith(condition, ignoreCase = true)
+    }
+}
@@ -0,0 +1,135 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.common.logging.GlobalLogger
+import back.ecommerce.product.event.ProductApprovedEvent
+import back.ecommerce.product.event.ProductsApprovedEvent
+import back.ecommerce.product.repository.ProductQueryDslRepository
+import org.slf4j.event.Level
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.LocalDateTime
+import java.util.BitSet
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * 애플리케이션 시작 후 PRODUCT 테이블을 id 순으로 나눠 읽어 활성화된 메모리 색인들을 만들고,
+ * 상품 승인 이벤트로 색인을 갱신한다. 적재 중에 승인된 상품은 적재가 끝난 뒤 반영한다.
+ * id 는 커밋 순서가 아니라 발급 순서라서 적재가 지나간 뒤에 커밋된 작은 id 의 상품도 있을 수 있다.
+ * 그래서 적재 중 받은 이벤트는 id 와 관계없이 모두 반영하고, 이미 색인한 id 는 BitSet 으로 걸러서 한 번만 색인한다.
+ */
+@Component
+class ProductIndexLoader(
+    indexes: List<ProductDocumentIndex>,
+    private val productQueryDslRepository: ProductQueryDslRepository,
+    @Value("\${search.index.retry-millis:1000}") private val retryMillis: Long
+) {
+    private val indexes = indexes.filter { it.enabled }
+    private val globalLogger = GlobalLogger()
+    private val pendingEvents = ArrayList<ProductApprovedEvent>()
+    private val loadLock = ReentrantLock()
+    private val indexedIds = BitSet()
+    private var lastLoadedId = 0L
+    private var loaded = false
+    private var gaveUp = false
+
+    @EventListener(ApplicationReadyEvent::class)
+    fun load() {
+        if (indexes.isEmpty()) {
+            return
+        }
+        Thread(::build, "product-index-loader").apply { isDaemon = true }.start()
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun index(event: ProductApprovedEvent) {
+        if (indexes.isEmpty()) {
+            return
+        }
+        loadLock.withLock {
+            when {
+                gaveUp -> return
+                !loaded -> pendingEvents.add(event)
+                else -> addOnce(toDocument(event))
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun index(event: ProductsApprovedEvent) {
+        event.products.forEach { index(it) }
+    }
+
+    /**
+     * 실패하면 retryMillis 부터 두 배씩 늘려가며 마지막으로 읽은 id 이후부터 다시 적재한다.
+     * MAX_ATTEMPTS 번 실패하면 포기하고, 이후 이벤트는 쌓지 않고 색인 대신 DB 조회를 사용한다.
+     */
+    fun build() {
+        var delay = retryMillis
+        for (attempt in 1..MAX_ATTEMPTS) {
+            try {
+                loadAll()
+                return
+            } catch (e: Exception) {
+                globalLogger.log(Level.WARN, "상품 색인 적재에 실패 했습니다. attempt: {}/{}", attempt, MAX_ATTEMPTS, e)
+            }
+            if (attempt < MAX_ATTEMPTS) {
+                Thread.sleep(delay)
+                delay *= 2
+            }
+        }
+        loadLock.withLock {
+            gaveUp = true
+            pendingEvents.clear()
+        }
+        globalLogger.log(Level.ERROR, "상품 색인 적재를 포기 했습니다. DB 조회를 사용합니다.")
+    }
+
+    private fun loadAll() {
+        val startTime = System.currentTimeMillis()
+        var documents = productQueryDslRepository.findSearchDocumentsAfter(lastLoadedId, BATCH_SIZE)
+        while (documents.isNotEmpty()) {
+            loadLock.withLock { documents.forEach { addOnce(it) } }
+            lastLoadedId = documents.last().id
+            documents = productQueryDslRepository.findSearchDocumentsAfter(lastLoadedId, BATCH_SIZE)
+        }
+        loadLock.withLock {
+            pendingEvents.sortedBy { it.productId }.forEach { addOnce(toDocument(it)) }
+            pendingEvents.clear()
+            indexes.forEach { it.markReady() }
+            loaded = true
+        }
+        globalLogger.log(Level.INFO, "상품 색인 적재가 완료 되었습니다. lastId: {}, {}ms", lastLoadedId,
+            System.currentTimeMillis() - startTime)
+    }
+
+    /**
+     * loadLock 안에서만 호출한다. 상품 id 는 Int 범위의 IDENTITY 값이라고 가정한다.
+     */
+    private fun addOnce(document: ProductSearchDocument) {
+        val bit = Math.toIntExact(document.id)
+        if (indexedIds.get(bit)) {
+            return
+        }
+        indexedIds.set(bit)
+        indexes.forEach { it.add(document) }
+    }
+
+    private fun toDocument(event: ProductApprovedEvent) = ProductSearchDocument(
+        event.productId,
+        event.name,
+        event.brandName,
+        event.price,
+        event.category,
+        event.createdDate ?: LocalDateTime.now()
+    )
+
+    companion object {
+        private const val BATCH_SIZE = 10_000L
+        private const val MAX_ATTEMPTS = 5
+    }
+}
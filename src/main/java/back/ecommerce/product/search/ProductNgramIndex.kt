@@ -0,0 +1,50 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.entity.Category
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.util.EnumMap
+
+/**
+ * 상품명, 브랜드명 중간일치(%word%) 검색용 카테고리별 n-gram 색인.
+ * search.ngram.enabled 가 false 이거나 색인이 적재 중이면 기존 전방일치 검색을 사용한다.
+ * 후보가 search.ngram.max-candidates 를 넘으면(OVERFLOW) 후보를 maxCandidates 개씩 나눠서 id IN 으로 조회한다.
+ */
+@Component
+class ProductNgramIndex(
+    @Value("\${search.ngram.enabled:false}") override val enabled: Boolean,
+    @Value("\${search.ngram.max-candidates:1000}") val maxCandidates: Int
+) : ProductDocumentIndex {
+    private val indexes = EnumMap<Category, CategoryNgramIndex>(Category::class.java).apply {
+        Category.values().forEach { put(it, CategoryNgramIndex()) }
+    }
+
+    @Volatile
+    var ready = false
+        private set
+
+    fun search(category: Category, name: String?, brandName: String?): NgramSearchResult {
+        if (!enabled || !ready) {
+            return NgramSearchResult.disabled()
+        }
+        val productIds = indexes.getValue(category).search(name, brandName) ?: return NgramSearchResult.disabled()
+        if (productIds.size > maxCandidates) {
+            return NgramSearchResult.overflow(productIds)
+        }
+        return NgramSearchResult.matched(productIds)
+    }
+
+    override fun add(document: ProductSearchDocument) {
+        add(document.id, document.name, document.brandName, document.category)
+    }
+
+    fun add(productId: Long, name: String, brandName: String, category: Category) {
+        indexes.getValue(category).add(productId, name, brandName)
+    }
+
+    override fun markReady() {
+        ready = true
+    }
+
+    fun size(category: Category) = indexes.getValue(category).size()
+}
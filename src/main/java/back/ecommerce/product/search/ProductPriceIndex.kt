@@ -0,0 +1,58 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.dto.condition.ProductSearchCondition
+import back.ecommerce.product.dto.condition.ProductSortCondition
+import back.ecommerce.product.entity.Category
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.util.EnumMap
+
+/**
+ * 가격 정렬(PRICE_LOW, PRICE_HIGH) 상세검색용 카테고리별 가격순 색인.
+ * 상품명, 브랜드 조건이 없는 가격 범위 + 가격 정렬 조회만 처리하고 그 외에는 null 을 반환한다.
+ */
+@Component
+class ProductPriceIndex(
+    @Value("\${search.price-index.enabled:false}") override val enabled: Boolean
+) : ProductDocumentIndex {
+    private val indexes = EnumMap<Category, CategoryPriceIndex>(Category::class.java).apply {
+        Category.values().forEach { put(it, CategoryPriceIndex()) }
+    }
+
+    @Volatile
+    var ready = false
+        private set
+
+    /**
+     * @return 가격순으로 정렬된 현재 페이지의 상품 id, 처리할 수 없는 조건이면 null
+     */
+    fun search(condition: ProductSearchCondition): LongArray? {
+        if (!enabled || !ready || !supports(condition)) {
+            return null
+        }
+        return indexes.getValue(condition.category).search(
+            condition.minPrice,
+            condition.maxPrice,
+            condition.sortCondition == ProductSortCondition.PRICE_HIGH,
+            condition.offset,
+            condition.pageSize
+        )
+    }
+
+    override fun add(document: ProductSearchDocument) {
+        indexes.getValue(document.category).add(document.price, document.id)
+    }
+
+    override fun markReady() {
+        indexes.values.forEach { it.sort() }
+        ready = true
+    }
+
+    fun size(category: Category) = indexes.getValue(category).size()
+
+    private fun supports(condition: ProductSearchCondition): Boolean {
+        return condition.sortCondition != ProductSortCondition.NEW
+                && condition.name.isNullOrBlank()
+                && condition.branName.isNullOrBlank()
+    }
+}
@@ -0,0 +1,14 @@
+package back.ecommerce.product.search
+
+import back.ecommerce.product.entity.Category
+import com.querydsl.core.annotations.QueryProjection
+import java.time.LocalDateTime
+
+data class ProductSearchDocument @QueryProjection constructor(
+    val id: Long,
+    val name: String,
+    val brandName: String,
+    val price: Long,
+    val category: Category,
+    val createdDate: LocalDateTime
+)
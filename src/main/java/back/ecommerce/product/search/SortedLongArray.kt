@@ -0,0 +1,67 @@
+package back.ecommerce.product.search
+
+import java.util.Arrays
+
+/**
+ * 정렬 상태를 유지하는 long 배열. 삽입은 O(n) 이지만 상품 승인 빈도가 낮기 때문에 범위 카운트의 O(log n) 을 우선한다.
+ * 시작 시 적재 중(sorted = false)에는 뒤에 붙이기만 하고 sort() 에서 한 번 정렬한다.
+ */
+class SortedLongArray(
+    private var sorted: Boolean = true
+) {
+    private var values = LongArray(INITIAL_CAPACITY)
+    var size = 0
+        private set
+
+    fun add(value: Long) {
+        if (size == values.size) {
+            values = values.copyOf(size * 2)
+        }
+        val index = if (sorted) upperBound(value) else size
+        System.arraycopy(values, index, values, index + 1, size - index)
+        values[index] = value
+        size++
+    }
+
+    fun sort() {
+        if (!sorted) {
+            values.sort(0, size)
+            sorted = true
+        }
+    }
+
+    /**
+     * [min, max] 범위에 포함되는 값의 갯수, null 은 범위 제한 없음을 의미한다.
+     */
+    fun countBetween(min: Long?, max: Long?): Int {
+        val from = if (min == null) 0 else lowerBound(min)
+        val to = if (max == null) size else upperBound(max)
+        return maxOf(0, to - from)
+    }
+
+    private fun lowerBound(value: Long): Int {
+        var low = 0
+        var high = size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (values[mid] < value) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    private fun upperBound(value: Long): Int {
+        var low = 0
+        var high = size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (values[mid] <= value) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    override fun toString() = Arrays.toString(values.copyOf(size))
+
+    companion object {
+        private const val INITIAL_CAPACITY = 8
+    }
+}
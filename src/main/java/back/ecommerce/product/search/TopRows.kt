@@ -0,0 +1,66 @@
+package back.ecommerce.product.search
+
+/**
+ * 비교 순서상 앞선 capacity 개의 행 번호만 유지하는 힙. 루트에는 유지 중인 행 중 가장 뒤의 행이 위치한다.
+ */
+class TopRows(
+    private val capacity: Int,
+    private val comparator: (Int, Int) -> Int
+) {
+    private val heap = IntArray(capacity)
+    private var size = 0
+
+    fun offer(row: Int) {
+        if (capacity == 0) {
+            return
+        }
+        if (size < capacity) {
+            heap[size] = row
+            siftUp(size++)
+            return
+        }
+        if (comparator(row, heap[0]) < 0) {
+            heap[0] = row
+            siftDown(0)
+        }
+    }
+
+    fun sortedRows(): IntArray {
+        return heap.copyOf(size).sortedWith(Comparator(comparator)).toIntArray()
+    }
+
+    private fun siftUp(index: Int) {
+        var child = index
+        while (child > 0) {
+            val parent = (child - 1) ushr 1
+            if (comparator(heap[child], heap[parent]) <= 0) {
+                return
+            }
+            swap(child, parent)
+            child = parent
+        }
+    }
+
+    private fun siftDown(index: Int) {
+        var parent = index
+        while (true) {
+            val left = parent * 2 + 1
+            if (left >= size) {
+                return
+            }
+            val right = left + 1
+            val larger = if (right < size && comparator(heap[right], heap[left]) > 0) right else left
+            if (comparator(heap[larger], heap[parent]) <= 0) {
+                return
+            }
+            swap(parent, larger)
+            parent = larger
+        }
+    }
+
+    private fun swap(a: Int, b: Int) {
+        val temp = heap[a]
+        heap[a] = heap[b]
+        heap[b] = temp
+    }
+}
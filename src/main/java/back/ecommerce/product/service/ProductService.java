@@ -8,6 +8,9 @@ import java.util.Map;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import back.ecommerce.product.cache.CategoryFirstPageCache;
+import back.ecommerce.product.cache.ProductDetailCache;
+import back.ecommerce.product.cache.SearchResultCache;
 import back.ecommerce.product.entity.Category;
 import back.ecommerce.product.entity.Product;
 import back.ecommerce.product.dto.response.ProductDto;
@@ -17,6 +20,7 @@ import back.ecommerce.exception.CustomException;
 import back.ecommerce.exception.ErrorCode;
 import back.ecommerce.product.repository.ProductQueryDslRepository;
 import back.ecommerce.product.repository.ProductRepository;
+import back.ecommerce.product.search.ProductCountIndex;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -25,24 +29,34 @@ public class ProductService {
 
 	private final ProductQueryDslRepository productQueryDslRepository;
 	private final ProductRepository productRepository;
+	private final CategoryFirstPageCache categoryFirstPageCache;
+	private final ProductDetailCache productDetailCache;
+	private final SearchResultCache searchResultCache;
+	private final ProductCountIndex productCountIndex;
 
 	public ProductListResponse findWithCategoryAndPagination(Category category) {
-		List<ProductDto> products = productQueryDslRepository.findByCategoryWithPaginationOrderByBrandNew(category,
-			PageRequest.of(DEFAULT__PAGE, DEFAULT_PAGE_SIZE));
-		return new ProductListResponse(products.size(), products);
+		return categoryFirstPageCache.get(category, () -> {
+			List<ProductDto> products = productQueryDslRepository.findByCategoryWithPaginationOrderByBrandNew(category,
+				PageRequest.of(DEFAULT__PAGE, DEFAULT_PAGE_SIZE));
+			return ProductListResponse.of(products, productCountIndex.count(category));
+		});
 	}
 
 	public ProductListResponse findWithSearchCondition(Category category, Map<String, String> parameters) {
 		ProductSearchCondition searchCondition = ProductSearchCondition.createWithCategoryAndAttributes(
 			category, parameters);
-		List<ProductDto> products = productQueryDslRepository.findBySearchCondition(searchCondition);
-		return new ProductListResponse(products.size(), products);
+		return searchResultCache.get(searchCondition, () -> {
+			List<ProductDto> products = productQueryDslRepository.findBySearchCondition(searchCondition);
+			return ProductListResponse.of(products, productCountIndex.count(searchCondition));
+		});
 	}
 
 	public ProductDto findOne(Long id) {
-		Product product = productRepository.findById(id)
-			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-		return new ProductDto(product.getId(), product.getName(), product.getBrandName(), product.getPrice(),
-			product.getCategory());
+		return productDetailCache.get(id, () -> {
+			Product product = productRepository.findById(id)
+				.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+			return new ProductDto(product.getId(), product.getName(), product.getBrandName(), product.getPrice(),
+				product.getCategory());
+		});
 	}
 }
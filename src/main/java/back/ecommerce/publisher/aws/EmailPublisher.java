@@ -1,7 +1,10 @@
 package back.ecommerce.publisher.aws;
 
+import java.util.List;
 import java.util.Map;
 
 public interface EmailPublisher {
 	void pub(MessageType messageType, Map<String, String> map);
+
+	void pubAll(MessageType messageType, List<Map<String, String>> maps);
 }
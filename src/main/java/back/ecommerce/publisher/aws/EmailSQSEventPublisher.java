@@ -2,15 +2,21 @@ package back.ecommerce.publisher.aws;
 
 import static java.util.stream.Collectors.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.amazonaws.services.sqs.AmazonSQSAsync;
 import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
 import com.amazonaws.services.sqs.model.SendMessageRequest;
 
 public class EmailSQSEventPublisher implements EmailPublisher {
 
 	private static final String MESSAGE_BODY = "ecommerce email";
+	private static final int MAX_BATCH_ENTRIES = 10;
 
 	private final AmazonSQSAsync amazonSQSAsync;
 	private final String queueUrl;
@@ -28,6 +34,25 @@ public class EmailSQSEventPublisher implements EmailPublisher {
 		amazonSQSAsync.sendMessage(sendMessageRequest);
 	}
 
+	/**
+	 * SQS 배치 전송은 요청당 최대 10개라 10개씩 묶어 비동기로 보낸다.
+	 */
+	@Override
+	public void pubAll(MessageType messageType, List<Map<String, String>> maps) {
+		for (int from = 0; from < maps.size(); from += MAX_BATCH_ENTRIES) {
+			List<SendMessageBatchRequestEntry> entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+			int to = Math.min(from + MAX_BATCH_ENTRIES, maps.size());
+			for (int i = from; i < to; i++) {
+				Map<String, String> map = new HashMap<>(maps.get(i));
+				map.put("messageType", messageType.toString());
+				map.put("messageTypeCode", messageType.getCode());
+				entries.add(new SendMessageBatchRequestEntry(String.valueOf(i), MESSAGE_BODY)
+					.withMessageAttributes(createMessageAttribute(map)));
+			}
+			amazonSQSAsync.sendMessageBatchAsync(new SendMessageBatchRequest(queueUrl, entries));
+		}
+	}
+
 	private SendMessageRequest createMessageRequest(Map<String, String> map) {
 		SendMessageRequest sendMessageRequest = new SendMessageRequest(queueUrl, MESSAGE_BODY);
 		Map<String, MessageAttributeValue> attributeMap = createMessageAttribute(map);
@@ -0,0 +1,58 @@
+package back.ecommerce.user.cache
+
+import back.ecommerce.common.cache.LocalCache
+import back.ecommerce.common.cache.TwoTierCacheManager
+import back.ecommerce.user.event.UserRegisteredEvent
+import back.ecommerce.user.repository.UserRepository
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+
+/**
+ * 가입된 유저 이메일 캐시. 장바구니, 주문 요청마다 existsByEmail 을 조회하지 않도록
+ * 존재하는 이메일은 TwoTierCache 에, 존재하지 않는 이메일은 짧은 TTL 의 로컬 negative 캐시에 담는다.
+ * 가입 인증이 커밋되면 바로 채우고, 탈퇴 시에는 evict 해야 한다.
+ */
+@Component
+class UserIdentityCache(
+    twoTierCacheManager: TwoTierCacheManager,
+    private val userRepository: UserRepository,
+    @Value("\${cache.user-identity.local-ttl-seconds:600}") localTtlSeconds: Long,
+    @Value("\${cache.user-identity.local-maximum-size:100000}") localMaximumSize: Int,
+    @Value("\${cache.user-identity.redis-ttl-seconds:86400}") redisTtlSeconds: Long,
+    @Value("\${cache.user-identity.negative-ttl-seconds:5}") negativeTtlSeconds: Long
+) {
+    private val cache = twoTierCacheManager.create(
+        "user-identity",
+        Boolean::class.javaObjectType,
+        Duration.ofSeconds(localTtlSeconds),
+        localMaximumSize,
+        Duration.ofSeconds(redisTtlSeconds)
+    )
+    private val negativeCache = LocalCache<Boolean>(Duration.ofSeconds(negativeTtlSeconds), localMaximumSize)
+
+    fun exists(email: String): Boolean {
+        if (negativeCache.get(email) != null) {
+            return false
+        }
+        val exists = cache.getIfPresent(email) { if (userRepository.existsByEmail(email)) true else null }
+        if (exists == null) {
+            negativeCache.put(email, true)
+            return false
+        }
+        return true
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    fun add(event: UserRegisteredEvent) {
+        negativeCache.evict(event.email)
+        cache.put(event.email, true)
+    }
+
+    fun evict(email: String) {
+        negativeCache.evict(email)
+        cache.evict(email)
+    }
+}
@@ -0,0 +1,30 @@
+package back.ecommerce.user.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.ecommerce.user.repository.InMemorySignUpStore;
+import back.ecommerce.user.repository.JpaSignUpStore;
+import back.ecommerce.user.repository.RedisSignUpStore;
+import back.ecommerce.user.repository.SignUpRepository;
+import back.ecommerce.user.repository.SignUpStore;
+
+@Configuration
+public class SignUpStoreConfig {
+
+	@Bean
+	public SignUpStore signUpStore(@Value("${signup.store:jpa}") String store, SignUpRepository signUpRepository,
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider, ObjectMapper objectMapper) {
+		return switch (store) {
+			case "redis" -> new RedisSignUpStore(redisTemplateProvider.getObject(), objectMapper);
+			case "memory" -> new InMemorySignUpStore();
+			case "jpa" -> new JpaSignUpStore(signUpRepository);
+			default -> throw new IllegalStateException("지원하지 않는 signup.store 설정입니다. : " + store);
+		};
+	}
+}
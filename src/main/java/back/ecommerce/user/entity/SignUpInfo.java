@@ -53,6 +53,11 @@ public class SignUpInfo {
 		return new SignUpInfo(null, email, password, verifiedCode, expiredTime, LocalDateTime.now());
 	}
 
+	public static SignUpInfo restore(String verifiedCode, String email, String password, Long expiredTime,
+		LocalDateTime createdDate) {
+		return new SignUpInfo(null, email, password, verifiedCode, expiredTime, createdDate);
+	}
+
 	public boolean isExpired() {
 		return createdDate
 			.plusSeconds(expiredTime)
@@ -0,0 +1,8 @@
+package back.ecommerce.user.event
+
+/**
+ * 가입 인증이 끝나 USER 가 저장될 때 발행한다.
+ */
+data class UserRegisteredEvent(
+    val email: String
+)
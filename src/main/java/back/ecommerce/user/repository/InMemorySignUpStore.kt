@@ -0,0 +1,65 @@
+package back.ecommerce.user.repository
+
+import back.ecommerce.exception.CustomException
+import back.ecommerce.exception.ErrorCode
+import back.ecommerce.user.entity.SignUpInfo
+import java.time.LocalDateTime
+import java.util.Optional
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Redis 없이 테스트, 로컬 실행에서 사용하는 가입정보 저장소.
+ * 만료된 가입정보는 이메일 예약만 풀고, 코드는 EXPIRED_CODE_GRACE 가 지날 때까지 남겨서 만료 응답을 줄 수 있게 한다.
+ */
+class InMemorySignUpStore : SignUpStore {
+    private val signUpInfos = ConcurrentHashMap<String, SignUpInfo>()
+    private val codesByEmail = ConcurrentHashMap<String, String>()
+
+    override fun save(signUpInfo: SignUpInfo) {
+        removeStale()
+        signUpInfos[signUpInfo.verifiedCode] = signUpInfo
+        var reserved = false
+        codesByEmail.compute(signUpInfo.email) { _, code ->
+            if (code == null || signUpInfos[code]?.isExpired != false) {
+                reserved = true
+                signUpInfo.verifiedCode
+            } else {
+                code
+            }
+        }
+        if (!reserved) {
+            signUpInfos.remove(signUpInfo.verifiedCode, signUpInfo)
+            throw CustomException(ErrorCode.ALREADY_SIGN_UP_EMAIL)
+        }
+    }
+
+    override fun findByVerifiedCode(verifiedCode: String): Optional<SignUpInfo> {
+        val signUpInfo = signUpInfos[verifiedCode]
+        if (signUpInfo == null || isStale(signUpInfo)) {
+            signUpInfo?.let { delete(it) }
+            return Optional.empty()
+        }
+        return Optional.of(signUpInfo)
+    }
+
+    override fun existsByEmail(email: String): Boolean {
+        val code = codesByEmail[email] ?: return false
+        return findByVerifiedCode(code).map { !it.isExpired }.orElse(false)
+    }
+
+    override fun delete(signUpInfo: SignUpInfo) {
+        signUpInfos.remove(signUpInfo.verifiedCode)
+        codesByEmail.remove(signUpInfo.email, signUpInfo.verifiedCode)
+    }
+
+    private fun removeStale() {
+        signUpInfos.values.filter { isStale(it) }.forEach { delete(it) }
+    }
+
+    private fun isStale(signUpInfo: SignUpInfo): Boolean {
+        return signUpInfo.createdDate
+            .plusSeconds(signUpInfo.expiredTime)
+            .plus(SignUpStore.EXPIRED_CODE_GRACE)
+            .isBefore(LocalDateTime.now())
+    }
+}
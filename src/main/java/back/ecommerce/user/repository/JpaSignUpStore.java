@@ -0,0 +1,32 @@
+package back.ecommerce.user.repository;
+
+import java.util.Optional;
+
+import back.ecommerce.user.entity.SignUpInfo;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class JpaSignUpStore implements SignUpStore {
+
+	private final SignUpRepository signUpRepository;
+
+	@Override
+	public void save(SignUpInfo signUpInfo) {
+		signUpRepository.save(signUpInfo);
+	}
+
+	@Override
+	public Optional<SignUpInfo> findByVerifiedCode(String verifiedCode) {
+		return signUpRepository.findByVerifiedCode(verifiedCode);
+	}
+
+	@Override
+	public boolean existsByEmail(String email) {
+		return signUpRepository.existsByEmail(email);
+	}
+
+	@Override
+	public void delete(SignUpInfo signUpInfo) {
+		signUpRepository.deleteById(signUpInfo.getId());
+	}
+}
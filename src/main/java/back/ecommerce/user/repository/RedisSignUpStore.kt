@@ -0,0 +1,99 @@
+package back.ecommerce.user.repository
+
+import back.ecommerce.exception.CustomException
+import back.ecommerce.exception.ErrorCode
+import back.ecommerce.user.entity.SignUpInfo
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.Optional
+
+/**
+ * 가입정보를 Redis 키의 TTL 로 만료시킨다. 이메일 키는 가입정보의 만료 시간을, 인증 코드 키는 EXPIRED_CODE_GRACE 를
+ * 더한 TTL 을 주어서 만료 후에는 다시 신청할 수 있고 늦게 누른 링크에는 만료 응답을 줄 수 있게 한다.
+ * 두 키는 Lua 스크립트 하나로 함께 저장해서 이메일만 예약되고 코드가 없는 상태가 생기지 않게 한다.
+ */
+class RedisSignUpStore(
+    private val redisTemplate: StringRedisTemplate,
+    private val objectMapper: ObjectMapper
+) : SignUpStore {
+
+    override fun save(signUpInfo: SignUpInfo) {
+        val ttl = Duration.ofSeconds(signUpInfo.expiredTime)
+        val reserved = redisTemplate.execute(
+            SAVE_SCRIPT,
+            listOf(emailKey(signUpInfo.email), codeKey(signUpInfo.verifiedCode)),
+            signUpInfo.verifiedCode,
+            ttl.toMillis().toString(),
+            objectMapper.writeValueAsString(SignUpValue.from(signUpInfo)),
+            ttl.plus(SignUpStore.EXPIRED_CODE_GRACE).toMillis().toString()
+        )
+        if (reserved != 1L) {
+            throw CustomException(ErrorCode.ALREADY_SIGN_UP_EMAIL)
+        }
+    }
+
+    override fun findByVerifiedCode(verifiedCode: String): Optional<SignUpInfo> {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(codeKey(verifiedCode)))
+            .map { objectMapper.readValue(it, SignUpValue::class.java).toSignUpInfo(verifiedCode) }
+    }
+
+    override fun existsByEmail(email: String): Boolean {
+        return redisTemplate.hasKey(emailKey(email))
+    }
+
+    /**
+     * 이메일 키는 같은 코드로 예약된 경우에만 지워서, 만료 후 다시 신청한 예약을 지우지 않는다.
+     */
+    override fun delete(signUpInfo: SignUpInfo) {
+        redisTemplate.execute(
+            DELETE_SCRIPT,
+            listOf(emailKey(signUpInfo.email), codeKey(signUpInfo.verifiedCode)),
+            signUpInfo.verifiedCode
+        )
+    }
+
+    private fun codeKey(verifiedCode: String) = "$KEY_PREFIX:code:$verifiedCode"
+
+    private fun emailKey(email: String) = "$KEY_PREFIX:email:$email"
+
+    private data class SignUpValue(
+        val email: String,
+        val password: String,
+        val expiredTime: Long,
+        val createdDate: LocalDateTime
+    ) {
+        fun toSignUpInfo(verifiedCode: String): SignUpInfo =
+            SignUpInfo.restore(verifiedCode, email, password, expiredTime, createdDate)
+
+        companion object {
+            fun from(signUpInfo: SignUpInfo) =
+                SignUpValue(signUpInfo.email, signUpInfo.password, signUpInfo.expiredTime, signUpInfo.createdDate)
+        }
+    }
+
+    companion object {
+        private const val KEY_PREFIX = "signup"
+        private val SAVE_SCRIPT = DefaultRedisScript(
+            """
+            if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4])
+            return 1
+            """.trimIndent(),
+            Long::class.java
+        )
+        private val DELETE_SCRIPT = DefaultRedisScript(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+            end
+            return redis.call('DEL', KEYS[2])
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+}
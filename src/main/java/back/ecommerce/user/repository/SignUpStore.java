@@ -0,0 +1,24 @@
+package back.ecommerce.user.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import back.ecommerce.user.entity.SignUpInfo;
+
+/**
+ * 이메일 인증 대기중인 가입정보 저장소. signup.store 설정으로 jpa, redis, memory 중 하나를 사용한다.
+ */
+public interface SignUpStore {
+	/**
+	 * 만료된 인증 코드도 이 기간 동안은 조회되게 남겨서, 늦게 누른 인증 링크에 코드 없음 대신 만료 응답을 준다.
+	 */
+	Duration EXPIRED_CODE_GRACE = Duration.ofDays(1);
+
+	void save(SignUpInfo signUpInfo);
+
+	Optional<SignUpInfo> findByVerifiedCode(String verifiedCode);
+
+	boolean existsByEmail(String email);
+
+	void delete(SignUpInfo signUpInfo);
+}
@@ -5,6 +5,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
 import back.ecommerce.api.auth.interceptor.JwtAuthenticationInterceptor;
+import back.ecommerce.auth.service.AdminRoleRegistry;
 import back.ecommerce.auth.service.TokenExtractor;
 import back.ecommerce.auth.service.TokenProvider;
 import back.ecommerce.client.KakaoPaymentClient;
@@ -43,4 +44,9 @@ public class MockMvcTestConfig {
 	public TokenExtractor tokenExtractor() {
 		return Mockito.mock(TokenExtractor.class);
 	}
+
+	@Bean
+	public AdminRoleRegistry adminRoleRegistry() {
+		return Mockito.mock(AdminRoleRegistry.class);
+	}
 }
@@ -4,6 +4,8 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -28,15 +30,28 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import back.ecommerce.admin.dto.request.AddRequestProductRequest;
+import back.ecommerce.admin.dto.request.BulkUpdateApprovalRequest;
+import back.ecommerce.admin.dto.request.ProductExportFormat;
 import back.ecommerce.admin.dto.request.UpdateApprovalRequest;
 import back.ecommerce.admin.dto.response.AddRequestProductResponse;
+import back.ecommerce.admin.dto.response.BulkUpdateApprovalStatusDto;
 import back.ecommerce.admin.dto.response.RequestProductDto;
 import back.ecommerce.admin.dto.response.UpdateApprovalStatusDto;
 import back.ecommerce.admin.entity.Admin;
 import back.ecommerce.admin.repository.AdminRepository;
 import back.ecommerce.admin.service.AdminService;
+import back.ecommerce.admin.service.ProductExportService;
 import back.ecommerce.api.MockMvcTestConfig;
 import back.ecommerce.api.support.TestSecurityConfig;
+import back.ecommerce.auth.service.CostFactorStats;
+import back.ecommerce.auth.service.PasswordHashExecutor;
+import back.ecommerce.auth.service.PasswordHashStats;
+import back.ecommerce.cart.application.CartCompactionService;
+import back.ecommerce.cart.dto.response.CartCompactionResponse;
+import back.ecommerce.common.jdbc.ConnectionHoldBucket;
+import back.ecommerce.common.jdbc.ConnectionHoldRecorder;
+import back.ecommerce.common.jdbc.ConnectionHoldStats;
+import back.ecommerce.common.cache.CacheStatsService;
 import back.ecommerce.product.entity.ApprovalStatus;
 import back.ecommerce.product.entity.Category;
 import back.ecommerce.publisher.aws.EmailSQSEventPublisher;
@@ -53,6 +68,16 @@ class AdminControllerTest {
 	EmailSQSEventPublisher sqsEventPublisher;
 	@MockBean
 	AdminRepository adminRepository;
+	@MockBean
+	CacheStatsService cacheStatsService;
+	@MockBean
+	ProductExportService productExportService;
+	@MockBean
+	PasswordHashExecutor passwordHashExecutor;
+	@MockBean
+	CartCompactionService cartCompactionService;
+	@MockBean
+	ConnectionHoldRecorder connectionHoldRecorder;
 	@Autowired
 	MockMvc mvc;
 	@Autowired
@@ -177,4 +202,124 @@ class AdminControllerTest {
 		then(sqsEventPublisher).should(times(1)).pub(any(MessageType.class), anyMap());
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("/api/admin/bulk-update-approval POST 요청 시 등록요청 상품들이 일괄 업데이트 되고 알림이 한 번에 발행되어야 한다.")
+	void bulk_update_approval() throws Exception {
+		//given
+		BulkUpdateApprovalRequest request = new BulkUpdateApprovalRequest(List.of(150L, 151L, 152L),
+			ApprovalStatus.SUCCESS);
+		BulkUpdateApprovalStatusDto bulkUpdateApprovalStatusDto = new BulkUpdateApprovalStatusDto(
+			ApprovalStatus.SUCCESS,
+			List.of(new UpdateApprovalStatusDto("email@email.com", 150L, ApprovalStatus.SUCCESS),
+				new UpdateApprovalStatusDto("kim@email.com", 151L, ApprovalStatus.SUCCESS)),
+			List.of(152L));
+
+		given(adminService.updateApprovalStatuses(anyList(), any(ApprovalStatus.class)))
+			.willReturn(bulkUpdateApprovalStatusDto);
+
+		//expect
+		mvc.perform(post("/api/admin/bulk-update-approval")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(mapper.writeValueAsString(request)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.message").value("등록요청 상품들이 성공적으로 업데이트 되었습니다."))
+			.andExpect(jsonPath("$.entity.approvalStatus").value("SUCCESS"))
+			.andExpect(jsonPath("$.entity.updatedCount").value(2))
+			.andExpect(jsonPath("$.entity.skippedRequestIds[0]").value(152L))
+			.andExpect(jsonPath("$.entity.updated").doesNotExist());
+
+		then(adminService).should(times(1)).updateApprovalStatuses(anyList(), any(ApprovalStatus.class));
+		then(sqsEventPublisher).should(times(1)).pubAll(any(MessageType.class), anyList());
+	}
+
+	@Test
+	@DisplayName("/api/admin/bulk-update-approval POST 요청 시 아이디 목록이 비어있으면 응답코드 400이 반환되어야 한다.")
+	void bulk_update_approval_empty_ids() throws Exception {
+		//given
+		BulkUpdateApprovalRequest request = new BulkUpdateApprovalRequest(List.of(), ApprovalStatus.SUCCESS);
+
+		//expect
+		mvc.perform(post("/api/admin/bulk-update-approval")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(mapper.writeValueAsString(request)))
+			.andExpect(status().isBadRequest());
+
+		then(adminService).should(times(0)).updateApprovalStatuses(anyList(), any(ApprovalStatus.class));
+	}
+
+	@Test
+	@DisplayName("/api/admin/products/export GET 요청 시 요청한 형식으로 상품이 스트리밍 되어야 한다.")
+	void export_products() throws Exception {
+		//given
+		given(adminRepository.findByEmail(anyString())).willReturn(
+			Optional.of(new Admin(10L, "dsad@email.com", "pass")));
+		given(productExportService.export(any(ProductExportFormat.class), any(OutputStream.class)))
+			.willAnswer(invocation -> {
+				OutputStream outputStream = invocation.getArgument(1);
+				outputStream.write("id,name\n1,상품\n".getBytes(StandardCharsets.UTF_8));
+				return 1L;
+			});
+
+		//expect
+		mvc.perform(get("/api/admin/products/export")
+				.param("format", "csv"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Disposition", "attachment; filename=products.csv"))
+			.andExpect(content().contentTypeCompatibleWith("text/csv"))
+			.andExpect(content().string("id,name\n1,상품\n"));
+
+		then(productExportService).should(times(1)).export(eq(ProductExportFormat.CSV), any(OutputStream.class));
+	}
+
+	@Test
+	@DisplayName("/api/admin/password-hash GET 요청 시 비밀번호 해싱 풀과 cost 별 통계가 응답 되어야 한다.")
+	void find_password_hash_stats() throws Exception {
+		//given
+		given(passwordHashExecutor.stats()).willReturn(
+			new PasswordHashStats(1, 16, 2, 1, 3L, 0L, List.of(new CostFactorStats("bcrypt-10", 100L, 75.5, 120.0))));
+
+		//expect
+		mvc.perform(get("/api/admin/password-hash"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.entity.poolSize").value(1))
+			.andExpect(jsonPath("$.entity.rejected").value(3))
+			.andExpect(jsonPath("$.entity.costFactors[0].costFactor").value("bcrypt-10"))
+			.andExpect(jsonPath("$.entity.costFactors[0].count").value(100));
+
+		then(passwordHashExecutor).should(times(1)).stats();
+	}
+
+	@Test
+	@DisplayName("/api/admin/connection-hold GET 요청 시 엔드포인트별 커넥션 점유 시간 히스토그램이 응답 되어야 한다.")
+	void find_connection_hold_stats() throws Exception {
+		//given
+		given(connectionHoldRecorder.stats()).willReturn(List.of(
+			new ConnectionHoldStats("POST /api/payment/ready", 4L, 3.5, 8.0,
+				List.of(new ConnectionHoldBucket("5ms", 3L), new ConnectionHoldBucket("+Inf", 4L)))));
+
+		//expect
+		mvc.perform(get("/api/admin/connection-hold"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.entity[0].endpoint").value("POST /api/payment/ready"))
+			.andExpect(jsonPath("$.entity[0].count").value(4))
+			.andExpect(jsonPath("$.entity[0].buckets[0].le").value("5ms"))
+			.andExpect(jsonPath("$.entity[0].buckets[1].count").value(4));
+
+		then(connectionHoldRecorder).should(times(1)).stats();
+	}
+
+	@Test
+	@DisplayName("/api/admin/carts/compact POST 요청 시 중복된 장바구니가 정리되고 정리된 갯수가 응답 되어야 한다.")
+	void compact_carts() throws Exception {
+		//given
+		given(cartCompactionService.compact()).willReturn(new CartCompactionResponse(3));
+
+		//expect
+		mvc.perform(post("/api/admin/carts/compact"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.entity.compactedCount").value(3));
+
+		then(cartCompactionService).should(times(1)).compact();
+	}
+}
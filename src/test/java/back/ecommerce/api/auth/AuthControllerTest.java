@@ -56,7 +56,7 @@ class AuthControllerTest {
 		String bearer = "Bearer";
 		TokenResponse actual = new TokenResponse(accessToken, expireTime, bearer);
 
-		given(authService.createToken(anyString(), anyString()))
+		given(authService.createToken(anyString(), anyString(), anyString()))
 			.willReturn(actual);
 
 		//expect
@@ -70,7 +70,7 @@ class AuthControllerTest {
 			.andExpect(jsonPath("$.entity.type").value(bearer));
 
 		then(authService).should(times(1))
-			.createToken(anyString(), anyString());
+			.createToken(anyString(), anyString(), anyString());
 	}
 
 	@ParameterizedTest
@@ -85,7 +85,7 @@ class AuthControllerTest {
 			.andExpect(jsonPath("$.message").value("잘못된 요청입니다."))
 			.andExpect(jsonPath("$.reasons." + reason).isNotEmpty());
 
-		then(authService).should(times(0)).createToken(anyString(), anyString());
+		then(authService).should(times(0)).createToken(anyString(), anyString(), anyString());
 	}
 
 	public static Stream<Arguments> invalidLoginRequestProvider() {
@@ -111,7 +111,7 @@ class AuthControllerTest {
 			.andExpect(jsonPath("$.reasons.email").isNotEmpty())
 			.andExpect(jsonPath("$.reasons.password").value("비밀번호는 필수적으로 필요합니다."));
 
-		then(authService).should(times(0)).createToken(anyString(), anyString());
+		then(authService).should(times(0)).createToken(anyString(), anyString(), anyString());
 
 	}
 
@@ -119,7 +119,7 @@ class AuthControllerTest {
 	@DisplayName("/api/auth/token POST 로 존재하지 않은 이메일을 보내면 응답코드 400 와 함께 실패이유가 응답 되어야한다.")
 	void login_userNotFoundException() throws Exception {
 		//given
-		given(authService.createToken(anyString(), anyString()))
+		given(authService.createToken(anyString(), anyString(), anyString()))
 			.willThrow(new CustomException(USER_NOT_FOUND));
 
 		//expect
@@ -130,14 +130,14 @@ class AuthControllerTest {
 			.andExpect(jsonPath("$.message").value("잘못된 요청입니다."))
 			.andExpect(jsonPath("$.reasons.user").value("해당하는 유저가 존재하지 않습니다."));
 
-		then(authService).should(times(1)).createToken(anyString(), anyString());
+		then(authService).should(times(1)).createToken(anyString(), anyString(), anyString());
 	}
 
 	@Test
 	@DisplayName("/api/auth/token POST 로 일치하지않은 비밀번호를 보내면 응답코드 400 와 함께 실패이유가 응답 되어야한다.")
 	void login_passwordNotMatchException() throws Exception {
 		//given
-		given(authService.createToken(anyString(), anyString()))
+		given(authService.createToken(anyString(), anyString(), anyString()))
 			.willThrow(new CustomException(PASSWORD_NOT_MATCHED));
 
 		//expect
@@ -148,7 +148,7 @@ class AuthControllerTest {
 			.andExpect(jsonPath("$.message").value("잘못된 요청입니다."))
 			.andExpect(jsonPath("$.reasons.password").value("비밀번호가 일치하지 않습니다."));
 
-		then(authService).should(times(1)).createToken(anyString(), anyString());
+		then(authService).should(times(1)).createToken(anyString(), anyString(), anyString());
 	}
 
 	@Test
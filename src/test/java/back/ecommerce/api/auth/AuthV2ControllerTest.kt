@@ -34,7 +34,7 @@ class AuthV2ControllerTest(
                 val expireTime = 10000L
                 val bearer = "Bearer"
                 val actual = TokenResponse(accessToken, expireTime, bearer)
-                every { authService.createToken(any(String::class), any(String::class)) } returns actual
+                every { authService.createToken(any(String::class), any(String::class), any(String::class)) } returns actual
                 val requestBody = LoginRequest("dsldsalw42@email.com", "dsamkcmx#dsm")
 
                 it("상태코드 200과 함게 엑세스 토큰이 응답 되어야 한다.") {
@@ -56,7 +56,7 @@ class AuthV2ControllerTest(
                                 "entity.type" type STRING means "인증헤더 타입"
                             )
                         }
-                    verify(exactly = 1) { authService.createToken(any(String::class), any(String::class)) }
+                    verify(exactly = 1) { authService.createToken(any(String::class), any(String::class), any(String::class)) }
                 }
 
             }
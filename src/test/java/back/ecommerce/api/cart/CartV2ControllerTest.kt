@@ -6,6 +6,9 @@ import back.ecommerce.auth.domain.AuthUser
 import back.ecommerce.auth.domain.Role
 import back.ecommerce.cart.application.CartService
 import back.ecommerce.cart.dto.request.AddCartRequest
+import back.ecommerce.cart.dto.request.CartBatchRequest
+import back.ecommerce.cart.dto.request.CartOperationRequest
+import back.ecommerce.cart.dto.request.CartOperationType
 import back.ecommerce.cart.dto.request.DeleteCartRequest
 import back.ecommerce.cart.dto.response.*
 import back.ecommerce.product.entity.Category
@@ -17,6 +20,7 @@ import org.springframework.http.HttpHeaders.AUTHORIZATION
 import org.springframework.http.MediaType
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user
 import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.post
 
 class CartV2ControllerTest(
     mockMvc: MockMvc,
@@ -56,6 +60,85 @@ class CartV2ControllerTest(
                 }
             }
         }
+        describe("/api/v2/cart/batch POST") {
+            context("유효한 요청이 오면") {
+                val authUser = AuthUser("kmr2644@gmail.com", Role.MEMBER)
+                val request = CartBatchRequest(
+                    listOf(
+                        CartOperationRequest(CartOperationType.ADD, 10L, 2),
+                        CartOperationRequest(CartOperationType.UPDATE, 11L, 1),
+                        CartOperationRequest(CartOperationType.REMOVE, 12L)
+                    )
+                )
+                val dtos = listOf(
+                    CartProductDto(1000L, "item1", "brand1", 20000L, Category.OUTER, 2),
+                    CartProductDto(1001L, "item2", "brand2", 500L, Category.ACCESSORY, 1)
+                )
+
+                every { cartService.applyOperations(any(), any()) } returns
+                    CartListResponse("kmr2644@gmail.com", CartProducts.create(dtos))
+
+                it("return 200") {
+                    mockMvc.docPost("/api/v2/cart/batch") {
+                        header(AUTHORIZATION, "Bearer your_token")
+                        with(user(authUser))
+                        contentType = MediaType.APPLICATION_JSON
+                        content = objectMapper.writeValueAsString(request)
+                    }.andExpect {
+                        status { isOk() }
+                        jsonPath("$.message", equalTo("장바구니가 일괄 변경 되었습니다."))
+                        jsonPath("$.entity.email", equalTo("kmr2644@gmail.com"))
+                        jsonPath("$.entity.cartProducts.count", equalTo(3))
+                        jsonPath("$.entity.cartProducts.totalPrice", equalTo(20500))
+                        jsonPath("$.entity.cartProducts.value[0].id", equalTo(1000))
+                        jsonPath("$.entity.cartProducts.value[1].id", equalTo(1001))
+                    }.andDocument("장바구니 일괄 변경 API") {
+                        requestHeaders("Authorization" to "토큰 인증 헤더")
+                        requestFields(
+                            "operations" type ARRAY means "장바구니 변경 목록(최대 100개)",
+                            "operations[].type" type STRING means "변경 타입(ADD, UPDATE, REMOVE)",
+                            "operations[].productId" type NUMBER means "상품 ID",
+                            "operations[].quantity" type NUMBER means "ADD 는 더할 갯수, UPDATE 는 변경할 갯수(0 이면 삭제)",
+                        )
+                        responseFields(
+                            "message" type STRING means "응답 메시지",
+                            "entity.email" type STRING means "이메일",
+                            "entity.cartProducts.count" type NUMBER means "장바구니 전체 상품 수",
+                            "entity.cartProducts.totalPrice" type NUMBER means "장바구니 전체 가격",
+                            "entity.cartProducts.value" type ARRAY means "변경 후 장바구니 상품 데이터",
+                            "entity.cartProducts.value[].id" type NUMBER means "장바구니 상품 ID",
+                            "entity.cartProducts.value[].name" type STRING means "장바구니 상품 이름",
+                            "entity.cartProducts.value[].brandName" type STRING means "장바구니 브랜드 이름",
+                            "entity.cartProducts.value[].price" type NUMBER means "장바구니 상품 가격",
+                            "entity.cartProducts.value[].category" type STRING means "장바구니 상품 카테고리",
+                            "entity.cartProducts.value[].quantity" type NUMBER means "장바구니 상품 갯수",
+                        )
+                    }
+
+                    verify(exactly = 1) { cartService.applyOperations("kmr2644@gmail.com", request.operations) }
+                }
+            }
+            context("변경 목록이 100개를 넘으면") {
+                val authUser = AuthUser("kmr2644@gmail.com", Role.MEMBER)
+                val request = CartBatchRequest(
+                    (1L..101L).map { CartOperationRequest(CartOperationType.ADD, it, 1) }
+                )
+
+                it("return 400") {
+                    mockMvc.post("/api/v2/cart/batch") {
+                        header(AUTHORIZATION, "Bearer your_token")
+                        with(user(authUser))
+                        contentType = MediaType.APPLICATION_JSON
+                        content = objectMapper.writeValueAsString(request)
+                    }.andExpect {
+                        status { isBadRequest() }
+                        jsonPath("$.reasons.operations") { isNotEmpty() }
+                    }
+
+                    verify(exactly = 0) { cartService.applyOperations(any(), match { it.size > 100 }) }
+                }
+            }
+        }
         describe("GET /api/v2/cart") {
             context("유효한 요청이 오면") {
                 val authUser = AuthUser("kmr2644@gmail.com", Role.MEMBER)
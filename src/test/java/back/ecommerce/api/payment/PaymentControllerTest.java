@@ -33,10 +33,9 @@ import back.ecommerce.client.KakaoPaymentClient;
 import back.ecommerce.common.logging.GlobalLogger;
 import back.ecommerce.exception.CustomException;
 import back.ecommerce.exception.ErrorCode;
-import back.ecommerce.order.service.OrderGroupDto;
-import back.ecommerce.order.application.OrderService;
 import back.ecommerce.payment.dto.request.PaymentReadyRequest;
 import back.ecommerce.payment.service.PaymentDto;
+import back.ecommerce.payment.service.PaymentReadyService;
 import back.ecommerce.payment.service.PaymentService;
 
 @WebMvcTest(PaymentController.class)
@@ -48,14 +47,14 @@ class PaymentControllerTest {
 	@MockBean
 	PaymentService paymentService;
 	@MockBean
-	OrderService orderService;
+	PaymentReadyService paymentReadyService;
 	MockMvc mvc;
 	@Autowired
 	ObjectMapper mapper;
 
 	@BeforeEach
 	void setUp() {
-		mvc = MockMvcBuilders.standaloneSetup(new PaymentController(kakaoPaymentClient, paymentService, orderService))
+		mvc = MockMvcBuilders.standaloneSetup(new PaymentController(kakaoPaymentClient, paymentService, paymentReadyService))
 			.setCustomArgumentResolvers(new MockUserEmailArgumentResolver())
 			.setControllerAdvice(new GlobalExceptionHandler(new GlobalLogger()))
 			.build();
@@ -65,20 +64,14 @@ class PaymentControllerTest {
 	void paymentReady() throws Exception {
 		//given
 		String orderCode = "d20bfd22-bf3d-4d63-a616-831610627a05";
-		OrderGroupDto orderGroupDto = new OrderGroupDto(orderCode, "Embroidered Maxi Dress 등 총 2개의 상품", 2, 132130L);
 		String createdAt = LocalDateTime.now().toString();
-		KakaoReadyPaymentResult result = new KakaoReadyPaymentResult(
-			"https://online-pay.kakao.com/test/v1/edc130cb9b44f2fe56dd928ac05c1fddf3f79a2351fc79d642b457695cb49f81/aInfo",
-			"https://online-pay.kakao.com/mockup/v1/edc130cb9b44f2fe56dd928ac05c1fddf3f79a2351fc79d642b457695cb49f81/mInfo",
+		PaymentReadyResponse response = new PaymentReadyResponse(
 			"https://online-pay.kakao.com/mockup/v1/edc130cb9b44f2fe56dd928ac05c1fddf3f79a2351fc79d642b457695cb49f81/info",
-			"TC0ONETIME",
-			"T543457051b66fd46cc1vb", orderCode, createdAt);
+			orderCode, createdAt);
 		List<OrderProductDto> orderProducts = getOrderProducts();
 		PaymentReadyRequest request = new PaymentReadyRequest("user@email.com", 3L, 500000L, orderProducts);
-		given(orderService.createOrder(anyString(), anyLong(), anyList()))
-			.willReturn(orderGroupDto);
-		given(kakaoPaymentClient.ready(anyString(), anyString(), anyLong(), anyString(), anyInt())).
-			willReturn(result);
+		given(paymentReadyService.ready(anyString(), anyLong(), anyList()))
+			.willReturn(response);
 
 		//expect
 		mvc.perform(post("/api/payment/ready")
@@ -91,12 +84,8 @@ class PaymentControllerTest {
 			.andExpect(jsonPath("$.entity.orderCode").value("d20bfd22-bf3d-4d63-a616-831610627a05"))
 			.andExpect(jsonPath("$.entity.createdAt").value(createdAt));
 
-		then(orderService).should(times(1))
-			.createOrder(anyString(), anyLong(), anyList());
-		then(kakaoPaymentClient).should(times(1))
-			.ready(anyString(), anyString(), anyLong(), anyString(), anyInt());
-		then(paymentService).should(times(1))
-			.createReadyPayment(anyString(), anyString(), anyString(), anyString(), anyLong());
+		then(paymentReadyService).should(times(1))
+			.ready(anyString(), anyLong(), anyList());
 	}
 
 	@Test
@@ -104,7 +93,7 @@ class PaymentControllerTest {
 		//given
 		PaymentReadyRequest request = new PaymentReadyRequest("user@email.com", 3L, 500000L, getOrderProducts());
 
-		given(orderService.createOrder(anyString(), anyLong(), anyList()))
+		given(paymentReadyService.ready(anyString(), anyLong(), anyList()))
 			.willThrow(new CustomException(ErrorCode.USER_NOT_FOUND));
 
 		//expect
@@ -115,12 +104,8 @@ class PaymentControllerTest {
 			.andExpect(jsonPath("$.message").value("잘못된 요청입니다."))
 			.andExpect(jsonPath("$.reasons.user").value("해당하는 유저가 존재하지 않습니다."));
 
-		then(orderService).should(times(1))
-			.createOrder(anyString(), anyLong(), anyList());
-		then(kakaoPaymentClient).should(times(0))
-			.ready(anyString(), anyString(), anyLong(), anyString(), anyInt());
-		then(paymentService).should(times(0))
-			.createReadyPayment(anyString(), anyString(), anyString(), anyString(), anyLong());
+		then(paymentReadyService).should(times(1))
+			.ready(anyString(), anyLong(), anyList());
 	}
 
 	@Test
@@ -128,7 +113,7 @@ class PaymentControllerTest {
 		//given
 		PaymentReadyRequest request = new PaymentReadyRequest("user@email.com", 3L, 500000L, getOrderProducts());
 
-		given(orderService.createOrder(anyString(), anyLong(), anyList()))
+		given(paymentReadyService.ready(anyString(), anyLong(), anyList()))
 			.willThrow(new CustomException(ErrorCode.INVALID_ORDER_ARGUMENT));
 
 		//expect
@@ -139,12 +124,8 @@ class PaymentControllerTest {
 			.andExpect(jsonPath("$.message").value("잘못된 요청입니다."))
 			.andExpect(jsonPath("$.reasons.order").value("주문정보가 옳바르지 않습니다."));
 
-		then(orderService).should(times(1))
-			.createOrder(anyString(), anyLong(), anyList());
-		then(kakaoPaymentClient).should(times(0))
-			.ready(anyString(), anyString(), anyLong(), anyString(), anyInt());
-		then(paymentService).should(times(0))
-			.createReadyPayment(anyString(), anyString(), anyString(), anyString(), anyLong());
+		then(paymentReadyService).should(times(1))
+			.ready(anyString(), anyLong(), anyList());
 	}
 
 	@Test
@@ -152,7 +133,7 @@ class PaymentControllerTest {
 		//given
 		PaymentReadyRequest request = new PaymentReadyRequest("user@email.com", 3L, 500000L, getOrderProducts());
 
-		given(orderService.createOrder(anyString(), anyLong(), anyList()))
+		given(paymentReadyService.ready(anyString(), anyLong(), anyList()))
 			.willThrow(new CustomException(ErrorCode.INVALID_TOTAL_PRICE));
 
 		//expect
@@ -163,12 +144,8 @@ class PaymentControllerTest {
 			.andExpect(jsonPath("$.message").value("잘못된 요청입니다."))
 			.andExpect(jsonPath("$.reasons.order").value("요청 주문상품가격과 실제 가격정보가 일치하지 않습니다."));
 
-		then(orderService).should(times(1))
-			.createOrder(anyString(), anyLong(), anyList());
-		then(kakaoPaymentClient).should(times(0))
-			.ready(anyString(), anyString(), anyLong(), anyString(), anyInt());
-		then(paymentService).should(times(0))
-			.createReadyPayment(anyString(), anyString(), anyString(), anyString(), anyLong());
+		then(paymentReadyService).should(times(1))
+			.ready(anyString(), anyLong(), anyList());
 	}
 
 	@Test
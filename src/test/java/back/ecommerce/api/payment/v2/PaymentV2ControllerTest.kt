@@ -1,20 +1,15 @@
 package back.ecommerce.api.payment.v2
 
-import back.ecommerce.api.payment.KakaoReadyPaymentResult
 import back.ecommerce.api.payment.OrderProductDto
+import back.ecommerce.api.payment.PaymentReadyResponse
 import back.ecommerce.api.spec.ApiTestSpec
 import back.ecommerce.api.support.*
 import back.ecommerce.auth.domain.AuthUser
 import back.ecommerce.auth.domain.Role
-import back.ecommerce.client.KakaoPaymentClient
-import back.ecommerce.order.application.OrderService
-import back.ecommerce.order.service.OrderGroupDto
 import back.ecommerce.payment.dto.request.PaymentReadyRequest
-import back.ecommerce.payment.service.PaymentService
+import back.ecommerce.payment.service.PaymentReadyService
 import com.fasterxml.jackson.databind.ObjectMapper
-import io.mockk.Runs
 import io.mockk.every
-import io.mockk.just
 import io.mockk.verify
 import org.hamcrest.CoreMatchers.equalTo
 import org.springframework.http.MediaType
@@ -24,9 +19,7 @@ import java.time.LocalDateTime
 import java.util.*
 
 class PaymentV2ControllerTest(
-    private val kakaoPaymentClient: KakaoPaymentClient,
-    private val paymentService: PaymentService,
-    private val orderService: OrderService,
+    private val paymentReadyService: PaymentReadyService,
     private val mockMvc: MockMvc,
     private val objectMapper: ObjectMapper
 ) : ApiTestSpec({
@@ -41,14 +34,8 @@ class PaymentV2ControllerTest(
             val orderCode = UUID.randomUUID()
             val time = LocalDateTime.now().withNano(0)
             val authUser = AuthUser("kmr2644@gmail.com", Role.MEMBER)
-            every { orderService.createOrder(any(), any(), any()) } returns
-                    OrderGroupDto(orderCode.toString(), "상품 A 등 총 2개의 상품", 3, 20000)
-            every { kakaoPaymentClient.ready(any(), any(), any(), any(), any()) } returns
-                    KakaoReadyPaymentResult(
-                        "appUrl", "mobileUrl", "pcUrl", "12345", "12345", orderCode.toString(),
-                        time.toString()
-                    )
-            every { paymentService.createReadyPayment(any(), any(), any(), any(), any()) } just Runs
+            every { paymentReadyService.ready(any(), any(), any()) } returns
+                    PaymentReadyResponse("pcUrl", orderCode.toString(), time.toString())
 
             it("return 200") {
                 mockMvc.docPost("/api/v2/payment/ready") {
@@ -81,9 +68,7 @@ class PaymentV2ControllerTest(
                         "entity.createdAt" type DATETIME means "주문 생성 시간",
                     )
                 }
-                verify(exactly = 1) { orderService.createOrder(any(), any(), any())  }
-                verify(exactly = 1) { kakaoPaymentClient.ready(any(), any(), any(), any(), any())  }
-                verify(exactly = 1) { paymentService.createReadyPayment(any(), any(), any(), any(), any())  }
+                verify(exactly = 1) { paymentReadyService.ready("kmr2644@gmail.com", 20000, products) }
             }
         }
 
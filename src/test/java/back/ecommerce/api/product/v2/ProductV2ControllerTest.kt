@@ -3,7 +3,11 @@ package back.ecommerce.api.product.v2
 import back.ecommerce.api.spec.ApiTestSpec
 import back.ecommerce.api.support.*
 import back.ecommerce.product.application.ProductV2Service
+import back.ecommerce.product.dto.response.v2.BrandFacet
+import back.ecommerce.product.dto.response.v2.PriceFacet
+import back.ecommerce.product.dto.response.v2.ProductCursorListV2Response
 import back.ecommerce.product.dto.response.v2.ProductDetailDto
+import back.ecommerce.product.dto.response.v2.ProductFacets
 import back.ecommerce.product.dto.response.v2.ProductListV2Response
 import back.ecommerce.product.dto.response.v2.ProductV2Dto
 import back.ecommerce.product.entity.Category
@@ -25,7 +29,7 @@ class ProductV2ControllerTest(
             products.add(createDto(1L, "옷A", "브랜드A", 10000L, Category.TOP, "http://via.placeholder.com/640x480"))
             products.add(createDto(10L, "옷B", "브랜드B", 15000L, Category.TOP, "http://via.placeholder.com/640x480"))
             products.add(createDto(15L, "옷C", "브랜드D", 170010L, Category.TOP, "http://via.placeholder.com/640x480"))
-            val response = ProductListV2Response(products.size, products)
+            val response = ProductListV2Response.of(products, 27L)
 
             every { productService.findWithCategoryAndPagination(any(Category::class)) } returns response
 
@@ -35,6 +39,8 @@ class ProductV2ControllerTest(
                         status { isOk() }
                         jsonPath("$.message", equalTo("상품이 성공적으로 조회 되었습니다."))
                         jsonPath("$.entity.totalCount").value(3)
+                        jsonPath("$.entity.totalElements").value(27)
+                        jsonPath("$.entity.totalPages").value(3)
                         jsonPath("$.entity.products[0].name").value("옷A")
                         jsonPath("$.entity.products[0].brandName").value("브랜드A")
                         jsonPath("$.entity.products[0].price").value(10000L)
@@ -57,7 +63,9 @@ class ProductV2ControllerTest(
                         pathParameters("category" to "카테고리")
                         responseFields(
                             "message" type STRING means "응답 메시지",
-                            "entity.totalCount" type NUMBER means "조회된 상품 총 갯수",
+                            "entity.totalCount" type NUMBER means "조회된 상품 갯수",
+                            "entity.totalElements" type NUMBER means "카테고리 전체 상품 수, 집계 전이면 생략" isOptional true,
+                            "entity.totalPages" type NUMBER means "전체 페이지 수, 집계 전이면 생략" isOptional true,
                             "entity.products" type ARRAY means "조회된 상품 데이터",
                             "entity.products[0].id" type NUMBER means "상품 ID",
                             "entity.products[0].name" type STRING means "상품 이름",
@@ -129,6 +137,118 @@ class ProductV2ControllerTest(
         }
     }
 
+    describe("GET /api/v2/categories/{category}/detail?facets=true") {
+        context("facet 과 함께 유효한 요청이 오면") {
+            val products = ArrayList<ProductV2Dto>()
+            products.add(createDto(1L, "옷A", "brandA", 10000L, Category.TOP, "http://via.placeholder.com/640x480"))
+            products.add(createDto(10L, "옷B", "brandA", 15000L, Category.TOP, "http://via.placeholder.com/640x480"))
+            val facets = ProductFacets(
+                listOf(BrandFacet("brandA", 2), BrandFacet("brandB", 1)),
+                listOf(PriceFacet(0L, 9999L, 0), PriceFacet(10000L, 29999L, 2), PriceFacet(30000L, null, 0))
+            )
+            val response = ProductListV2Response(products.size, products, facets)
+
+            every { productService.findWithSearchCondition(any(Category::class), any()) } returns response
+
+            it("return 200") {
+                mockMvc.docGet("/api/v2/categories/{category}/detail", "TOP") {
+                    param("brandName", "brandA")
+                    param("page", "1")
+                    param("facets", "true")
+                }.andExpect {
+                    status { isOk() }
+                    jsonPath("$.entity.totalCount").value(2)
+                    jsonPath("$.entity.facets.brands[0].brandName").value("brandA")
+                    jsonPath("$.entity.facets.brands[0].count").value(2)
+                    jsonPath("$.entity.facets.prices[1].minPrice").value(10000L)
+                    jsonPath("$.entity.facets.prices[1].count").value(2)
+                }.andDocument("카테고리 상품 조건 facet 조회 API") {
+                    pathParameters("category" to "카테고리")
+                    queryParameters(
+                        "name" query STRING means "상품 이름, 지정 시 facet 은 제공되지 않음" isOptional true,
+                        "brandName" query STRING means "상품 브랜드 이름" isOptional true,
+                        "minPrice" query NUMBER means "상품 최소 가격" isOptional true,
+                        "maxPrice" query NUMBER means "상품 최대 가격" isOptional true,
+                        "sort" query STRING means "정렬 방식" isOptional true,
+                        "page" query NUMBER means "페이지 번호" isOptional false,
+                        "facets" query BOOLEAN means "facet 집계 포함 여부" isOptional true,
+                    )
+                    responseFields(
+                        "message" type STRING means "응답 메시지",
+                        "entity.totalCount" type NUMBER means "조회된 상품 총 갯수",
+                        "entity.products" type ARRAY means "조회된 상품 데이터",
+                        "entity.products[0].id" type NUMBER means "상품 ID",
+                        "entity.products[0].name" type STRING means "상품 이름",
+                        "entity.products[0].brandName" type STRING means "상품 브랜드 이름",
+                        "entity.products[0].price" type NUMBER means "상품가격",
+                        "entity.products[0].category" type STRING means "상품 카테고리",
+                        "entity.products[0].thumbnailUrl" type STRING means "상품 썸네일 URL",
+                        "entity.facets" type OBJECT means "facet 집계, 비활성화 또는 상품명 검색 시 생략" isOptional true,
+                        "entity.facets.brands[].brandName" type STRING means "브랜드 이름",
+                        "entity.facets.brands[].count" type NUMBER means "가격 조건만 적용된 브랜드별 상품 갯수",
+                        "entity.facets.prices[].minPrice" type NUMBER means "가격 구간 최소값",
+                        "entity.facets.prices[].maxPrice" type NUMBER means "가격 구간 최대값, 마지막 구간은 생략" isOptional true,
+                        "entity.facets.prices[].count" type NUMBER means "브랜드 조건만 적용된 구간별 상품 갯수",
+                    )
+                }
+            }
+        }
+    }
+
+    describe("GET /api/v2/categories/{category}/detail?cursor=") {
+        context("커서와 함께 유효한 요청이 오면") {
+            val products = ArrayList<ProductV2Dto>()
+            products.add(createDto(15L, "옷A", "brand", 10000L, Category.TOP, "http://via.placeholder.com/640x480"))
+            products.add(createDto(10L, "옷B", "brand", 15000L, Category.TOP, "http://via.placeholder.com/640x480"))
+
+            val response = ProductCursorListV2Response(products.size, products, "TkVXfDIwMjQtMDEtMDFUMDA6MDB8MTA", true)
+
+            every { productService.findWithSearchConditionAndCursor(any(Category::class), any()) } returns response
+
+            it("return 200") {
+                mockMvc.docGet("/api/v2/categories/{category}/detail", "TOP") {
+                    param("sort", "new")
+                    param("cursor", "TkVXfDIwMjQtMDEtMDFUMDA6MDB8MjA")
+                    param("name", "옷")
+                }.andExpect {
+                    status { isOk() }
+                    jsonPath("$.message", equalTo("상품이 성공적으로 조회 되었습니다."))
+                    jsonPath("$.entity.totalCount").value(2)
+                    jsonPath("$.entity.products.size()").value(2)
+                    jsonPath("$.entity.products[0].id").value(15L)
+                    jsonPath("$.entity.products[1].id").value(10L)
+                    jsonPath("$.entity.nextCursor").value("TkVXfDIwMjQtMDEtMDFUMDA6MDB8MTA")
+                    jsonPath("$.entity.hasNext").value(true)
+                }.andDocument("카테고리 상품 조건 커서 조회 API") {
+                    pathParameters("category" to "카테고리")
+                    queryParameters(
+                        "name" query STRING means "상품 이름" isOptional true,
+                        "brandName" query STRING means "상품 브랜드 이름" isOptional true,
+                        "minPrice" query NUMBER means "상품 최소 가격" isOptional true,
+                        "maxPrice" query NUMBER means "상품 최대 가격" isOptional true,
+                        "sort" query STRING means "정렬 방식" isOptional true,
+                        "cursor" query STRING means "이전 응답의 nextCursor, 첫 페이지는 빈 값" isOptional false,
+                    )
+                    responseFields(
+                        "message" type STRING means "응답 메시지",
+                        "entity.totalCount" type NUMBER means "조회된 상품 갯수",
+                        "entity.products" type ARRAY means "조회된 상품 데이터",
+                        "entity.products[0].id" type NUMBER means "상품 ID",
+                        "entity.products[0].name" type STRING means "상품 이름",
+                        "entity.products[0].brandName" type STRING means "상품 브랜드 이름",
+                        "entity.products[0].price" type NUMBER means "상품가격",
+                        "entity.products[0].category" type STRING means "상품 카테고리",
+                        "entity.products[0].thumbnailUrl" type STRING means "상품 썸네일 URL",
+                        "entity.nextCursor" type STRING means "다음 페이지 커서" isOptional true,
+                        "entity.hasNext" type BOOLEAN means "다음 페이지 존재 여부",
+                    )
+                }
+                verify(exactly = 1) { productService.findWithSearchConditionAndCursor(any(Category::class), any()) }
+                verify(exactly = 0) { productService.findWithSearchCondition(any(Category::class), any()) }
+            }
+        }
+    }
+
     describe("GET /api/v2/product/{id}") {
         context("유효한 요청이 오면") {
             val imageUrls = listOf("http://via.placeholder.com/500x500", "http://via.placeholder.com/500x500")
@@ -167,6 +287,46 @@ class ProductV2ControllerTest(
             }
         }
     }
+
+    describe("GET /api/v2/products?ids=") {
+        context("유효한 요청이 오면") {
+            val products = ArrayList<ProductV2Dto>()
+            products.add(createDto(15L, "옷A", "브랜드A", 10000L, Category.TOP, "http://via.placeholder.com/640x480"))
+            products.add(createDto(3L, "신발B", "브랜드B", 35000L, Category.SHOES, "http://via.placeholder.com/640x480"))
+            val response = ProductListV2Response(products.size, products)
+
+            every { productService.findByIds(any()) } returns response
+
+            it("return 200") {
+                mockMvc.docGet("/api/v2/products") {
+                    param("ids", "15,3")
+                }.andExpect {
+                    status { isOk() }
+                    jsonPath("$.message", equalTo("상품이 성공적으로 조회 되었습니다."))
+                    jsonPath("$.entity.totalCount").value(2)
+                    jsonPath("$.entity.products[0].id").value(15L)
+                    jsonPath("$.entity.products[1].id").value(3L)
+                    jsonPath("$.entity.products[1].category").value("SHOES")
+                }.andDocument("상품 일괄 조회 API") {
+                    queryParameters(
+                        "ids" query STRING means "콤마로 구분된 상품 ID 목록, 최대 50개" isOptional false,
+                    )
+                    responseFields(
+                        "message" type STRING means "응답 메시지",
+                        "entity.totalCount" type NUMBER means "조회된 상품 갯수",
+                        "entity.products" type ARRAY means "요청한 id 순서로 정렬된 상품 데이터",
+                        "entity.products[0].id" type NUMBER means "상품 ID",
+                        "entity.products[0].name" type STRING means "상품 이름",
+                        "entity.products[0].brandName" type STRING means "상품 브랜드 이름",
+                        "entity.products[0].price" type NUMBER means "상품가격",
+                        "entity.products[0].category" type STRING means "상품 카테고리",
+                        "entity.products[0].thumbnailUrl" type STRING means "상품 썸네일 URL",
+                    )
+                }
+                verify(exactly = 1) { productService.findByIds("15,3") }
+            }
+        }
+    }
 })
 
 
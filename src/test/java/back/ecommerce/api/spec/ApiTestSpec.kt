@@ -1,9 +1,12 @@
 package back.ecommerce.api.spec
 
 import back.ecommerce.admin.repository.AdminRepository
+import back.ecommerce.auth.service.AdminRoleRegistry
+import back.ecommerce.auth.service.PasswordHashExecutor
 import back.ecommerce.api.support.TestSecurityConfig
 import back.ecommerce.auth.service.TokenExtractor
 import back.ecommerce.auth.service.TokenProvider
+import back.ecommerce.common.jdbc.ConnectionHoldRecorder
 import back.ecommerce.common.logging.GlobalLogger
 import io.kotest.core.extensions.Extension
 import io.kotest.core.spec.style.DescribeSpec
@@ -55,6 +58,9 @@ class MockServiceBeanFactoryPostProcessor : BeanFactoryPostProcessor {
         beanFactory.registerSingleton("globalLogger", mockkClass(GlobalLogger::class))
         beanFactory.registerSingleton("TokenProvider", mockkClass(TokenProvider::class))
         beanFactory.registerSingleton("TokenExtractor", mockkClass(TokenExtractor::class))
+        beanFactory.registerSingleton("AdminRoleRegistry", mockkClass(AdminRoleRegistry::class))
+        beanFactory.registerSingleton("PasswordHashExecutor", mockkClass(PasswordHashExecutor::class))
+        beanFactory.registerSingleton("ConnectionHoldRecorder", mockkClass(ConnectionHoldRecorder::class))
     }
 }
 
@@ -8,6 +8,7 @@ sealed class DocsFieldType(
 data object ARRAY : DocsFieldType(JsonFieldType.ARRAY)
 data object BOOLEAN : DocsFieldType(JsonFieldType.BOOLEAN)
 data object NUMBER : DocsFieldType(JsonFieldType.NUMBER)
+data object OBJECT : DocsFieldType(JsonFieldType.OBJECT)
 data object STRING : DocsFieldType(JsonFieldType.STRING)
 data object NULL : DocsFieldType(JsonFieldType.NULL)
 data object ANY : DocsFieldType(JsonFieldType.VARIES)
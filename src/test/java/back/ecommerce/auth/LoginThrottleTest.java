@@ -0,0 +1,75 @@
+package back.ecommerce.auth;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import back.ecommerce.auth.service.LoginThrottle;
+import back.ecommerce.exception.CustomException;
+
+class LoginThrottleTest {
+
+	@Test
+	@DisplayName("같은 이메일로 실패 한도를 넘으면 로그인이 거절되고 성공하면 초기화 되어야 한다.")
+	void email_throttled() {
+		//given
+		LoginThrottle loginThrottle = new LoginThrottle(2, 100, 300L, 100);
+		loginThrottle.recordFailure("user@email.com", "10.0.0.1");
+		loginThrottle.recordFailure("user@email.com", "10.0.0.2");
+
+		//expect
+		assertThatThrownBy(() -> loginThrottle.check("user@email.com", "10.0.0.3"))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("로그인 시도 횟수를 초과 했습니다. 잠시 후 다시 시도해주세요.");
+		assertThatCode(() -> loginThrottle.check("other@email.com", "10.0.0.3")).doesNotThrowAnyException();
+
+		loginThrottle.reset("user@email.com");
+		assertThatCode(() -> loginThrottle.check("user@email.com", "10.0.0.3")).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("같은 IP 에서 여러 계정으로 실패 한도를 넘으면 로그인이 거절되어야 한다.")
+	void ip_throttled() {
+		//given
+		LoginThrottle loginThrottle = new LoginThrottle(5, 2, 300L, 100);
+		loginThrottle.recordFailure("first@email.com", "10.0.0.1");
+		loginThrottle.recordFailure("second@email.com", "10.0.0.1");
+
+		//expect
+		assertThatThrownBy(() -> loginThrottle.check("third@email.com", "10.0.0.1"))
+			.isInstanceOf(CustomException.class);
+		assertThatCode(() -> loginThrottle.check("third@email.com", "10.0.0.2")).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("엔트리가 최대 크기에 닿으면 윈도우가 가장 먼저 끝나는 엔트리부터 제거되어야 한다.")
+	void evict_oldest() {
+		//given
+		LoginThrottle loginThrottle = new LoginThrottle(1, 100, 300L, 4);
+
+		//when
+		for (String email : List.of("a@email.com", "b@email.com", "c@email.com", "d@email.com", "e@email.com")) {
+			loginThrottle.recordFailure(email, "10.0.0.1");
+		}
+
+		//then
+		assertThat(loginThrottle.size()).isLessThanOrEqualTo(4);
+		assertThatThrownBy(() -> loginThrottle.check("e@email.com", "10.0.0.2"))
+			.isInstanceOf(CustomException.class);
+		assertThatCode(() -> loginThrottle.check("a@email.com", "10.0.0.2")).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("윈도우가 지나면 실패 횟수가 초기화 되어야 한다.")
+	void window_expired() {
+		//given
+		LoginThrottle loginThrottle = new LoginThrottle(1, 1, 0L, 100);
+		loginThrottle.recordFailure("user@email.com", "10.0.0.1");
+
+		//expect
+		assertThatCode(() -> loginThrottle.check("user@email.com", "10.0.0.1")).doesNotThrowAnyException();
+	}
+}
@@ -0,0 +1,103 @@
+package back.ecommerce.auth;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import back.ecommerce.auth.service.PasswordHashExecutor;
+import back.ecommerce.auth.service.PasswordHashStats;
+import back.ecommerce.exception.CustomException;
+
+class PasswordHashExecutorTest {
+
+	@Test
+	@DisplayName("인코딩한 비밀번호는 전용 풀에서 검증되고 cost 별 통계가 집계되어야 한다.")
+	void encode_and_matches() {
+		//given
+		PasswordHashExecutor executor = new PasswordHashExecutor(
+			PasswordEncoderFactories.createDelegatingPasswordEncoder(), 1, 4, 5000L);
+
+		//when
+		String encoded = executor.encode("password");
+		boolean matched = executor.matches("password", encoded);
+		boolean notMatched = executor.matches("other", encoded);
+
+		//then
+		PasswordHashStats stats = executor.stats();
+		assertThat(matched).isTrue();
+		assertThat(notMatched).isFalse();
+		assertThat(stats.getCostFactors()).hasSize(1);
+		assertThat(stats.getCostFactors().get(0).getCostFactor()).isEqualTo("bcrypt-10");
+		assertThat(stats.getCostFactors().get(0).getCount()).isEqualTo(3L);
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("풀과 대기열이 모두 차 있으면 기다리지 않고 바로 거절되어야 한다.")
+	void rejected_when_saturated() throws Exception {
+		//given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordHashExecutor executor = new PasswordHashExecutor(new BlockingPasswordEncoder(started, release),
+			1, 1, 5000L);
+		CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.matches("a", "{noop}a"));
+		started.await(1, TimeUnit.SECONDS);
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.matches("a", "{noop}a"));
+		while (executor.stats().getQueued() == 0) {
+			Thread.onSpinWait();
+		}
+
+		//expect
+		assertThatThrownBy(() -> executor.matches("a", "{noop}a"))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+		assertThat(executor.stats().getRejected()).isEqualTo(1L);
+
+		release.countDown();
+		assertThat(running.get(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(1, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("인코딩 방식과 bcrypt cost 를 해시에서 꺼낼 수 있어야 한다.")
+	void costFactorOf() {
+		assertThat(PasswordHashExecutor.Companion.costFactorOf("{bcrypt}$2a$12$abcdefghijklmnopqrstuv"))
+			.isEqualTo("bcrypt-12");
+		assertThat(PasswordHashExecutor.Companion.costFactorOf("{noop}password")).isEqualTo("noop");
+		assertThat(PasswordHashExecutor.Companion.costFactorOf("password")).isEqualTo("unknown");
+	}
+
+	private static class BlockingPasswordEncoder implements PasswordEncoder {
+		private final CountDownLatch started;
+		private final CountDownLatch release;
+
+		BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) {
+			this.started = started;
+			this.release = release;
+		}
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return "{noop}" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return encodedPassword.equals("{noop}" + rawPassword);
+		}
+	}
+}
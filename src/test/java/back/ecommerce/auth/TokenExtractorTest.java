@@ -0,0 +1,65 @@
+package back.ecommerce.auth;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import back.ecommerce.auth.service.TokenExtractor;
+import back.ecommerce.auth.service.TokenProvider;
+import back.ecommerce.auth.service.VerifiedTokenCache;
+import back.ecommerce.exception.AuthenticationException;
+
+class TokenExtractorTest {
+
+	private static final String SECRET_KEY = "test";
+
+	@Test
+	@DisplayName("한 번 검증된 토큰은 다시 파싱하지 않고 같은 claims 를 반환해야 한다.")
+	void validateAndGetPayload_cached() {
+		//given
+		TokenExtractor tokenExtractor = new TokenExtractor(SECRET_KEY, new VerifiedTokenCache(100, 300L));
+		String token = new TokenProvider(SECRET_KEY).provide("dmkl1s@gmail.com", 1000 * 60 * 60).getValue();
+
+		//when
+		Map<String, Object> first = tokenExtractor.validateAndGetPayload(token);
+		Map<String, Object> second = tokenExtractor.validateAndGetPayload(token);
+
+		//then
+		assertThat(first.get("email")).isEqualTo("dmkl1s@gmail.com");
+		assertThat(second).isSameAs(first);
+		assertThat(tokenExtractor.extractClaim(token, "email")).isEqualTo("dmkl1s@gmail.com");
+		assertThat(tokenExtractor.extractClaim(token, "email@@")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 캐시되지 않고 매번 만료 예외가 발생해야 한다.")
+	void validateAndGetPayload_expired() {
+		//given
+		TokenExtractor tokenExtractor = new TokenExtractor(SECRET_KEY, new VerifiedTokenCache(100, 300L));
+		String token = new TokenProvider(SECRET_KEY).provide("dmkl1s@gmail.com", -1000).getValue();
+
+		//expect
+		assertThatThrownBy(() -> tokenExtractor.validateAndGetPayload(token))
+			.isInstanceOf(AuthenticationException.class)
+			.hasMessage("토큰이 만료 되었습니다.");
+		assertThatThrownBy(() -> tokenExtractor.validateAndGetPayload(token))
+			.isInstanceOf(AuthenticationException.class)
+			.hasMessage("토큰이 만료 되었습니다.");
+	}
+
+	@Test
+	@DisplayName("서명이 다른 토큰은 예외가 발생해야 한다.")
+	void validateAndGetPayload_invalid_signature() {
+		//given
+		TokenExtractor tokenExtractor = new TokenExtractor(SECRET_KEY, new VerifiedTokenCache(100, 300L));
+		String token = new TokenProvider("other").provide("dmkl1s@gmail.com", 1000 * 60 * 60).getValue();
+
+		//expect
+		assertThatThrownBy(() -> tokenExtractor.validateAndGetPayload(token))
+			.isInstanceOf(AuthenticationException.class)
+			.hasMessage("토큰이 유효하지 않습니다.");
+	}
+}
@@ -3,9 +3,12 @@ package back.ecommerce.auth.interceptor;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 import back.ecommerce.api.auth.interceptor.AdminAuthorizationInterceptor;
+import back.ecommerce.auth.service.AdminRoleRegistry;
+import back.ecommerce.auth.service.TokenExtractor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -16,7 +19,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import back.ecommerce.admin.entity.Admin;
 import back.ecommerce.exception.AuthenticationException;
 import back.ecommerce.admin.repository.AdminRepository;
 
@@ -24,6 +26,7 @@ import back.ecommerce.admin.repository.AdminRepository;
 class AdminAuthorizationInterceptorTest {
 
 	AdminAuthorizationInterceptor adminAuthorizationInterceptor;
+	AdminRoleRegistry adminRoleRegistry;
 	@Mock
 	AdminRepository adminRepository;
 	@Mock
@@ -35,41 +38,67 @@ class AdminAuthorizationInterceptorTest {
 
 	@BeforeEach
 	void setUp() {
-		adminAuthorizationInterceptor = new AdminAuthorizationInterceptor(adminRepository);
+		adminRoleRegistry = new AdminRoleRegistry(adminRepository, 30L);
+		adminAuthorizationInterceptor = new AdminAuthorizationInterceptor(adminRoleRegistry);
 	}
 
 	@Test
-	@DisplayName("어드민이 유효할시 정상적으로 통과되어야함")
+	@DisplayName("어드민 role claim 이 있고 어드민 목록에 있으면 정상적으로 통과되어야함")
 	void handle() throws Exception {
 		//given
-		given(request.getAttribute(anyString())).willReturn("email@email.com");
-		given(adminRepository.findByEmail(anyString()))
-			.willReturn(Optional.of(new Admin(15L, "email@email.com", "password")));
+		given(request.getAttribute(TokenExtractor.CLAIMS_ATTRIBUTE))
+			.willReturn(Map.of("email", "email@email.com", "role", "ADMIN"));
+		given(adminRepository.findAllEmails()).willReturn(List.of("email@email.com"));
 
 		//when
-		boolean actual = adminAuthorizationInterceptor.preHandle(request, response, handle);
+		boolean first = adminAuthorizationInterceptor.preHandle(request, response, handle);
+		boolean second = adminAuthorizationInterceptor.preHandle(request, response, handle);
 
 		//then
-		assertThat(actual).isTrue();
-		then(adminRepository).should(times(1)).findByEmail(anyString());
-		then(request).should(times(1)).getAttribute(anyString());
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		then(adminRepository).should(times(1)).findAllEmails();
+		then(request).should(times(2)).setAttribute("email", "email@email.com");
 	}
 
 	@Test
-	@DisplayName("어드민이 유효 하지 않을 시 AuthenticationException 을 던저야함")
-	void handle_admin_not_found() {
+	@DisplayName("role claim 이 어드민이 아니면 조회 없이 AuthenticationException 을 던저야함")
+	void handle_member() {
 		//given
-		given(request.getAttribute(anyString())).willReturn("email@email.com");
-		given(adminRepository.findByEmail(anyString()))
-			.willReturn(Optional.empty());
+		given(request.getAttribute(TokenExtractor.CLAIMS_ATTRIBUTE))
+			.willReturn(Map.of("email", "email@email.com", "role", "MEMBER"));
 
 		//expect
 		assertThatThrownBy(() -> adminAuthorizationInterceptor.preHandle(request, response, handle))
 			.isInstanceOf(AuthenticationException.class)
 			.hasMessage("권한이 없습니다.");
 
-		then(adminRepository).should(times(1)).findByEmail(anyString());
-		then(request).should(times(1)).getAttribute(anyString());
+		then(adminRepository).shouldHaveNoInteractions();
+	}
 
+	@Test
+	@DisplayName("어드민 목록에서 제외된 계정은 role claim 이 있어도 AuthenticationException 을 던저야함")
+	void handle_revoked_admin() {
+		//given
+		given(request.getAttribute(TokenExtractor.CLAIMS_ATTRIBUTE))
+			.willReturn(Map.of("email", "email@email.com", "role", "ADMIN"));
+		given(adminRepository.findAllEmails()).willReturn(List.of("other@email.com"));
+
+		//expect
+		assertThatThrownBy(() -> adminAuthorizationInterceptor.preHandle(request, response, handle))
+			.isInstanceOf(AuthenticationException.class)
+			.hasMessage("권한이 없습니다.");
+	}
+
+	@Test
+	@DisplayName("검증된 토큰이 없으면 AuthenticationException 을 던저야함")
+	void handle_without_token() {
+		//given
+		given(request.getAttribute(TokenExtractor.CLAIMS_ATTRIBUTE)).willReturn(null);
+
+		//expect
+		assertThatThrownBy(() -> adminAuthorizationInterceptor.preHandle(request, response, handle))
+			.isInstanceOf(AuthenticationException.class)
+			.hasMessage("권한이 없습니다.");
 	}
-}
\ No newline at end of file
+}
@@ -34,6 +34,7 @@ internal class JwtAuthenticationInterceptorTest : DescribeSpec(
                             + ".3UsoYUK0_vvq2jwN6eskqTAC2E9xStyN7iVwZ7d3rw4")
 
                 every { request.getHeader(any()) } returns header
+                every { request.getAttribute(any()) } returns null
                 every { tokenExtractor.extractClaim(any(), any()) } returns token
                 every { request.setAttribute(any(), any()) } returns Unit
 
@@ -45,6 +46,22 @@ internal class JwtAuthenticationInterceptorTest : DescribeSpec(
                 }
 
             }
+            context("필터에서 검증한 claims 가 요청에 담겨있을 때") {
+                val header = ("Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9"
+                        + ".eyJzdWIiOiIxMjM0NTY3ODkwIiwibmFtZSI6IkpvaG4gRG9lIiwiaWF0IjoxNTE2MjM5MDIyfQ"
+                        + ".3UsoYUK0_vvq2jwN6eskqTAC2E9xStyN7iVwZ7d3rw4")
+
+                every { request.getHeader(any()) } returns header
+                every { request.getAttribute(TokenExtractor.CLAIMS_ATTRIBUTE) } returns mapOf("email" to "user@email.com")
+                every { request.setAttribute(any(), any()) } returns Unit
+
+                it("토큰을 다시 검증하지 않고 claims 의 이메일을 사용해야 한다.") {
+                    jwtAuthenticationInterceptor.preHandle(request, response, handler) shouldBe true
+                    verify(exactly = 0) { tokenExtractor.extractClaim(any(), any()) }
+                    verify(exactly = 1) { request.setAttribute("email", "user@email.com") }
+                }
+            }
+
             context("Authorization 헤더에 토큰이 존재 하지 않으면") {
                 val header = null
                 every { request.getHeader(any()) } returns header
@@ -0,0 +1,97 @@
+package back.ecommerce.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import back.ecommerce.common.logging.GlobalLogger;
+
+@ExtendWith(MockitoExtension.class)
+class CacheVersionsTest {
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("Redis 에서 읽은 버전은 로컬 TTL 동안 Redis 조회 없이 재사용되어야 한다.")
+	void current_local_cached() {
+		//given
+		CacheVersions versions = new CacheVersions("version:", redisTemplate, new GlobalLogger(), Duration.ofMinutes(1));
+		given(valueOperations.get("version:TOP")).willReturn("3");
+
+		//when
+		versions.current("TOP");
+		long actual = versions.current("TOP");
+
+		//then
+		assertThat(actual).isEqualTo(3L);
+		then(valueOperations).should(times(1)).get("version:TOP");
+	}
+
+	@Test
+	@DisplayName("로컬 TTL 이 지나면 Redis 에서 다시 읽어 다른 인스턴스가 올린 버전이 반영되어야 한다.")
+	void current_refresh_after_ttl() {
+		//given
+		CacheVersions versions = new CacheVersions("version:", redisTemplate, new GlobalLogger(), Duration.ZERO);
+		given(valueOperations.get("version:TOP")).willReturn("3", "5");
+
+		//when
+		versions.current("TOP");
+		long actual = versions.current("TOP");
+
+		//then
+		assertThat(actual).isEqualTo(5L);
+		then(valueOperations).should(times(2)).get("version:TOP");
+	}
+
+	@Test
+	@DisplayName("자기 인스턴스에서 올린 버전은 로컬 TTL 과 관계없이 바로 조회되어야 한다.")
+	void increment_visible_immediately() {
+		//given
+		CacheVersions versions = new CacheVersions("version:", redisTemplate, new GlobalLogger(), Duration.ofMinutes(1));
+		given(valueOperations.get("version:TOP")).willReturn("3");
+		given(valueOperations.increment("version:TOP")).willReturn(4L);
+		versions.current("TOP");
+
+		//when
+		versions.increment("TOP");
+		long actual = versions.current("TOP");
+
+		//then
+		assertThat(actual).isEqualTo(4L);
+		then(valueOperations).should(times(1)).get("version:TOP");
+	}
+
+	@Test
+	@DisplayName("Redis 조회에 실패하면 로컬 버전을 사용하고 로컬 TTL 동안 다시 시도하지 않아야 한다.")
+	void current_redis_failure() {
+		//given
+		CacheVersions versions = new CacheVersions("version:", redisTemplate, new GlobalLogger(), Duration.ofMinutes(1));
+		given(valueOperations.get("version:TOP")).willThrow(new IllegalStateException("connection refused"));
+
+		//when
+		versions.current("TOP");
+		long actual = versions.current("TOP");
+
+		//then
+		assertThat(actual).isZero();
+		then(valueOperations).should(times(1)).get("version:TOP");
+	}
+}
@@ -0,0 +1,205 @@
+package back.ecommerce.common.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TwoTierCacheTest {
+
+	@Test
+	@DisplayName("캐시된 값이 있으면 loader 를 호출하지 않고 로컬 캐시 히트로 집계되어야 한다.")
+	void get_local_hit() {
+		//given
+		TwoTierCache<String> cache = new TwoTierCache<>("test", new LocalCache<>(Duration.ofMinutes(1), 10), null);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		cache.get("key", () -> "value" + loadCount.incrementAndGet());
+		String actual = cache.get("key", () -> "value" + loadCount.incrementAndGet());
+
+		//then
+		assertThat(actual).isEqualTo("value1");
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(cache.stats()).isEqualTo(new CacheStats("test", 1L, 0L, 1L, 0L, 0L));
+	}
+
+	@Test
+	@DisplayName("evict 후 조회하면 loader 를 통해 다시 적재되어야 한다.")
+	void evict() {
+		//given
+		TwoTierCache<String> cache = new TwoTierCache<>("test", new LocalCache<>(Duration.ofMinutes(1), 10), null);
+		cache.get("key", () -> "old");
+
+		//when
+		cache.evict("key");
+		String actual = cache.get("key", () -> "new");
+
+		//then
+		assertThat(actual).isEqualTo("new");
+		assertThat(cache.stats().getMisses()).isEqualTo(2L);
+		assertThat(cache.stats().getEvictions()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시의 TTL 이 지나면 캐시 미스가 되어야 한다.")
+	void local_expired() {
+		//given
+		LocalCache<String> localCache = new LocalCache<>(Duration.ZERO, 10);
+		localCache.put("key", "value");
+
+		//expect
+		assertThat(localCache.get("key")).isNull();
+	}
+
+	@Test
+	@DisplayName("로컬 캐시가 가득 차면 가장 오래 사용되지 않은 키가 제거되어야 한다.")
+	void local_maximum_size() {
+		//given
+		LocalCache<String> localCache = new LocalCache<>(Duration.ofMinutes(1), 2);
+		localCache.put("first", "value");
+		localCache.put("second", "value");
+		localCache.get("first");
+
+		//when
+		localCache.put("third", "value");
+
+		//then
+		assertThat(localCache.get("first")).isEqualTo("value");
+		assertThat(localCache.get("second")).isNull();
+		assertThat(localCache.get("third")).isEqualTo("value");
+		assertThat(localCache.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시가 가득 차면 만료된 키가 먼저 제거되어야 한다.")
+	void local_maximum_size_expired_first() {
+		//given
+		LocalCache<String> localCache = new LocalCache<>(Duration.ofMinutes(1), 2);
+		localCache.put("old", "value");
+		localCache.put("expired", "value", Duration.ZERO);
+
+		//when
+		localCache.put("new", "value");
+
+		//then
+		assertThat(localCache.get("old")).isEqualTo("value");
+		assertThat(localCache.get("new")).isEqualTo("value");
+		assertThat(localCache.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("같은 키의 동시 미스는 loader 를 한 번만 호출하고 결과를 공유해야 한다.")
+	void coalesce_concurrent_misses() throws Exception {
+		//given
+		TwoTierCache<String> cache = new TwoTierCache<>("test", new LocalCache<>(Duration.ofMinutes(1), 10), null);
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		int threadCount = 16;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+		//when
+		Future<String> leader = executorService.submit(() -> cache.get("key", () -> {
+			loading.countDown();
+			awaitQuietly(release);
+			return "value" + loadCount.incrementAndGet();
+		}));
+		loading.await();
+		List<Future<String>> followers = new ArrayList<>();
+		for (int i = 1; i < threadCount; i++) {
+			followers.add(executorService.submit(() -> cache.get("key", () -> "value" + loadCount.incrementAndGet())));
+		}
+		while (cache.stats().getCoalescedLoads() < threadCount - 1) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		//then
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value1");
+		for (Future<String> follower : followers) {
+			assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value1");
+		}
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(cache.stats().getMisses()).isEqualTo(1L);
+		executorService.shutdown();
+	}
+
+	@Test
+	@DisplayName("loader 예외는 기다리던 요청에도 전달되고 캐시되지 않아야 한다.")
+	void coalesce_failure() {
+		//given
+		TwoTierCache<String> cache = new TwoTierCache<>("test", new LocalCache<>(Duration.ofMinutes(1), 10), null);
+
+		//expect
+		assertThatThrownBy(() -> cache.get("key", () -> {
+			throw new IllegalStateException("fail");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(cache.get("key", () -> "value")).isEqualTo("value");
+	}
+
+	@Test
+	@DisplayName("여러 키 조회 시 캐시에 없는 키들만 모아 loader 를 한 번 호출해야 한다.")
+	void get_all() {
+		//given
+		TwoTierCache<String> cache = new TwoTierCache<>("test", new LocalCache<>(Duration.ofMinutes(1), 10), null);
+		cache.get("1", () -> "cached");
+		List<List<String>> loadedKeys = new ArrayList<>();
+
+		//when
+		Map<String, String> actual = cache.getAll(List.of("1", "2", "3"), keys -> {
+			loadedKeys.add(keys);
+			return Map.of("2", "loaded");
+		});
+		Map<String, String> reloaded = cache.getAll(List.of("2", "3"), keys -> {
+			loadedKeys.add(keys);
+			return Map.of();
+		});
+
+		//then
+		assertThat(actual).containsExactlyInAnyOrderEntriesOf(Map.of("1", "cached", "2", "loaded"));
+		assertThat(reloaded).containsExactlyInAnyOrderEntriesOf(Map.of("2", "loaded"));
+		assertThat(loadedKeys).containsExactly(List.of("2", "3"), List.of("3"));
+	}
+
+	@Test
+	@DisplayName("getIfPresent 의 loader 가 null 을 반환하면 캐시하지 않고 다음 조회에서 다시 loader 를 호출해야 한다.")
+	void get_if_present_absent() {
+		//given
+		TwoTierCache<String> cache = new TwoTierCache<>("test", new LocalCache<>(Duration.ofMinutes(1), 10), null);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		//when
+		String absent = cache.getIfPresent("key", () -> {
+			loadCount.incrementAndGet();
+			return null;
+		});
+		String present = cache.getIfPresent("key", () -> "value" + loadCount.incrementAndGet());
+		String cached = cache.getIfPresent("key", () -> "value" + loadCount.incrementAndGet());
+
+		//then
+		assertThat(absent).isNull();
+		assertThat(present).isEqualTo("value2");
+		assertThat(cached).isEqualTo("value2");
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package back.ecommerce.common.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionHoldDataSourceTest {
+
+	@Mock
+	DataSource target;
+	@Mock
+	Connection connection;
+
+	@Test
+	@DisplayName("커넥션을 반납하면 한 번만 점유 시간이 기록되고 요청 밖에서는 background 로 모여야 한다.")
+	void record_on_close() throws SQLException {
+		//given
+		ConnectionHoldRecorder recorder = new ConnectionHoldRecorder();
+		ConnectionHoldDataSource dataSource = new ConnectionHoldDataSource(target, recorder);
+		given(target.getConnection()).willReturn(connection);
+
+		//when
+		Connection held = dataSource.getConnection();
+		held.setAutoCommit(false);
+		held.close();
+		held.close();
+
+		//then
+		then(connection).should(times(1)).setAutoCommit(false);
+		then(connection).should(times(2)).close();
+		List<ConnectionHoldStats> stats = recorder.stats();
+		assertThat(stats).hasSize(1);
+		assertThat(stats.get(0).getEndpoint()).isEqualTo(ConnectionHoldRecorder.BACKGROUND);
+		assertThat(stats.get(0).getCount()).isEqualTo(1);
+		assertThat(stats.get(0).getBuckets()).last()
+			.isEqualTo(new ConnectionHoldBucket("+Inf", 1L));
+	}
+
+	@Test
+	@DisplayName("점유 시간은 구간별 누적 횟수로 집계되어야 한다.")
+	void histogram() {
+		//given
+		ConnectionHoldRecorder recorder = new ConnectionHoldRecorder();
+
+		//when
+		recorder.record("POST /api/payment/ready", 3_000_000L);
+		recorder.record("POST /api/payment/ready", 300_000_000L);
+		recorder.record("POST /api/payment/ready", 6_000_000_000L);
+
+		//then
+		ConnectionHoldStats stats = recorder.stats().get(0);
+		assertThat(stats.getCount()).isEqualTo(3);
+		assertThat(stats.getMaxMillis()).isEqualTo(6000.0);
+		assertThat(stats.getBuckets()).extracting("le", "count").contains(
+			tuple("1ms", 0L), tuple("5ms", 1L), tuple("250ms", 1L), tuple("500ms", 2L), tuple("5000ms", 2L),
+			tuple("+Inf", 3L));
+	}
+}
@@ -69,4 +69,54 @@ class ProductSearchConditionTest {
 		assertThat(actual.getMaxPrice()).isEqualTo(null);
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("상품명, 브랜드 조건은 앞뒤 공백이 제거되고 빈 문자열은 조건 없음이 되어야 한다.")
+	void create_strip_text() {
+		//given
+		HashMap<String, String> hashMap = new HashMap<>();
+		hashMap.put("name", "  nameA ");
+		hashMap.put("brandName", " ");
+		hashMap.put("page", "1");
+
+		//when
+		ProductSearchCondition actual = ProductSearchCondition.createWithCategoryAndAttributes(Category.TOP,
+			hashMap);
+
+		//then
+		assertThat(actual.getName()).isEqualTo("nameA");
+		assertThat(actual.getBranName()).isNull();
+	}
+
+	@Test
+	@DisplayName("결과가 같은 조건은 같은 캐시 키를, 결과가 다른 조건은 다른 캐시 키를 가져야 한다.")
+	void toCacheKey() {
+		//given
+		HashMap<String, String> blank = new HashMap<>();
+		blank.put("name", " ");
+		blank.put("minPrice", "0");
+		blank.put("sort", "unknown");
+		blank.put("page", "1");
+		HashMap<String, String> empty = new HashMap<>();
+		empty.put("page", "1");
+		HashMap<String, String> shifted = new HashMap<>();
+		shifted.put("name", "a|");
+		shifted.put("brandName", "b");
+		shifted.put("page", "1");
+		HashMap<String, String> other = new HashMap<>();
+		other.put("name", "a");
+		other.put("brandName", "|b");
+		other.put("page", "1");
+
+		//when
+		String blankKey = ProductSearchCondition.createWithCategoryAndAttributes(Category.TOP, blank).toCacheKey();
+		String emptyKey = ProductSearchCondition.createWithCategoryAndAttributes(Category.TOP, empty).toCacheKey();
+		String shiftedKey = ProductSearchCondition.createWithCategoryAndAttributes(Category.TOP, shifted)
+			.toCacheKey();
+		String otherKey = ProductSearchCondition.createWithCategoryAndAttributes(Category.TOP, other).toCacheKey();
+
+		//then
+		assertThat(blankKey).isEqualTo(emptyKey);
+		assertThat(shiftedKey).isNotEqualTo(otherKey);
+	}
+}
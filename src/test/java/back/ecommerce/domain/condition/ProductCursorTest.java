@@ -0,0 +1,77 @@
+package back.ecommerce.domain.condition;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import back.ecommerce.exception.CustomException;
+import back.ecommerce.product.dto.condition.ProductCursor;
+import back.ecommerce.product.dto.condition.ProductSortCondition;
+
+class ProductCursorTest {
+
+	@Test
+	@DisplayName("등록일순 커서는 인코딩 후 디코딩하면 등록일과 id 가 복원되어야 한다.")
+	void encode_decode_new() {
+		//given
+		LocalDateTime createdDate = LocalDateTime.of(2024, 1, 1, 10, 30, 15, 123456000);
+		ProductCursor cursor = ProductCursor.of(ProductSortCondition.NEW, 100L, 5000L, createdDate);
+
+		//when
+		ProductCursor actual = ProductCursor.decode(cursor.encode(), ProductSortCondition.NEW);
+
+		//then
+		assertThat(actual.getCreatedDate()).isEqualTo(createdDate);
+		assertThat(actual.getId()).isEqualTo(100L);
+		assertThat(actual.getPrice()).isNull();
+	}
+
+	@Test
+	@DisplayName("가격순 커서는 인코딩 후 디코딩하면 가격과 id 가 복원되어야 한다.")
+	void encode_decode_price() {
+		//given
+		ProductCursor cursor = ProductCursor.of(ProductSortCondition.PRICE_HIGH, 7L, 5000L, LocalDateTime.now());
+
+		//when
+		ProductCursor actual = ProductCursor.decode(cursor.encode(), ProductSortCondition.PRICE_HIGH);
+
+		//then
+		assertThat(actual.getPrice()).isEqualTo(5000L);
+		assertThat(actual.getId()).isEqualTo(7L);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@DisplayName("커서 값이 비어있으면 첫 페이지를 의미하는 null 을 반환 해야한다.")
+	void decode_empty(String value) {
+		//expect
+		assertThat(ProductCursor.decode(value, ProductSortCondition.NEW)).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"abc", "!!", "TkVXfGFiY3wx"})
+	@DisplayName("커서 값이 유효하지 않으면 예외가 발생한다.")
+	void decode_invalid(String value) {
+		//expect
+		assertThatThrownBy(() -> ProductCursor.decode(value, ProductSortCondition.NEW))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("유효하지 않는 커서입니다.");
+	}
+
+	@Test
+	@DisplayName("정렬 조건이 다른 커서를 사용하면 예외가 발생한다.")
+	void decode_sort_mismatch() {
+		//given
+		String value = ProductCursor.of(ProductSortCondition.PRICE_LOW, 7L, 5000L, null).encode();
+
+		//expect
+		assertThatThrownBy(() -> ProductCursor.decode(value, ProductSortCondition.PRICE_HIGH))
+			.isInstanceOf(CustomException.class);
+	}
+}
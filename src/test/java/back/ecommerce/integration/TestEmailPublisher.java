@@ -1,5 +1,6 @@
 package back.ecommerce.integration;
 
+import java.util.List;
 import java.util.Map;
 
 import back.ecommerce.publisher.aws.EmailPublisher;
@@ -10,4 +11,9 @@ public class TestEmailPublisher implements EmailPublisher {
 	public void pub(MessageType messageType, Map<String, String> map) {
 
 	}
+
+	@Override
+	public void pubAll(MessageType messageType, List<Map<String, String>> maps) {
+
+	}
 }
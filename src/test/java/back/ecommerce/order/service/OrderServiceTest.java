@@ -25,7 +25,7 @@ import back.ecommerce.order.entity.OrderItem;
 import back.ecommerce.product.entity.Category;
 import back.ecommerce.product.entity.Product;
 import back.ecommerce.product.repository.ProductRepository;
-import back.ecommerce.user.repository.UserRepository;
+import back.ecommerce.user.cache.UserIdentityCache;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -35,7 +35,7 @@ class OrderServiceTest {
 	@Mock
 	ProductRepository productRepository;
 	@Mock
-	UserRepository userRepository;
+	UserIdentityCache userIdentityCache;
 	@Mock
 	ULIDGenerator ulidGenerator;
 
@@ -43,7 +43,7 @@ class OrderServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		orderService = new OrderService(orderGroupRepository, productRepository, userRepository, ulidGenerator);
+		orderService = new OrderService(orderGroupRepository, productRepository, userIdentityCache, ulidGenerator);
 	}
 
 	@Test
@@ -58,7 +58,7 @@ class OrderServiceTest {
 		orderItems.add(new OrderItem(100L, null, 1L, "상품1", 250000L, 1));
 		orderItems.add(new OrderItem(101L, null, 10L, "상품2", 250000L, 1));
 
-		given(userRepository.existsByEmail(anyString())).willReturn(true);
+		given(userIdentityCache.exists(anyString())).willReturn(true);
 		given(productRepository.findByIds(anyList())).willReturn(products);
 		given(orderGroupRepository.save(any(OrderGroup.class)))
 			.willReturn(new OrderGroup(
@@ -75,7 +75,7 @@ class OrderServiceTest {
 		assertThat(order.getTotalPrice()).isEqualTo(500000L);
 		assertThat(order.getQuantity()).isEqualTo(2);
 
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(productRepository).should(times(1)).findByIds(anyList());
 		then(orderGroupRepository).should(times(1)).save(any(OrderGroup.class));
 		then(ulidGenerator).should(times(1)).generateULIDToUUID();
@@ -84,7 +84,7 @@ class OrderServiceTest {
 	@Test
 	void createOrder_user_not_found() {
 		//given
-		given(userRepository.existsByEmail(anyString())).willReturn(false);
+		given(userIdentityCache.exists(anyString())).willReturn(false);
 
 		//when
 		assertThatThrownBy(() -> orderService.createOrder("user@email.com", 500000L, getOrderProducts()))
@@ -92,7 +92,7 @@ class OrderServiceTest {
 			.hasMessage("해당하는 유저가 존재하지 않습니다.");
 
 		//then
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(productRepository).should(times(0)).findByIds(anyList());
 		then(orderGroupRepository).should(times(0)).save(any(OrderGroup.class));
 	}
@@ -103,7 +103,7 @@ class OrderServiceTest {
 		ArrayList<Product> products = new ArrayList<>();
 		products.add(new Product(1L, "상품1", "브랜드1", 500000L, Category.ACCESSORY));
 
-		given(userRepository.existsByEmail(anyString())).willReturn(true);
+		given(userIdentityCache.exists(anyString())).willReturn(true);
 		given(productRepository.findByIds(anyList())).willReturn(products);
 
 		//when
@@ -112,7 +112,7 @@ class OrderServiceTest {
 			.hasMessage("주문정보가 옳바르지 않습니다.");
 
 		//then
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(productRepository).should(times(1)).findByIds(anyList());
 		then(orderGroupRepository).should(times(0)).save(any(OrderGroup.class));
 	}
@@ -123,7 +123,7 @@ class OrderServiceTest {
 		products.add(new Product(1L, "상품1", "브랜드1", 250000L, Category.ACCESSORY));
 		products.add(new Product(10L, "상품2", "브랜드2", 300000L, Category.ACCESSORY));
 
-		given(userRepository.existsByEmail(anyString())).willReturn(true);
+		given(userIdentityCache.exists(anyString())).willReturn(true);
 		given(productRepository.findByIds(anyList())).willReturn(products);
 
 		//when
@@ -132,7 +132,7 @@ class OrderServiceTest {
 			.hasMessage("요청 주문상품가격과 실제 가격정보가 일치하지 않습니다.");
 
 		//then
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(productRepository).should(times(1)).findByIds(anyList());
 		then(orderGroupRepository).should(times(0)).save(any(OrderGroup.class));
 
@@ -0,0 +1,96 @@
+package back.ecommerce.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import back.ecommerce.api.payment.KakaoReadyPaymentResult;
+import back.ecommerce.api.payment.OrderProductDto;
+import back.ecommerce.api.payment.PaymentReadyResponse;
+import back.ecommerce.client.KakaoPaymentClient;
+import back.ecommerce.exception.CustomException;
+import back.ecommerce.exception.ErrorCode;
+import back.ecommerce.order.application.OrderService;
+import back.ecommerce.order.service.OrderGroupDto;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReadyServiceTest {
+	@Mock
+	OrderService orderService;
+	@Mock
+	KakaoPaymentClient kakaoPaymentClient;
+	@Mock
+	PaymentService paymentService;
+	PaymentReadyService paymentReadyService;
+
+	@BeforeEach
+	void setUp() {
+		paymentReadyService = new PaymentReadyService(orderService, kakaoPaymentClient, paymentService);
+	}
+
+	@Test
+	@DisplayName("주문 저장, 카카오페이 준비 요청, 결제 저장 순서로 실행하고 결제 URL 을 반환해야 한다.")
+	void ready() {
+		//given
+		String orderCode = "d20bfd22-bf3d-4d63-a616-831610627a05";
+		List<OrderProductDto> orderProducts = List.of(new OrderProductDto(1L, "상품A", 2, 20000L));
+		given(orderService.createOrder("user@email.com", 20000L, orderProducts))
+			.willReturn(new OrderGroupDto(orderCode, "상품A", 2, 20000L));
+		given(kakaoPaymentClient.ready("user@email.com", orderCode, 20000L, "상품A", 2))
+			.willReturn(new KakaoReadyPaymentResult("appUrl", "mobileUrl", "pcUrl", "TC0ONETIME", "T1234", orderCode,
+				"2024-01-01T00:00:00"));
+
+		//when
+		PaymentReadyResponse response = paymentReadyService.ready("user@email.com", 20000L, orderProducts);
+
+		//then
+		assertThat(response).isEqualTo(new PaymentReadyResponse("pcUrl", orderCode, "2024-01-01T00:00:00"));
+		InOrder inOrder = inOrder(orderService, kakaoPaymentClient, paymentService);
+		inOrder.verify(orderService).createOrder("user@email.com", 20000L, orderProducts);
+		inOrder.verify(kakaoPaymentClient).ready("user@email.com", orderCode, 20000L, "상품A", 2);
+		inOrder.verify(paymentService).createReadyPayment("T1234", "TC0ONETIME", orderCode, "user@email.com", 20000L);
+	}
+
+	@Test
+	@DisplayName("주문 저장에 실패하면 카카오페이 준비 요청을 보내지 않아야 한다.")
+	void ready_order_failed() {
+		//given
+		given(orderService.createOrder(anyString(), anyLong(), anyList()))
+			.willThrow(new CustomException(ErrorCode.INVALID_TOTAL_PRICE));
+
+		//expect
+		assertThatThrownBy(() -> paymentReadyService.ready("user@email.com", 20000L, List.of()))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("요청 주문상품가격과 실제 가격정보가 일치하지 않습니다.");
+
+		then(kakaoPaymentClient).shouldHaveNoInteractions();
+		then(paymentService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 호출되면 커넥션을 잡은 채 외부 호출을 하지 않도록 예외가 발생해야 한다.")
+	void ready_in_transaction() {
+		//given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		//expect
+		try {
+			assertThatThrownBy(() -> paymentReadyService.ready("user@email.com", 20000L, List.of()))
+				.isInstanceOf(IllegalStateException.class);
+			then(orderService).shouldHaveNoInteractions();
+			then(kakaoPaymentClient).shouldHaveNoInteractions();
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+	}
+}
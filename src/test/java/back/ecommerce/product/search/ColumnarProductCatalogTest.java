@@ -0,0 +1,87 @@
+package back.ecommerce.product.search;
+
+import static back.ecommerce.product.entity.Category.*;
+import static back.ecommerce.product.search.ProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ColumnarProductCatalogTest {
+
+	@Test
+	@DisplayName("가격, 브랜드 조건을 만족하는 상품이 가격 내림차순으로 조회되어야 한다.")
+	void search_price_high() {
+		//given
+		ColumnarProductCatalog catalog = createReadyCatalog();
+		catalog.add(document(1L, "셔츠", "brandA", 10000L, TOP, 1));
+		catalog.add(document(2L, "셔츠", "BrandA", 30000L, TOP, 2));
+		catalog.add(document(3L, "셔츠", "brandB", 20000L, TOP, 3));
+		catalog.add(document(4L, "셔츠", "brandA", 50000L, TOP, 4));
+		catalog.add(document(5L, "셔츠", "brandA", 20000L, OUTER, 5));
+
+		//when
+		long[] actual = catalog.search(condition(TOP, Map.of(
+			"brandName", "branda", "minPrice", "10000", "maxPrice", "30000", "sort", "price_high", "page", "1")));
+
+		//then
+		assertThat(actual).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("정렬 값이 같으면 id 순으로, 상품명은 전방일치로 조회되어야 한다.")
+	void search_price_low_tie() {
+		//given
+		ColumnarProductCatalog catalog = createReadyCatalog();
+		catalog.add(document(3L, "반팔 셔츠", "brand", 10000L, TOP, 1));
+		catalog.add(document(1L, "반팔 티", "brand", 10000L, TOP, 2));
+		catalog.add(document(2L, "긴팔 반팔", "brand", 5000L, TOP, 3));
+
+		//when
+		long[] actual = catalog.search(condition(TOP, Map.of("name", "반팔", "sort", "price_low", "page", "1")));
+
+		//then
+		assertThat(actual).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("최신순으로 정렬되고 요청한 페이지의 상품만 조회되어야 한다.")
+	void search_new_page() {
+		//given
+		ColumnarProductCatalog catalog = createReadyCatalog();
+		for (long id = 1; id <= 15; id++) {
+			catalog.add(document(id, "상품" + id, "brand", 1000L * id, SHOES, (int)id));
+		}
+
+		//when
+		long[] first = catalog.search(condition(SHOES, Map.of("page", "1")));
+		long[] second = catalog.search(condition(SHOES, Map.of("page", "2")));
+		long[] third = catalog.search(condition(SHOES, Map.of("page", "3")));
+
+		//then
+		assertThat(first).hasSize(12).startsWith(15L, 14L).endsWith(4L);
+		assertThat(second).containsExactly(3L, 2L, 1L);
+		assertThat(third).isEmpty();
+	}
+
+	@Test
+	@DisplayName("엔진이 선택되지 않았거나 적재가 끝나지 않았거나 페이지가 너무 깊으면 null 이 반환되어야 한다.")
+	void search_fallback() {
+		//given
+		ColumnarProductCatalog disabled = new ColumnarProductCatalog("querydsl", 10000L, false);
+		disabled.markReady();
+		ColumnarProductCatalog loading = new ColumnarProductCatalog("columnar", 10000L, false);
+		ColumnarProductCatalog ready = createReadyCatalog();
+
+		//expect
+		assertThat(disabled.search(condition(TOP, Map.of("page", "1")))).isNull();
+		assertThat(loading.search(condition(TOP, Map.of("page", "1")))).isNull();
+		assertThat(ready.search(condition(TOP, Map.of("page", "1000")))).isNull();
+	}
+
+	private ColumnarProductCatalog createReadyCatalog() {
+		return ready(new ColumnarProductCatalog("columnar", 10000L, false));
+	}
+}
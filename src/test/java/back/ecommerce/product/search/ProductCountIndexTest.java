@@ -0,0 +1,124 @@
+package back.ecommerce.product.search;
+
+import static back.ecommerce.product.entity.Category.*;
+import static back.ecommerce.product.search.ProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import back.ecommerce.product.repository.ProductQueryDslRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCountIndexTest {
+
+	@Mock
+	ProductQueryDslRepository productQueryDslRepository;
+
+	@Test
+	@DisplayName("시작 시 집계된 수에 집계 스냅샷에 없던 상품만 id 와 관계없이 한 번씩 더해져야 한다.")
+	void count_seed_and_events() throws InterruptedException {
+		//given
+		given(productQueryDslRepository.findCountSnapshot(10_000L)).willReturn(snapshot(10L, List.of(
+			new ProductBrandCount(TOP, "Nike", 3L),
+			new ProductBrandCount(TOP, "NikeLab", 2L),
+			new ProductBrandCount(TOP, "Adidas", 4L),
+			new ProductBrandCount(OUTER, "Nike", 1L)
+		), 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 10L));
+		ProductCountIndex index = new ProductCountIndex(true, false, productQueryDslRepository, 0L);
+		index.increase(event(9L, "Nike", TOP));
+		index.increase(event(11L, "Nike", TOP));
+		index.increase(event(11L, "Nike", TOP));
+
+		//when
+		index.load();
+		awaitReady(index);
+		index.increase(event(10L, "Adidas", TOP));
+		index.increase(event(12L, "Adidas", TOP));
+
+		//then
+		assertThat(index.count(TOP)).isEqualTo(12L);
+		assertThat(index.count(OUTER)).isEqualTo(1L);
+		assertThat(index.count(condition(TOP, Map.of("brandName", "nike")))).isEqualTo(7L);
+		assertThat(index.count(condition(TOP, Map.of("brandName", "adidas")))).isEqualTo(5L);
+	}
+
+	@Test
+	@DisplayName("집계에 실패하면 다시 집계하고 그 사이 받은 이벤트도 반영해야 한다.")
+	void count_seed_retry() throws InterruptedException {
+		//given
+		given(productQueryDslRepository.findCountSnapshot(10_000L))
+			.willThrow(new IllegalStateException("connection reset"))
+			.willReturn(snapshot(1L, List.of(new ProductBrandCount(TOP, "Nike", 1L)), 1L));
+		ProductCountIndex index = new ProductCountIndex(true, false, productQueryDslRepository, 0L);
+		index.increase(event(2L, "Nike", TOP));
+
+		//when
+		index.load();
+		awaitReady(index);
+
+		//then
+		assertThat(index.count(TOP)).isEqualTo(2L);
+		then(productQueryDslRepository).should(times(2)).findCountSnapshot(10_000L);
+	}
+
+	@Test
+	@DisplayName("상품명, 가격 조건이 있거나 집계가 끝나지 않았으면 null 이 반환되어야 한다.")
+	void count_unknown() throws InterruptedException {
+		//given
+		given(productQueryDslRepository.findCountSnapshot(10_000L)).willReturn(snapshot(0L, List.of()));
+		ProductCountIndex index = new ProductCountIndex(true, false, productQueryDslRepository, 0L);
+		assertThat(index.count(TOP)).isNull();
+
+		//when
+		index.load();
+		awaitReady(index);
+
+		//then
+		assertThat(index.count(TOP)).isZero();
+		assertThat(index.count(condition(TOP, Map.of("name", "셔츠")))).isNull();
+		assertThat(index.count(condition(TOP, Map.of("minPrice", "1000")))).isNull();
+	}
+
+	@Test
+	@DisplayName("브랜드 중간일치 검색을 사용하면 브랜드 조건의 상품 수는 null 이 반환되어야 한다.")
+	void count_infix_brand_unknown() throws InterruptedException {
+		//given
+		given(productQueryDslRepository.findCountSnapshot(10_000L)).willReturn(snapshot(1L, List.of(
+			new ProductBrandCount(TOP, "Nike", 1L)
+		), 1L));
+		ProductCountIndex index = new ProductCountIndex(true, true, productQueryDslRepository, 0L);
+
+		//when
+		index.load();
+		awaitReady(index);
+
+		//then
+		assertThat(index.count(condition(TOP, Map.of()))).isEqualTo(1L);
+		assertThat(index.count(condition(TOP, Map.of("brandName", "ike")))).isNull();
+	}
+
+	private void awaitReady(ProductCountIndex index) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!index.getReady() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(index.getReady()).isTrue();
+	}
+
+	private ProductCountSnapshot snapshot(long maxId, List<ProductBrandCount> brandCounts, long... countedIds) {
+		BitSet ids = new BitSet();
+		for (long id : countedIds) {
+			ids.set((int)id);
+		}
+		return new ProductCountSnapshot(maxId, brandCounts, ids);
+	}
+}
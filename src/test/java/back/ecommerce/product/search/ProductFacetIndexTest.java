@@ -0,0 +1,104 @@
+package back.ecommerce.product.search;
+
+import static back.ecommerce.product.entity.Category.*;
+import static back.ecommerce.product.search.ProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import back.ecommerce.product.dto.response.v2.BrandFacet;
+import back.ecommerce.product.dto.response.v2.PriceFacet;
+import back.ecommerce.product.dto.response.v2.ProductFacets;
+
+class ProductFacetIndexTest {
+
+	@Test
+	@DisplayName("브랜드 facet 은 가격 조건만 적용되어 갯수 내림차순으로 집계되어야 한다.")
+	void brand_facets() {
+		//given
+		ProductFacetIndex index = createReadyIndex();
+		index.add(document(1L, "brandA", 15000L, TOP));
+		index.add(document(2L, "brandA", 25000L, TOP));
+		index.add(document(3L, "brandB", 20000L, TOP));
+		index.add(document(4L, "brandC", 90000L, TOP));
+		index.add(document(5L, "brandB", 20000L, OUTER));
+
+		//when
+		ProductFacets actual = index.facets(condition(TOP, Map.of("brandName", "brandA", "maxPrice", "30000")));
+
+		//then
+		assertThat(actual.getBrands()).containsExactly(
+			new BrandFacet("brandA", 2),
+			new BrandFacet("brandB", 1)
+		);
+	}
+
+	@Test
+	@DisplayName("가격 facet 은 브랜드 조건만 적용되어 구간별로 집계되어야 한다.")
+	void price_facets() {
+		//given
+		ProductFacetIndex index = createReadyIndex();
+		index.add(document(1L, "brandA", 5000L, TOP));
+		index.add(document(2L, "brandA", 10000L, TOP));
+		index.add(document(3L, "brandA", 29999L, TOP));
+		index.add(document(4L, "brandA", 70000L, TOP));
+		index.add(document(5L, "brandB", 20000L, TOP));
+
+		//when
+		ProductFacets actual = index.facets(condition(TOP, Map.of("brandName", "branda", "minPrice", "60000")));
+
+		//then
+		assertThat(actual.getPrices()).containsExactly(
+			new PriceFacet(0L, 9999L, 1),
+			new PriceFacet(10000L, 29999L, 2),
+			new PriceFacet(30000L, 49999L, 0),
+			new PriceFacet(50000L, null, 1)
+		);
+	}
+
+	@Test
+	@DisplayName("적재 중에 순서 없이 추가된 가격은 markReady 에서 정렬되어 집계되어야 한다.")
+	void markReady_sort_loaded() {
+		//given
+		ProductFacetIndex index = new ProductFacetIndex(true, List.of(10000L, 30000L, 50000L), 20, false);
+		index.add(document(1L, "brandA", 70000L, TOP));
+		index.add(document(2L, "brandA", 5000L, TOP));
+		index.add(document(3L, "brandA", 29999L, TOP));
+		index.add(document(4L, "brandA", 10000L, TOP));
+
+		//when
+		index.markReady();
+		index.add(document(5L, "brandA", 40000L, TOP));
+		ProductFacets actual = index.facets(condition(TOP, Map.of("minPrice", "10000", "maxPrice", "40000")));
+
+		//then
+		assertThat(actual.getBrands()).containsExactly(new BrandFacet("brandA", 3));
+		assertThat(actual.getPrices()).containsExactly(
+			new PriceFacet(0L, 9999L, 1),
+			new PriceFacet(10000L, 29999L, 2),
+			new PriceFacet(30000L, 49999L, 1),
+			new PriceFacet(50000L, null, 1)
+		);
+	}
+
+	@Test
+	@DisplayName("상품명 조건이 있거나 적재가 끝나지 않았으면 facet 이 제공되지 않아야 한다.")
+	void facets_not_provided() {
+		//given
+		ProductFacetIndex loading = new ProductFacetIndex(true, List.of(10000L), 20, false);
+		ProductFacetIndex ready = createReadyIndex();
+		ready.add(document(1L, "brandA", 5000L, TOP));
+
+		//expect
+		assertThat(loading.facets(condition(TOP, Map.of()))).isNull();
+		assertThat(ready.facets(condition(TOP, Map.of("name", "셔츠")))).isNull();
+	}
+
+	private ProductFacetIndex createReadyIndex() {
+		return ready(new ProductFacetIndex(true, List.of(10000L, 30000L, 50000L), 20, false));
+	}
+}
@@ -0,0 +1,107 @@
+package back.ecommerce.product.search;
+
+import static back.ecommerce.product.entity.Category.*;
+import static back.ecommerce.product.search.ProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import back.ecommerce.product.repository.ProductQueryDslRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexLoaderTest {
+
+	@Mock
+	ProductQueryDslRepository productQueryDslRepository;
+
+	@Test
+	@DisplayName("적재 중 받은 이벤트는 적재가 지나간 id 라도 반영되고 이미 적재한 상품은 한 번만 색인되어야 한다.")
+	void build_replay_pending_events() {
+		//given
+		RecordingIndex index = new RecordingIndex();
+		ProductIndexLoader loader = new ProductIndexLoader(List.of(index), productQueryDslRepository, 0L);
+		given(productQueryDslRepository.findSearchDocumentsAfter(0L, 10_000L)).willAnswer(invocation -> {
+			loader.index(event(2L, "brand", TOP));
+			loader.index(event(3L, "brand", TOP));
+			return List.of(document(1L, 10000L, TOP), document(3L, 10000L, TOP));
+		});
+		given(productQueryDslRepository.findSearchDocumentsAfter(3L, 10_000L)).willReturn(List.of());
+
+		//when
+		loader.build();
+		loader.index(event(1L, "brand", TOP));
+		loader.index(event(4L, "brand", TOP));
+
+		//then
+		assertThat(index.ids).containsExactly(1L, 3L, 2L, 4L);
+		assertThat(index.ready).isTrue();
+	}
+
+	@Test
+	@DisplayName("적재에 실패하면 마지막으로 읽은 id 이후부터 다시 적재해야 한다.")
+	void build_retry() {
+		//given
+		RecordingIndex index = new RecordingIndex();
+		ProductIndexLoader loader = new ProductIndexLoader(List.of(index), productQueryDslRepository, 0L);
+		given(productQueryDslRepository.findSearchDocumentsAfter(0L, 10_000L))
+			.willReturn(List.of(document(1L, 10000L, TOP)));
+		given(productQueryDslRepository.findSearchDocumentsAfter(1L, 10_000L))
+			.willThrow(new IllegalStateException("connection reset"))
+			.willReturn(List.of());
+
+		//when
+		loader.build();
+
+		//then
+		assertThat(index.ids).containsExactly(1L);
+		assertThat(index.ready).isTrue();
+		then(productQueryDslRepository).should(times(1)).findSearchDocumentsAfter(0L, 10_000L);
+	}
+
+	@Test
+	@DisplayName("적재를 포기하면 색인은 준비되지 않고 이후 이벤트도 쌓지 않아야 한다.")
+	void build_give_up() {
+		//given
+		RecordingIndex index = new RecordingIndex();
+		ProductIndexLoader loader = new ProductIndexLoader(List.of(index), productQueryDslRepository, 0L);
+		given(productQueryDslRepository.findSearchDocumentsAfter(0L, 10_000L))
+			.willThrow(new IllegalStateException("connection refused"));
+
+		//when
+		loader.build();
+		loader.index(event(1L, "brand", TOP));
+
+		//then
+		assertThat(index.ids).isEmpty();
+		assertThat(index.ready).isFalse();
+		then(productQueryDslRepository).should(times(5)).findSearchDocumentsAfter(0L, 10_000L);
+	}
+
+	private static class RecordingIndex implements ProductDocumentIndex {
+		private final List<Long> ids = new ArrayList<>();
+		private boolean ready;
+
+		@Override
+		public boolean getEnabled() {
+			return true;
+		}
+
+		@Override
+		public void add(ProductSearchDocument document) {
+			ids.add(document.getId());
+		}
+
+		@Override
+		public void markReady() {
+			ready = true;
+		}
+	}
+}
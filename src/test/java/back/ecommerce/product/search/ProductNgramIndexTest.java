@@ -0,0 +1,111 @@
+package back.ecommerce.product.search;
+
+import static back.ecommerce.product.entity.Category.*;
+import static back.ecommerce.product.search.ProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductNgramIndexTest {
+
+	@Test
+	@DisplayName("상품명 중간에 포함된 검색어로 해당 카테고리의 상품 id 들이 조회되어야 한다.")
+	void search_name_infix() {
+		//given
+		ProductNgramIndex index = createReadyIndex(10);
+		index.add(1L, "오버핏 맨투맨", "브랜드A", TOP);
+		index.add(2L, "기모 맨투맨 티셔츠", "브랜드B", TOP);
+		index.add(3L, "후드 티셔츠", "브랜드A", TOP);
+		index.add(4L, "맨투맨", "브랜드A", OUTER);
+
+		//when
+		NgramSearchResult actual = index.search(TOP, "맨투맨", null);
+
+		//then
+		assertThat(actual.getStatus()).isEqualTo(NgramSearchResult.Status.MATCHED);
+		assertThat(actual.getProductIds()).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("상품명과 브랜드명이 함께 주어지면 두 조건을 모두 만족하는 후보만 조회되어야 한다.")
+	void search_name_and_brand() {
+		//given
+		ProductNgramIndex index = createReadyIndex(10);
+		index.add(1L, "오버핏 맨투맨", "Nike Korea", TOP);
+		index.add(2L, "기모 맨투맨", "Adidas", TOP);
+		index.add(3L, "후드 맨투맨", "nike", TOP);
+
+		//when
+		NgramSearchResult actual = index.search(TOP, "맨투맨", "NIKE");
+
+		//then
+		assertThat(actual.getProductIds()).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("일치하는 bigram 이 없으면 빈 결과가 조회되어야 한다.")
+	void search_empty() {
+		//given
+		ProductNgramIndex index = createReadyIndex(10);
+		index.add(1L, "오버핏 맨투맨", "브랜드A", TOP);
+
+		//when
+		NgramSearchResult actual = index.search(TOP, "청바지", null);
+
+		//then
+		assertThat(actual.isEmptyMatch()).isTrue();
+	}
+
+	@Test
+	@DisplayName("후보가 최대 갯수를 넘으면 후보 전체와 함께 overflow 가 반환되어야 한다.")
+	void search_overflow() {
+		//given
+		ProductNgramIndex index = createReadyIndex(2);
+		for (long i = 1; i <= 3; i++) {
+			index.add(i, "맨투맨" + i, "브랜드", TOP);
+		}
+
+		//when
+		NgramSearchResult actual = index.search(TOP, "맨투", null);
+
+		//then
+		assertThat(actual.isOverflow()).isTrue();
+		assertThat(actual.getProductIds()).containsExactly(1L, 2L, 3L);
+		assertThat(actual.chunked(2)).containsExactly(List.of(1L, 2L), List.of(3L));
+	}
+
+	@Test
+	@DisplayName("한 글자 검색어는 unigram 색인으로 상품명과 브랜드명 후보가 조회되어야 한다.")
+	void search_single_character() {
+		//given
+		ProductNgramIndex index = createReadyIndex(10);
+		index.add(1L, "오버핏 맨투맨", "Nike", TOP);
+		index.add(2L, "후드 티셔츠", "Adidas", TOP);
+		index.add(3L, "맨투맨", "Puma", TOP);
+
+		//expect
+		assertThat(index.search(TOP, "맨", null).getProductIds()).containsExactly(1L, 3L);
+		assertThat(index.search(TOP, null, "K").getProductIds()).containsExactly(1L);
+		assertThat(index.search(TOP, "셔", "a").getProductIds()).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("색인이 비활성화 되었거나 적재가 끝나지 않았으면 disabled 가 반환되어야 한다.")
+	void search_disabled() {
+		//given
+		ProductNgramIndex disabled = new ProductNgramIndex(false, 10);
+		ProductNgramIndex loading = new ProductNgramIndex(true, 10);
+		loading.add(1L, "맨투맨", "브랜드", TOP);
+
+		//expect
+		assertThat(disabled.search(TOP, "맨투맨", null).isDisabled()).isTrue();
+		assertThat(loading.search(TOP, "맨투맨", null).isDisabled()).isTrue();
+	}
+
+	private ProductNgramIndex createReadyIndex(int maxCandidates) {
+		return ready(new ProductNgramIndex(true, maxCandidates));
+	}
+}
@@ -0,0 +1,125 @@
+package back.ecommerce.product.search;
+
+import static back.ecommerce.product.entity.Category.*;
+import static back.ecommerce.product.search.ProductSearchFixture.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductPriceIndexTest {
+
+	@Test
+	@DisplayName("가격 범위 안의 상품이 가격 오름차순, 같은 가격은 id 오름차순으로 조회되어야 한다.")
+	void search_price_low() {
+		//given
+		ProductPriceIndex index = createReadyIndex();
+		index.add(document(5L, 20000L, TOP));
+		index.add(document(1L, 5000L, TOP));
+		index.add(document(3L, 20000L, TOP));
+		index.add(document(2L, 15000L, TOP));
+		index.add(document(4L, 40000L, TOP));
+		index.add(document(6L, 15000L, OUTER));
+
+		//when
+		long[] actual = index.search(condition(TOP, Map.of(
+			"minPrice", "10000", "maxPrice", "20000", "sort", "price_low", "page", "1")));
+
+		//then
+		assertThat(actual).containsExactly(2L, 3L, 5L);
+	}
+
+	@Test
+	@DisplayName("가격 내림차순은 같은 가격이면 id 내림차순이고 요청한 페이지만 조회되어야 한다.")
+	void search_price_high_page() {
+		//given
+		ProductPriceIndex index = createReadyIndex();
+		for (long id = 1; id <= 14; id++) {
+			index.add(document(id, 1000L * ((id + 1) / 2), SHOES));
+		}
+
+		//when
+		long[] first = index.search(condition(SHOES, Map.of("sort", "price_high", "page", "1")));
+		long[] second = index.search(condition(SHOES, Map.of("sort", "price_high", "page", "2")));
+		long[] empty = index.search(condition(SHOES, Map.of("sort", "price_high", "page", "3")));
+
+		//then
+		assertThat(first).hasSize(12).startsWith(14L, 13L, 12L).endsWith(3L);
+		assertThat(second).containsExactly(2L, 1L);
+		assertThat(empty).isEmpty();
+	}
+
+	@Test
+	@DisplayName("적재 중에 순서 없이 추가된 상품은 markReady 에서 정렬되고 이후 추가된 상품은 정렬 위치에 들어가야 한다.")
+	void markReady_sort_loaded() {
+		//given
+		ProductPriceIndex index = new ProductPriceIndex(true);
+		index.add(document(4L, 30000L, TOP));
+		index.add(document(1L, 10000L, TOP));
+		index.add(document(3L, 10000L, TOP));
+		index.add(document(2L, 20000L, TOP));
+
+		//when
+		index.markReady();
+		index.add(document(5L, 15000L, TOP));
+
+		//then
+		assertThat(index.search(condition(TOP, Map.of("sort", "price_low", "page", "1"))))
+			.containsExactly(1L, 3L, 5L, 2L, 4L);
+		assertThat(index.search(condition(TOP, Map.of("sort", "price_high", "page", "1"))))
+			.containsExactly(4L, 2L, 5L, 3L, 1L);
+	}
+
+	@Test
+	@DisplayName("섞인 순서로 적재된 많은 상품도 markReady 후 (가격, id) 오름차순으로 모든 페이지가 조회되어야 한다.")
+	void markReady_sort_shuffled() {
+		//given
+		ProductPriceIndex index = new ProductPriceIndex(true);
+		List<Long> ids = LongStream.rangeClosed(1, 300).boxed().collect(Collectors.toList());
+		Collections.shuffle(ids, new Random(42));
+		ids.forEach(id -> index.add(document(id, 1000L * (id % 7), PANTS)));
+
+		//when
+		index.markReady();
+		List<Long> actual = new ArrayList<>();
+		for (int page = 1; page <= 25; page++) {
+			Arrays.stream(index.search(condition(PANTS, Map.of("sort", "price_low", "page", String.valueOf(page)))))
+				.forEach(actual::add);
+		}
+
+		//then
+		assertThat(actual).containsExactlyElementsOf(LongStream.rangeClosed(1, 300).boxed()
+			.sorted(Comparator.<Long>comparingLong(id -> id % 7).thenComparing(Comparator.naturalOrder()))
+			.collect(Collectors.toList()));
+	}
+
+	@Test
+	@DisplayName("최신순 정렬이나 상품명, 브랜드 조건이 있으면 null 이 반환되어야 한다.")
+	void search_not_supported() {
+		//given
+		ProductPriceIndex index = createReadyIndex();
+		ProductPriceIndex disabled = new ProductPriceIndex(false);
+		disabled.markReady();
+
+		//expect
+		assertThat(index.search(condition(TOP, Map.of("sort", "new", "page", "1")))).isNull();
+		assertThat(index.search(condition(TOP, Map.of("sort", "price_low", "name", "셔츠", "page", "1")))).isNull();
+		assertThat(index.search(condition(TOP, Map.of("sort", "price_low", "brandName", "brand", "page", "1"))))
+			.isNull();
+		assertThat(disabled.search(condition(TOP, Map.of("sort", "price_low", "page", "1")))).isNull();
+	}
+
+	private ProductPriceIndex createReadyIndex() {
+		return ready(new ProductPriceIndex(true));
+	}
+}
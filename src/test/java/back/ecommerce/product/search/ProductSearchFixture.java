@@ -0,0 +1,54 @@
+package back.ecommerce.product.search;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import back.ecommerce.product.dto.condition.ProductSearchCondition;
+import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.event.ProductApprovedEvent;
+
+/**
+ * 검색 색인 테스트에서 공통으로 사용하는 상품 문서, 승인 이벤트, 검색 조건.
+ */
+final class ProductSearchFixture {
+
+	static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+	private ProductSearchFixture() {
+	}
+
+	static <T extends ProductDocumentIndex> T ready(T index) {
+		index.markReady();
+		return index;
+	}
+
+	static ProductSearchDocument document(Long id, Long price, Category category) {
+		return document(id, "brand", price, category);
+	}
+
+	static ProductSearchDocument document(Long id, String brandName, Long price, Category category) {
+		return document(id, "상품" + id, brandName, price, category, 0);
+	}
+
+	/**
+	 * @param minutes BASE_TIME 으로부터 등록 시각까지의 분
+	 */
+	static ProductSearchDocument document(Long id, String name, String brandName, Long price, Category category,
+		int minutes) {
+		return new ProductSearchDocument(id, name, brandName, price, category, BASE_TIME.plusMinutes(minutes));
+	}
+
+	static ProductApprovedEvent event(Long id, String brandName, Category category) {
+		return new ProductApprovedEvent(id, "상품" + id, brandName, 10000L, category, BASE_TIME);
+	}
+
+	/**
+	 * page 를 지정하지 않으면 1 페이지로 조회한다.
+	 */
+	static ProductSearchCondition condition(Category category, Map<String, String> attributes) {
+		Map<String, String> parameters = new HashMap<>(attributes);
+		parameters.putIfAbsent("page", "1");
+		return ProductSearchCondition.createWithCategoryAndAttributes(category, parameters);
+	}
+}
@@ -0,0 +1,89 @@
+package back.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import back.ecommerce.cart.repository.CartDuplicate;
+import back.ecommerce.cart.repository.CartJdbcRepository;
+import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.entity.Product;
+import back.ecommerce.product.repository.ProductRepository;
+
+/**
+ * 유니크 인덱스 적용 전에 쌓인 중복 줄을 만들기 위해 인덱스를 지운 별도 DB 에서 실행한다.
+ * DDL 은 H2 에서 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 지운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:cartcompact;MODE=MySQL")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CartJdbcRepository.class)
+class CartJdbcRepositoryCompactTest {
+	private static final String INSERT_SQL = "insert into CART "
+		+ "(PRODUCT_ID, USER_EMAIL, QUANTITY, PRICE, CREATED_DATE, MODIFIED_DATE) "
+		+ "values (?, ?, ?, ?, current_timestamp, current_timestamp)";
+
+	@Autowired
+	CartJdbcRepository cartJdbcRepository;
+	@Autowired
+	ProductRepository productRepository;
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.execute("alter table CART drop constraint if exists UK_CART_USER_EMAIL_PRODUCT_ID");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from CART");
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("중복된 줄은 가장 작은 id 의 줄로 수량과 가격이 합쳐지고 나머지 줄은 지워져야 한다.")
+	void compact() {
+		//given
+		Product shirts = productRepository.save(new Product(null, "shirts", "brandA", 10000L, Category.TOP));
+		Product ring = productRepository.save(new Product(null, "ring", "brandB", 15000L, Category.ACCESSORY));
+		jdbcTemplate.update(INSERT_SQL, shirts.getId(), "user@naver.com", 1, 10000L);
+		jdbcTemplate.update(INSERT_SQL, shirts.getId(), "user@naver.com", 2, 20000L);
+		jdbcTemplate.update(INSERT_SQL, shirts.getId(), "user@naver.com", 3, 30000L);
+		jdbcTemplate.update(INSERT_SQL, ring.getId(), "user@naver.com", 1, 15000L);
+		Long keepId = jdbcTemplate.queryForObject("select min(ID) from CART where PRODUCT_ID = ?", Long.class,
+			shirts.getId());
+
+		//when
+		List<CartDuplicate> duplicates = cartJdbcRepository.findDuplicates(100);
+		cartJdbcRepository.compact(duplicates);
+
+		//then
+		assertThat(duplicates).containsExactly(
+			new CartDuplicate("user@naver.com", shirts.getId(), keepId, 6, 60000L));
+		assertThat(jdbcTemplate.queryForList("select ID, QUANTITY, PRICE from CART where PRODUCT_ID = ?",
+			shirts.getId()))
+			.singleElement()
+			.satisfies(row -> {
+				assertThat(((Number)row.get("ID")).longValue()).isEqualTo(keepId);
+				assertThat(((Number)row.get("QUANTITY")).intValue()).isEqualTo(6);
+				assertThat(((Number)row.get("PRICE")).longValue()).isEqualTo(60000L);
+			});
+		assertThat(jdbcTemplate.queryForObject("select count(*) from CART where PRODUCT_ID = ?", Long.class,
+			ring.getId())).isEqualTo(1L);
+	}
+}
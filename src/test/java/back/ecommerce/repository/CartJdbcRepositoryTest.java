@@ -0,0 +1,151 @@
+package back.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import back.ecommerce.cart.entity.Cart;
+import back.ecommerce.cart.repository.CartChange;
+import back.ecommerce.cart.repository.CartJdbcRepository;
+import back.ecommerce.cart.repository.CartLine;
+import back.ecommerce.cart.repository.CartRepository;
+import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.entity.Product;
+import back.ecommerce.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+
+/**
+ * on duplicate key update 를 쓰는 MySQL 전용 SQL 이라 H2 를 MySQL 모드로 띄워서 검증한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:cartjdbc;MODE=MySQL")
+@Import(CartJdbcRepository.class)
+class CartJdbcRepositoryTest {
+	@Autowired
+	CartJdbcRepository cartJdbcRepository;
+	@Autowired
+	CartRepository cartRepository;
+	@Autowired
+	ProductRepository productRepository;
+	@Autowired
+	EntityManager entityManager;
+
+	Product shirts;
+	Product ring;
+
+	@BeforeEach
+	void setUp() {
+		shirts = productRepository.save(new Product(null, "shirts", "brandA", 10000L, Category.TOP));
+		ring = productRepository.save(new Product(null, "ring", "brandB", 15000L, Category.ACCESSORY));
+	}
+
+	@Test
+	@DisplayName("같은 상품을 다시 담으면 한 줄의 수량과 가격이 더해져야 한다.")
+	void merge() {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		cartJdbcRepository.merge("user@naver.com", shirts.getId(), 2, 20000L, now);
+
+		//when
+		cartJdbcRepository.merge("user@naver.com", shirts.getId(), 3, 30000L, now);
+		flushAndClear();
+
+		//then
+		List<Cart> actual = cartRepository.findByUserEmail("user@naver.com");
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(0).getQuantity()).isEqualTo(5);
+		assertThat(actual.get(0).getPrice()).isEqualTo(50000L);
+	}
+
+	@Test
+	@DisplayName("일괄 변경 시 MERGE 는 수량과 가격을 더하고, REPLACE 는 덮어쓰고, REMOVE 는 줄을 지워야 한다.")
+	void applyAll() {
+		//given
+		Product jean = productRepository.save(new Product(null, "jean", "brandC", 20000L, Category.PANTS));
+		cartRepository.save(Cart.create("user@naver.com", shirts, 1));
+		cartRepository.save(Cart.create("user@naver.com", ring, 1));
+		cartRepository.save(Cart.create("user@naver.com", jean, 1));
+		flushAndClear();
+		List<CartChange> changes = List.of(
+			CartChange.Companion.merge(shirts.getId(), 2),
+			CartChange.Companion.replace(ring.getId(), 4),
+			CartChange.Companion.remove(jean.getId())
+		);
+		Map<Long, Product> products = Map.of(shirts.getId(), shirts, ring.getId(), ring);
+
+		//when
+		cartJdbcRepository.applyAll("user@naver.com", changes, products, LocalDateTime.now());
+		flushAndClear();
+
+		//then
+		assertThat(cartRepository.findByUserEmail("user@naver.com"))
+			.extracting(cart -> cart.getProduct().getId(), Cart::getQuantity, Cart::getPrice)
+			.containsExactlyInAnyOrder(
+				tuple(shirts.getId(), 3, 30000L),
+				tuple(ring.getId(), 4, 60000L)
+			);
+	}
+
+	@Test
+	@DisplayName("write-behind 반영 시 저장소의 id 가 다른 유저의 CART.ID 와 겹쳐도 그 유저의 줄은 바뀌지 않아야 한다.")
+	void upsertAll_colliding_id() {
+		//given
+		Cart other = cartRepository.save(Cart.create("other@naver.com", shirts, 3));
+		flushAndClear();
+		CartLine line = CartLine.Companion.create(other.getId(), "user@naver.com", ring, 2, LocalDateTime.now());
+
+		//when
+		cartJdbcRepository.upsertAll(List.of(line));
+		flushAndClear();
+
+		//then
+		List<Cart> otherCarts = cartRepository.findByUserEmail("other@naver.com");
+		assertThat(otherCarts).hasSize(1);
+		assertThat(otherCarts.get(0).getId()).isEqualTo(other.getId());
+		assertThat(otherCarts.get(0).getQuantity()).isEqualTo(3);
+		assertThat(otherCarts.get(0).getPrice()).isEqualTo(30000L);
+
+		List<Cart> userCarts = cartRepository.findByUserEmail("user@naver.com");
+		assertThat(userCarts).hasSize(1);
+		assertThat(userCarts.get(0).getId()).isNotEqualTo(other.getId());
+		assertThat(userCarts.get(0).getQuantity()).isEqualTo(2);
+		assertThat(userCarts.get(0).getPrice()).isEqualTo(30000L);
+	}
+
+	@Test
+	@DisplayName("write-behind 반영 시 같은 유저와 상품의 줄이 있으면 id 와 관계없이 그 줄을 덮어써야 한다.")
+	void upsertAll_overwrite_same_product() {
+		//given
+		Cart cart = cartRepository.save(Cart.create("user@naver.com", shirts, 1));
+		flushAndClear();
+		CartLine line = CartLine.Companion.create(cart.getId() + 100, "user@naver.com", shirts, 4, LocalDateTime.now());
+
+		//when
+		cartJdbcRepository.upsertAll(List.of(line));
+		flushAndClear();
+
+		//then
+		List<Cart> actual = cartRepository.findByUserEmail("user@naver.com");
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get(0).getId()).isEqualTo(cart.getId());
+		assertThat(actual.get(0).getQuantity()).isEqualTo(4);
+		assertThat(actual.get(0).getPrice()).isEqualTo(40000L);
+	}
+
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+}
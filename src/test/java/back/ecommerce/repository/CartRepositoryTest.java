@@ -3,6 +3,7 @@ package back.ecommerce.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import back.ecommerce.cart.dto.response.CartProductDto;
 import back.ecommerce.cart.entity.Cart;
+import back.ecommerce.cart.repository.CartLine;
 import back.ecommerce.cart.repository.CartRepository;
 import back.ecommerce.product.entity.Category;
 import back.ecommerce.product.entity.Product;
@@ -39,7 +41,7 @@ class CartRepositoryTest {
 
 		Cart cart1 = Cart.create("user@naver.com", product1, 2);
 		Cart cart2 = Cart.create("user@naver.com", product2, 1);
-		Cart cart3 = Cart.create("user@naver.com", product1, 1);
+		Cart cart3 = Cart.create("user@naver.com", product3, 1);
 
 		cartRepository.save(cart1);
 		cartRepository.save(cart2);
@@ -56,7 +58,7 @@ class CartRepositoryTest {
 		//when
 		List<Cart> actual = cartRepository.findByUserEmail("user@naver.com");
 		Cart cart = actual.get(0);
-		CartProductDto cartProductDto = CartProductDto.Companion.create(cart);
+		CartProductDto cartProductDto = CartProductDto.Companion.create(CartLine.Companion.from(cart));
 
 		//then
 		assertThat(actual).hasSize(3);
@@ -64,4 +66,20 @@ class CartRepositoryTest {
 		assertThat(cartProductDto.getBrandName()).isEqualTo("brandA");
 		assertThat(cartProductDto.getPrice()).isEqualTo(20000L);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("유저 이메일과 상품 id 로 장바구니 한 줄이 상품과 함께 조회되어야한다.")
+	void findByUserEmailAndProductId() {
+		//given
+		Long productId = cartRepository.findByUserEmail("user@naver.com").get(0).getProduct().getId();
+		entityManager.clear();
+
+		//when
+		Optional<Cart> actual = cartRepository.findByUserEmailAndProductId("user@naver.com", productId);
+
+		//then
+		assertThat(actual).isPresent();
+		assertThat(actual.get().getProduct().getName()).isEqualTo("shirts");
+		assertThat(actual.get().getQuantity()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,104 @@
+package back.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import back.ecommerce.cart.repository.CartJdbcRepository;
+import back.ecommerce.cart.repository.CartKey;
+import back.ecommerce.cart.repository.CartLine;
+import back.ecommerce.cart.repository.CartWriteBehind;
+import back.ecommerce.common.logging.GlobalLogger;
+import back.ecommerce.product.entity.Category;
+
+@ExtendWith(MockitoExtension.class)
+class CartWriteBehindTest {
+
+	@Mock
+	CartJdbcRepository cartJdbcRepository;
+
+	@Test
+	@DisplayName("배치 반영이 실패하면 한 건씩 다시 반영해야 한다.")
+	void flush_retry_one_by_one() {
+		//given
+		CartLine first = createLine(1L);
+		CartLine second = createLine(2L);
+		Map<CartKey, CartLine> lines = Map.of(first.getKey(), first, second.getKey(), second);
+		CartWriteBehind cartWriteBehind = new CartWriteBehind(keys -> lines, cartJdbcRepository, new GlobalLogger(),
+			100, 60000L);
+		cartWriteBehind.mark(first.getKey());
+		cartWriteBehind.mark(second.getKey());
+		lenient().doThrow(new IllegalStateException()).when(cartJdbcRepository).upsertAll(List.of(first, second));
+
+		//when
+		cartWriteBehind.flush();
+
+		//then
+		then(cartJdbcRepository).should(times(1)).upsertAll(List.of(first));
+		then(cartJdbcRepository).should(times(1)).upsertAll(List.of(second));
+		cartWriteBehind.shutdown();
+	}
+
+	@Test
+	@DisplayName("저장소 조회가 실패하면 변경을 버리지 않고 다음 flush 에 다시 반영해야 한다.")
+	void flush_reader_failure() {
+		//given
+		CartLine line = createLine(1L);
+		boolean[] failed = {false};
+		CartWriteBehind cartWriteBehind = new CartWriteBehind(keys -> {
+			if (!failed[0]) {
+				failed[0] = true;
+				throw new IllegalStateException();
+			}
+			return Map.of(line.getKey(), line);
+		}, cartJdbcRepository, new GlobalLogger(), 100, 60000L);
+		cartWriteBehind.mark(line.getKey());
+
+		//when
+		cartWriteBehind.flush();
+		cartWriteBehind.flush();
+
+		//then
+		then(cartJdbcRepository).should(times(1)).upsertAll(List.of(line));
+		cartWriteBehind.shutdown();
+	}
+
+	@Test
+	@DisplayName("한 건씩 다시 반영해도 실패한 줄은 버리지 않고 다음 flush 에 다시 반영해야 한다.")
+	void flush_retry_failure() {
+		//given
+		CartLine first = createLine(1L);
+		CartLine second = createLine(2L);
+		Map<CartKey, CartLine> lines = Map.of(first.getKey(), first, second.getKey(), second);
+		CartWriteBehind cartWriteBehind = new CartWriteBehind(keys -> lines, cartJdbcRepository, new GlobalLogger(),
+			100, 60000L);
+		cartWriteBehind.mark(first.getKey());
+		cartWriteBehind.mark(second.getKey());
+		lenient().doThrow(new IllegalStateException()).when(cartJdbcRepository).upsertAll(List.of(first, second));
+		willThrow(new IllegalStateException()).willDoNothing().given(cartJdbcRepository).upsertAll(List.of(second));
+
+		//when
+		cartWriteBehind.flush();
+		int pending = cartWriteBehind.pendingCount();
+		cartWriteBehind.flush();
+
+		//then
+		assertThat(pending).isEqualTo(1);
+		assertThat(cartWriteBehind.pendingCount()).isZero();
+		then(cartJdbcRepository).should(times(1)).upsertAll(List.of(first));
+		then(cartJdbcRepository).should(times(2)).upsertAll(List.of(second));
+		cartWriteBehind.shutdown();
+	}
+
+	private CartLine createLine(long productId) {
+		return new CartLine(productId, "user@email.com", productId, "티셔츠", "커버낫", Category.TOP, 1, 35000L, null);
+	}
+}
@@ -0,0 +1,171 @@
+package back.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import back.ecommerce.cart.entity.Cart;
+import back.ecommerce.cart.repository.CartChange;
+import back.ecommerce.cart.repository.CartJdbcRepository;
+import back.ecommerce.cart.repository.CartKey;
+import back.ecommerce.cart.repository.CartLine;
+import back.ecommerce.cart.repository.CartRepository;
+import back.ecommerce.cart.repository.InMemoryCartStore;
+import back.ecommerce.common.logging.GlobalLogger;
+import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.entity.Product;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryCartStoreTest {
+
+	@Mock
+	CartRepository cartRepository;
+	@Mock
+	CartJdbcRepository cartJdbcRepository;
+	InMemoryCartStore cartStore;
+
+	@BeforeEach
+	void setUp() {
+		cartStore = new InMemoryCartStore(cartRepository, cartJdbcRepository, new GlobalLogger(), 100, 60000L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		cartStore.close();
+	}
+
+	@Test
+	@DisplayName("처음 접근한 유저는 CART 테이블에서 한 번만 적재하고 중복된 줄은 가장 작은 id 로 합쳐야 한다.")
+	void load_once() {
+		//given
+		Product product = new Product(1L, "티셔츠", "커버낫", 35000L, Category.TOP);
+		given(cartRepository.findByUserEmail(anyString())).willReturn(List.of(
+			new Cart(7L, product, "user@email.com", 1, 35000L),
+			new Cart(5L, product, "user@email.com", 2, 70000L)));
+
+		//when
+		cartStore.findByUserEmail("user@email.com");
+		List<CartLine> actual = cartStore.findByUserEmail("user@email.com");
+
+		//then
+		assertThat(actual).extracting("id", "name", "brandName", "quantity", "price")
+			.containsExactly(tuple(5L, "티셔츠", "커버낫", 3, 105000L));
+		then(cartRepository).should(times(1)).findByUserEmail(anyString());
+	}
+
+	@Test
+	@DisplayName("같은 상품을 다시 담으면 한 줄의 수량과 가격이 더해져야 한다.")
+	void add_merge() {
+		//given
+		Product product = new Product(1L, "티셔츠", "커버낫", 35000L, Category.TOP);
+		Product other = new Product(2L, "반지", "브랜드", 10000L, Category.ACCESSORY);
+		given(cartRepository.findByUserEmail(anyString())).willReturn(List.of());
+		given(cartRepository.findMaxId()).willReturn(10L);
+
+		//when
+		CartLine first = cartStore.add("user@email.com", product, 2);
+		CartLine merged = cartStore.add("user@email.com", product, 1);
+		CartLine otherLine = cartStore.add("user@email.com", other, 1);
+
+		//then
+		assertThat(first.getId()).isEqualTo(11L);
+		assertThat(merged.getId()).isEqualTo(11L);
+		assertThat(merged.getQuantity()).isEqualTo(3);
+		assertThat(merged.getPrice()).isEqualTo(105000L);
+		assertThat(otherLine.getId()).isEqualTo(12L);
+		assertThat(cartStore.findByUserEmail("user@email.com")).containsExactly(merged, otherLine);
+	}
+
+	@Test
+	@DisplayName("flush 하면 여러 번 바뀐 줄도 현재 상태로 한 번만 반영하고 삭제된 줄은 지워야 한다.")
+	void flush() {
+		//given
+		Product product = new Product(1L, "티셔츠", "커버낫", 35000L, Category.TOP);
+		Product other = new Product(2L, "반지", "브랜드", 10000L, Category.ACCESSORY);
+		given(cartRepository.findByUserEmail(anyString())).willReturn(List.of());
+		given(cartRepository.findMaxId()).willReturn(0L);
+		cartStore.add("user@email.com", product, 1);
+		CartLine merged = cartStore.add("user@email.com", product, 1);
+		CartLine removed = cartStore.add("user@email.com", other, 1);
+		cartStore.delete("user@email.com", removed.getId());
+
+		//when
+		cartStore.flush();
+
+		//then
+		then(cartJdbcRepository).should(times(1)).upsertAll(List.of(merged));
+		then(cartJdbcRepository).should(times(1)).deleteAll(List.of(new CartKey("user@email.com", 2L)));
+	}
+
+	@Test
+	@DisplayName("일괄 변경은 기존 줄의 id 를 유지한 채 더하거나 덮어쓰고 삭제해야 한다.")
+	void apply() {
+		//given
+		Product product = new Product(1L, "티셔츠", "커버낫", 35000L, Category.TOP);
+		Product other = new Product(2L, "반지", "브랜드", 10000L, Category.ACCESSORY);
+		Product removed = new Product(3L, "바지", "브랜드", 20000L, Category.PANTS);
+		given(cartRepository.findByUserEmail(anyString())).willReturn(List.of());
+		given(cartRepository.findMaxId()).willReturn(0L);
+		CartLine line = cartStore.add("user@email.com", product, 1);
+		CartLine otherLine = cartStore.add("user@email.com", other, 5);
+		cartStore.add("user@email.com", removed, 1);
+
+		//when
+		List<CartLine> actual = cartStore.apply("user@email.com", List.of(
+				CartChange.Companion.merge(1L, 2),
+				CartChange.Companion.replace(2L, 1),
+				CartChange.Companion.remove(3L)),
+			Map.of(1L, product, 2L, other));
+
+		//then
+		assertThat(actual).extracting("id", "quantity", "price")
+			.containsExactly(tuple(line.getId(), 3, 105000L), tuple(otherLine.getId(), 1, 10000L));
+	}
+
+	@Test
+	@DisplayName("여러 요청이 동시에 일괄 변경해도 변경이 유실되지 않고 한 줄로 합쳐져야 한다.")
+	void apply_concurrent() {
+		//given
+		Product product = new Product(1L, "티셔츠", "커버낫", 35000L, Category.TOP);
+		Product other = new Product(2L, "반지", "브랜드", 10000L, Category.ACCESSORY);
+		given(cartRepository.findByUserEmail(anyString())).willReturn(List.of());
+		given(cartRepository.findMaxId()).willReturn(0L);
+
+		//when
+		IntStream.range(0, 100).parallel().forEach(i -> cartStore.apply("user@email.com", List.of(
+				CartChange.Companion.merge(1L, 1),
+				CartChange.Companion.merge(2L, 2)),
+			Map.of(1L, product, 2L, other)));
+
+		//then
+		assertThat(cartStore.findByUserEmail("user@email.com")).extracting("id", "quantity", "price")
+			.containsExactly(tuple(1L, 100, 3500000L), tuple(2L, 200, 2000000L));
+	}
+
+	@Test
+	@DisplayName("다른 유저의 장바구니 id 로는 삭제되지 않아야 한다.")
+	void delete_other_user() {
+		//given
+		Product product = new Product(1L, "티셔츠", "커버낫", 35000L, Category.TOP);
+		given(cartRepository.findByUserEmail(anyString())).willReturn(List.of());
+		given(cartRepository.findMaxId()).willReturn(0L);
+		CartLine line = cartStore.add("user@email.com", product, 1);
+
+		//when
+		cartStore.delete("other@email.com", line.getId());
+
+		//then
+		assertThat(cartStore.findByUserEmail("user@email.com")).containsExactly(line);
+	}
+}
@@ -0,0 +1,76 @@
+package back.ecommerce.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import back.ecommerce.exception.CustomException;
+import back.ecommerce.user.entity.SignUpInfo;
+import back.ecommerce.user.repository.InMemorySignUpStore;
+import back.ecommerce.user.repository.SignUpStore;
+
+class InMemorySignUpStoreTest {
+
+	@Test
+	@DisplayName("저장한 가입정보는 인증 코드와 이메일로 조회되고 삭제 후에는 조회되지 않아야 한다.")
+	void save_find_delete() {
+		//given
+		InMemorySignUpStore store = new InMemorySignUpStore();
+		SignUpInfo signUpInfo = SignUpInfo.create("code", "user@email.com", "password", 900L);
+
+		//when
+		store.save(signUpInfo);
+
+		//then
+		assertThat(store.findByVerifiedCode("code")).contains(signUpInfo);
+		assertThat(store.existsByEmail("user@email.com")).isTrue();
+
+		store.delete(signUpInfo);
+		assertThat(store.findByVerifiedCode("code")).isEmpty();
+		assertThat(store.existsByEmail("user@email.com")).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 이메일로 가입신청이 대기중이면 예외가 발생해야 한다.")
+	void save_already_sign_up() {
+		//given
+		InMemorySignUpStore store = new InMemorySignUpStore();
+		store.save(SignUpInfo.create("code", "user@email.com", "password", 900L));
+
+		//expect
+		assertThatThrownBy(() -> store.save(SignUpInfo.create("other", "user@email.com", "password", 900L)))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("이미 가입신청 된 이메일 입니다.");
+	}
+
+	@Test
+	@DisplayName("만료된 가입정보는 만료 응답을 위해 조회되지만 같은 이메일로 다시 신청할 수 있어야 한다.")
+	void expired() {
+		//given
+		InMemorySignUpStore store = new InMemorySignUpStore();
+		store.save(SignUpInfo.restore("code", "user@email.com", "password", 60L, LocalDateTime.now().minusMinutes(5)));
+
+		//expect
+		assertThat(store.findByVerifiedCode("code")).hasValueSatisfying(info -> assertThat(info.isExpired()).isTrue());
+		assertThat(store.existsByEmail("user@email.com")).isFalse();
+		assertThatCode(() -> store.save(SignUpInfo.create("other", "user@email.com", "password", 900L)))
+			.doesNotThrowAnyException();
+		assertThat(store.existsByEmail("user@email.com")).isTrue();
+	}
+
+	@Test
+	@DisplayName("만료 후 유예 기간이 지난 가입정보는 조회되지 않아야 한다.")
+	void expired_after_grace() {
+		//given
+		InMemorySignUpStore store = new InMemorySignUpStore();
+		store.save(SignUpInfo.restore("code", "user@email.com", "password", 60L,
+			LocalDateTime.now().minus(SignUpStore.EXPIRED_CODE_GRACE).minusMinutes(5)));
+
+		//expect
+		assertThat(store.findByVerifiedCode("code")).isEmpty();
+		assertThat(store.existsByEmail("user@email.com")).isFalse();
+	}
+}
@@ -16,15 +16,24 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
 import back.ecommerce.common.constant.PageConstant;
 import back.ecommerce.config.jpa.JpaAuditingConfig;
+import back.ecommerce.product.dto.condition.ProductCursorCondition;
 import back.ecommerce.product.dto.condition.ProductSearchCondition;
 import back.ecommerce.product.dto.response.ProductDto;
+import back.ecommerce.product.dto.response.v2.ProductCursorListV2Response;
 import back.ecommerce.product.dto.response.v2.ProductV2Dto;
 import back.ecommerce.product.entity.Category;
 import back.ecommerce.product.entity.Product;
 import back.ecommerce.product.repository.ProductQueryDslRepository;
 import back.ecommerce.product.repository.ProductRepository;
+import back.ecommerce.product.search.ColumnarProductCatalog;
+import back.ecommerce.product.search.ProductBrandCount;
+import back.ecommerce.product.search.ProductCountSnapshot;
+import back.ecommerce.product.search.ProductNgramIndex;
+import back.ecommerce.product.search.ProductPriceIndex;
 import jakarta.persistence.EntityManager;
 
 @DataJpaTest
@@ -38,6 +47,8 @@ class ProductRepositoryTest {
 
 	@Autowired
 	TestEntityManager testEntityManager;
+	@Autowired
+	JPAQueryFactory jpaQueryFactory;
 
 	@Test
 	@DisplayName("카테고리에 해당하는 상품이 가장 최근 등록된 순으로 default PageSize 인 20 개만큼 조회되어야한다.")
@@ -225,6 +236,37 @@ class ProductRepositoryTest {
 
 	}
 
+	@Test
+	@DisplayName("n-gram 색인 후보가 최대 갯수를 넘어도 후보를 나눠서 중간일치 상품이 정렬 순서대로 조회되어야 한다.")
+	void find_detail_name_ngram_overflow() {
+		//given
+		EntityManager entityManager = testEntityManager.getEntityManager();
+		ProductNgramIndex ngramIndex = new ProductNgramIndex(true, 1);
+		List<String> names = List.of("outerA", "long outer", "some outerB", "shirt");
+		for (int i = 0; i < names.size(); i++) {
+			Product entity = new Product(null, names.get(i), "brandB", 10000L - (i * 100), OUTER);
+			entityManager.persist(entity);
+			ngramIndex.add(entity.getId(), entity.getName(), entity.getBrandName(), OUTER);
+		}
+		ngramIndex.markReady();
+		entityManager.clear();
+		ProductQueryDslRepository repository = new ProductQueryDslRepository(jpaQueryFactory, ngramIndex,
+			new ColumnarProductCatalog("querydsl", 10000L, false), new ProductPriceIndex(false));
+
+		//when
+		List<ProductDto> products = repository.findBySearchCondition(
+			createCondition(OUTER, "outer", "", null, null, "price_low", "1"));
+		List<ProductDto> singleCharacter = repository.findBySearchCondition(
+			createCondition(OUTER, "B", "", null, null, "price_low", "1"));
+
+		//then
+		assertThat(ngramIndex.search(OUTER, "outer", null).isOverflow()).isTrue();
+		assertThat(products).extracting(ProductDto::getName)
+			.containsExactly("some outerB", "long outer", "outerA");
+		assertThat(singleCharacter).extracting(ProductDto::getName)
+			.containsExactly("some outerB");
+	}
+
 	@Test
 	@DisplayName("상세조건 검색 시 브랜드 이름을 포함하는 상품들이 페이징되어서 반환 되어야한다.")
 	void find_detail_brandName_like() {
@@ -258,6 +300,70 @@ class ProductRepositoryTest {
 			.hasSize(12);
 	}
 
+	@Test
+	@DisplayName("커서 조회 시 낮은 가격 순으로 가격이 같은 상품은 id 순으로 중복, 누락없이 다음 페이지가 조회되어야 한다.")
+	void find_detail_cursor_price_low() {
+		//given
+		for (int i = 0; i < 30; i++) {
+			productRepository.save(new Product(null, "cursor" + i, "brandA", 1000L * (i % 3), PANTS));
+		}
+		HashMap<String, String> attributes = new HashMap<>();
+		attributes.put("sort", "price_low");
+
+		//when
+		ProductCursorListV2Response first = productQueryDslRepository.findBySearchConditionWithCursorV2(
+			ProductCursorCondition.createWithCategoryAndAttributes(PANTS, attributes));
+		attributes.put("cursor", first.getNextCursor());
+		ProductCursorListV2Response second = productQueryDslRepository.findBySearchConditionWithCursorV2(
+			ProductCursorCondition.createWithCategoryAndAttributes(PANTS, attributes));
+		attributes.put("cursor", second.getNextCursor());
+		ProductCursorListV2Response last = productQueryDslRepository.findBySearchConditionWithCursorV2(
+			ProductCursorCondition.createWithCategoryAndAttributes(PANTS, attributes));
+
+		//then
+		assertThat(first.getHasNext()).isTrue();
+		assertThat(second.getHasNext()).isTrue();
+		assertThat(last.getHasNext()).isFalse();
+		assertThat(last.getNextCursor()).isNull();
+
+		List<ProductV2Dto> products = new ArrayList<>(first.getProducts());
+		products.addAll(second.getProducts());
+		products.addAll(last.getProducts());
+		assertThat(products).hasSize(30)
+			.extracting(ProductV2Dto::getId)
+			.doesNotHaveDuplicates();
+		assertThat(products).extracting(ProductV2Dto::getPrice)
+			.isSorted();
+	}
+
+	@Test
+	@DisplayName("커서 조회 시 등록일순으로 이전 페이지의 마지막 상품 이후부터 조회되어야 한다.")
+	void find_detail_cursor_new() {
+		//given
+		for (int i = 0; i < 20; i++) {
+			productRepository.save(new Product(null, "cursor" + i, "brandA", 1000L, SNEAKERS));
+		}
+		HashMap<String, String> attributes = new HashMap<>();
+		attributes.put("cursor", "");
+
+		//when
+		ProductCursorListV2Response first = productQueryDslRepository.findBySearchConditionWithCursorV2(
+			ProductCursorCondition.createWithCategoryAndAttributes(SNEAKERS, attributes));
+		attributes.put("cursor", first.getNextCursor());
+		ProductCursorListV2Response second = productQueryDslRepository.findBySearchConditionWithCursorV2(
+			ProductCursorCondition.createWithCategoryAndAttributes(SNEAKERS, attributes));
+
+		//then
+		assertThat(first.getProducts()).hasSize(12);
+		assertThat(second.getProducts()).hasSize(8);
+		assertThat(second.getHasNext()).isFalse();
+		Long lastIdOfFirst = first.getProducts().get(11).getId();
+		assertThat(second.getProducts())
+			.extracting(ProductV2Dto::getId)
+			.allMatch(id -> id < lastIdOfFirst)
+			.isSortedAccordingTo(Comparator.reverseOrder());
+	}
+
 	@Test
 	void findByIds() {
 		//given
@@ -277,6 +383,44 @@ class ProductRepositoryTest {
 			.hasSize(3);
 	}
 
+	@Test
+	@DisplayName("id 목록으로 조회하면 존재하지 않는 id 는 빠지고 존재하는 상품만 조회되어야 한다.")
+	void findByIds_missing() {
+		//given
+		Product first = productRepository.save(new Product(null, "상품1", "브랜드", 100L, SHOES));
+		Product second = productRepository.save(new Product(null, "상품2", "브랜드", 200L, SHOES));
+		long missingId = second.getId() + 1000;
+
+		//when
+		List<Product> actual = productRepository.findByIds(List.of(second.getId(), missingId, first.getId()));
+
+		//then
+		assertThat(actual).extracting(Product::getId)
+			.containsExactlyInAnyOrder(first.getId(), second.getId());
+	}
+
+	@Test
+	@DisplayName("상품 수 스냅샷은 maxId 이하의 브랜드별 수와 집계된 id 목록을 함께 반환해야 한다.")
+	void findCountSnapshot() {
+		//given
+		Product first = productRepository.save(new Product(null, "상품1", "brandA", 100L, SHOES));
+		Product second = productRepository.save(new Product(null, "상품2", "brandA", 100L, SHOES));
+		Product third = productRepository.save(new Product(null, "상품3", "brandB", 100L, TOP));
+
+		//when
+		ProductCountSnapshot actual = productQueryDslRepository.findCountSnapshot(2L);
+
+		//then
+		assertThat(actual.getMaxId()).isEqualTo(third.getId());
+		assertThat(actual.getBrandCounts()).containsExactlyInAnyOrder(
+			new ProductBrandCount(SHOES, "brandA", 2L),
+			new ProductBrandCount(TOP, "brandB", 1L));
+		assertThat(actual.getCountedIds().cardinality()).isEqualTo(3);
+		assertThat(actual.getCountedIds().get(first.getId().intValue())).isTrue();
+		assertThat(actual.getCountedIds().get(second.getId().intValue())).isTrue();
+		assertThat(actual.getCountedIds().get(third.getId().intValue())).isTrue();
+	}
+
 	@Test
 	void findByCategoryWithPaginationOrderByBrandNewV2() {
 		List<ProductV2Dto> byCategoryWithPaginationOrderByBrandNewV2 = productQueryDslRepository.findByCategoryWithPaginationOrderByBrandNewV2(
@@ -9,6 +9,9 @@ import org.springframework.context.annotation.Bean;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import back.ecommerce.product.repository.ProductQueryDslRepository;
+import back.ecommerce.product.search.ColumnarProductCatalog;
+import back.ecommerce.product.search.ProductNgramIndex;
+import back.ecommerce.product.search.ProductPriceIndex;
 
 @TestConfiguration
 public class QueryDSLRepoConfig {
@@ -23,6 +26,7 @@ public class QueryDSLRepoConfig {
 	}
 	@Bean
 	public ProductQueryDslRepository productQueryDslRepository() {
-		return new ProductQueryDslRepository(jpaQueryFactory());
+		return new ProductQueryDslRepository(jpaQueryFactory(), new ProductNgramIndex(false, 1000),
+			new ColumnarProductCatalog("querydsl", 10000L, false), new ProductPriceIndex(false));
 	}
 }
@@ -4,11 +4,13 @@ import static back.ecommerce.product.entity.ApprovalStatus.*;
 import static back.ecommerce.product.entity.Category.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +61,23 @@ class RequestProductRepositoryTest {
 
 	}
 
+	@Test
+	@DisplayName("대기 상태인 등록요청 상품들만 한 번의 update 로 상태가 변경되어야 한다.")
+	void updateApprovalStatus() {
+		//given
+		List<Long> ids = requestProductRepository.findAll().stream()
+			.map(RequestProduct::getId)
+			.toList();
+
+		//when
+		int updated = requestProductRepository.updateApprovalStatus(ids, WAIT, SUCCESS, LocalDateTime.now());
+
+		//then
+		assertThat(updated).isEqualTo(3);
+		assertThat(requestProductRepository.findByApprovalStatus(WAIT)).isEmpty();
+		assertThat(requestProductRepository.findByApprovalStatus(SUCCESS)).hasSize(6);
+	}
+
 	@NotNull
 	private static RequestProduct createEntity(String name, String brand, long price, Category category,
 		ApprovalStatus approvalStatus, String email) {
@@ -12,8 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import back.ecommerce.admin.repository.AdminRepository;
+import back.ecommerce.auth.domain.Role;
+import back.ecommerce.auth.service.LoginThrottle;
+import back.ecommerce.auth.service.PasswordHashExecutor;
 import back.ecommerce.auth.service.TokenExtractor;
 import back.ecommerce.auth.service.VerificationURLGenerator;
 import back.ecommerce.auth.dto.response.Token;
@@ -38,7 +41,11 @@ class AuthServiceTest {
 	@Mock
 	UserRepository userRepository;
 	@Mock
-	PasswordEncoder passwordEncoder;
+	AdminRepository adminRepository;
+	@Mock
+	PasswordHashExecutor passwordHashExecutor;
+	@Mock
+	LoginThrottle loginThrottle;
 	@Mock
 	TokenProvider tokenProvider;
 	@Mock
@@ -52,8 +59,8 @@ class AuthServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		authService = new AuthService(userRepository, passwordEncoder, tokenProvider, randomUUIDGenerator,
-			signUpService, verificationURLGenerator, tokenExtractor, 100000);
+		authService = new AuthService(userRepository, adminRepository, passwordHashExecutor, loginThrottle, tokenProvider,
+			randomUUIDGenerator, signUpService, verificationURLGenerator, tokenExtractor, 100000);
 	}
 
 	@Test
@@ -65,12 +72,13 @@ class AuthServiceTest {
 
 		given(userRepository.findByEmail(anyString()))
 			.willReturn(Optional.of(user));
-		given(passwordEncoder.matches(anyString(), anyString()))
+		given(passwordHashExecutor.matches(anyString(), anyString()))
 			.willReturn(true);
-		given(tokenProvider.provide(anyString(), anyInt())).willReturn(expected);
+		given(adminRepository.existsByEmail(anyString())).willReturn(false);
+		given(tokenProvider.provide(anyString(), anyInt(), any(Role.class))).willReturn(expected);
 
 		//when
-		TokenResponse actual = authService.createToken("dmdasdlm@email.com", "ddmlasMKL#sla@");
+		TokenResponse actual = authService.createToken("dmdasdlm@email.com", "ddmlasMKL#sla@", "127.0.0.1");
 
 		//then
 		assertThat(actual.getAccessToken()).isEqualTo(expected.getValue());
@@ -78,8 +86,29 @@ class AuthServiceTest {
 		assertThat(actual.getType()).isEqualTo(expected.getType());
 
 		then(userRepository).should(times(1)).findByEmail(anyString());
-		then(passwordEncoder).should(times(1)).matches(anyString(), anyString());
-		then(tokenProvider).should(times(1)).provide(anyString(), anyInt());
+		then(passwordHashExecutor).should(times(1)).matches(anyString(), anyString());
+		then(tokenProvider).should(times(1)).provide(anyString(), anyInt(), eq(Role.MEMBER));
+	}
+
+	@Test
+	@DisplayName("어드민으로 등록된 이메일이면 ADMIN role 이 담긴 토큰이 생성 되어야한다.")
+	void create_admin() {
+		//given
+		User user = new User(10L, "admin@email.com", "ddmlasMKL#sla@");
+		Token expected = new Token("samdmasdmklsadmkl.sadklasd@Eas.sadfk@$", 1000, "Bearer");
+
+		given(userRepository.findByEmail(anyString()))
+			.willReturn(Optional.of(user));
+		given(passwordHashExecutor.matches(anyString(), anyString()))
+			.willReturn(true);
+		given(adminRepository.existsByEmail(anyString())).willReturn(true);
+		given(tokenProvider.provide(anyString(), anyInt(), any(Role.class))).willReturn(expected);
+
+		//when
+		authService.createToken("admin@email.com", "ddmlasMKL#sla@", "127.0.0.1");
+
+		//then
+		then(tokenProvider).should(times(1)).provide(anyString(), anyInt(), eq(Role.ADMIN));
 	}
 
 	@Test
@@ -90,13 +119,13 @@ class AuthServiceTest {
 			.willReturn(Optional.empty());
 
 		//expect
-		assertThatThrownBy(() -> authService.createToken("edsjl23@email.com", "dmaslkd@#mfd"))
+		assertThatThrownBy(() -> authService.createToken("edsjl23@email.com", "dmaslkd@#mfd", "127.0.0.1"))
 			.isInstanceOf(CustomException.class)
 			.hasMessage("해당하는 유저가 존재하지 않습니다.");
 
 		then(userRepository).should(times(1)).findByEmail(anyString());
-		then(passwordEncoder).should(times(0)).matches(anyString(), anyString());
-		then(tokenProvider).should(times(0)).provide(anyString(), anyInt());
+		then(passwordHashExecutor).should(times(0)).matches(anyString(), anyString());
+		then(tokenProvider).should(times(0)).provide(anyString(), anyInt(), any(Role.class));
 
 	}
 
@@ -109,17 +138,34 @@ class AuthServiceTest {
 
 		given(userRepository.findByEmail(anyString()))
 			.willReturn(Optional.of(user));
-		given(passwordEncoder.matches(anyString(), anyString()))
+		given(passwordHashExecutor.matches(anyString(), anyString()))
 			.willReturn(false);
 
 		//expect
-		assertThatThrownBy(() -> authService.createToken("edsjl23@email.com", "dmaslkd@#mfd"))
+		assertThatThrownBy(() -> authService.createToken("edsjl23@email.com", "dmaslkd@#mfd", "127.0.0.1"))
 			.isInstanceOf(AuthenticationException.class)
 			.hasMessage("비밀번호가 일치하지 않습니다.");
 
 		then(userRepository).should(times(1)).findByEmail(anyString());
-		then(passwordEncoder).should(times(1)).matches(anyString(), anyString());
-		then(tokenProvider).should(times(0)).provide(anyString(), anyInt());
+		then(passwordHashExecutor).should(times(1)).matches(anyString(), anyString());
+		then(loginThrottle).should(times(1)).recordFailure(anyString(), anyString());
+		then(tokenProvider).should(times(0)).provide(anyString(), anyInt(), any(Role.class));
+	}
+
+	@Test
+	@DisplayName("로그인 실패 한도를 넘으면 유저 조회와 비밀번호 해싱 없이 예외가 발생해야한다.")
+	void create_tooManyLoginAttempts() {
+		//given
+		willThrow(new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS))
+			.given(loginThrottle).check(anyString(), anyString());
+
+		//expect
+		assertThatThrownBy(() -> authService.createToken("edsjl23@email.com", "dmaslkd@#mfd", "127.0.0.1"))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("로그인 시도 횟수를 초과 했습니다. 잠시 후 다시 시도해주세요.");
+
+		then(userRepository).should(times(0)).findByEmail(anyString());
+		then(passwordHashExecutor).should(times(0)).matches(anyString(), anyString());
 	}
 
 	@Test
@@ -132,7 +178,7 @@ class AuthServiceTest {
 		given(randomUUIDGenerator.create())
 			.willReturn("133812312");
 		given(verificationURLGenerator.generateVerificationURL(anyString())).willReturn("verificationUrl");
-		given(passwordEncoder.encode(password)).willReturn("encodePassword");
+		given(passwordHashExecutor.encode(password)).willReturn("encodePassword");
 
 
 		//when
@@ -144,7 +190,7 @@ class AuthServiceTest {
 		then(randomUUIDGenerator).should(times(1)).create();
 		then(signUpService).should(times(1)).saveUserSignUpInfo(anyString(), anyString(), anyString());
 		then(verificationURLGenerator).should(times(1)).generateVerificationURL(anyString());
-		then(passwordEncoder).should(times(1)).encode(anyString());
+		then(passwordHashExecutor).should(times(1)).encode(anyString());
 
 	}
 
@@ -157,7 +203,7 @@ class AuthServiceTest {
 
 		given(randomUUIDGenerator.create())
 			.willReturn("133812312");
-		given(passwordEncoder.encode(password)).willReturn("encodePassword");
+		given(passwordHashExecutor.encode(password)).willReturn("encodePassword");
 
 		doThrow(new CustomException(ErrorCode.DUPLICATE_USER_EMAIL)).when(signUpService)
 			.saveUserSignUpInfo(anyString(), anyString(), anyString());
@@ -169,7 +215,7 @@ class AuthServiceTest {
 
 		then(randomUUIDGenerator).should(times(1)).create();
 		then(signUpService).should(times(1)).saveUserSignUpInfo(anyString(), anyString(), anyString());
-		then(passwordEncoder).should(times(1)).encode(anyString());
+		then(passwordHashExecutor).should(times(1)).encode(anyString());
 
 	}
 
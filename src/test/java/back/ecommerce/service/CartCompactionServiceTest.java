@@ -0,0 +1,44 @@
+package back.ecommerce.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import back.ecommerce.cart.application.CartCompactionService;
+import back.ecommerce.cart.dto.response.CartCompactionResponse;
+import back.ecommerce.cart.repository.CartDuplicate;
+import back.ecommerce.cart.repository.CartJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CartCompactionServiceTest {
+
+	@Mock
+	CartJdbcRepository cartJdbcRepository;
+
+	@Test
+	@DisplayName("중복된 장바구니가 없어질 때까지 chunk 단위로 합쳐야 한다.")
+	void compact() {
+		//given
+		CartCompactionService cartCompactionService = new CartCompactionService(cartJdbcRepository, 2);
+		List<CartDuplicate> first = List.of(
+			new CartDuplicate("a@email.com", 1L, 1L, 3, 30000L),
+			new CartDuplicate("b@email.com", 1L, 4L, 2, 20000L));
+		List<CartDuplicate> second = List.of(new CartDuplicate("c@email.com", 2L, 7L, 5, 50000L));
+		given(cartJdbcRepository.findDuplicates(2)).willReturn(first, second, List.of());
+
+		//when
+		CartCompactionResponse actual = cartCompactionService.compact();
+
+		//then
+		assertThat(actual.getCompactedCount()).isEqualTo(3);
+		then(cartJdbcRepository).should(times(1)).compact(first);
+		then(cartJdbcRepository).should(times(1)).compact(second);
+	}
+}
@@ -3,8 +3,10 @@ package back.ecommerce.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,13 +19,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import back.ecommerce.cart.entity.Cart;
 import back.ecommerce.product.entity.Category;
 import back.ecommerce.product.entity.Product;
+import back.ecommerce.cart.dto.request.CartOperationRequest;
+import back.ecommerce.cart.dto.request.CartOperationType;
 import back.ecommerce.cart.dto.response.AddCartResponse;
 import back.ecommerce.cart.dto.response.CartListResponse;
 import back.ecommerce.exception.CustomException;
 import back.ecommerce.exception.ErrorCode;
+import back.ecommerce.cart.repository.CartChange;
+import back.ecommerce.cart.repository.CartJdbcRepository;
 import back.ecommerce.cart.repository.CartRepository;
+import back.ecommerce.cart.repository.JpaCartStore;
 import back.ecommerce.product.repository.ProductRepository;
-import back.ecommerce.user.repository.UserRepository;
+import back.ecommerce.user.cache.UserIdentityCache;
 import back.ecommerce.cart.application.CartService;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,14 +38,16 @@ class CartServiceTest {
 	@Mock
 	CartRepository cartRepository;
 	@Mock
-	UserRepository userRepository;
+	CartJdbcRepository cartJdbcRepository;
+	@Mock
+	UserIdentityCache userIdentityCache;
 	@Mock
 	ProductRepository productRepository;
 	CartService cartService;
 
 	@BeforeEach
 	void setUp() {
-		cartService = new CartService(cartRepository, userRepository, productRepository);
+		cartService = new CartService(new JpaCartStore(cartRepository, cartJdbcRepository), userIdentityCache, productRepository);
 	}
 
 	@Test
@@ -50,12 +59,12 @@ class CartServiceTest {
 		int quantity = 10;
 		Product product = createProduct(2L, "티셔츠", "커버낫", 35000L, Category.TOP);
 
-		given(userRepository.existsByEmail(anyString()))
+		given(userIdentityCache.exists(anyString()))
 			.willReturn(true);
 		given(productRepository.findById(anyLong()))
 			.willReturn(Optional.of(product));
-		given(cartRepository.save(any(Cart.class)))
-			.willReturn(new Cart(10L, product, email, quantity, 350000L));
+		given(cartRepository.findByUserEmailAndProductId(anyString(), anyLong()))
+			.willReturn(Optional.of(new Cart(10L, product, email, quantity, 350000L)));
 
 		//expect
 		AddCartResponse addCartResponse = cartService.addProduct(email, productId, quantity);
@@ -64,9 +73,10 @@ class CartServiceTest {
 		assertThat(addCartResponse.getPrice()).isEqualTo(350000L);
 		assertThat(addCartResponse.getQuantity()).isEqualTo(quantity);
 
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(productRepository).should(times(1)).findById(anyLong());
-		then(cartRepository).should(times(1)).save(any(Cart.class));
+		then(cartJdbcRepository).should(times(1))
+			.merge(eq(email), eq(2L), eq(quantity), eq(350000L), any(LocalDateTime.class));
 	}
 
 	@Test
@@ -77,7 +87,7 @@ class CartServiceTest {
 		long productId = 1L;
 		int quantity = 10;
 
-		given(userRepository.existsByEmail(anyString()))
+		given(userIdentityCache.exists(anyString()))
 			.willReturn(false);
 
 		//expect
@@ -85,9 +95,10 @@ class CartServiceTest {
 			.isInstanceOf(CustomException.class)
 			.hasMessage("해당하는 유저가 존재하지 않습니다.");
 
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(productRepository).should(times(0)).findById(anyLong());
-		then(cartRepository).should(times(0)).save(any(Cart.class));
+		then(cartJdbcRepository).should(times(0))
+			.merge(anyString(), anyLong(), anyInt(), anyLong(), any(LocalDateTime.class));
 	}
 
 	@Test
@@ -98,7 +109,7 @@ class CartServiceTest {
 		long productId = 1L;
 		int quantity = 10;
 
-		given(userRepository.existsByEmail(anyString()))
+		given(userIdentityCache.exists(anyString()))
 			.willReturn(true);
 		given(productRepository.findById(anyLong()))
 			.willThrow(new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -108,9 +119,10 @@ class CartServiceTest {
 			.isInstanceOf(CustomException.class)
 			.hasMessage("해당하는 상품이 존재하지 않습니다.");
 
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(productRepository).should(times(1)).findById(anyLong());
-		then(cartRepository).should(times(0)).save(any(Cart.class));
+		then(cartJdbcRepository).should(times(0))
+			.merge(anyString(), anyLong(), anyInt(), anyLong(), any(LocalDateTime.class));
 	}
 
 	@Test
@@ -128,7 +140,7 @@ class CartServiceTest {
 		carts.add(new Cart(2L, productB, userEmail, 2, 60000L));
 		carts.add(new Cart(3L, productC, userEmail, 1, 50000L));
 
-		given(userRepository.existsByEmail(anyString()))
+		given(userIdentityCache.exists(anyString()))
 			.willReturn(true);
 		given(cartRepository.findByUserEmail(anyString()))
 			.willReturn(carts);
@@ -148,7 +160,7 @@ class CartServiceTest {
 				tuple(3L, "productC", "brandC", 50000L, Category.ACCESSORY, 1)
 			);
 
-		then(userRepository).should(times(1)).existsByEmail(anyString());
+		then(userIdentityCache).should(times(1)).exists(anyString());
 		then(cartRepository).should(times(1)).findByUserEmail(anyString());
 	}
 
@@ -156,7 +168,7 @@ class CartServiceTest {
 	@DisplayName("사용자가 존재하지 않으면 UserNotFoundException 이 발생한다.")
 	void cart_findByUserEmail_UserNotFoundException() {
 		//given
-		given(userRepository.existsByEmail(anyString()))
+		given(userIdentityCache.exists(anyString()))
 			.willReturn(false);
 
 		//expect
@@ -165,6 +177,82 @@ class CartServiceTest {
 			.hasMessage("해당하는 유저가 존재하지 않습니다.");
 	}
 
+	@Test
+	@DisplayName("일괄 변경 시 같은 상품의 연산은 하나로 접어서 한 번에 반영하고 반영 후의 장바구니를 반환해야 한다.")
+	void cart_applyOperations() {
+		//given
+		String email = "user@email.com";
+		Product productA = createProduct(1, "productA", "brandA", 10000L, Category.TOP);
+		Product productB = createProduct(2, "productB", "brandB", 30000L, Category.PANTS);
+		List<CartOperationRequest> operations = List.of(
+			new CartOperationRequest(CartOperationType.ADD, 1L, 1),
+			new CartOperationRequest(CartOperationType.ADD, 1L, 2),
+			new CartOperationRequest(CartOperationType.REMOVE, 2L, 0),
+			new CartOperationRequest(CartOperationType.ADD, 2L, 1),
+			new CartOperationRequest(CartOperationType.REMOVE, 3L, 0));
+
+		given(userIdentityCache.exists(anyString()))
+			.willReturn(true);
+		given(productRepository.findAllById(List.of(1L, 2L)))
+			.willReturn(List.of(productA, productB));
+		given(cartRepository.findByUserEmail(anyString()))
+			.willReturn(List.of(new Cart(10L, productA, email, 3, 30000L), new Cart(11L, productB, email, 1, 30000L)));
+
+		//when
+		CartListResponse response = cartService.applyOperations(email, operations);
+
+		//then
+		assertThat(response.getCartProducts().getValue())
+			.extracting("id", "quantity", "price")
+			.containsExactly(tuple(10L, 3, 30000L), tuple(11L, 1, 30000L));
+		then(userIdentityCache).should(times(1)).exists(anyString());
+		then(productRepository).should(times(1)).findAllById(anyList());
+		then(cartJdbcRepository).should(times(1)).applyAll(eq(email), eq(List.of(
+				CartChange.Companion.merge(1L, 3),
+				CartChange.Companion.replace(2L, 1),
+				CartChange.Companion.remove(3L))),
+			eq(Map.of(1L, productA, 2L, productB)), any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("일괄 변경 시 상품정보가 존재하지 않으면 아무것도 반영하지 않고 ProductNotFoundException 이 발생한다.")
+	void cart_applyOperations_productNotFoundException() {
+		//given
+		List<CartOperationRequest> operations = List.of(
+			new CartOperationRequest(CartOperationType.ADD, 1L, 1),
+			new CartOperationRequest(CartOperationType.UPDATE, 2L, 3));
+
+		given(userIdentityCache.exists(anyString()))
+			.willReturn(true);
+		given(productRepository.findAllById(anyList()))
+			.willReturn(List.of(createProduct(1, "productA", "brandA", 10000L, Category.TOP)));
+
+		//expect
+		assertThatThrownBy(() -> cartService.applyOperations("user@email.com", operations))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("해당하는 상품이 존재하지 않습니다.");
+
+		then(cartJdbcRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("일괄 변경 시 추가 수량이 1개 미만이면 InvalidCartOperationException 이 발생한다.")
+	void cart_applyOperations_invalidCartOperation() {
+		//given
+		List<CartOperationRequest> operations = List.of(new CartOperationRequest(CartOperationType.ADD, 1L, 0));
+
+		given(userIdentityCache.exists(anyString()))
+			.willReturn(true);
+
+		//expect
+		assertThatThrownBy(() -> cartService.applyOperations("user@email.com", operations))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("유효하지 않는 장바구니 변경 요청입니다.");
+
+		then(productRepository).shouldHaveNoInteractions();
+		then(cartJdbcRepository).shouldHaveNoInteractions();
+	}
+
 	private Product createProduct(long id, String name, String brandName, long price, Category category) {
 		return new Product(id, name, brandName, price, category);
 	}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
 
+import back.ecommerce.product.cache.CategoryFirstPageCache;
+import back.ecommerce.product.cache.ProductDetailCache;
+import back.ecommerce.product.cache.SearchResultCache;
 import back.ecommerce.product.dto.condition.ProductSearchCondition;
 import back.ecommerce.product.entity.Category;
 import back.ecommerce.product.entity.Product;
@@ -26,6 +30,7 @@ import back.ecommerce.product.dto.response.ProductListResponse;
 import back.ecommerce.exception.CustomException;
 import back.ecommerce.product.repository.ProductQueryDslRepository;
 import back.ecommerce.product.repository.ProductRepository;
+import back.ecommerce.product.search.ProductCountIndex;
 import back.ecommerce.product.service.ProductService;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +40,14 @@ class ProductServiceTest {
 	ProductQueryDslRepository productQueryDslRepository;
 	@Mock
 	ProductRepository productRepository;
+	@Mock
+	CategoryFirstPageCache categoryFirstPageCache;
+	@Mock
+	ProductDetailCache productDetailCache;
+	@Mock
+	SearchResultCache searchResultCache;
+	@Mock
+	ProductCountIndex productCountIndex;
 	@InjectMocks
 	ProductService productService;
 
@@ -51,6 +64,8 @@ class ProductServiceTest {
 		given(productQueryDslRepository.findByCategoryWithPaginationOrderByBrandNew(any(Category.class),
 			any(Pageable.class)))
 			.willReturn(products);
+		given(categoryFirstPageCache.get(any(Category.class), any()))
+			.willAnswer(invocation -> invocation.<Supplier<ProductListResponse>>getArgument(1).get());
 
 		//when
 		ProductListResponse response = productService.findWithCategoryAndPagination(
@@ -71,6 +86,50 @@ class ProductServiceTest {
 			.findByCategoryWithPaginationOrderByBrandNew(any(Category.class), any(Pageable.class));
 	}
 
+	@Test
+	@DisplayName("카테고리 상품 수를 알고 있으면 전체 상품 수와 전체 페이지 수가 응답되어야 한다.")
+	void findWithCategoryAndPagination_totalCount() {
+		//given
+		ArrayList<ProductDto> products = new ArrayList<>();
+		products.add(new ProductDto(1L, "productA", "brandA", 150000L, Category.TOP));
+
+		given(productQueryDslRepository.findByCategoryWithPaginationOrderByBrandNew(any(Category.class),
+			any(Pageable.class)))
+			.willReturn(products);
+		given(categoryFirstPageCache.get(any(Category.class), any()))
+			.willAnswer(invocation -> invocation.<Supplier<ProductListResponse>>getArgument(1).get());
+		given(productCountIndex.count(Category.TOP)).willReturn(25L);
+
+		//when
+		ProductListResponse response = productService.findWithCategoryAndPagination(Category.TOP);
+
+		//then
+		assertThat(response.getTotalCount()).isEqualTo(1);
+		assertThat(response.getTotalElements()).isEqualTo(25L);
+		assertThat(response.getTotalPages()).isEqualTo(3);
+		assertThat(response.getProducts()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("캐시된 카테고리 첫 페이지가 있으면 상품을 조회하지 않고 캐시된 응답을 반환해야 한다.")
+	void findWithCategoryAndPagination_cached() {
+		//given
+		ArrayList<ProductDto> products = new ArrayList<>();
+		products.add(new ProductDto(1L, "productA", "brandA", 150000L, Category.TOP));
+		ProductListResponse cached = new ProductListResponse(products.size(), products);
+
+		given(categoryFirstPageCache.get(any(Category.class), any()))
+			.willReturn(cached);
+
+		//when
+		ProductListResponse actual = productService.findWithCategoryAndPagination(Category.TOP);
+
+		//then
+		assertThat(actual).isSameAs(cached);
+		then(productQueryDslRepository).should(never())
+			.findByCategoryWithPaginationOrderByBrandNew(any(Category.class), any(Pageable.class));
+	}
+
 	@Test
 	@DisplayName("SearchCondition 을 받아서 해당하는 조건의 상품20개를 정렬하여 응답되어야한다.")
 	void findWithSearchCondition() {
@@ -89,6 +148,8 @@ class ProductServiceTest {
 
 		given(productQueryDslRepository.findBySearchCondition(any(ProductSearchCondition.class)))
 			.willReturn(products);
+		given(searchResultCache.get(any(ProductSearchCondition.class), any()))
+			.willAnswer(invocation -> invocation.<Supplier<ProductListResponse>>getArgument(1).get());
 
 		//when
 		ProductListResponse actual = productService.findWithSearchCondition(Category.HEAD_WEAR, parameters);
@@ -132,6 +193,8 @@ class ProductServiceTest {
 		long id = 1L;
 		given(productRepository.findById(id))
 			.willReturn(Optional.of(new Product(id, "상품", "브랜드", 1L, Category.HEAD_WEAR)));
+		given(productDetailCache.get(anyLong(), any()))
+			.willAnswer(invocation -> invocation.<Supplier<ProductDto>>getArgument(1).get());
 
 		//when
 		ProductDto actual = productService.findOne(id);
@@ -152,6 +215,8 @@ class ProductServiceTest {
 		//given
 		given(productRepository.findById(15L))
 			.willReturn(Optional.empty());
+		given(productDetailCache.get(anyLong(), any()))
+			.willAnswer(invocation -> invocation.<Supplier<ProductDto>>getArgument(1).get());
 
 		//expect
 		assertThatThrownBy(() -> productService.findOne(15L))
@@ -162,4 +227,19 @@ class ProductServiceTest {
 
 
 	}
+
+	@Test
+	@DisplayName("캐시된 상품은 DB 를 조회하지 않고 응답되어야 한다.")
+	void findOne_cached() {
+		//given
+		ProductDto cached = new ProductDto(1L, "상품", "브랜드", 1L, Category.HEAD_WEAR);
+		given(productDetailCache.get(anyLong(), any())).willReturn(cached);
+
+		//when
+		ProductDto actual = productService.findOne(1L);
+
+		//then
+		assertThat(actual).isSameAs(cached);
+		then(productRepository).should(never()).findById(any());
+	}
 }
\ No newline at end of file
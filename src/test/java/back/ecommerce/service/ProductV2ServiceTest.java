@@ -0,0 +1,171 @@
+package back.ecommerce.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import back.ecommerce.exception.CustomException;
+import back.ecommerce.product.application.ProductV2Service;
+import back.ecommerce.product.cache.CategoryFirstPageCache;
+import back.ecommerce.product.cache.ProductDetailCache;
+import back.ecommerce.product.cache.ProductThumbnailCache;
+import back.ecommerce.product.cache.SearchResultCache;
+import back.ecommerce.product.dto.response.v2.ProductListV2Response;
+import back.ecommerce.product.dto.response.v2.ProductV2Dto;
+import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.entity.Product;
+import back.ecommerce.product.repository.ProductQueryDslRepository;
+import back.ecommerce.product.repository.ProductRepository;
+import back.ecommerce.product.search.ProductCountIndex;
+import back.ecommerce.product.search.ProductFacetIndex;
+
+@ExtendWith(MockitoExtension.class)
+class ProductV2ServiceTest {
+
+	@Mock
+	ProductQueryDslRepository productQueryDslRepository;
+	@Mock
+	CategoryFirstPageCache categoryFirstPageCache;
+	@Mock
+	ProductFacetIndex productFacetIndex;
+	@Mock
+	ProductDetailCache productDetailCache;
+	@Mock
+	ProductRepository productRepository;
+	@Mock
+	SearchResultCache searchResultCache;
+	@Mock
+	ProductThumbnailCache productThumbnailCache;
+	@Mock
+	ProductCountIndex productCountIndex;
+	@InjectMocks
+	ProductV2Service productV2Service;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(productThumbnailCache.fill(anyList()))
+			.thenAnswer(invocation -> invocation.<List<ProductV2Dto>>getArgument(0).stream()
+				.map(dto -> new ProductV2Dto(dto.getId(), dto.getName(), dto.getBrandName(), dto.getPrice(),
+					dto.getCategory(), "thumbnail" + dto.getId()))
+				.toList());
+	}
+
+	@Test
+	@DisplayName("상품 id 목록으로 조회하면 요청한 id 순서대로 썸네일과 함께 응답되어야 한다.")
+	void findByIds_order() {
+		//given
+		given(productRepository.findByIds(List.of(3L, 1L, 2L))).willReturn(List.of(
+			new Product(1L, "productA", "brandA", 10000L, Category.TOP),
+			new Product(2L, "productB", "brandB", 20000L, Category.PANTS),
+			new Product(3L, "productC", "brandC", 30000L, Category.SHOES)));
+
+		//when
+		ProductListV2Response response = productV2Service.findByIds("3,1,2");
+
+		//then
+		assertThat(response.getTotalCount()).isEqualTo(3);
+		assertThat(response.getProducts())
+			.extracting("id", "name", "thumbnailUrl")
+			.containsExactly(
+				tuple(3L, "productC", "thumbnail3"),
+				tuple(1L, "productA", "thumbnail1"),
+				tuple(2L, "productB", "thumbnail2"));
+	}
+
+	@Test
+	@DisplayName("중복된 id 는 처음 위치에 한 번만 조회되고 공백과 빈 값은 무시되어야 한다.")
+	void findByIds_distinct() {
+		//given
+		given(productRepository.findByIds(List.of(2L, 1L))).willReturn(List.of(
+			new Product(1L, "productA", "brandA", 10000L, Category.TOP),
+			new Product(2L, "productB", "brandB", 20000L, Category.PANTS)));
+
+		//when
+		ProductListV2Response response = productV2Service.findByIds(" 2, 1,,2 ,1");
+
+		//then
+		assertThat(response.getProducts()).extracting("id").containsExactly(2L, 1L);
+		then(productRepository).should(times(1)).findByIds(List.of(2L, 1L));
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 상품 id 는 응답에서 제외되어야 한다.")
+	void findByIds_missing() {
+		//given
+		given(productRepository.findByIds(List.of(1L, 999L, 2L))).willReturn(List.of(
+			new Product(1L, "productA", "brandA", 10000L, Category.TOP),
+			new Product(2L, "productB", "brandB", 20000L, Category.PANTS)));
+
+		//when
+		ProductListV2Response response = productV2Service.findByIds("1,999,2");
+
+		//then
+		assertThat(response.getTotalCount()).isEqualTo(2);
+		assertThat(response.getProducts()).extracting("id").containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("빈 id 목록은 조회 없이 빈 결과가 응답되어야 한다.")
+	void findByIds_empty() {
+		//when
+		ProductListV2Response response = productV2Service.findByIds(" , ");
+
+		//then
+		assertThat(response.getTotalCount()).isZero();
+		assertThat(response.getProducts()).isEmpty();
+		then(productRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("중복을 제외한 id 가 50개면 한 번에 조회되어야 한다.")
+	void findByIds_max() {
+		//given
+		String ids = LongStream.rangeClosed(1, 50).mapToObj(String::valueOf).collect(Collectors.joining(","))
+			+ ",1,2,3";
+		given(productRepository.findByIds(anyList())).willReturn(List.of());
+
+		//when
+		productV2Service.findByIds(ids);
+
+		//then
+		then(productRepository).should(times(1))
+			.findByIds(LongStream.rangeClosed(1, 50).boxed().toList());
+	}
+
+	@Test
+	@DisplayName("중복을 제외한 id 가 50개를 넘으면 예외가 발생해야 한다.")
+	void findByIds_too_many() {
+		//given
+		String ids = LongStream.rangeClosed(1, 51).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+		//expect
+		assertThatThrownBy(() -> productV2Service.findByIds(ids))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("한 번에 조회할 수 있는 상품 갯수를 초과 했습니다.");
+		then(productRepository).shouldHaveNoInteractions();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1,a", "0", "-1,2", "1.5", "99999999999999999999"})
+	@DisplayName("숫자가 아니거나 양수가 아닌 id 가 있으면 예외가 발생해야 한다.")
+	void findByIds_invalid(String ids) {
+		//expect
+		assertThatThrownBy(() -> productV2Service.findByIds(ids))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("유효하지 않는 상품 id 목록입니다.");
+		then(productRepository).shouldHaveNoInteractions();
+	}
+}
@@ -9,6 +9,7 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,16 +19,21 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import back.ecommerce.admin.dto.request.AddRequestProductRequest;
 import back.ecommerce.admin.dto.response.AddRequestProductResponse;
+import back.ecommerce.admin.dto.response.BulkUpdateApprovalStatusDto;
 import back.ecommerce.admin.dto.response.RequestProductDto;
 import back.ecommerce.admin.dto.response.UpdateApprovalStatusDto;
 import back.ecommerce.admin.service.AdminService;
+import back.ecommerce.admin.service.RequestProductChunkUpdater;
 import back.ecommerce.exception.CustomException;
 import back.ecommerce.product.entity.ApprovalStatus;
 import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.entity.Product;
 import back.ecommerce.product.entity.RequestProduct;
+import back.ecommerce.product.event.ProductApprovedEvent;
 import back.ecommerce.product.repository.ProductRepository;
 import back.ecommerce.product.repository.RequestProductRepository;
 import back.ecommerce.user.entity.User;
@@ -44,6 +50,10 @@ class AdminServiceTest {
 	UserRepository userRepository;
 	@Mock
 	ProductRepository productRepository;
+	@Mock
+	RequestProductChunkUpdater requestProductChunkUpdater;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
 
 	@Test
 	@DisplayName("상품등록 요청 정보가 저장되고 저장 정보를 반환해야한다.")
@@ -176,6 +186,7 @@ class AdminServiceTest {
 
 		then(requestProductRepository).should(times(1)).findById(anyLong());
 		then(productRepository).should(times(0)).save(any());
+		then(eventPublisher).should(times(0)).publishEvent(any(Object.class));
 	}
 
 	@Test
@@ -185,6 +196,8 @@ class AdminServiceTest {
 		RequestProduct requestProduct = new RequestProduct(100L, "name", "brand", 10000L, TOP, WAIT, "email@naver.com");
 		given(requestProductRepository.findById(anyLong()))
 			.willReturn(Optional.of(requestProduct));
+		given(productRepository.save(any(Product.class)))
+			.willReturn(new Product(1L, "name", "brand", 10000L, TOP));
 
 		//when
 		UpdateApprovalStatusDto actual = adminService.updateApprovalStatus(100L, SUCCESS, "email@naver.com");
@@ -196,6 +209,7 @@ class AdminServiceTest {
 
 		then(requestProductRepository).should(times(1)).findById(anyLong());
 		then(productRepository).should(times(1)).save(any());
+		then(eventPublisher).should(times(1)).publishEvent(any(ProductApprovedEvent.class));
 	}
 
 	@Test
@@ -212,6 +226,7 @@ class AdminServiceTest {
 
 		then(requestProductRepository).should(times(1)).findById(anyLong());
 		then(productRepository).should(times(0)).save(any());
+		then(eventPublisher).should(times(0)).publishEvent(any(Object.class));
 	}
 
 	@Test
@@ -233,4 +248,59 @@ class AdminServiceTest {
 
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("일괄 처리는 중복을 제외한 요청 id 를 청크로 나눠서 처리하고 대기 상태가 아니었던 요청은 건너뛴 목록에 담겨야 한다.")
+	void updateApprovalStatuses_success() {
+		//given
+		given(requestProductChunkUpdater.update(anyList(), eq(SUCCESS), any(LocalDateTime.class)))
+			.willReturn(List.of(
+				new RequestProduct(100L, "name1", "brand", 10000L, TOP, WAIT, "email@naver.com"),
+				new RequestProduct(101L, "name2", "brand", 20000L, PANTS, WAIT, "kim@naver.com")));
+
+		//when
+		BulkUpdateApprovalStatusDto actual = adminService.updateApprovalStatuses(List.of(100L, 101L, 102L, 100L),
+			SUCCESS);
+
+		//then
+		assertThat(actual.getUpdatedCount()).isEqualTo(2);
+		assertThat(actual.getUpdated())
+			.extracting(UpdateApprovalStatusDto::getEmail)
+			.containsExactly("email@naver.com", "kim@naver.com");
+		assertThat(actual.getSkippedRequestIds()).containsExactly(102L);
+
+		then(requestProductChunkUpdater).should(times(1))
+			.update(eq(List.of(100L, 101L, 102L)), eq(SUCCESS), any(LocalDateTime.class));
+		then(requestProductRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("요청 id 가 청크 크기(1000)를 넘으면 청크마다 따로 처리되어야 한다.")
+	void updateApprovalStatuses_chunk() {
+		//given
+		List<Long> requestIds = LongStream.rangeClosed(1, 1500).boxed().toList();
+		given(requestProductChunkUpdater.update(anyList(), eq(FAILED), any(LocalDateTime.class)))
+			.willReturn(List.of());
+
+		//when
+		BulkUpdateApprovalStatusDto actual = adminService.updateApprovalStatuses(requestIds, FAILED);
+
+		//then
+		assertThat(actual.getUpdatedCount()).isZero();
+		assertThat(actual.getSkippedRequestIds()).hasSize(1500);
+		then(requestProductChunkUpdater).should(times(1))
+			.update(eq(requestIds.subList(0, 1000)), eq(FAILED), any(LocalDateTime.class));
+		then(requestProductChunkUpdater).should(times(1))
+			.update(eq(requestIds.subList(1000, 1500)), eq(FAILED), any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("일괄 처리 상태가 대기 상태이면 예외가 발생한다.")
+	void updateApprovalStatuses_wait() {
+		//expect
+		assertThatThrownBy(() -> adminService.updateApprovalStatuses(List.of(100L), WAIT))
+			.isInstanceOf(CustomException.class)
+			.hasMessage("일괄 처리는 승인 또는 거절 상태로만 가능합니다.");
+
+		then(requestProductChunkUpdater).shouldHaveNoInteractions();
+	}
+}
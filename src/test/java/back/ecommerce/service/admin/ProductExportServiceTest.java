@@ -0,0 +1,114 @@
+package back.ecommerce.service.admin;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.ecommerce.admin.dto.request.ProductExportFormat;
+import back.ecommerce.admin.service.ProductExportService;
+import back.ecommerce.product.entity.Category;
+import back.ecommerce.product.entity.Product;
+import back.ecommerce.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 내보내기는 별도 StatelessSession 커넥션으로 읽기 때문에 테스트 트랜잭션 없이 커밋된 데이터로 실행한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductExportServiceTest {
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+	@Autowired
+	ProductRepository productRepository;
+
+	ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	ProductExportService productExportService;
+
+	@BeforeEach
+	void setUp() {
+		productExportService = new ProductExportService(entityManagerFactory, objectMapper, 2, "jdbc:h2:mem:testdb");
+	}
+
+	@AfterEach
+	void tearDown() {
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("CSV 는 구분자, 따옴표가 있는 값을 따옴표로 감싸고 수식으로 시작하는 값에는 ' 를 붙여야 한다.")
+	void export_csv() {
+		//given
+		Product quoted = productRepository.save(new Product(null, "shirt, \"basic\"", "brandA", 10000L, Category.TOP));
+		Product formula = productRepository.save(new Product(null, "=SUM(A1)", "-brand", 20000L, Category.TOP));
+		Product both = productRepository.save(new Product(null, "@cmd,1", "+brand", 30000L, Category.OUTER));
+
+		//when
+		String actual = export(ProductExportFormat.CSV);
+
+		//then
+		String[] lines = actual.split("\n", -1);
+		assertThat(lines).hasSize(5);
+		assertThat(lines[0]).isEqualTo("id,name,brandName,price,category,createdDate");
+		assertThat(lines[1]).startsWith(quoted.getId() + ",\"shirt, \"\"basic\"\"\",brandA,10000,TOP,");
+		assertThat(lines[2]).startsWith(formula.getId() + ",'=SUM(A1),'-brand,20000,TOP,");
+		assertThat(lines[3]).startsWith(both.getId() + ",\"'@cmd,1\",'+brand,30000,OUTER,");
+		assertThat(lines[4]).isEmpty();
+	}
+
+	@Test
+	@DisplayName("NDJSON 은 상품 한 건당 JSON 객체 한 줄로 id 순서대로 내보내야 한다.")
+	void export_ndjson() throws Exception {
+		//given
+		for (int i = 0; i < 5; i++) {
+			productRepository.save(new Product(null, "line\nname" + i, "brand", 1000L * i, Category.TOP));
+		}
+
+		//when
+		String actual = export(ProductExportFormat.NDJSON);
+
+		//then
+		assertThat(actual).endsWith("\n");
+		List<String> lines = actual.lines().toList();
+		assertThat(lines).hasSize(5);
+		for (int i = 0; i < lines.size(); i++) {
+			Map<String, Object> row = objectMapper.readValue(lines.get(i), new TypeReference<>() {
+			});
+			assertThat(row).containsKeys("id", "name", "brandName", "price", "category", "createdDate");
+			assertThat(row.get("name")).isEqualTo("line\nname" + i);
+			assertThat(((Number)row.get("price")).longValue()).isEqualTo(1000L * i);
+		}
+	}
+
+	@Test
+	@DisplayName("MySQL datasource URL 에 useCursorFetch=true 가 없으면 커서 조회를 지원하지 않아야 한다.")
+	void supportsCursorFetch() {
+		//expect
+		assertThat(ProductExportService.Companion.supportsCursorFetch(
+			"jdbc:mysql://localhost:3306/commerce?useCursorFetch=true")).isTrue();
+		assertThat(ProductExportService.Companion.supportsCursorFetch("jdbc:mysql://localhost:3306/commerce"))
+			.isFalse();
+		assertThat(ProductExportService.Companion.supportsCursorFetch("jdbc:h2:mem:testdb")).isTrue();
+	}
+
+	private String export(ProductExportFormat format) {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		productExportService.export(format, outputStream);
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,102 @@
+package back.ecommerce.service.admin;
+
+import static back.ecommerce.product.entity.ApprovalStatus.*;
+import static back.ecommerce.product.entity.Category.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import back.ecommerce.admin.service.RequestProductChunkUpdater;
+import back.ecommerce.product.entity.Product;
+import back.ecommerce.product.entity.RequestProduct;
+import back.ecommerce.product.event.ProductsApprovedEvent;
+import back.ecommerce.product.repository.ProductJdbcRepository;
+import back.ecommerce.product.repository.RequestProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RequestProductChunkUpdaterTest {
+
+	@InjectMocks
+	RequestProductChunkUpdater requestProductChunkUpdater;
+	@Mock
+	RequestProductRepository requestProductRepository;
+	@Mock
+	ProductJdbcRepository productJdbcRepository;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@Test
+	@DisplayName("대기중인 등록요청 상품들이 한 번에 승인되고 상품이 한 번에 저장되어야 한다.")
+	void update_success() {
+		//given
+		List<RequestProduct> waits = List.of(
+			new RequestProduct(100L, "name1", "brand", 10000L, TOP, WAIT, "email@naver.com"),
+			new RequestProduct(101L, "name2", "brand", 20000L, PANTS, WAIT, "kim@naver.com"));
+		given(requestProductRepository.findForUpdateByIdInAndApprovalStatus(anyCollection(), eq(WAIT)))
+			.willReturn(waits);
+		given(productJdbcRepository.insertAll(eq(waits), any(LocalDateTime.class)))
+			.willReturn(List.of(
+				new Product(1L, "name1", "brand", 10000L, TOP),
+				new Product(2L, "name2", "brand", 20000L, PANTS)));
+
+		//when
+		List<RequestProduct> actual = requestProductChunkUpdater.update(List.of(100L, 101L, 102L), SUCCESS,
+			LocalDateTime.now());
+
+		//then
+		assertThat(actual).isEqualTo(waits);
+		then(requestProductRepository).should(times(1))
+			.findForUpdateByIdInAndApprovalStatus(eq(List.of(100L, 101L, 102L)), eq(WAIT));
+		then(requestProductRepository).should(times(1))
+			.updateApprovalStatus(eq(List.of(100L, 101L)), eq(WAIT), eq(SUCCESS), any(LocalDateTime.class));
+		then(eventPublisher).should(times(1)).publishEvent(any(ProductsApprovedEvent.class));
+	}
+
+	@Test
+	@DisplayName("거절 시 상품은 저장되지 않고 상태만 업데이트 되어야 한다.")
+	void update_failed() {
+		//given
+		List<RequestProduct> waits = List.of(
+			new RequestProduct(100L, "name1", "brand", 10000L, TOP, WAIT, "email@naver.com"));
+		given(requestProductRepository.findForUpdateByIdInAndApprovalStatus(anyCollection(), eq(WAIT)))
+			.willReturn(waits);
+
+		//when
+		List<RequestProduct> actual = requestProductChunkUpdater.update(List.of(100L), FAILED, LocalDateTime.now());
+
+		//then
+		assertThat(actual).isEqualTo(waits);
+		then(requestProductRepository).should(times(1))
+			.updateApprovalStatus(eq(List.of(100L)), eq(WAIT), eq(FAILED), any(LocalDateTime.class));
+		then(productJdbcRepository).should(times(0)).insertAll(anyList(), any());
+		then(eventPublisher).should(times(0)).publishEvent(any(Object.class));
+	}
+
+	@Test
+	@DisplayName("대기 상태인 요청이 없으면 아무것도 업데이트 되지 않아야 한다.")
+	void update_no_waits() {
+		//given
+		given(requestProductRepository.findForUpdateByIdInAndApprovalStatus(anyCollection(), eq(WAIT)))
+			.willReturn(List.of());
+
+		//when
+		List<RequestProduct> actual = requestProductChunkUpdater.update(List.of(100L), SUCCESS, LocalDateTime.now());
+
+		//then
+		assertThat(actual).isEmpty();
+		then(requestProductRepository).should(times(0)).updateApprovalStatus(anyList(), any(), any(), any());
+		then(productJdbcRepository).shouldHaveNoInteractions();
+		then(eventPublisher).shouldHaveNoInteractions();
+	}
+}
@@ -12,12 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import back.ecommerce.auth.service.SignUpService;
 import back.ecommerce.user.entity.SignUpInfo;
 import back.ecommerce.user.entity.User;
+import back.ecommerce.user.event.UserRegisteredEvent;
 import back.ecommerce.exception.CustomException;
-import back.ecommerce.user.repository.SignUpRepository;
+import back.ecommerce.user.repository.SignUpStore;
 import back.ecommerce.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +28,9 @@ class SignUpServiceTest {
 	@Mock
 	UserRepository userRepository;
 	@Mock
-	SignUpRepository signUpRepository;
+	SignUpStore signUpStore;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
 	@InjectMocks
 	SignUpService signUpService;
 
@@ -44,7 +48,7 @@ class SignUpServiceTest {
 
 		//then
 		then(userRepository).should(times(1)).existsByEmail(anyString());
-		then(signUpRepository).should(times(1)).save(any(SignUpInfo.class));
+		then(signUpStore).should(times(1)).save(any(SignUpInfo.class));
 	}
 
 	@Test
@@ -62,7 +66,7 @@ class SignUpServiceTest {
 
 		//then
 		then(userRepository).should(times(1)).existsByEmail(anyString());
-		then(signUpRepository).should(times(0)).save(any(SignUpInfo.class));
+		then(signUpStore).should(times(0)).save(any(SignUpInfo.class));
 	}
 
 	@Test
@@ -73,7 +77,7 @@ class SignUpServiceTest {
 		String email = "email";
 		String password = "pass";
 
-		given(signUpRepository.findByVerifiedCode(anyString()))
+		given(signUpStore.findByVerifiedCode(anyString()))
 			.willReturn(Optional.of(new SignUpInfo(100L, email, password, code, 60 * 15L, LocalDateTime.now())));
 
 		//when
@@ -81,15 +85,17 @@ class SignUpServiceTest {
 
 		//then
 		assertThat(actual).isEqualTo(email);
-		then(signUpRepository).should(times(1)).findByVerifiedCode(anyString());
+		then(signUpStore).should(times(1)).findByVerifiedCode(anyString());
 		then(userRepository).should(times(1)).save(any(User.class));
+		then(signUpStore).should(times(1)).delete(any(SignUpInfo.class));
+		then(eventPublisher).should(times(1)).publishEvent(any(UserRegisteredEvent.class));
 	}
 
 	@Test
 	@DisplayName("이메일 코드가 존재하지않으면 예외가 발생한다.")
 	void email_code_not_found() {
 		//given
-		given(signUpRepository.findByVerifiedCode(anyString()))
+		given(signUpStore.findByVerifiedCode(anyString()))
 			.willReturn(Optional.empty());
 
 		//when
@@ -98,7 +104,7 @@ class SignUpServiceTest {
 			.hasMessage("이메일 코드가 존재하지 않습니다.");
 
 		//then
-		then(signUpRepository).should(times(1)).findByVerifiedCode(anyString());
+		then(signUpStore).should(times(1)).findByVerifiedCode(anyString());
 		then(userRepository).should(times(0)).save(any(User.class));
 	}
 
@@ -110,7 +116,7 @@ class SignUpServiceTest {
 		String email = "email";
 		String password = "pass";
 
-		given(signUpRepository.findByVerifiedCode(anyString()))
+		given(signUpStore.findByVerifiedCode(anyString()))
 			.willReturn(Optional.of(new SignUpInfo(100L, email, password, code, 60 * 15L, LocalDateTime.now()
 				.minusSeconds(60 * 16L))));
 
@@ -120,7 +126,7 @@ class SignUpServiceTest {
 			.hasMessage("토큰이 만료 되었습니다.");
 
 	    //then
-		then(signUpRepository).should(times(1)).findByVerifiedCode(anyString());
+		then(signUpStore).should(times(1)).findByVerifiedCode(anyString());
 		then(userRepository).should(times(0)).save(any(User.class));
 
 
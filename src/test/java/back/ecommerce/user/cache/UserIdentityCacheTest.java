@@ -0,0 +1,82 @@
+package back.ecommerce.user.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.ecommerce.common.cache.TwoTierCacheManager;
+import back.ecommerce.user.event.UserRegisteredEvent;
+import back.ecommerce.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityCacheTest {
+
+	@Mock
+	UserRepository userRepository;
+	@Mock
+	ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	UserIdentityCache userIdentityCache;
+
+	@BeforeEach
+	void setUp() {
+		TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisTemplateProvider, new ObjectMapper(), false);
+		userIdentityCache = new UserIdentityCache(cacheManager, userRepository, 600L, 100, 86400L, 5L);
+	}
+
+	@Test
+	@DisplayName("존재하는 이메일은 한번만 조회하고 이후에는 캐시에서 응답해야 한다.")
+	void exists_cached() {
+		//given
+		given(userRepository.existsByEmail(anyString())).willReturn(true);
+
+		//when
+		userIdentityCache.exists("user@email.com");
+		boolean actual = userIdentityCache.exists("user@email.com");
+
+		//then
+		assertThat(actual).isTrue();
+		then(userRepository).should(times(1)).existsByEmail(anyString());
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 이메일은 negative 캐시에 담겨 TTL 동안 다시 조회하지 않아야 한다.")
+	void not_exists_negative_cached() {
+		//given
+		given(userRepository.existsByEmail(anyString())).willReturn(false);
+
+		//when
+		userIdentityCache.exists("user@email.com");
+		boolean actual = userIdentityCache.exists("user@email.com");
+
+		//then
+		assertThat(actual).isFalse();
+		then(userRepository).should(times(1)).existsByEmail(anyString());
+	}
+
+	@Test
+	@DisplayName("가입이 완료되면 negative 캐시를 지우고 조회 없이 존재하는 것으로 응답해야 한다.")
+	void add_on_registered() {
+		//given
+		given(userRepository.existsByEmail(anyString())).willReturn(false);
+		userIdentityCache.exists("user@email.com");
+
+		//when
+		userIdentityCache.add(new UserRegisteredEvent("user@email.com"));
+		boolean actual = userIdentityCache.exists("user@email.com");
+
+		//then
+		assertThat(actual).isTrue();
+		then(userRepository).should(times(1)).existsByEmail(anyString());
+	}
+}